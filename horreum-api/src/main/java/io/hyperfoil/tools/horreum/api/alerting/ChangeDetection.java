@@ -11,6 +11,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.hyperfoil.tools.horreum.api.data.changeDetection.ChangeDetectionModelType;
 import io.hyperfoil.tools.horreum.api.data.changeDetection.EDivisiveDetectionConfig;
+import io.hyperfoil.tools.horreum.api.data.changeDetection.EDivisiveNativeDetectionConfig;
 import io.hyperfoil.tools.horreum.api.data.changeDetection.FixedThresholdDetectionConfig;
 import io.hyperfoil.tools.horreum.api.data.changeDetection.RelativeDifferenceDetectionConfig;
 
@@ -25,11 +26,13 @@ public class ChangeDetection {
     @Schema(type = SchemaType.OBJECT, discriminatorProperty = "model", discriminatorMapping = {
             @DiscriminatorMapping(schema = RelativeDifferenceDetectionConfig.class, value = ChangeDetectionModelType.names.RELATIVE_DIFFERENCE),
             @DiscriminatorMapping(schema = FixedThresholdDetectionConfig.class, value = ChangeDetectionModelType.names.FIXED_THRESHOLD),
-            @DiscriminatorMapping(schema = EDivisiveDetectionConfig.class, value = ChangeDetectionModelType.names.EDIVISIVE)
+            @DiscriminatorMapping(schema = EDivisiveDetectionConfig.class, value = ChangeDetectionModelType.names.EDIVISIVE),
+            @DiscriminatorMapping(schema = EDivisiveNativeDetectionConfig.class, value = ChangeDetectionModelType.names.EDIVISIVE_NATIVE)
     }, oneOf = {
             RelativeDifferenceDetectionConfig.class,
             FixedThresholdDetectionConfig.class,
-            EDivisiveDetectionConfig.class
+            EDivisiveDetectionConfig.class,
+            EDivisiveNativeDetectionConfig.class
     })
     public ObjectNode config;
 
@@ -18,6 +18,8 @@ public enum ChangeDetectionModelType {
     RELATIVE_DIFFERENCE(names.RELATIVE_DIFFERENCE, new TypeReference<RelativeDifferenceDetectionConfig>() {
     }),
     EDIVISIVE(names.EDIVISIVE, new TypeReference<EDivisiveDetectionConfig>() {
+    }),
+    EDIVISIVE_NATIVE(names.EDIVISIVE_NATIVE, new TypeReference<EDivisiveNativeDetectionConfig>() {
     });
 
     private static final ChangeDetectionModelType[] VALUES = values();
@@ -44,5 +46,6 @@ public enum ChangeDetectionModelType {
         public static final String FIXED_THRESHOLD = "fixedThreshold";
         public static final String RELATIVE_DIFFERENCE = "relativeDifference";
         public static final String EDIVISIVE = "eDivisive";
+        public static final String EDIVISIVE_NATIVE = "eDivisiveNative";
     }
 }
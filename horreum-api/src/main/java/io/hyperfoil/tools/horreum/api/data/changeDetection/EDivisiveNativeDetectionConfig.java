@@ -0,0 +1,19 @@
+package io.hyperfoil.tools.horreum.api.data.changeDetection;
+
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import io.hyperfoil.tools.horreum.api.data.datastore.BaseChangeDetectionConfig;
+
+/*
+ * Concrete configuration type for io.hyperfoil.tools.horreum.changedetection.EDivisiveModel
+ */
+public class EDivisiveNativeDetectionConfig extends BaseChangeDetectionConfig {
+    @Schema(type = SchemaType.STRING, required = true, enumeration = { ChangeDetectionModelType.names.EDIVISIVE_NATIVE })
+    public String model;
+    @Schema(type = SchemaType.NUMBER, required = true, example = "0.05", description = "Maximum p-value of the permutation test for a change point to be reported. Unlike Hunter, which uses a t-test and 0.001 by default, the p-value is estimated from permutations.")
+    public Double maxPvalue;
+    @Schema(type = SchemaType.INTEGER, required = true, example = "100", description = "Number of random permutations used to estimate the significance of a change point. Raised to at least 1/maxPvalue - 1, the lowest number that can yield a p-value of maxPvalue.")
+    public Integer permutations;
+
+}
@@ -51,6 +51,9 @@ public interface ChangesService {
         public Range range;
         @NotNull
         public List<Target> targets;
+        // sent by Grafana; the series are reduced to fit the panel when set
+        public Integer maxDataPoints;
+        public Long intervalMs;
     }
 
     class Range {
@@ -1,5 +1,7 @@
 package io.hyperfoil.tools.horreum.api.services;
 
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -51,6 +53,8 @@ import io.hyperfoil.tools.horreum.api.data.ValidationError;
 @Tag(name = "Run", description = "Manage test runs. Runs are instances of results of a benchmark execution")
 @Extension(name = "x-smallrye-profile-external", value = "")
 public interface RunService {
+    String NDJSON = "application/x-ndjson";
+
     @GET
     @Path("{id}")
     @APIResponse(responseCode = "404", description = "If no Run have been found with the given id", content = @Content(mediaType = MediaType.APPLICATION_JSON))
@@ -263,6 +267,46 @@ public interface RunService {
             @RestForm("data") FileUpload data,
             @RestForm("metadata") FileUpload metadata);
 
+    @POST
+    @Path("import")
+    @Consumes({ NDJSON, "application/gzip" })
+    @Operation(description = "Import many Runs of a Test at once. The body is either newline-delimited JSON with one Run " +
+            "per line, or a gzipped tar archive of JSON files with one Run per file. The body is received and the import " +
+            "continues in background, where the Runs are stored in batches and transformed; the returned import status " +
+            "can be polled for progress.")
+    @Parameters(value = {
+            @Parameter(name = "start", required = true, description = "start timestamp of runs, or json path expression", example = "$.startTime"),
+            @Parameter(name = "stop", required = true, description = "stop timestamp of runs, or json path expression", example = "$.stopTime"),
+            @Parameter(name = "test", required = true, description = "test name of ID", example = "my-benchmark"),
+            @Parameter(name = "owner", description = "Name of the new owner", example = "perf-team"),
+            @Parameter(name = "access", description = "New Access level", example = "0"),
+            @Parameter(name = "schema", in = ParameterIn.QUERY, description = "Schema URI", example = "uri:my-benchmark:0.2"),
+            @Parameter(name = "description", description = "Run description, or json path expression", example = "$.buildName"),
+    })
+    @ResponseStatus(202) // ACCEPTED
+    @APIResponses(value = {
+            @APIResponse(responseCode = "202", description = "The input has been received; reading, storing and transformation "
+                    +
+                    "of the Runs continues asynchronously.", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = RunImport.class))),
+            @APIResponse(responseCode = "400", description = "Some parameters are missing or invalid", content = @Content(mediaType = MediaType.APPLICATION_JSON))
+    })
+    RunImport importRuns(@QueryParam("start") String start,
+            @QueryParam("stop") String stop,
+            @QueryParam("test") String test,
+            @QueryParam("owner") String owner,
+            @QueryParam("access") Access access,
+            @QueryParam("schema") String schemaUri,
+            @QueryParam("description") String description,
+            @RequestBody(required = true) InputStream data);
+
+    @GET
+    @Path("import/{id}")
+    @Operation(description = "Get progress of a bulk import of Runs")
+    @Parameters(value = {
+            @Parameter(name = "id", description = "Import ID", example = "1"),
+    })
+    RunImport getImportStatus(@PathParam("id") int id);
+
     @GET
     @Path("autocomplete")
     @ApiIgnore
@@ -457,4 +501,43 @@ public interface RunService {
         @JsonProperty(required = true)
         public long trashed;
     }
+
+    @Schema(type = SchemaType.OBJECT, description = "Progress of a bulk import of Runs")
+    class RunImport {
+        @JsonProperty(required = true)
+        @Schema(description = "Import ID", example = "1")
+        public int id;
+        @JsonProperty(required = true)
+        @Schema(description = "Test ID the Runs are imported to", example = "101")
+        public int testId;
+        @JsonProperty(required = true)
+        @Schema(description = "Import start timestamp", example = "1698013206000")
+        public long timestamp;
+        @JsonProperty(required = true)
+        @Schema(description = "Number of Runs read from the input", example = "1000")
+        public int received;
+        @JsonProperty(required = true)
+        @Schema(description = "Number of Runs stored", example = "998")
+        public int stored;
+        @JsonProperty(required = true)
+        @Schema(description = "Number of stored Runs that have been transformed into Datasets", example = "500")
+        public int processed;
+        @JsonProperty(required = true)
+        @Schema(description = "Number of Runs that could not be stored or transformed", example = "2")
+        public int failed;
+        @JsonProperty(required = true)
+        @Schema(description = "True when the whole input has been read and all stored Runs have been transformed", example = "false")
+        public boolean completed;
+        @Schema(description = "Errors of the failed Runs; only the first errors are kept")
+        public List<String> errors = new ArrayList<>();
+
+        public RunImport() {
+        }
+
+        public RunImport(int id, int testId) {
+            this.id = id;
+            this.testId = testId;
+            this.timestamp = System.currentTimeMillis();
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.hyperfoil.tools.horreum.api.services;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -322,6 +323,10 @@ public interface TestService {
         public Number datasets;
         @Schema(description = "Total number of Runs for the Test", example = "101")
         public Number runs;
+        @Schema(type = SchemaType.STRING, implementation = Instant.class, description = "Time of the last Run upload", example = "2019-09-26T07:58:30.996+0200")
+        public Instant lastUpload;
+        @Schema(type = SchemaType.STRING, implementation = Instant.class, description = "Timestamp of the last detected change", example = "2019-09-26T07:58:30.996+0200")
+        public Instant lastChange;
 
         @Schema(description = "Subscriptions for each test for authenticated user", example = "[]")
         public Set<String> watching;
@@ -358,6 +363,8 @@ public interface TestService {
         @JsonProperty(required = true)
         @Schema(description = "Total number of generated datasets", example = "186")
         public long datasets;
+        @Schema(description = "Number of Runs recalculated per second", example = "4.2")
+        public double throughput;
 
         // required for serialization
         public RecalculationStatus() {
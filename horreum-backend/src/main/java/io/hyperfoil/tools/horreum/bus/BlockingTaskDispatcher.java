@@ -1,74 +1,182 @@
 package io.hyperfoil.tools.horreum.bus;
 
+import java.util.ArrayDeque;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
 import io.hyperfoil.tools.horreum.svc.Util;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.quarkus.logging.Log;
 import io.quarkus.runtime.Startup;
-import io.vertx.core.Vertx;
+import io.vertx.core.Context;
 
+/**
+ * Executes tasks of each test in order on a dedicated thread pool, separate from the Vert.x worker pool.
+ * Tests are scheduled round-robin: a thread executes a single task of a test and then puts the test at the end
+ * of the line, so a test with many queued tasks does not starve the others.
+ */
 @Startup
 @ApplicationScoped
 public class BlockingTaskDispatcher {
 
     @Inject
-    Vertx vertx;
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "horreum.task-dispatcher.threads", defaultValue = "8")
+    int threads;
+
+    @ConfigProperty(name = "horreum.task-dispatcher.queue-size", defaultValue = "10000")
+    int queueSize;
 
     private final ConcurrentMap<Integer, TaskQueue> taskQueues = new ConcurrentHashMap<>();
+    private ExecutorService executor;
 
-    public void executeForTest(int testId, Runnable runnable) {
-        Runnable task = Util.wrapForBlockingExecution(runnable);
-        vertx.executeBlocking(promise -> {
-            try {
-                TaskQueue queue = taskQueues.computeIfAbsent(testId, TaskQueue::new);
-                queue.executeOrAdd(task);
-            } catch (Exception e) {
-                Log.error("Failed to execute blocking task", e);
-            } finally {
-                promise.complete();
+    @PostConstruct
+    void init() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> new DispatcherThread(runnable, counter.incrementAndGet());
+        // the queue holds at most one entry per test
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                threadFactory);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                Log.warn("Tasks for tests did not finish in time");
+                executor.shutdownNow();
             }
-        });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
-}
+    /**
+     * Schedules the task after all tasks previously submitted for the same test. When the queue for the test is full
+     * the caller is blocked until there is space, unless it runs on the event loop or executes a task itself.
+     */
+    public void executeForTest(int testId, Runnable runnable) {
+        execute(testId, Util.wrapForBlockingExecution(runnable));
+    }
 
-class TaskQueue {
-    private final int testId;
-    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
-    private final ReentrantLock lock = new ReentrantLock();
+    // the task is executed as is, without propagating the CDI context
+    void execute(int testId, Runnable task) {
+        taskQueues.computeIfAbsent(testId, TaskQueue::new).add(task);
+    }
 
-    public TaskQueue(int testId) {
-        this.testId = testId;
+    private static boolean canBlock() {
+        return !Context.isOnEventLoopThread() && !(Thread.currentThread() instanceof DispatcherThread);
     }
 
-    public void executeOrAdd(Runnable runnable) {
-        queue.add(runnable);
-        do {
-            if (lock.tryLock()) {
-                Log.debugf("This thread is going to execute tasks (%d) for test %d, lock level %d", queue.size(), testId,
-                        lock.getHoldCount());
-                try {
-                    while (!queue.isEmpty()) {
-                        Runnable task = queue.poll();
-                        task.run();
+    private static class DispatcherThread extends Thread {
+        DispatcherThread(Runnable runnable, int index) {
+            super(runnable, "horreum-test-tasks-" + index);
+            setDaemon(true);
+        }
+    }
+
+    private class TaskQueue implements Runnable {
+        private final int testId;
+        private final Queue<Task> queue = new ArrayDeque<>();
+        private final Timer waitTimer;
+        private final Timer executionTimer;
+        // true while the queue is submitted to the executor or a task is running
+        private boolean scheduled;
+
+        TaskQueue(int testId) {
+            this.testId = testId;
+            String test = String.valueOf(testId);
+            Gauge.builder("horreum.test.tasks.queued", this, TaskQueue::size)
+                    .description("Tasks waiting for execution").tag("test", test).register(meterRegistry);
+            waitTimer = Timer.builder("horreum.test.tasks.wait")
+                    .description("Time tasks spend in the queue").tag("test", test).register(meterRegistry);
+            executionTimer = Timer.builder("horreum.test.tasks.execution")
+                    .description("Execution time of tasks").tag("test", test).register(meterRegistry);
+        }
+
+        synchronized int size() {
+            return queue.size();
+        }
+
+        void add(Runnable runnable) {
+            boolean submit;
+            synchronized (this) {
+                if (queue.size() >= queueSize) {
+                    if (canBlock()) {
+                        Log.debugf("Queue for test %d is full, waiting", testId);
+                        while (queue.size() >= queueSize) {
+                            try {
+                                wait();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                throw new IllegalStateException("Interrupted while waiting to schedule task", e);
+                            }
+                        }
+                    } else {
+                        Log.warnf("Queue for test %d is full (%d tasks), cannot block this thread", testId, queue.size());
                     }
+                }
+                queue.add(new Task(runnable, System.nanoTime()));
+                submit = !scheduled;
+                scheduled = true;
+            }
+            if (submit) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            Task task;
+            synchronized (this) {
+                task = queue.poll();
+                notifyAll();
+            }
+            if (task != null) {
+                long start = System.nanoTime();
+                waitTimer.record(start - task.created, TimeUnit.NANOSECONDS);
+                try {
+                    task.runnable.run();
                 } catch (Throwable t) {
                     Log.errorf(t, "Error executing task in the queue for test %d", testId);
                 } finally {
-                    Log.debugf("Finished executing tasks for test %d", testId);
-                    lock.unlock();
+                    executionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+            synchronized (this) {
+                if (queue.isEmpty()) {
+                    scheduled = false;
+                    return;
                 }
-            } else {
-                Log.debugf("There's another thread executing the tasks (%d) for test %d", queue.size(), testId);
-                return;
             }
-        } while (!queue.isEmpty());
+            // let other tests run before the next task of this one
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                Log.warnf("Dropping tasks for test %d on shutdown", testId);
+            }
+        }
+    }
+
+    private record Task(Runnable runnable, long created) {
     }
 }
@@ -0,0 +1,270 @@
+package io.hyperfoil.tools.horreum.changedetection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import io.hyperfoil.tools.horreum.api.data.ConditionConfig;
+import io.hyperfoil.tools.horreum.api.data.changeDetection.ChangeDetectionModelType;
+import io.hyperfoil.tools.horreum.api.data.changeDetection.EDivisiveNativeDetectionConfig;
+import io.hyperfoil.tools.horreum.entity.alerting.ChangeDAO;
+import io.hyperfoil.tools.horreum.entity.alerting.DataPointDAO;
+import io.quarkus.logging.Log;
+
+/**
+ * E-Divisive (Matteson &amp; James) evaluated in-process, without forking the external <code>hunter</code> tool.
+ * Change points are located by hierarchical bisection maximizing the energy divergence between the segments;
+ * each candidate is accepted only if a permutation test finds it significant.
+ * <p>
+ * Hunter tests a candidate with Student's t-test on the neighbouring segments and reports it below
+ * a p-value of 0.001 by default. The p-value of a permutation test cannot be lower than
+ * <code>1/(permutations + 1)</code>; the number of permutations is raised where needed so that the configured
+ * maximum p-value can be reached. With the defaults this model accepts weaker change points than Hunter.
+ */
+@ApplicationScoped
+public class EDivisiveModel implements ChangeDetectionModel {
+    static final double DEFAULT_MAX_PVALUE = 0.05;
+    static final int DEFAULT_PERMUTATIONS = 100;
+    // each segment needs at least two values for the within-segment distances
+    private static final int MIN_SEGMENT = 2;
+    // fixed seed so that recalculation over the same datapoints yields the same change points
+    private static final long SEED = 0x5DEECE66DL;
+
+    @Inject
+    ObjectMapper mapper;
+
+    @Override
+    public ConditionConfig config() {
+        ConditionConfig conditionConfig = new ConditionConfig(ChangeDetectionModelType.names.EDIVISIVE_NATIVE,
+                "eDivisive - native",
+                "This model uses the eDivisive algorithm to determine change points in a continual series. " +
+                        "The series is split recursively where the energy distance between the subsets is the highest; " +
+                        "a split is accepted only if it is significant according to a permutation test.")
+                .addComponent("maxPvalue", new ConditionConfig.LogSliderComponent(100, 0.1, 50, DEFAULT_MAX_PVALUE, false, "%"),
+                        "Maximum p-value",
+                        "Probability that a change point of this magnitude would be found in a series without any change.")
+                .addComponent("permutations",
+                        new ConditionConfig.LogSliderComponent(1, 10, 1000, DEFAULT_PERMUTATIONS, true, " "),
+                        "Permutations",
+                        "Number of random permutations used to estimate the significance of a change point; " +
+                                "raised when it is too low to reach the maximum p-value.");
+        conditionConfig.defaults.put("model", new TextNode(ChangeDetectionModelType.names.EDIVISIVE_NATIVE));
+        return conditionConfig;
+    }
+
+    @Override
+    public ChangeDetectionModelType type() {
+        return ChangeDetectionModelType.EDIVISIVE_NATIVE;
+    }
+
+    @Override
+    public void analyze(List<DataPointDAO> dataPoints, JsonNode configuration, Consumer<ChangeDAO> changeConsumer)
+            throws ChangeDetectionException {
+        EDivisiveNativeDetectionConfig config;
+        try {
+            config = mapper.treeToValue(configuration, EDivisiveNativeDetectionConfig.class);
+        } catch (JsonProcessingException e) {
+            String errMsg = "Failed to parse configuration for variable %d".formatted(dataPoints.get(0).variable.id);
+            Log.error(errMsg, e);
+            throw new ChangeDetectionException(errMsg, e);
+        }
+        double maxPvalue = config.maxPvalue != null ? config.maxPvalue : DEFAULT_MAX_PVALUE;
+        int permutations = permutations(maxPvalue,
+                config.permutations != null ? Math.max(1, config.permutations) : DEFAULT_PERMUTATIONS);
+
+        // datapoints are ordered from the most recent one
+        int n = dataPoints.size();
+        double[] values = new double[n];
+        for (int i = 0; i < n; ++i) {
+            values[i] = dataPoints.get(n - 1 - i).value;
+        }
+        for (ChangePoint cp : changePoints(values, maxPvalue, permutations)) {
+            DataPointDAO dp = dataPoints.get(n - 1 - cp.index);
+            ChangeDAO change = ChangeDAO.fromDatapoint(dp);
+            // relative change is not defined when the previous segment averages to zero
+            String magnitude = Double.isFinite(cp.relativeChange) ? "%+.1f%%".formatted(100 * cp.relativeChange)
+                    : "%f -> %f".formatted(cp.before, cp.after);
+            change.description = "eDivisive change `%s` at `%s` for dataset: %d/%d (p-value %.4f)".formatted(
+                    magnitude, dp.timestamp, dp.dataset.runId, dp.dataset.ordinal, cp.pvalue);
+            Log.debug(change.description);
+            changeConsumer.accept(change);
+        }
+    }
+
+    @Override
+    public ModelType getType() {
+        return ModelType.BULK;
+    }
+
+    /**
+     * @return Configured number of permutations, or the lowest number that can yield a p-value of
+     *         <code>maxPvalue</code> if that is higher.
+     */
+    static int permutations(double maxPvalue, int configured) {
+        if (maxPvalue <= 0) {
+            return configured;
+        }
+        int required = (int) Math.min(Math.ceil(1 / maxPvalue) - 1, Integer.MAX_VALUE);
+        if (required > configured) {
+            Log.debugf("%d permutations cannot yield p-value %f, using %d", (Object) configured, maxPvalue, required);
+            return required;
+        }
+        return configured;
+    }
+
+    /**
+     * @param values Series in chronological order.
+     * @return Change points ordered by index; the index is the first value of the new segment.
+     */
+    static List<ChangePoint> changePoints(double[] values, double maxPvalue, int permutations) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        TreeSet<Integer> boundaries = new TreeSet<>();
+        boundaries.add(0);
+        boundaries.add(values.length);
+        List<Integer> accepted = new ArrayList<>();
+        List<Double> pvalues = new ArrayList<>();
+        double[] buffer = new double[values.length];
+        while (true) {
+            // pick the best split among all current segments
+            int bestStart = -1, bestEnd = -1, bestSplit = -1;
+            double bestQ = Double.NEGATIVE_INFINITY;
+            Integer start = null;
+            for (int end : boundaries) {
+                if (start != null) {
+                    Split split = bestSplit(values, start, end);
+                    if (split != null && split.q > bestQ) {
+                        bestQ = split.q;
+                        bestStart = start;
+                        bestEnd = end;
+                        bestSplit = split.index;
+                    }
+                }
+                start = end;
+            }
+            if (bestSplit < 0) {
+                break;
+            }
+            int length = bestEnd - bestStart;
+            int exceeding = 0;
+            for (int p = 0; p < permutations; ++p) {
+                System.arraycopy(values, bestStart, buffer, 0, length);
+                shuffle(buffer, length, random);
+                Split split = bestSplit(buffer, 0, length);
+                if (split != null && split.q >= bestQ) {
+                    ++exceeding;
+                }
+            }
+            double pvalue = (exceeding + 1.0) / (permutations + 1.0);
+            Log.tracef("Candidate change point %d in [%d, %d): q=%f, p-value %f", bestSplit, bestStart, bestEnd, bestQ,
+                    pvalue);
+            if (pvalue > maxPvalue) {
+                break;
+            }
+            boundaries.add(bestSplit);
+            accepted.add(bestSplit);
+            pvalues.add(pvalue);
+        }
+        List<ChangePoint> result = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); ++i) {
+            int index = accepted.get(i);
+            int previous = boundaries.lower(index);
+            int next = boundaries.higher(index);
+            double before = mean(values, previous, index);
+            double after = mean(values, index, next);
+            double relativeChange = before == 0 ? Double.NaN : (after - before) / Math.abs(before);
+            result.add(new ChangePoint(index, pvalues.get(i), before, after, relativeChange));
+        }
+        result.sort((a, b) -> Integer.compare(a.index, b.index));
+        return result;
+    }
+
+    /**
+     * Finds the split of <code>values[start, end)</code> with the highest energy divergence
+     * <code>q = m*k/(m+k) * (2/(m*k) * between - within(left)/C(m,2) - within(right)/C(k,2))</code>.
+     * The sums of pairwise distances are updated as the split moves, so this runs in O(n^2) with O(1) memory.
+     *
+     * @return Best split or <code>null</code> if the segment is too short.
+     */
+    private static Split bestSplit(double[] values, int start, int end) {
+        int n = end - start;
+        if (n < 2 * MIN_SEGMENT) {
+            return null;
+        }
+        double withinLeft = 0;
+        double withinRight = 0;
+        for (int i = start; i < end; ++i) {
+            for (int j = i + 1; j < end; ++j) {
+                withinRight += Math.abs(values[i] - values[j]);
+            }
+        }
+        double between = 0;
+        Split best = null;
+        for (int tau = start; tau < end - MIN_SEGMENT; ++tau) {
+            // move values[tau] from the right segment to the left one
+            double toLeft = 0;
+            double toRight = 0;
+            double v = values[tau];
+            for (int i = start; i < tau; ++i) {
+                toLeft += Math.abs(values[i] - v);
+            }
+            for (int j = tau + 1; j < end; ++j) {
+                toRight += Math.abs(v - values[j]);
+            }
+            withinLeft += toLeft;
+            withinRight -= toRight;
+            between += toRight - toLeft;
+
+            int m = tau + 1 - start;
+            int k = n - m;
+            if (m < MIN_SEGMENT) {
+                continue;
+            }
+            double divergence = 2 * between / ((double) m * k)
+                    - withinLeft / (m * (m - 1) / 2.0)
+                    - withinRight / (k * (k - 1) / 2.0);
+            double q = (double) m * k / n * divergence;
+            if (best == null || q > best.q) {
+                best = new Split(tau + 1, q);
+            }
+        }
+        return best;
+    }
+
+    private static void shuffle(double[] array, int length, SplittableRandom random) {
+        for (int i = length - 1; i > 0; --i) {
+            int j = random.nextInt(i + 1);
+            double tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    private static double mean(double[] values, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; ++i) {
+            sum += values[i];
+        }
+        return sum / (to - from);
+    }
+
+    private record Split(int index, double q) {
+    }
+
+    /**
+     * @param before Mean of the segment preceding the change point.
+     * @param after Mean of the segment starting at the change point.
+     * @param relativeChange Change relative to the preceding mean, <code>NaN</code> if that mean is zero.
+     */
+    record ChangePoint(int index, double pvalue, double before, double after, double relativeChange) {
+    }
+}
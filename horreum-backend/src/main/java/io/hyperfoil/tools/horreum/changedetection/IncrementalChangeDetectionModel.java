@@ -0,0 +1,25 @@
+package io.hyperfoil.tools.horreum.changedetection;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.hyperfoil.tools.horreum.entity.alerting.ChangeDAO;
+import io.hyperfoil.tools.horreum.entity.alerting.DataPointDAO;
+
+/**
+ * Model that can analyze {@link RollingStatistics} updated with each new datapoint instead of the whole list
+ * of datapoints since the last change.
+ */
+public interface IncrementalChangeDetectionModel extends ChangeDetectionModel {
+
+    RollingStatistics newStatistics(JsonNode configuration) throws ChangeDetectionException;
+
+    /**
+     * @param statistics Statistics that already include the most recent datapoint.
+     * @param loader Loads the datapoint entity when a change is emitted.
+     */
+    void analyze(RollingStatistics statistics, JsonNode configuration, Function<RollingStatistics.Point, DataPointDAO> loader,
+            Consumer<ChangeDAO> changeConsumer) throws ChangeDetectionException;
+}
@@ -2,6 +2,7 @@ package io.hyperfoil.tools.horreum.changedetection;
 
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -21,7 +22,7 @@ import io.hyperfoil.tools.horreum.entity.alerting.DataPointDAO;
 import io.quarkus.logging.Log;
 
 @ApplicationScoped
-public class RelativeDifferenceChangeDetectionModel implements ChangeDetectionModel {
+public class RelativeDifferenceChangeDetectionModel implements IncrementalChangeDetectionModel {
 
     @Inject
     ObjectMapper mapper;
@@ -62,80 +63,109 @@ public class RelativeDifferenceChangeDetectionModel implements ChangeDetectionMo
     @Override
     public void analyze(List<DataPointDAO> dataPoints, JsonNode configuration, Consumer<ChangeDAO> changeConsumer)
             throws ChangeDetectionException {
-        DataPointDAO dataPoint = dataPoints.get(0);
+        RollingStatistics statistics = RollingStatistics.of(parseConfig(configuration, dataPoints.get(0).variable.id).window,
+                dataPoints);
+        analyze(statistics, configuration, point -> {
+            for (DataPointDAO dp : dataPoints) {
+                if (dp.id == point.id()) {
+                    return dp;
+                }
+            }
+            throw new IllegalStateException("Datapoint " + point.id() + " is not in the list");
+        }, changeConsumer);
+    }
 
-        try {
-            RelativeDifferenceDetectionConfig config = mapper.treeToValue(configuration,
-                    RelativeDifferenceDetectionConfig.class);
+    @Override
+    public RollingStatistics newStatistics(JsonNode configuration) throws ChangeDetectionException {
+        return new RollingStatistics(parseConfig(configuration, -1).window);
+    }
 
-            int window = Math.max(1, config.window);
-            int minPrevious = Math.max(window, config.minPrevious);
+    @Override
+    public void analyze(RollingStatistics statistics, JsonNode configuration,
+            Function<RollingStatistics.Point, DataPointDAO> loader, Consumer<ChangeDAO> changeConsumer)
+            throws ChangeDetectionException {
+        RollingStatistics.Point dataPoint = statistics.recent(0);
+        RelativeDifferenceDetectionConfig config = parseConfig(configuration, dataPoint.variableId());
 
-            if (dataPoints.size() < minPrevious + window) {
-                Log.debugf("Too few (%d) previous datapoints for variable %d, skipping analysis", dataPoints.size() - window,
-                        dataPoint.variable.id);
-                return;
-            }
-            SummaryStatistics previousStats = new SummaryStatistics();
-            dataPoints.stream().skip(window).mapToDouble(dp -> dp.value).forEach(previousStats::addValue);
-
-            double filteredValue;
-            switch (config.filter) {
-                case "min":
-                    //noinspection OptionalGetWithoutIsPresent
-                    filteredValue = dataPoints.stream().limit(window).mapToDouble(dp -> dp.value).min().getAsDouble();
-                    break;
-                case "max":
-                    //noinspection OptionalGetWithoutIsPresent
-                    filteredValue = dataPoints.stream().limit(window).mapToDouble(dp -> dp.value).max().getAsDouble();
+        int window = statistics.window();
+        int minPrevious = Math.max(window, config.minPrevious);
+
+        if (statistics.size() < minPrevious + window) {
+            Log.debugf("Too few (%d) previous datapoints for variable %d, skipping analysis", statistics.size() - window,
+                    dataPoint.variableId());
+            return;
+        }
+        double previousMean = statistics.previousMean();
+
+        double filteredValue;
+        switch (config.filter) {
+            case "min":
+                filteredValue = Double.POSITIVE_INFINITY;
+                for (RollingStatistics.Point point : statistics.recent()) {
+                    filteredValue = Math.min(filteredValue, point.value());
+                }
+                break;
+            case "max":
+                filteredValue = Double.NEGATIVE_INFINITY;
+                for (RollingStatistics.Point point : statistics.recent()) {
+                    filteredValue = Math.max(filteredValue, point.value());
+                }
+                break;
+            case "mean":
+                SummaryStatistics windowStats = new SummaryStatistics();
+                for (RollingStatistics.Point point : statistics.recent()) {
+                    windowStats.addValue(point.value());
+                }
+                filteredValue = windowStats.getMean();
+                break;
+            default:
+                String errMsg = "Unsupported option 'filter'='%s' for variable %d, skipping analysis"
+                        .formatted(config.filter, dataPoint.variableId());
+                Log.error(errMsg);
+                throw new ChangeDetectionException(errMsg);
+        }
+
+        double ratio = filteredValue / previousMean;
+        Log.tracef("Previous mean %f, filtered value %f, ratio %f", previousMean, filteredValue, ratio);
+        if (ratio < 1 - config.threshold || ratio > 1 + config.threshold) {
+            RollingStatistics.Point dp = null;
+            // We cannot know which datapoint is first with the regression; as a heuristic approach
+            // we'll select first datapoint with value lower than mean (if this is a drop, e.g. throughput)
+            // or above the mean (if this is an increase, e.g. memory usage).
+            for (int i = window - 1; i >= 0; --i) {
+                dp = statistics.recent(i);
+                if (ratio < 1 && dp.value() < previousMean) {
                     break;
-                case "mean":
-                    SummaryStatistics windowStats = new SummaryStatistics();
-                    dataPoints.stream().limit(window).mapToDouble(dp -> dp.value).forEach(windowStats::addValue);
-                    filteredValue = windowStats.getMean();
+                } else if (ratio > 1 && dp.value() > previousMean) {
                     break;
-                default:
-                    String errMsg = "Unsupported option 'filter'='%s' for variable %d, skipping analysis"
-                            .formatted(config.filter, dataPoint.variable.id);
-                    Log.error(errMsg);
-                    throw new ChangeDetectionException(errMsg);
-            }
-
-            double ratio = filteredValue / previousStats.getMean();
-            Log.tracef("Previous mean %f, filtered value %f, ratio %f", previousStats.getMean(), filteredValue, ratio);
-            if (ratio < 1 - config.threshold || ratio > 1 + config.threshold) {
-                DataPointDAO dp = null;
-                // We cannot know which datapoint is first with the regression; as a heuristic approach
-                // we'll select first datapoint with value lower than mean (if this is a drop, e.g. throughput)
-                // or above the mean (if this is an increase, e.g. memory usage).
-                for (int i = window - 1; i >= 0; --i) {
-                    dp = dataPoints.get(i);
-                    if (ratio < 1 && dp.value < previousStats.getMean()) {
-                        break;
-                    } else if (ratio > 1 && dp.value > previousStats.getMean()) {
-                        break;
-                    }
                 }
-                assert dp != null;
-                ChangeDAO change = ChangeDAO.fromDatapoint(dp);
-                DataPointDAO prevDataPoint = dataPoints.get(window - 1);
-                DataPointDAO lastDataPoint = dataPoints.get(0);
-                change.description = "Datasets %d/%d (%s) - %d/%d (%s): %s %f, previous mean %f (stddev %f), relative change %.2f%%"
-                        .formatted(prevDataPoint.dataset.runId, prevDataPoint.dataset.ordinal, prevDataPoint.timestamp,
-                                lastDataPoint.dataset.runId, lastDataPoint.dataset.ordinal, lastDataPoint.timestamp,
-                                config.filter, filteredValue, previousStats.getMean(), previousStats.getStandardDeviation(),
-                                100 * (ratio - 1));
-
-                Log.debug(change.description);
-                changeConsumer.accept(change);
             }
+            assert dp != null;
+            ChangeDAO change = ChangeDAO.fromDatapoint(loader.apply(dp));
+            RollingStatistics.Point prevDataPoint = statistics.recent(window - 1);
+            change.description = "Datasets %d/%d (%s) - %d/%d (%s): %s %f, previous mean %f (stddev %f), relative change %.2f%%"
+                    .formatted(prevDataPoint.runId(), prevDataPoint.ordinal(), prevDataPoint.timestamp(),
+                            dataPoint.runId(), dataPoint.ordinal(), dataPoint.timestamp(),
+                            config.filter, filteredValue, previousMean, statistics.previousStandardDeviation(),
+                            100 * (ratio - 1));
+
+            Log.debug(change.description);
+            changeConsumer.accept(change);
+        }
+    }
 
+    private RelativeDifferenceDetectionConfig parseConfig(JsonNode configuration, int variableId)
+            throws ChangeDetectionException {
+        try {
+            RelativeDifferenceDetectionConfig config = mapper.treeToValue(configuration,
+                    RelativeDifferenceDetectionConfig.class);
+            config.window = Math.max(1, config.window);
+            return config;
         } catch (JsonProcessingException e) {
-            String errMsg = "Failed to parse configuration for variable %d".formatted(dataPoint.variable.id);
+            String errMsg = "Failed to parse configuration for variable %d".formatted(variableId);
             Log.error(errMsg, e);
             throw new ChangeDetectionException(errMsg, e);
         }
-
     }
 
     @Override
@@ -0,0 +1,180 @@
+package io.hyperfoil.tools.horreum.changedetection;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.hyperfoil.tools.horreum.entity.alerting.DataPointDAO;
+
+/**
+ * Running aggregates of the datapoints of a single variable and fingerprint since the last change.
+ * The most recent <code>window</code> datapoints are retained; older datapoints are folded into count,
+ * mean and sum of squared differences (Welford's algorithm), so that adding a datapoint costs O(window).
+ */
+public class RollingStatistics {
+    private final int window;
+    // most recent datapoint first
+    private final ArrayDeque<Point> recent;
+    private long count;
+    private double mean;
+    private double m2;
+
+    public RollingStatistics(int window) {
+        this.window = Math.max(1, window);
+        this.recent = new ArrayDeque<>(this.window + 1);
+    }
+
+    private RollingStatistics(RollingStatistics other) {
+        this.window = other.window;
+        this.recent = new ArrayDeque<>(other.recent);
+        this.count = other.count;
+        this.mean = other.mean;
+        this.m2 = other.m2;
+    }
+
+    /**
+     * @param dataPoints Datapoints ordered from the most recent one, as used in
+     *        {@link ChangeDetectionModel#analyze(List, com.fasterxml.jackson.databind.JsonNode, java.util.function.Consumer)}
+     */
+    public static RollingStatistics of(int window, List<DataPointDAO> dataPoints) {
+        RollingStatistics statistics = new RollingStatistics(window);
+        for (int i = dataPoints.size() - 1; i >= 0; --i) {
+            statistics.add(Point.of(dataPoints.get(i)));
+        }
+        return statistics;
+    }
+
+    public RollingStatistics copy() {
+        return new RollingStatistics(this);
+    }
+
+    /**
+     * Adds a datapoint that is more recent than all datapoints added before.
+     */
+    public void add(Point point) {
+        recent.addFirst(point);
+        if (recent.size() > window) {
+            double value = recent.removeLast().value;
+            ++count;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+    }
+
+    public int window() {
+        return window;
+    }
+
+    /**
+     * @return Total number of datapoints, including those in the window.
+     */
+    public long size() {
+        return count + recent.size();
+    }
+
+    /**
+     * @return Datapoints in the window, most recent first.
+     */
+    public Iterable<Point> recent() {
+        return recent;
+    }
+
+    /**
+     * @return Datapoint in the window; index 0 is the most recent one.
+     */
+    public Point recent(int index) {
+        Iterator<Point> it = recent.iterator();
+        for (int i = 0; i < index; ++i) {
+            it.next();
+        }
+        return it.next();
+    }
+
+    /**
+     * @return Number of datapoints preceding the window.
+     */
+    public long previousCount() {
+        return count;
+    }
+
+    public double previousMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * @return Sample standard deviation of datapoints preceding the window.
+     */
+    public double previousStandardDeviation() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        return count == 1 ? 0 : Math.sqrt(m2 / (count - 1));
+    }
+
+    /**
+     * @return JSON form of the statistics that can be stored in the database, or <code>null</code> if any value
+     *         is not finite (JSONB cannot hold those).
+     */
+    public ObjectNode toJson() {
+        if (!Double.isFinite(mean) || !Double.isFinite(m2)) {
+            return null;
+        }
+        ObjectNode json = JsonNodeFactory.instance.objectNode()
+                .put("window", window).put("count", count).put("mean", mean).put("m2", m2);
+        ArrayNode points = json.putArray("recent");
+        for (Point point : recent) {
+            if (!Double.isFinite(point.value)) {
+                return null;
+            }
+            points.addObject().put("id", point.id).put("variableId", point.variableId).put("datasetId", point.datasetId)
+                    .put("runId", point.runId).put("ordinal", point.ordinal).put("timestamp", point.timestamp.toString())
+                    .put("value", point.value);
+        }
+        return json;
+    }
+
+    /**
+     * Restores the statistics written by {@link #toJson()}.
+     */
+    public static RollingStatistics fromJson(JsonNode json) {
+        RollingStatistics statistics = new RollingStatistics(json.path("window").asInt());
+        statistics.count = json.path("count").asLong();
+        statistics.mean = json.path("mean").asDouble();
+        statistics.m2 = json.path("m2").asDouble();
+        for (JsonNode point : json.path("recent")) {
+            statistics.recent.addLast(new Point(point.path("id").asInt(), point.path("variableId").asInt(),
+                    point.path("datasetId").asInt(), point.path("runId").asInt(), point.path("ordinal").asInt(),
+                    Instant.parse(point.path("timestamp").asText()), point.path("value").asDouble()));
+        }
+        return statistics;
+    }
+
+    @Override
+    public String toString() {
+        return "{previous=" + count + ", mean=" + mean + ", recent=" + recent + '}';
+    }
+
+    /**
+     * Detached copy of the datapoint attributes needed by the models; the statistics outlive the transaction
+     * that loaded the {@link DataPointDAO}.
+     */
+    public record Point(int id, int variableId, int datasetId, int runId, int ordinal, Instant timestamp,
+            double value) {
+        public static Point of(DataPointDAO dp) {
+            return new Point(dp.id, dp.variable.id, dp.dataset.id, dp.dataset.runId, dp.dataset.ordinal, dp.timestamp,
+                    dp.value);
+        }
+
+        @Override
+        public String toString() {
+            return id + "|" + datasetId + "@" + timestamp + ": " + value;
+        }
+    }
+}
@@ -1,21 +1,30 @@
 package io.hyperfoil.tools.horreum.datastore;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.Response;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,10 +39,17 @@ import io.quarkus.logging.Log;
 
 @ApplicationScoped
 public class CollectorApiDatastore implements Datastore {
+    private static final int MAX_ERROR_BODY = 4096;
 
     @Inject
     ObjectMapper mapper;
 
+    @ConfigProperty(name = "horreum.collector-api.tags-ttl", defaultValue = "5m")
+    Duration tagsTtl;
+
+    // clients are reused across uploads; the configuration is kept to detect that the datastore has been updated
+    private final ConcurrentMap<Integer, CachedClient> clients = new ConcurrentHashMap<>();
+
     @Override
     public DatastoreResponse handleRun(JsonNode payload,
             JsonNode metaData,
@@ -49,34 +65,32 @@ public class CollectorApiDatastore implements Datastore {
 
         final CollectorApiDatastoreConfig jsonDatastoreConfig = getCollectorApiDatastoreConfig(configuration, mapper);
 
-        HttpClient client = HttpClient.newHttpClient();
+        CachedClient cachedClient = getClient(configuration);
         try {
             String tag = payload.get("tag").asText();
             String imgName = payload.get("imgName").asText();
             String newerThan = payload.get("newerThan").asText().replace(" ", "%20"); // Handle spaces in dates
             String olderThan = payload.get("olderThan").asText().replace(" ", "%20");
 
-            verifyPayload(mapper, jsonDatastoreConfig, client, tag, newerThan, olderThan);
+            verifyPayload(jsonDatastoreConfig, cachedClient, tag, newerThan, olderThan);
 
             URI uri = URI.create(jsonDatastoreConfig.url
                     + "?tag=" + tag
                     + "&imgName=" + imgName
                     + "&newerThan=" + newerThan
                     + "&olderThan=" + olderThan);
-            HttpRequest.Builder builder = HttpRequest.newBuilder().uri(uri);
-            builder.header("Content-Type", "application/json");
-            if (jsonDatastoreConfig.authentication instanceof APIKeyAuth) {
-                builder.header("token", ((APIKeyAuth) jsonDatastoreConfig.authentication).apiKey);
+            HttpRequest request = newRequest(jsonDatastoreConfig, uri);
+            // the samples may be large; parse them directly from the stream instead of buffering the whole body
+            HttpResponse<InputStream> response = cachedClient.client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != Response.Status.OK.getStatusCode()) {
+                    String error = readError(body);
+                    Log.errorf("Collector API returned %d body : %s", response.statusCode(), error);
+                    throw ServiceException
+                            .serverError("Collector API returned " + response.statusCode() + " body : " + error);
+                }
+                payload = mapper.readTree(body);
             }
-            HttpRequest request = builder.build();
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() != Response.Status.OK.getStatusCode()) {
-                Log.errorf("Collector API returned %d body : %s", response.statusCode(), response.body());
-                throw ServiceException
-                        .serverError("Collector API returned " + response.statusCode() + " body : " + response.body());
-            }
-
-            payload = mapper.readTree(response.body());
             return new DatastoreResponse(payload, metaData);
         } catch (JsonProcessingException e) {
             Log.error("Error while parsing response from collector API ", e);
@@ -87,36 +101,33 @@ public class CollectorApiDatastore implements Datastore {
         }
     }
 
-    private static void verifyPayload(ObjectMapper mapper, CollectorApiDatastoreConfig jsonDatastoreConfig,
-            HttpClient client, String tag, String newerThan, String olderThan)
-            throws IOException, InterruptedException {
-        // Verify that the tag is in the distinct list of tags
-        URI tagsUri = URI.create(jsonDatastoreConfig.url + "/tags/distinct");
-        HttpRequest.Builder tagsBuilder = HttpRequest.newBuilder().uri(tagsUri);
-
-        tagsBuilder
-                .header("Content-Type", "application/json");
+    private CachedClient getClient(DatastoreConfigDAO configuration) {
+        CachedClient cached = clients.get(configuration.id);
+        if (cached != null && cached.configuration.equals(configuration.configuration)) {
+            return cached;
+        }
+        // the HttpClient does not need to be closed, the previous one is released when it becomes unreachable
+        CachedClient client = new CachedClient(configuration.configuration.deepCopy(), HttpClient.newHttpClient());
+        clients.put(configuration.id, client);
+        return client;
+    }
 
+    private static HttpRequest newRequest(CollectorApiDatastoreConfig jsonDatastoreConfig, URI uri) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().uri(uri);
+        builder.header("Content-Type", "application/json");
         if (jsonDatastoreConfig.authentication instanceof APIKeyAuth) {
-            tagsBuilder
-                    .header("token", ((APIKeyAuth) jsonDatastoreConfig.authentication).apiKey);
-        }
-        HttpResponse<String> response = client.send(tagsBuilder.build(), HttpResponse.BodyHandlers.ofString());
-        String[] distinctTags;
-        try {
-            distinctTags = mapper.readValue(response.body(), String[].class);
-        } catch (JsonProcessingException e) {
-            Log.errorf("Error while parsing response from collector API: %s", response.body(), e);
-            throw ServiceException.badRequest("Error while parsing response from collector API " + response.body());
-        }
-        if (distinctTags == null || distinctTags.length == 0) {
-            Log.warn("No tags found in collector API");
-            throw ServiceException.badRequest("No tags found in collector API");
-        }
-        if (Arrays.stream(distinctTags).noneMatch(tag::equals)) {
-            String tags = String.join(",", distinctTags);
-            throw ServiceException.badRequest("Tag not found in list of distinct tags: " + tags);
+            builder.header("token", ((APIKeyAuth) jsonDatastoreConfig.authentication).apiKey);
         }
+        return builder.build();
+    }
+
+    private static String readError(InputStream body) throws IOException {
+        return new String(body.readNBytes(MAX_ERROR_BODY), StandardCharsets.UTF_8);
+    }
+
+    private void verifyPayload(CollectorApiDatastoreConfig jsonDatastoreConfig,
+            CachedClient cachedClient, String tag, String newerThan, String olderThan)
+            throws IOException, InterruptedException {
         // Verify that the dates format is correct
         final String DATE_FORMAT = "yyyy-MM-dd%20HH:mm:ss.SSS";
         final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_FORMAT);
@@ -131,6 +142,42 @@ public class CollectorApiDatastore implements Datastore {
             throw ServiceException.badRequest(
                     "Invalid date format (" + newerThan + ", " + olderThan + "). Dates must be in the format " + DATE_FORMAT);
         }
+        // Verify that the tag is in the distinct list of tags
+        Set<String> distinctTags = cachedClient.tags;
+        long now = System.nanoTime();
+        // a tag missing from the cached list may have been added since the list was fetched
+        if (distinctTags == null || now - cachedClient.tagsFetched > tagsTtl.toNanos() || !distinctTags.contains(tag)) {
+            distinctTags = fetchTags(jsonDatastoreConfig, cachedClient.client);
+            cachedClient.tags = distinctTags;
+            cachedClient.tagsFetched = now;
+        }
+        if (!distinctTags.contains(tag)) {
+            String tags = String.join(",", distinctTags);
+            throw ServiceException.badRequest("Tag not found in list of distinct tags: " + tags);
+        }
+    }
+
+    private Set<String> fetchTags(CollectorApiDatastoreConfig jsonDatastoreConfig, HttpClient client)
+            throws IOException, InterruptedException {
+        URI tagsUri = URI.create(jsonDatastoreConfig.url + "/tags/distinct");
+        HttpResponse<InputStream> response = client.send(newRequest(jsonDatastoreConfig, tagsUri),
+                HttpResponse.BodyHandlers.ofInputStream());
+        String[] distinctTags;
+        try (InputStream body = response.body()) {
+            byte[] content = body.readAllBytes();
+            try {
+                distinctTags = mapper.readValue(content, String[].class);
+            } catch (JsonProcessingException e) {
+                String error = new String(content, 0, Math.min(content.length, MAX_ERROR_BODY), StandardCharsets.UTF_8);
+                Log.errorf("Error while parsing response from collector API: %s", error, e);
+                throw ServiceException.badRequest("Error while parsing response from collector API " + error);
+            }
+        }
+        if (distinctTags == null || distinctTags.length == 0) {
+            Log.warn("No tags found in collector API");
+            throw ServiceException.badRequest("No tags found in collector API");
+        }
+        return new LinkedHashSet<>(Arrays.asList(distinctTags));
     }
 
     private static CollectorApiDatastoreConfig getCollectorApiDatastoreConfig(DatastoreConfigDAO configuration,
@@ -163,6 +210,18 @@ public class CollectorApiDatastore implements Datastore {
         return UploadType.MUILTI;
     }
 
+    private static final class CachedClient {
+        private final ObjectNode configuration;
+        private final HttpClient client;
+        private volatile Set<String> tags;
+        private volatile long tagsFetched;
+
+        private CachedClient(ObjectNode configuration, HttpClient client) {
+            this.configuration = configuration;
+            this.client = client;
+        }
+    }
+
     @Override
     public String validateConfig(Object config) {
         try {
@@ -1,9 +1,14 @@
 package io.hyperfoil.tools.horreum.datastore;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.BadRequestException;
@@ -15,8 +20,11 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.message.BasicHeader;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 
@@ -36,10 +44,26 @@ import io.quarkus.logging.Log;
 
 @ApplicationScoped
 public class ElasticsearchDatastore implements Datastore {
+    private static final String PIT_KEEP_ALIVE = "1m";
 
     @Inject
     ObjectMapper mapper;
 
+    @ConfigProperty(name = "horreum.elasticsearch.page-size", defaultValue = "1000")
+    int pageSize;
+
+    @ConfigProperty(name = "horreum.elasticsearch.max-concurrency", defaultValue = "8")
+    int maxConcurrency;
+
+    // clients are reused across uploads; the configuration is kept to detect that the datastore has been updated
+    private final ConcurrentMap<Integer, CachedClient> clients = new ConcurrentHashMap<>();
+
+    @PreDestroy
+    void closeClients() {
+        clients.values().forEach(cached -> close(cached.client));
+        clients.clear();
+    }
+
     @Override
     public DatastoreResponse handleRun(JsonNode payload,
             JsonNode metaData,
@@ -47,8 +71,6 @@ public class ElasticsearchDatastore implements Datastore {
             Optional<String> schemaUriOptional)
             throws BadRequestException {
 
-        RestClient restClient = null;
-
         try {
             if (metaData != null) {
                 Log.warnf("Empty request: %s", metaData);
@@ -61,36 +83,7 @@ public class ElasticsearchDatastore implements Datastore {
 
             if (elasticsearchDatastoreConfig != null) {
 
-                RestClientBuilder builder = RestClient.builder(HttpHost.create(elasticsearchDatastoreConfig.url));
-
-                if (elasticsearchDatastoreConfig.authentication instanceof APIKeyAuth) {
-
-                    APIKeyAuth apiKeyAuth = (((APIKeyAuth) elasticsearchDatastoreConfig.authentication));
-
-                    builder.setDefaultHeaders(new Header[] {
-                            new BasicHeader("Authorization", "ApiKey " + apiKeyAuth.apiKey)
-                    });
-
-                } else if (elasticsearchDatastoreConfig.authentication instanceof UsernamePassAuth) {
-                    final CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
-
-                    UsernamePassAuth usernamePassAuth = (((UsernamePassAuth) elasticsearchDatastoreConfig.authentication));
-
-                    credentialsProvider.setCredentials(AuthScope.ANY,
-                            new UsernamePasswordCredentials(usernamePassAuth.username,
-                                    usernamePassAuth.password));
-
-                    builder.setHttpClientConfigCallback(httpClientBuilder -> httpClientBuilder
-                            .setDefaultCredentialsProvider(credentialsProvider));
-
-                }
-
-                restClient = builder.build();
-
-                if (restClient == null) {
-                    Log.warnf("Could not find elasticsearch datastore: %s", configuration.name);
-                    throw new BadRequestException("Could not find elasticsearch datastore: " + configuration.name);
-                }
+                RestClient restClient = getClient(configuration, elasticsearchDatastoreConfig);
 
                 ElasticRequest apiRequest;
                 try {
@@ -102,7 +95,6 @@ public class ElasticsearchDatastore implements Datastore {
                 }
 
                 Request request;
-                String finalString;
                 String schemaUri;
                 ArrayNode elasticResults;
                 ArrayNode extractedResults;
@@ -113,29 +105,23 @@ public class ElasticsearchDatastore implements Datastore {
                                 "GET",
                                 "/" + apiRequest.index + "/_doc/" + apiRequest.query.textValue());
 
+                        JsonNode doc;
                         try {
-                            finalString = extracted(restClient, request);
+                            doc = extracted(restClient, request);
                         } catch (IOException e) {
                             String msg = "Could not query doc request: %s, %s".formatted(metaData, e.getMessage());
                             Log.warn(msg);
                             throw new BadRequestException(msg);
                         }
 
-                        return new DatastoreResponse(mapper.readTree(finalString).get("_source"), payload);
+                        return new DatastoreResponse(doc.get("_source"), payload);
                     case SEARCH:
                         schemaUri = schemaUriOptional.orElse(null);
                         if (schemaUri == null) {
                             throw new BadRequestException("Schema is required for search requests");
                         }
 
-                        request = new Request(
-                                "GET",
-                                "/" + apiRequest.index + "/_search");
-                        request.addParameter("size", "1000");
-                        request.setJsonEntity(mapper.writeValueAsString(apiRequest.query));
-                        finalString = extracted(restClient, request);
-
-                        elasticResults = (ArrayNode) mapper.readTree(finalString).get("hits").get("hits");
+                        elasticResults = search(restClient, apiRequest.index, apiRequest.query);
                         extractedResults = mapper.createArrayNode();
 
                         elasticResults.forEach(jsonNode -> extractedResults
@@ -152,54 +138,10 @@ public class ElasticsearchDatastore implements Datastore {
                         try {
                             final MultiIndexQuery multiIndexQuery = mapper.treeToValue(apiRequest.query, MultiIndexQuery.class);
                             //1st retrieve the list of docs from 1st Index
-                            request = new Request(
-                                    "GET",
-                                    "/" + apiRequest.index + "/_search");
-
-                            request.setJsonEntity(mapper.writeValueAsString(multiIndexQuery.metaQuery));
-                            finalString = extracted(restClient, request);
-
-                            elasticResults = (ArrayNode) mapper.readTree(finalString).get("hits").get("hits");
-                            extractedResults = mapper.createArrayNode();
+                            elasticResults = search(restClient, apiRequest.index, multiIndexQuery.metaQuery);
 
                             //2nd retrieve the docs from 2nd Index and combine into a single result with metadata and doc contents
-                            final RestClient finalRestClient = restClient; //copy of restClient for use in lambda
-
-                            elasticResults.forEach(jsonNode -> {
-
-                                ObjectNode result = ((ObjectNode) jsonNode.get("_source")).put("$schema", schemaUri);
-                                String docString = """
-                                        {
-                                            "error": "Could not retrieve doc from secondary index"
-                                            "msg": "ERR_MSG"
-                                        }
-                                        """;
-
-                                var subRequest = new Request(
-                                        "GET",
-                                        "/" + multiIndexQuery.targetIndex + "/_doc/"
-                                                + jsonNode.get("_source").get(multiIndexQuery.docField).textValue());
-
-                                try {
-                                    docString = extracted(finalRestClient, subRequest);
-
-                                } catch (IOException e) {
-
-                                    docString.replaceAll("ERR_MSG", e.getMessage());
-                                    Log.error("Could not query doc request: index: %s; docID: %s (%s)".formatted(
-                                            multiIndexQuery.targetIndex, multiIndexQuery.docField, e.getMessage()));
-                                }
-
-                                try {
-                                    result.put("$doc", mapper.readTree(docString));
-                                } catch (JsonProcessingException e) {
-                                    docString.replaceAll("ERR_MSG", e.getMessage());
-                                    Log.error("Could not parse doc result: %s, %s".formatted(docString, e.getMessage()));
-                                }
-
-                                extractedResults.add(result);
-
-                            });
+                            extractedResults = fetchDocs(restClient, multiIndexQuery, elasticResults, schemaUri);
 
                             return new DatastoreResponse(extractedResults, payload);
                         } catch (JsonProcessingException e) {
@@ -216,24 +158,209 @@ public class ElasticsearchDatastore implements Datastore {
             throw new RuntimeException(e);
         } catch (IOException e) {
             throw new RuntimeException(e);
-        } finally {
-            if (restClient != null) {
-                try {
-                    restClient.close();
-                } catch (IOException e) {
-                    Log.errorf("Error closing rest client: %s", e.getMessage());
+        }
+    }
+
+    private RestClient getClient(DatastoreConfigDAO configuration, ElasticsearchDatastoreConfig config) {
+        CachedClient cached = clients.get(configuration.id);
+        if (cached != null && cached.configuration.equals(configuration.configuration)) {
+            return cached.client;
+        }
+        synchronized (clients) {
+            cached = clients.get(configuration.id);
+            if (cached != null && cached.configuration.equals(configuration.configuration)) {
+                return cached.client;
+            }
+            RestClient client = createClient(config);
+            clients.put(configuration.id, new CachedClient(configuration.configuration.deepCopy(), client));
+            if (cached != null) {
+                Log.debugf("Configuration of elasticsearch datastore %s has changed, replacing client", configuration.name);
+                close(cached.client);
+            }
+            return client;
+        }
+    }
+
+    private RestClient createClient(ElasticsearchDatastoreConfig config) {
+        RestClientBuilder builder = RestClient.builder(HttpHost.create(config.url));
+
+        CredentialsProvider credentialsProvider = null;
+        if (config.authentication instanceof APIKeyAuth) {
+
+            APIKeyAuth apiKeyAuth = (((APIKeyAuth) config.authentication));
+
+            builder.setDefaultHeaders(new Header[] {
+                    new BasicHeader("Authorization", "ApiKey " + apiKeyAuth.apiKey)
+            });
+
+        } else if (config.authentication instanceof UsernamePassAuth) {
+            credentialsProvider = new BasicCredentialsProvider();
+
+            UsernamePassAuth usernamePassAuth = (((UsernamePassAuth) config.authentication));
+
+            credentialsProvider.setCredentials(AuthScope.ANY,
+                    new UsernamePasswordCredentials(usernamePassAuth.username,
+                            usernamePassAuth.password));
+        }
+
+        final CredentialsProvider finalCredentialsProvider = credentialsProvider;
+        builder.setHttpClientConfigCallback(httpClientBuilder -> {
+            // all requests go to a single host; allow as many connections as parallel document fetches
+            httpClientBuilder.setMaxConnPerRoute(Math.max(1, maxConcurrency))
+                    .setMaxConnTotal(Math.max(1, maxConcurrency));
+            if (finalCredentialsProvider != null) {
+                httpClientBuilder.setDefaultCredentialsProvider(finalCredentialsProvider);
+            }
+            return httpClientBuilder;
+        });
+
+        return builder.build();
+    }
+
+    private static void close(RestClient restClient) {
+        try {
+            restClient.close();
+        } catch (IOException e) {
+            Log.errorf("Error closing rest client: %s", e.getMessage());
+        }
+    }
+
+    /**
+     * Runs the search and returns all hits; when there are more hits than fit into a single page the results are
+     * paginated using a point in time and <code>search_after</code>. The <code>size</code> in the query limits the
+     * total number of returned hits.
+     */
+    private ArrayNode search(RestClient restClient, String index, JsonNode query) throws IOException {
+        ObjectNode body = query != null && query.isObject() ? ((ObjectNode) query).deepCopy() : mapper.createObjectNode();
+        int limit = body.hasNonNull("size") ? body.get("size").asInt() : Integer.MAX_VALUE;
+        int size = Math.min(limit, Math.max(1, pageSize));
+        body.put("size", size);
+
+        Request request = new Request("GET", "/" + index + "/_search");
+        request.setJsonEntity(mapper.writeValueAsString(body));
+        ArrayNode hits = (ArrayNode) extracted(restClient, request).get("hits").get("hits");
+        // search_after cannot be combined with from
+        if (hits.size() < size || hits.size() >= limit || body.path("from").asInt() > 0) {
+            return hits;
+        }
+
+        String pitId;
+        try {
+            Request openPit = new Request("POST", "/" + index + "/_pit");
+            openPit.addParameter("keep_alive", PIT_KEEP_ALIVE);
+            pitId = extracted(restClient, openPit).get("id").asText();
+        } catch (ResponseException e) {
+            Log.warnf("Cannot open point in time on index %s, returning only first %d hits: %s", index, hits.size(),
+                    e.getMessage());
+            return hits;
+        }
+        try {
+            // the point in time determines the index; the first page is fetched again for consistent results
+            ObjectNode pit = body.putObject("pit").put("id", pitId).put("keep_alive", PIT_KEEP_ALIVE);
+            body.remove("from");
+            if (!body.has("sort")) {
+                body.putArray("sort").add("_shard_doc");
+            }
+            ArrayNode results = mapper.createArrayNode();
+            while (true) {
+                Request pageRequest = new Request("GET", "/_search");
+                pageRequest.setJsonEntity(mapper.writeValueAsString(body));
+                JsonNode response = extracted(restClient, pageRequest);
+                if (response.hasNonNull("pit_id")) {
+                    pitId = response.get("pit_id").asText();
+                    pit.put("id", pitId);
                 }
+                hits = (ArrayNode) response.get("hits").get("hits");
+                results.addAll(hits);
+                if (hits.size() < size || results.size() >= limit) {
+                    return results;
+                }
+                size = Math.min(size, limit - results.size());
+                body.put("size", size);
+                body.set("search_after", hits.get(hits.size() - 1).get("sort"));
+            }
+        } finally {
+            Request closePit = new Request("DELETE", "/_pit");
+            closePit.setJsonEntity(mapper.writeValueAsString(mapper.createObjectNode().put("id", pitId)));
+            try {
+                restClient.performRequest(closePit);
+            } catch (IOException e) {
+                Log.warnf("Could not close point in time on index %s: %s", index, e.getMessage());
             }
         }
     }
 
-    private static String extracted(RestClient restClient, Request request) throws IOException {
-        Response response = restClient.performRequest(request);
+    /**
+     * Retrieves the documents referenced from the hits, with at most <code>maxConcurrency</code> requests in flight.
+     */
+    private ArrayNode fetchDocs(RestClient restClient, MultiIndexQuery multiIndexQuery, ArrayNode hits, String schemaUri) {
+        ArrayNode extractedResults = mapper.createArrayNode();
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        CountDownLatch latch = new CountDownLatch(hits.size());
+        for (JsonNode jsonNode : hits) {
+            ObjectNode result = ((ObjectNode) jsonNode.get("_source")).put("$schema", schemaUri);
+            extractedResults.add(result);
+
+            String docId = jsonNode.get("_source").path(multiIndexQuery.docField).textValue();
+            if (docId == null) {
+                result.set("$doc", docError("Missing field " + multiIndexQuery.docField));
+                latch.countDown();
+                continue;
+            }
+            Request subRequest = new Request(
+                    "GET",
+                    "/" + multiIndexQuery.targetIndex + "/_doc/" + docId);
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while retrieving docs", e);
+            }
+            restClient.performRequestAsync(subRequest, new ResponseListener() {
+                @Override
+                public void onSuccess(Response response) {
+                    try (InputStream stream = response.getEntity().getContent()) {
+                        result.set("$doc", mapper.readTree(stream));
+                    } catch (IOException e) {
+                        Log.error("Could not parse doc result: index: %s; docID: %s (%s)".formatted(
+                                multiIndexQuery.targetIndex, docId, e.getMessage()));
+                        result.set("$doc", docError(e.getMessage()));
+                    } finally {
+                        permits.release();
+                        latch.countDown();
+                    }
+                }
 
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
-        response.getEntity().writeTo(stream);
+                @Override
+                public void onFailure(Exception e) {
+                    Log.error("Could not query doc request: index: %s; docID: %s (%s)".formatted(
+                            multiIndexQuery.targetIndex, docId, e.getMessage()));
+                    result.set("$doc", docError(e.getMessage()));
+                    permits.release();
+                    latch.countDown();
+                }
+            });
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while retrieving docs", e);
+        }
+        return extractedResults;
+    }
+
+    private ObjectNode docError(String message) {
+        return mapper.createObjectNode()
+                .put("error", "Could not retrieve doc from secondary index")
+                .put("msg", message);
+    }
 
-        return new String(stream.toByteArray());
+    private JsonNode extracted(RestClient restClient, Request request) throws IOException {
+        Response response = restClient.performRequest(request);
+        try (InputStream stream = response.getEntity().getContent()) {
+            return mapper.readTree(stream);
+        }
     }
 
     @Override
@@ -265,6 +392,9 @@ public class ElasticsearchDatastore implements Datastore {
 
     }
 
+    private record CachedClient(ObjectNode configuration, RestClient client) {
+    }
+
     static class MultiIndexQuery {
         public MultiIndexQuery() {
         }
@@ -1,15 +1,16 @@
 package io.hyperfoil.tools.horreum.experiment;
 
-import java.util.List;
-
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.hyperfoil.tools.horreum.api.data.ConditionConfig;
 import io.hyperfoil.tools.horreum.api.services.ExperimentService;
-import io.hyperfoil.tools.horreum.entity.alerting.DataPointDAO;
 
 public interface ExperimentConditionModel {
     ConditionConfig config();
 
-    ExperimentService.ComparisonResult compare(JsonNode config, List<DataPointDAO> baseline, DataPointDAO newDatapoint);
+    /**
+     * @param baseline Values of the baseline datapoints, newest first.
+     * @param value Value of the new datapoint.
+     */
+    ExperimentService.ComparisonResult compare(JsonNode config, double[] baseline, double value);
 }
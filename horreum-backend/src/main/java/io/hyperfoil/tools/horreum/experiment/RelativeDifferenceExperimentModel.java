@@ -1,14 +1,9 @@
 package io.hyperfoil.tools.horreum.experiment;
 
-import java.util.List;
-import java.util.OptionalDouble;
-import java.util.stream.Stream;
-
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.hyperfoil.tools.horreum.api.data.ConditionConfig;
 import io.hyperfoil.tools.horreum.api.services.ExperimentService;
-import io.hyperfoil.tools.horreum.entity.alerting.DataPointDAO;
 
 public class RelativeDifferenceExperimentModel implements ExperimentConditionModel {
     public static final String NAME = "relativeDifference";
@@ -27,17 +22,18 @@ public class RelativeDifferenceExperimentModel implements ExperimentConditionMod
     }
 
     @Override
-    public ExperimentService.ComparisonResult compare(JsonNode config, List<DataPointDAO> baseline, DataPointDAO newDatapoint) {
+    public ExperimentService.ComparisonResult compare(JsonNode config, double[] baseline, double value) {
         int maxBaselineDatasets = config.get("maxBaselineDatasets").asInt(0);
-        Stream<DataPointDAO> stream = baseline.stream();
-        if (maxBaselineDatasets > 0) {
-            stream = stream.limit(maxBaselineDatasets);
-        }
-        OptionalDouble mean = stream.mapToDouble(dp -> dp.value).average();
-        if (mean.isEmpty()) {
+        int count = maxBaselineDatasets > 0 ? Math.min(maxBaselineDatasets, baseline.length) : baseline.length;
+        if (count == 0) {
             throw new IllegalArgumentException("Empty baseline");
         }
-        double diff = newDatapoint.value / mean.getAsDouble() - 1;
+        double sum = 0;
+        for (int i = 0; i < count; ++i) {
+            sum += baseline[i];
+        }
+        double mean = sum / count;
+        double diff = value / mean - 1;
         double threshold = config.get("threshold").asDouble(0);
         boolean greaterBetter = config.get("greaterBetter").asBoolean(true);
         ExperimentService.BetterOrWorse overall = ExperimentService.BetterOrWorse.SAME;
@@ -46,7 +42,7 @@ public class RelativeDifferenceExperimentModel implements ExperimentConditionMod
         } else if (diff < -threshold) {
             overall = greaterBetter ? ExperimentService.BetterOrWorse.WORSE : ExperimentService.BetterOrWorse.BETTER;
         }
-        return new ExperimentService.ComparisonResult(overall, newDatapoint.value, mean.getAsDouble(),
+        return new ExperimentService.ComparisonResult(overall, value, mean,
                 "%+.2f%%".formatted(100 * diff));
     }
 }
@@ -0,0 +1,110 @@
+package io.hyperfoil.tools.horreum.migration;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.hyperfoil.tools.horreum.svc.KeyPaths;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.SetupException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+
+public class BackfillRunKeyPathsChangeSet implements CustomTaskChange {
+    private static final int FETCH_SIZE = 100;
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        JdbcConnection connection = (JdbcConnection) database.getConnection();
+        ObjectMapper mapper = new ObjectMapper();
+        int runs = 0;
+        int paths = 0;
+
+        // runs of deleted tests are not searched; paths are recorded per test, owner and access of the runs
+        String selectSql = "SELECT run.testid, run.owner, run.access, run.data FROM run JOIN test ON test.id = run.testid " +
+                "ORDER BY run.testid, run.owner, run.access";
+        String insertSql = "INSERT INTO run_key_path (testid, owner, access, path, key) VALUES (?, ?, ?, ?, ?) " +
+                "ON CONFLICT DO NOTHING";
+
+        try (Statement selectStmt = connection.createStatement();
+                PreparedStatement insertStmt = connection.prepareStatement(insertSql)) {
+            // the data of all runs does not fit into memory
+            selectStmt.setFetchSize(FETCH_SIZE);
+            ResultSet rs = selectStmt.executeQuery(selectSql);
+            System.out.println("Starting run key paths backfill...");
+
+            int testId = -1;
+            String owner = null;
+            int access = -1;
+            Map<String, String> testPaths = new HashMap<>();
+            while (rs.next()) {
+                if (rs.getInt("testid") != testId || !rs.getString("owner").equals(owner) || rs.getInt("access") != access
+                        || testPaths.size() > KeyPaths.MAX_PATHS) {
+                    paths += insert(insertStmt, testId, owner, access, testPaths);
+                    testId = rs.getInt("testid");
+                    owner = rs.getString("owner");
+                    access = rs.getInt("access");
+                }
+                String data = rs.getString("data");
+                if (data != null && !KeyPaths.collect(mapper.readTree(data), testPaths)) {
+                    testPaths.put(KeyPaths.ANY_PATH, KeyPaths.ANY_KEY);
+                }
+                if (++runs % BATCH_SIZE == 0) {
+                    System.out.println("Collected key paths of " + runs + " runs...");
+                }
+            }
+            paths += insert(insertStmt, testId, owner, access, testPaths);
+            System.out.println("Run key paths backfill complete. Total runs: " + runs + ", paths: " + paths);
+
+        } catch (Exception e) {
+            throw new CustomChangeException("Failed to backfill run key paths", e);
+        }
+    }
+
+    private static int insert(PreparedStatement insertStmt, int testId, String owner, int access, Map<String, String> paths)
+            throws Exception {
+        int count = 0;
+        for (Map.Entry<String, String> entry : paths.entrySet()) {
+            insertStmt.setInt(1, testId);
+            insertStmt.setString(2, owner);
+            insertStmt.setInt(3, access);
+            insertStmt.setString(4, entry.getKey());
+            insertStmt.setString(5, entry.getValue());
+            insertStmt.addBatch();
+            if (++count % BATCH_SIZE == 0) {
+                insertStmt.executeBatch();
+            }
+        }
+        insertStmt.executeBatch();
+        paths.clear();
+        return count;
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Run key paths backfilled successfully.";
+    }
+
+    @Override
+    public void setUp() throws SetupException {
+
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        return new ValidationErrors();
+    }
+}
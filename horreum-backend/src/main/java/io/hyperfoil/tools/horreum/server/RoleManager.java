@@ -6,8 +6,10 @@ import java.util.List;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
+import jakarta.transaction.Status;
 import jakarta.transaction.SystemException;
 import jakarta.transaction.TransactionManager;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 
 import io.hyperfoil.tools.horreum.svc.Roles;
 import io.quarkus.logging.Log;
@@ -19,6 +21,8 @@ public class RoleManager {
     static final String SET_ROLES = "SELECT current_setting('horreum.userroles', true), set_config('horreum.userroles', ?, true)";
     static final CloseMe NOOP = () -> {
     };
+    // roles set within the current transaction, to avoid setting the same roles repeatedly
+    private static final Object ROLES_KEY = new Object();
 
     @Inject
     EntityManager em;
@@ -26,6 +30,9 @@ public class RoleManager {
     @Inject
     TransactionManager txManager;
 
+    @Inject
+    TransactionSynchronizationRegistry txRegistry;
+
     String setRoles(Iterable<String> roles) {
         return setRoles(String.join(",", roles));
     }
@@ -34,6 +41,11 @@ public class RoleManager {
         if (roles == null || roles.isEmpty() || Roles.HORREUM_SYSTEM.equals(roles)) {
             return "";
         }
+        // outside of transaction the setting is reset after each statement, so we cannot skip it
+        boolean inTransaction = txRegistry.getTransactionStatus() == Status.STATUS_ACTIVE;
+        if (inTransaction && roles.equals(txRegistry.getResource(ROLES_KEY))) {
+            return roles;
+        }
         Object[] row = (Object[]) em.createNativeQuery(SET_ROLES).setParameter(1, roles).getSingleResult();
 
         if (Log.isDebugEnabled()) { // enable with: `quarkus.log.category."io.hyperfoil.tools.horreum.server.RoleManager".level=DEBUG`
@@ -44,6 +56,9 @@ public class RoleManager {
                         row[0], e.getMessage());
             }
         }
+        if (inTransaction) {
+            txRegistry.putResource(ROLES_KEY, roles);
+        }
         return (String) row[0];
     }
 
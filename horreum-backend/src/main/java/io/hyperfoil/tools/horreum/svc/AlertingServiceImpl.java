@@ -1,6 +1,9 @@
 package io.hyperfoil.tools.horreum.svc;
 
+import java.sql.PreparedStatement;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -37,6 +40,9 @@ import jakarta.transaction.Transactional;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.hibernate.Session;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
 import org.hibernate.query.NativeQuery;
 import org.hibernate.type.StandardBasicTypes;
 
@@ -56,7 +62,9 @@ import io.hyperfoil.tools.horreum.bus.BlockingTaskDispatcher;
 import io.hyperfoil.tools.horreum.changedetection.ChangeDetectionException;
 import io.hyperfoil.tools.horreum.changedetection.ChangeDetectionModel;
 import io.hyperfoil.tools.horreum.changedetection.ChangeDetectionModelResolver;
+import io.hyperfoil.tools.horreum.changedetection.IncrementalChangeDetectionModel;
 import io.hyperfoil.tools.horreum.changedetection.ModelType;
+import io.hyperfoil.tools.horreum.changedetection.RollingStatistics;
 import io.hyperfoil.tools.horreum.entity.FingerprintDAO;
 import io.hyperfoil.tools.horreum.entity.PersistentLogDAO;
 import io.hyperfoil.tools.horreum.entity.alerting.*;
@@ -69,7 +77,6 @@ import io.hyperfoil.tools.horreum.mapper.*;
 import io.hyperfoil.tools.horreum.server.WithRoles;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import io.quarkus.logging.Log;
-import io.quarkus.panache.common.Parameters;
 import io.quarkus.runtime.Startup;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.security.identity.SecurityIdentity;
@@ -177,6 +184,27 @@ public class AlertingServiceImpl implements AlertingService {
         ORDER BY variable_id, timestamp DESC
         """;
 
+    // The stored state covers all datapoints up to the timestamp; it is deleted by triggers when a datapoint
+    // at or before that timestamp is added or removed. Datapoints after it must not have been skipped.
+    private static final String LOAD_DETECTION_STATE =
+        """
+        SELECT s.last_change_id, s.statistics FROM change_detection_state s
+        WHERE s.variable_id = :variableId AND s.fp_hash = :fpHash AND s.up_to < :nextTimestamp
+          AND NOT EXISTS (
+              SELECT 1 FROM datapoint dp JOIN fingerprint fp ON fp.dataset_id = dp.dataset_id
+              WHERE dp.variable_id = s.variable_id AND fp.fp_hash = s.fp_hash
+                AND dp.timestamp > s.up_to AND dp.timestamp < :nextTimestamp
+          );
+        """;
+
+    private static final String STORE_DETECTION_STATE =
+        """
+        INSERT INTO change_detection_state (variable_id, fp_hash, up_to, last_change_id, statistics)
+        VALUES (:variableId, :fpHash, :upTo, :lastChangeId, :statistics)
+        ON CONFLICT (variable_id, fp_hash) DO UPDATE
+        SET up_to = EXCLUDED.up_to, last_change_id = EXCLUDED.last_change_id, statistics = EXCLUDED.statistics;
+        """;
+
     private static final String DELETE_CHANGES_BY_TIMEFRAME =
         """
         DELETE FROM change cc
@@ -230,6 +258,9 @@ public class AlertingServiceImpl implements AlertingService {
     @Inject
     ChangeDetectionModelResolver modelResolver;
 
+    @Inject
+    SeriesStore seriesStore;
+
     // entries can be removed from timer thread while normally this is updated from one of blocking threads
     private final ConcurrentMap<Integer, Recalculation> recalcProgress = new ConcurrentHashMap<>();
 
@@ -237,6 +268,12 @@ public class AlertingServiceImpl implements AlertingService {
     // at the timestamp.
     private final ConcurrentMap<VarAndFingerprint, UpTo> validUpTo = new ConcurrentHashMap<>();
 
+    // Statistics of datapoints since the last change, valid only as long as the UpTo instance in validUpTo
+    // has not been replaced. Any deletion of datapoints falls back to loading all datapoints since the last change.
+    // The statistics are also stored in table change_detection_state, which is used after a restart or when
+    // the previous datapoints were processed by another node.
+    private final ConcurrentMap<VarAndFingerprint, DetectionState> detectionStates = new ConcurrentHashMap<>();
+
     static {
         System.setProperty("polyglot.engine.WarnInterpreterOnly", "false");
     }
@@ -402,6 +439,7 @@ public class AlertingServiceImpl implements AlertingService {
     @Transactional
     void calculateDatapoints(DatasetDAO dataset, boolean notify, boolean debug, Recalculation recalculation) {
         Set<String> missingValueVariables = new HashSet<>();
+        Map<Integer, Double> newValues = new LinkedHashMap<>();
         List<VariableData> values = session.createNativeQuery(LOOKUP_VARIABLES, Tuple.class)
                 .setParameter(1, dataset.testid)
                 .setParameter(2, dataset.id)
@@ -463,7 +501,7 @@ public class AlertingServiceImpl implements AlertingService {
                             info -> logCalculationMessage(dataset, PersistentLogDAO.INFO, "Evaluation of variable %s: %s",
                                     data.fullName(), info));
                     if (value != null) {
-                        createDataPoint(dataset, finalTimestamp, data.variableId, value, notify, recalculation);
+                        newValues.put(data.variableId, value);
                     } else {
                         if (recalculation != null) {
                             recalculation.datasetsWithoutValue.put(dataset.id, dataset.getInfo());
@@ -505,7 +543,7 @@ public class AlertingServiceImpl implements AlertingService {
                         }
                         missingValueVariables.add(data.fullName());
                     } else {
-                        createDataPoint(dataset, finalTimestamp, data.variableId, value, notify, recalculation);
+                        newValues.put(data.variableId, value);
                     }
                 },
                 (data, exception, code) -> logCalculationMessage(dataset, PersistentLogDAO.ERROR,
@@ -513,6 +551,7 @@ public class AlertingServiceImpl implements AlertingService {
                         code),
                 output -> logCalculationMessage(dataset, PersistentLogDAO.DEBUG,
                         "Output while calculating variable: <pre>%s</pre>", output));
+        createDataPoints(dataset, finalTimestamp, newValues, notify, recalculation);
         if (!missingValueVariables.isEmpty()) {
             MissingValuesEvent event = new MissingValuesEvent(dataset.getInfo(), missingValueVariables, notify);
             if (mediator.testMode())
@@ -527,33 +566,90 @@ public class AlertingServiceImpl implements AlertingService {
         mediator.dataPointsProcessed(event);
     }
 
+    /**
+     * Creates datapoints for all variables of the dataset at once and runs change detection on them.
+     */
+    @WithRoles(extras = Roles.HORREUM_SYSTEM)
     @Transactional
-    void createDataPoint(DatasetDAO dataset, Instant timestamp, int variableId, double value, boolean notify,
+    void createDataPoints(DatasetDAO dataset, Instant timestamp, Map<Integer, Double> values, boolean notify,
             Recalculation recalculation) {
-        DataPointDAO dataPoint;
-        VariableDAO variableDAO = VariableDAO.findById(variableId);
+        if (values.isEmpty()) {
+            return;
+        }
+        List<NewDataPoint> dataPoints = new ArrayList<>(values.size());
         if (recalculation.clearDatapoints) {
-            dataPoint = new DataPointDAO();
-            dataPoint.variable = variableDAO;
-            dataPoint.dataset = dataset;
-            dataPoint.timestamp = timestamp;
-            dataPoint.value = value;
-            dataPoint.persistAndFlush();
+            int[] ids = allocateDataPointIds(values.size());
+            int i = 0;
+            for (var entry : values.entrySet()) {
+                dataPoints.add(new NewDataPoint(ids[i++], entry.getKey(), timestamp, entry.getValue()));
+            }
+            insertDataPoints(dataset.id, dataPoints);
+            Integer fpHash = FingerprintDAO.<FingerprintDAO> findByIdOptional(dataset.id).map(fp -> fp.fpHash).orElse(null);
+            Util.doAfterCommit(tm, () -> {
+                for (NewDataPoint dataPoint : dataPoints) {
+                    seriesStore.append(dataPoint.variableId(), fpHash, dataPoint.timestamp(), dataPoint.value(), dataset.id);
+                }
+            });
         } else {
-            dataPoint = DataPointDAO.find("dataset = :dataset and variable = :variable",
-                    Parameters.with("dataset", dataset).and("variable", variableDAO)).firstResult();
+            Map<Integer, NewDataPoint> existing = new HashMap<>();
+            session.createQuery("SELECT dp.id, dp.variable.id, dp.timestamp, dp.value FROM DataPoint dp " +
+                    "WHERE dp.dataset.id = :datasetId AND dp.variable.id IN :variableIds", Object[].class)
+                    .setParameter("datasetId", dataset.id)
+                    .setParameter("variableIds", values.keySet())
+                    .getResultList()
+                    .forEach(row -> existing.put((Integer) row[1],
+                            new NewDataPoint((Integer) row[0], (Integer) row[1], (Instant) row[2], (Double) row[3])));
+            for (var entry : values.entrySet()) {
+                NewDataPoint dataPoint = existing.get(entry.getKey());
+                if (dataPoint != null) {
+                    dataPoints.add(dataPoint);
+                } else {
+                    Log.debugf("DataPoint for dataset %d, variable %d, timestamp %s, value %f not found", dataset.id,
+                            entry.getKey(), timestamp, entry.getValue());
+                }
+            }
         }
-        if (dataPoint != null) {
-            DataPoint.Event event = new DataPoint.Event(dataPoint.id, dataset.id, notify);
-            onNewDataPoint(event, recalculation.lastDatapoint); //Test failure if we do not start a new thread and new tx
-
-            if (mediator.testMode())
+        onNewDataPoints(dataset, dataPoints, notify, recalculation.lastDatapoint);
+        if (mediator.testMode()) {
+            for (NewDataPoint dataPoint : dataPoints) {
+                DataPoint.Event event = new DataPoint.Event(dataPoint.id(), dataset.id, notify);
                 Util.registerTxSynchronization(tm,
                         txStatus -> mediator.publishEvent(AsyncEventChannels.DATAPOINT_NEW, dataset.testid, event));
-        } else {
-            Log.debugf("DataPoint for dataset %d, variable %d, timestamp %s, value %f not found", dataset.id, variableId,
-                    timestamp, value);
+            }
+        }
+    }
+
+    /**
+     * Reserves ids through the id generator of {@link DataPointDAO}, so that the batch insert shares the blocks
+     * of <code>datapoint_seq</code> with entities persisted by Hibernate, whatever optimizer is configured.
+     */
+    private int[] allocateDataPointIds(int count) {
+        SharedSessionContractImplementor source = session.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) source.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(DataPointDAO.class).getGenerator();
+        int[] ids = new int[count];
+        for (int i = 0; i < count; ++i) {
+            ids[i] = ((Number) generator.generate(source, null, null, EventType.INSERT)).intValue();
         }
+        return ids;
+    }
+
+    private void insertDataPoints(int datasetId, List<NewDataPoint> dataPoints) {
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO datapoint (id, dataset_id, variable_id, timestamp, value) VALUES (?, ?, ?, ?, ?)")) {
+                for (NewDataPoint dataPoint : dataPoints) {
+                    statement.setInt(1, dataPoint.id());
+                    statement.setInt(2, datasetId);
+                    statement.setInt(3, dataPoint.variableId());
+                    // the column is a timestamp without time zone, stored in UTC
+                    statement.setObject(4, LocalDateTime.ofInstant(dataPoint.timestamp(), ZoneOffset.UTC));
+                    statement.setDouble(5, dataPoint.value());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
     }
 
     @Transactional
@@ -587,33 +683,41 @@ public class AlertingServiceImpl implements AlertingService {
                 level, "changes", msg).persist();
     }
 
+    /**
+     * Runs change detection for new datapoints of a single dataset; the fingerprint and the change detection
+     * settings are loaded only once for all the variables.
+     */
     @WithRoles(extras = Roles.HORREUM_SYSTEM)
     @Transactional
-    void onNewDataPoint(DataPoint.Event event, boolean lastDatapoint) {
-        DataPointDAO dataPoint = DataPointDAO.findById(event.dataPointId);
-        if (dataPoint.variable != null) {
-            VariableDAO variable = dataPoint.variable;
-            Log.debugf("Processing new datapoint for dataset %d at %s, variable %d (%s), value %f",
-                    event.datasetId, dataPoint.timestamp, variable.id, variable.name, dataPoint.value);
-
-            FingerprintDAO fingerprint = FingerprintDAO.<FingerprintDAO> findByIdOptional(event.datasetId).orElse(null);
-            JsonNode fpNode = fingerprint != null ? fingerprint.fingerprint : null;
-            Integer fpHash = fingerprint != null ? fingerprint.fpHash : null;
-
-            VarAndFingerprint key = new VarAndFingerprint(variable.id, fpHash);
-            Log.debugf("Invalidating variable %d FP %s timestamp %s, current value is %s", variable.id, fingerprint,
-                    dataPoint.timestamp, validUpTo.get(key));
+    void onNewDataPoints(DatasetDAO dataset, List<NewDataPoint> dataPoints, boolean notify, boolean lastDatapoint) {
+        if (dataPoints.isEmpty()) {
+            return;
+        }
+        FingerprintDAO fingerprint = FingerprintDAO.<FingerprintDAO> findByIdOptional(dataset.id).orElse(null);
+        JsonNode fpNode = fingerprint != null ? fingerprint.fingerprint : null;
+        Integer fpHash = fingerprint != null ? fingerprint.fpHash : null;
+
+        List<Integer> variableIds = dataPoints.stream().map(NewDataPoint::variableId).toList();
+        Map<Integer, List<ChangeDetectionDAO>> detections = ChangeDetectionDAO
+                .<ChangeDetectionDAO> find("variable.id IN ?1", variableIds).stream()
+                .collect(Collectors.groupingBy(detection -> detection.variable.id));
+
+        for (NewDataPoint dataPoint : dataPoints) {
+            Log.debugf("Processing new datapoint for dataset %d at %s, variable %d, value %f",
+                    dataset.id, dataPoint.timestamp(), dataPoint.variableId(), dataPoint.value());
+
+            VarAndFingerprint key = new VarAndFingerprint(dataPoint.variableId(), fpHash);
+            Log.debugf("Invalidating variable %d FP %s timestamp %s, current value is %s", dataPoint.variableId(),
+                    fingerprint, dataPoint.timestamp(), validUpTo.get(key));
             validUpTo.compute(key, (ignored, current) -> {
-                if (current == null || !dataPoint.timestamp.isAfter(current.timestamp)) {
-                    return new UpTo(dataPoint.timestamp, false);
+                if (current == null || !dataPoint.timestamp().isAfter(current.timestamp)) {
+                    return new UpTo(dataPoint.timestamp(), false);
                 } else {
                     return current;
                 }
             });
-            runChangeDetection(variable.id, variable.testId, fpNode, fpHash, event.notify, true, lastDatapoint);
-        } else {
-            Log.warnf("Could not process new datapoint for dataset %d when the supplied variable or id reference is null ",
-                    event.datasetId);
+            runChangeDetection(dataPoint.variableId(), dataset.testid, fpNode, fpHash, notify, true, lastDatapoint,
+                    detections.getOrDefault(dataPoint.variableId(), Collections.emptyList()));
         }
     }
 
@@ -627,6 +731,13 @@ public class AlertingServiceImpl implements AlertingService {
     void runChangeDetection(int variableId, int testId, JsonNode fingerprint, Integer fpHash, boolean notify,
             boolean expectExists,
             boolean lastDatapoint) {
+        runChangeDetection(variableId, testId, fingerprint, fpHash, notify, expectExists, lastDatapoint,
+                ChangeDetectionDAO.<ChangeDetectionDAO> find("variable.id", variableId).list());
+    }
+
+    @Transactional
+    void runChangeDetection(int variableId, int testId, JsonNode fingerprint, Integer fpHash, boolean notify,
+            boolean expectExists, boolean lastDatapoint, List<ChangeDetectionDAO> detections) {
         UpTo valid = validUpTo.get(new VarAndFingerprint(variableId, fpHash));
         Instant nextTimestamp = session.createNativeQuery(
                 "SELECT MIN(timestamp) FROM datapoint dp LEFT JOIN fingerprint fp ON dp.dataset_id = fp.dataset_id " +
@@ -671,23 +782,53 @@ public class AlertingServiceImpl implements AlertingService {
         ChangeDAO lastChange = changeQuery.setMaxResults(1).getResultStream().findFirst().orElse(null);
 
         Instant changeTimestamp = LONG_TIME_AGO;
+        Integer lastChangeId = null;
         if (lastChange != null) {
             Log.debugf("Filtering DP between %s (change %d) and %s", lastChange.timestamp, lastChange.id, nextTimestamp);
             changeTimestamp = lastChange.timestamp;
+            lastChangeId = lastChange.id;
         }
 
-        List<DataPointDAO> dataPoints = session.createQuery(
-                "SELECT dp FROM DataPoint dp LEFT JOIN Fingerprint fp ON dp.dataset.id = fp.datasetId " +
-                        "JOIN dp.dataset " + // ignore datapoints (that were not deleted yet) from deleted datasets
-                        "WHERE dp.variable.id = :variableId AND dp.timestamp BETWEEN :changeTimestamp AND :nextTimestamp " +
-                        "AND fp.fpHash = :fpHash " +
-                        "ORDER BY dp.timestamp DESC, dp.dataset.id DESC",
-                DataPointDAO.class)
-                .setParameter("variableId", variableId)
-                .setParameter("changeTimestamp", changeTimestamp)
-                .setParameter("nextTimestamp", nextTimestamp)
-                .setParameter("fpHash", fpHash)
-                .getResultList();
+        VarAndFingerprint key = new VarAndFingerprint(variableId, fpHash);
+        DetectionState previousState = detectionStates.get(key);
+        if (previousState == null || !previousState.matches(valid, lastChangeId, detections)) {
+            previousState = loadDetectionState(variableId, testId, fpHash, lastChangeId, detections, nextTimestamp);
+        }
+        DetectionState nextState = null;
+        List<DataPointDAO> dataPoints = null;
+        if (previousState != null) {
+            // The statistics cover all datapoints up to the valid timestamp, load only those at the next timestamp
+            dataPoints = session.createQuery(
+                    "SELECT dp FROM DataPoint dp LEFT JOIN Fingerprint fp ON dp.dataset.id = fp.datasetId " +
+                            "JOIN dp.dataset " +
+                            "WHERE dp.variable.id = :variableId AND dp.timestamp = :nextTimestamp AND fp.fpHash = :fpHash " +
+                            "ORDER BY dp.dataset.id DESC",
+                    DataPointDAO.class)
+                    .setParameter("variableId", variableId)
+                    .setParameter("nextTimestamp", nextTimestamp)
+                    .setParameter("fpHash", fpHash)
+                    .getResultList();
+            if (!dataPoints.isEmpty()) {
+                nextState = previousState.advance(dataPoints);
+            }
+        }
+        if (nextState == null) {
+            dataPoints = session.createQuery(
+                    "SELECT dp FROM DataPoint dp LEFT JOIN Fingerprint fp ON dp.dataset.id = fp.datasetId " +
+                            "JOIN dp.dataset " + // ignore datapoints (that were not deleted yet) from deleted datasets
+                            "WHERE dp.variable.id = :variableId AND dp.timestamp BETWEEN :changeTimestamp AND :nextTimestamp " +
+                            "AND fp.fpHash = :fpHash " +
+                            "ORDER BY dp.timestamp DESC, dp.dataset.id DESC",
+                    DataPointDAO.class)
+                    .setParameter("variableId", variableId)
+                    .setParameter("changeTimestamp", changeTimestamp)
+                    .setParameter("nextTimestamp", nextTimestamp)
+                    .setParameter("fpHash", fpHash)
+                    .getResultList();
+            if (!dataPoints.isEmpty()) {
+                nextState = newDetectionState(testId, lastChangeId, detections, dataPoints);
+            }
+        }
         // Last datapoint is already in the list
         if (dataPoints.isEmpty()) {
             if (expectExists) {
@@ -695,8 +836,9 @@ public class AlertingServiceImpl implements AlertingService {
             }
         } else {
             int datasetId = dataPoints.get(0).getDatasetId();
-            for (ChangeDetectionDAO detection : ChangeDetectionDAO.<ChangeDetectionDAO> find("variable.id", variableId)
-                    .list()) {
+            List<DataPointDAO> analyzedDataPoints = dataPoints;
+            DetectionState state = nextState;
+            for (ChangeDetectionDAO detection : detections) {
                 ChangeDetectionModel model = modelResolver.getModel(ChangeDetectionModelType.fromString(detection.model));
                 if (model == null) {
                     logChangeDetectionMessage(variableId, datasetId, PersistentLogDAO.ERROR,
@@ -705,20 +847,32 @@ public class AlertingServiceImpl implements AlertingService {
                 }
                 //Only run bulk models on the last datapoint, otherwise run on every datapoint
                 if (model.getType() == ModelType.CONTINOUS || (model.getType() == ModelType.BULK && lastDatapoint)) {
+                    RollingStatistics statistics = state != null ? state.statistics.get(detection.id).statistics() : null;
+                    Consumer<ChangeDAO> changeConsumer = change -> {
+                        logChangeDetectionMessage(testId, datasetId, PersistentLogDAO.DEBUG,
+                                "Change %s detected using datapoints %s", change,
+                                statistics != null ? statistics : reversedAndLimited(analyzedDataPoints));
+                        if (state != null) {
+                            // the statistics must be rebuilt from the new change
+                            state.invalid = true;
+                        }
+                        em.persist(change);
+                        //                            Hibernate.initialize(change.dataset.run.id);
+                        String testName = TestDAO.<TestDAO> findByIdOptional(testId).map(test -> test.name)
+                                .orElse("<unknown>");
+                        Change.Event event = new Change.Event(ChangeMapper.from(change), testId, testName, notify);
+                        if (mediator.testMode())
+                            Util.registerTxSynchronization(tm, txStatus -> mediator
+                                    .publishEvent(AsyncEventChannels.CHANGE_NEW, change.dataset.testid, event));
+                        mediator.executeBlocking(() -> mediator.newChange(event));
+                    };
                     try {
-                        model.analyze(dataPoints, detection.config, change -> {
-                            logChangeDetectionMessage(testId, datasetId, PersistentLogDAO.DEBUG,
-                                    "Change %s detected using datapoints %s", change, reversedAndLimited(dataPoints));
-                            em.persist(change);
-                            //                            Hibernate.initialize(change.dataset.run.id);
-                            String testName = TestDAO.<TestDAO> findByIdOptional(testId).map(test -> test.name)
-                                    .orElse("<unknown>");
-                            Change.Event event = new Change.Event(ChangeMapper.from(change), testId, testName, notify);
-                            if (mediator.testMode())
-                                Util.registerTxSynchronization(tm, txStatus -> mediator
-                                        .publishEvent(AsyncEventChannels.CHANGE_NEW, change.dataset.testid, event));
-                            mediator.executeBlocking(() -> mediator.newChange(event));
-                        });
+                        if (statistics != null) {
+                            ((IncrementalChangeDetectionModel) model).analyze(statistics, detection.config,
+                                    point -> DataPointDAO.findById(point.id()), changeConsumer);
+                        } else {
+                            model.analyze(analyzedDataPoints, detection.config, changeConsumer);
+                        }
                     } catch (ChangeDetectionException e) {
                         new ChangeDetectionLogDAO(variableId, fingerprint, PersistentLogDAO.ERROR, e.getLocalizedMessage())
                                 .persist();
@@ -727,15 +881,104 @@ public class AlertingServiceImpl implements AlertingService {
                 }
             }
         }
+        if (!dataPoints.isEmpty()) {
+            storeDetectionState(variableId, fpHash, nextTimestamp, nextState);
+        }
+        DetectionState finalState = nextState;
         Util.doAfterCommit(tm, () -> {
-            validateUpTo(variableId, fpHash, nextTimestamp);
+            UpTo upTo = validateUpTo(variableId, fpHash, nextTimestamp);
+            if (finalState != null && !finalState.invalid && upTo.inclusive && upTo.timestamp.equals(nextTimestamp)) {
+                finalState.upTo = upTo;
+                detectionStates.put(key, finalState);
+            } else {
+                detectionStates.remove(key);
+            }
             //assume not last datapoint if we have found more
             messageBus.executeForTest(testId, () -> tryRunChangeDetection(variableId, testId, fingerprint, fpHash, notify));
         });
     }
 
-    private void validateUpTo(int variableId, int fpHash, Instant timestamp) {
-        validUpTo.compute(new VarAndFingerprint(variableId, fpHash), (ignored, current) -> {
+    /**
+     * @return State stored by a previous change detection if it covers all datapoints before the next timestamp
+     *         and it matches the last change and the detections, otherwise <code>null</code>.
+     */
+    private DetectionState loadDetectionState(int variableId, int testId, Integer fpHash, Integer lastChangeId,
+            List<ChangeDetectionDAO> detections, Instant nextTimestamp) {
+        if (fpHash == null) {
+            return null;
+        }
+        List<Object[]> rows = session.createNativeQuery(LOAD_DETECTION_STATE, Object[].class)
+                .setParameter("variableId", variableId)
+                .setParameter("fpHash", fpHash)
+                .setParameter("nextTimestamp", nextTimestamp, StandardBasicTypes.INSTANT)
+                .addScalar("last_change_id", StandardBasicTypes.INTEGER)
+                .addScalar("statistics", JsonBinaryType.INSTANCE)
+                .getResultList();
+        if (rows.isEmpty() || !Objects.equals(rows.get(0)[0], lastChangeId)) {
+            return null;
+        }
+        DetectionState state = DetectionState.fromJson(testId, lastChangeId, (JsonNode) rows.get(0)[1]);
+        return state.matches(detections) ? state : null;
+    }
+
+    private void storeDetectionState(int variableId, Integer fpHash, Instant upTo, DetectionState state) {
+        if (fpHash == null) {
+            return;
+        }
+        ObjectNode statistics = state == null || state.invalid ? null : state.toJson();
+        if (statistics == null) {
+            session.createNativeQuery("DELETE FROM change_detection_state WHERE variable_id = ?1 AND fp_hash = ?2")
+                    .setParameter(1, variableId).setParameter(2, fpHash).executeUpdate();
+        } else {
+            session.createNativeQuery(STORE_DETECTION_STATE)
+                    .setParameter("variableId", variableId)
+                    .setParameter("fpHash", fpHash)
+                    .setParameter("upTo", upTo, StandardBasicTypes.INSTANT)
+                    .setParameter("lastChangeId", state.lastChangeId, StandardBasicTypes.INTEGER)
+                    .setParameter("statistics", statistics, JsonBinaryType.INSTANCE)
+                    .executeUpdate();
+        }
+    }
+
+    /**
+     * @return State with statistics for all detections or <code>null</code> if any of the models does not support
+     *         incremental analysis.
+     */
+    private DetectionState newDetectionState(int testId, Integer lastChangeId, List<ChangeDetectionDAO> detections,
+            List<DataPointDAO> dataPoints) {
+        Map<Integer, DetectionStatistics> statistics = new HashMap<>();
+        for (ChangeDetectionDAO detection : detections) {
+            RollingStatistics rollingStatistics;
+            try {
+                ChangeDetectionModel model = modelResolver.getModel(ChangeDetectionModelType.fromString(detection.model));
+                if (!(model instanceof IncrementalChangeDetectionModel incremental)) {
+                    return null;
+                }
+                rollingStatistics = incremental.newStatistics(detection.config);
+            } catch (ChangeDetectionException | RuntimeException e) {
+                // let the regular analysis report the problem
+                return null;
+            }
+            for (int i = dataPoints.size() - 1; i >= 0; --i) {
+                rollingStatistics.add(RollingStatistics.Point.of(dataPoints.get(i)));
+            }
+            statistics.put(detection.id, new DetectionStatistics(detection.model, detection.config.deepCopy(),
+                    rollingStatistics));
+        }
+        return new DetectionState(testId, lastChangeId, statistics);
+    }
+
+    /**
+     * Drops the statistics kept for incremental change detection in the test (the next change detection
+     * loads all datapoints since the last change) and the cached series of the test.
+     */
+    void onDatapointsDeleted(int testId) {
+        detectionStates.values().removeIf(state -> state.testId == testId);
+        Util.registerTxSynchronization(tm, txStatus -> seriesStore.invalidateTest(testId));
+    }
+
+    private UpTo validateUpTo(int variableId, int fpHash, Instant timestamp) {
+        return validUpTo.compute(new VarAndFingerprint(variableId, fpHash), (ignored, current) -> {
             Log.debugf("Attempt %s, valid up to %s", timestamp, current);
             if (current == null || !current.timestamp.isAfter(timestamp)) {
                 return new UpTo(timestamp, true);
@@ -834,41 +1077,33 @@ public class AlertingServiceImpl implements AlertingService {
      * using native SQL to avoid Hibernate persistence context desync issues.
      * The entity-level delete handles the JPA-cascaded changedetection rows.
      *
-     * The native deletes temporarily elevate to horreum.system role because
+     * The native deletes elevate to horreum.system role because
      * RLS policies on change/datapoint/experiment_comparisons require system
      * or dataset-owner tester roles, and the calling user may not satisfy those
      * for all referenced datasets.
      */
     private void deleteVariableWithDependencies(VariableDAO variable) {
-        int variableId = variable.id;
-        // Temporarily set horreum.system role to bypass RLS policies on dependent tables.
-        // The change/datapoint tables have RLS delete policies that check dataset ownership,
-        // which the current user may not satisfy for all datasets referencing this variable.
-        String previousRoles = (String) em
-                .createNativeQuery("SELECT set_config('horreum.userroles', :roles, true)")
-                .setParameter("roles", Roles.HORREUM_SYSTEM)
-                .getSingleResult();
-        try {
-            em.createNativeQuery("DELETE FROM datapoint WHERE variable_id = :variableId")
-                    .setParameter("variableId", variableId)
-                    .executeUpdate();
-            em.createNativeQuery("DELETE FROM change WHERE variable_id = :variableId")
-                    .setParameter("variableId", variableId)
-                    .executeUpdate();
-            em.createNativeQuery("DELETE FROM experiment_comparisons WHERE variable_id = :variableId")
-                    .setParameter("variableId", variableId)
-                    .executeUpdate();
-        } finally {
-            // Restore previous roles
-            em.createNativeQuery("SELECT set_config('horreum.userroles', :roles, true)")
-                    .setParameter("roles", previousRoles != null ? previousRoles : "")
-                    .getSingleResult();
-        }
+        deleteVariableData(variable.id);
         em.flush();
         variable.delete();
         em.flush();
     }
 
+    @WithRoles(extras = Roles.HORREUM_SYSTEM)
+    void deleteVariableData(int variableId) {
+        em.createNativeQuery("DELETE FROM datapoint WHERE variable_id = :variableId")
+                .setParameter("variableId", variableId)
+                .executeUpdate();
+        em.createNativeQuery("DELETE FROM change WHERE variable_id = :variableId")
+                .setParameter("variableId", variableId)
+                .executeUpdate();
+        em.createNativeQuery("DELETE FROM experiment_comparisons WHERE variable_id = :variableId")
+                .setParameter("variableId", variableId)
+                .executeUpdate();
+        detectionStates.keySet().removeIf(key -> key.varId == variableId);
+        Util.registerTxSynchronization(tm, txStatus -> seriesStore.invalidateVariable(variableId));
+    }
+
     private void ensureDefaults(Set<ChangeDetectionDAO> rds) {
         rds.forEach(rd -> {
             ChangeDetectionModel model = modelResolver.getModel(ChangeDetectionModelType.fromString(rd.model));
@@ -1097,6 +1332,7 @@ public class AlertingServiceImpl implements AlertingService {
             DataPointDAO.delete("dataset.id in ?1", datasetIDs);
         }
         ChangeDAO.delete("dataset.id in ?1 AND confirmed = false", datasetIDs);
+        onDatapointsDeleted(testId);
         if (!ids.isEmpty()) {
             // Due to RLS policies we cannot add a record to a dataset we don't own
             logCalculationMessage(testId, datasetIDs.get(0), PersistentLogDAO.INFO, "Starting recalculation of %d runs.",
@@ -1364,12 +1600,22 @@ public class AlertingServiceImpl implements AlertingService {
 
     @WithRoles(extras = Roles.HORREUM_SYSTEM)
     @Transactional
-    void onDatasetDeleted(int datasetId) {
-        Log.debugf("Removing changes for dataset %d", datasetId);
-        ChangeDAO.delete("dataset.id = ?1 AND confirmed = false", datasetId);
-        DataPointDAO.delete("dataset.id", datasetId);
+    void onDatasetsOfRunsDeleted(int[] runIds) {
+        Log.debugf("Removing changes for datasets of runs %s", Arrays.toString(runIds));
+        String datasets = "(SELECT id FROM dataset WHERE runid = ANY(?1))";
+        session.createNativeQuery("DELETE FROM change WHERE dataset_id IN " + datasets + " AND NOT confirmed")
+                .setParameter(1, runIds, IntArrayType.INSTANCE).executeUpdate();
+        Set<Integer> variableIds = new HashSet<>(session
+                .createNativeQuery("DELETE FROM datapoint WHERE dataset_id IN " + datasets + " RETURNING variable_id",
+                        Integer.class)
+                .setParameter(1, runIds, IntArrayType.INSTANCE).getResultList());
+        if (!variableIds.isEmpty()) {
+            detectionStates.keySet().removeIf(key -> variableIds.contains(key.varId));
+            Util.registerTxSynchronization(tm, txStatus -> seriesStore.invalidateVariables(variableIds));
+        }
         //Need to make sure we delete MissingDataRuleResults when datasets are removed
-        MissingDataRuleResultDAO.deleteForDataset(datasetId);
+        session.createNativeQuery("DELETE FROM missingdata_ruleresult WHERE dataset_id IN " + datasets)
+                .setParameter(1, runIds, IntArrayType.INSTANCE).executeUpdate();
     }
 
     @WithRoles(extras = Roles.HORREUM_SYSTEM)
@@ -1382,6 +1628,7 @@ public class AlertingServiceImpl implements AlertingService {
             variable.delete();
         }
         MissingDataRuleDAO.delete("test.id", testId);
+        onDatapointsDeleted(testId);
         em.flush();
     }
 
@@ -1426,6 +1673,10 @@ public class AlertingServiceImpl implements AlertingService {
         }
     }
 
+    // Note: this record must be public as it is used as a parameter of an intercepted method
+    public record NewDataPoint(int id, int variableId, Instant timestamp, double value) {
+    }
+
     static final class VarAndFingerprint {
         final int varId;
         final Integer fingerprint;
@@ -1467,4 +1718,91 @@ public class AlertingServiceImpl implements AlertingService {
                     '}';
         }
     }
+
+    private record DetectionStatistics(String model, JsonNode config, RollingStatistics statistics) {
+    }
+
+    private static final class DetectionState {
+        final int testId;
+        final Integer lastChangeId;
+        final Map<Integer, DetectionStatistics> statistics;
+        // identity of the UpTo this state was computed for
+        UpTo upTo;
+        boolean invalid;
+
+        private DetectionState(int testId, Integer lastChangeId, Map<Integer, DetectionStatistics> statistics) {
+            this.testId = testId;
+            this.lastChangeId = lastChangeId;
+            this.statistics = statistics;
+        }
+
+        boolean matches(UpTo valid, Integer lastChangeId, List<ChangeDetectionDAO> detections) {
+            if (valid == null || !valid.inclusive || valid != upTo || !Objects.equals(lastChangeId, this.lastChangeId)) {
+                return false;
+            }
+            return matches(detections);
+        }
+
+        boolean matches(List<ChangeDetectionDAO> detections) {
+            if (detections.size() != statistics.size()) {
+                return false;
+            }
+            for (ChangeDetectionDAO detection : detections) {
+                DetectionStatistics stats = statistics.get(detection.id);
+                if (stats == null || !Objects.equals(stats.model(), detection.model)
+                        || !Objects.equals(stats.config(), detection.config)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return Statistics of all detections keyed by the detection ID, or <code>null</code> if they cannot
+         *         be stored.
+         */
+        ObjectNode toJson() {
+            ObjectNode json = JsonNodeFactory.instance.objectNode();
+            for (var entry : statistics.entrySet()) {
+                ObjectNode rollingStatistics = entry.getValue().statistics().toJson();
+                if (rollingStatistics == null) {
+                    return null;
+                }
+                ObjectNode detection = json.putObject(String.valueOf(entry.getKey()));
+                detection.put("model", entry.getValue().model());
+                detection.set("config", entry.getValue().config());
+                detection.set("statistics", rollingStatistics);
+            }
+            return json;
+        }
+
+        static DetectionState fromJson(int testId, Integer lastChangeId, JsonNode json) {
+            Map<Integer, DetectionStatistics> statistics = new HashMap<>();
+            for (var it = json.fields(); it.hasNext();) {
+                var entry = it.next();
+                JsonNode detection = entry.getValue();
+                statistics.put(Integer.parseInt(entry.getKey()), new DetectionStatistics(detection.path("model").asText(),
+                        detection.get("config"), RollingStatistics.fromJson(detection.path("statistics"))));
+            }
+            return new DetectionState(testId, lastChangeId, statistics);
+        }
+
+        /**
+         * @param dataPoints New datapoints, most recent first.
+         * @return Copy of this state with the datapoints added; this state is not modified as the transaction
+         *         may not commit.
+         */
+        DetectionState advance(List<DataPointDAO> dataPoints) {
+            Map<Integer, DetectionStatistics> copy = new HashMap<>();
+            for (var entry : statistics.entrySet()) {
+                DetectionStatistics stats = entry.getValue();
+                RollingStatistics rollingStatistics = stats.statistics().copy();
+                for (int i = dataPoints.size() - 1; i >= 0; --i) {
+                    rollingStatistics.add(RollingStatistics.Point.of(dataPoints.get(i)));
+                }
+                copy.put(entry.getKey(), new DetectionStatistics(stats.model(), stats.config(), rollingStatistics));
+            }
+            return new DetectionState(testId, lastChangeId, copy);
+        }
+    }
 }
@@ -1,7 +1,16 @@
 package io.hyperfoil.tools.horreum.svc;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.security.PermitAll;
@@ -20,9 +29,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 
 import io.hyperfoil.tools.horreum.api.changes.Target;
 import io.hyperfoil.tools.horreum.api.internal.services.ChangesService;
-import io.hyperfoil.tools.horreum.entity.alerting.ChangeDAO;
-import io.hyperfoil.tools.horreum.entity.alerting.DataPointDAO;
 import io.hyperfoil.tools.horreum.entity.alerting.VariableDAO;
+import io.hyperfoil.tools.horreum.hibernate.IntArrayType;
 import io.hyperfoil.tools.horreum.server.WithRoles;
 
 /**
@@ -34,6 +42,9 @@ public class ChangesServiceImpl implements ChangesService {
     @Inject
     EntityManager em;
 
+    @Inject
+    SeriesStore seriesStore;
+
     private final List<String> allowedOrigins = new ArrayList<>();
 
     @PostConstruct
@@ -72,6 +83,9 @@ public class ChangesServiceImpl implements ChangesService {
             throw ServiceException.badRequest("Invalid time range");
         }
         List<TimeseriesTarget> result = new ArrayList<>();
+        // null key stands for a fingerprint that does not match any dataset
+        List<SeriesStore.SeriesKey> keys = new ArrayList<>();
+        Map<String, Integer> fpHashes = new HashMap<>();
         for (Target target : query.targets) {
             if (target.type != null && !target.type.equals("timeseries")) {
                 throw ServiceException.badRequest("Tables are not implemented");
@@ -87,43 +101,142 @@ public class ChangesServiceImpl implements ChangesService {
             if (variableId < 0) {
                 throw ServiceException.badRequest("Target must be variable ID");
             }
-            VariableDAO variable = VariableDAO.findById(variableId);
-            String variableName = String.valueOf(variableId);
-            if (variable != null) {
-                variableName = variable.name;
-            }
             TimeseriesTarget tt = new TimeseriesTarget();
-            tt.target = variableName;
+            tt.target = String.valueOf(variableId);
             tt.variableId = variableId;
             result.add(tt);
 
-            StringBuilder sql = new StringBuilder("WITH dp AS (")
-                    .append("(SELECT * FROM datapoint WHERE variable_id = ?1 AND timestamp BETWEEN ?2 AND ?3)");
-            if (query.range.oneBeforeAndAfter) {
-                sql.append(
-                        "UNION (SELECT * FROM datapoint WHERE variable_id = ?1 AND timestamp < ?2 ORDER BY timestamp DESC LIMIT 1) ")
-                        .append("UNION (SELECT * FROM datapoint WHERE variable_id = ?1 AND timestamp > ?3 ORDER BY timestamp LIMIT 1)");
+            if (fingerprint == null) {
+                keys.add(new SeriesStore.SeriesKey(variableId, null));
+            } else {
+                String fpString = fingerprint.toString();
+                if (!fpHashes.containsKey(fpString)) {
+                    fpHashes.put(fpString, resolveFingerprint(variableId, fingerprint));
+                }
+                Integer fpHash = fpHashes.get(fpString);
+                keys.add(fpHash == null ? null : new SeriesStore.SeriesKey(variableId, fpHash));
+            }
+        }
+        if (result.isEmpty()) {
+            return result;
+        }
+        for (Object[] row : em.createQuery("SELECT v.id, v.name FROM variable v WHERE v.id IN ?1", Object[].class)
+                .setParameter(1, result.stream().map(tt -> tt.variableId).collect(Collectors.toSet()))
+                .getResultList()) {
+            for (TimeseriesTarget tt : result) {
+                if (tt.variableId == (Integer) row[0]) {
+                    tt.target = (String) row[1];
+                }
             }
-            sql.append(") SELECT dp.* FROM dp ");
-            if (fingerprint != null) {
-                sql.append(
-                        "LEFT JOIN fingerprint fp ON fp.dataset_id = dp.dataset_id WHERE json_equals(fp.fingerprint, (?4)::jsonb) ");
+        }
+        List<CompressedSeries.Series> series = seriesStore.read(keys.stream().filter(Objects::nonNull).toList(),
+                query.range.from, query.range.to, query.range.oneBeforeAndAfter);
+        Set<Integer> visible = visibleDatasets(series);
+        int threshold = Downsampling.threshold(query.maxDataPoints, query.intervalMs, query.range.from.toEpochMilli(),
+                query.range.to.toEpochMilli());
+        Map<Integer, Set<Integer>> changedDatasets = threshold >= 0 && series.stream().anyMatch(s -> s.size() > threshold)
+                ? changedDatasets(result, query.range)
+                : Collections.emptyMap();
+        Iterator<CompressedSeries.Series> it = series.iterator();
+        for (int i = 0; i < result.size(); ++i) {
+            if (keys.get(i) != null) {
+                TimeseriesTarget tt = result.get(i);
+                addDatapoints(tt, it.next(), visible, threshold,
+                        changedDatasets.getOrDefault(tt.variableId, Collections.emptySet()));
             }
-            sql.append("ORDER BY timestamp ASC");
-            NativeQuery<DataPointDAO> nativeQuery = em.unwrap(Session.class)
-                    .createNativeQuery(sql.toString(), DataPointDAO.class)
+        }
+        return result;
+    }
+
+    /**
+     * Finds the hash of the fingerprint as stored in the database, so that the datapoints can be matched through
+     * the <code>fingerprint_fp_hash</code> index rather than comparing the JSON of each dataset.
+     *
+     * @return Hash of the fingerprint or <code>null</code> if no dataset has this fingerprint.
+     */
+    private Integer resolveFingerprint(int variableId, JsonNode fingerprint) {
+        Session session = em.unwrap(Session.class);
+        // the stored hash is computed by Jackson, too, so this normally hits the index
+        Integer fpHash = session.createNativeQuery(
+                "SELECT fp_hash FROM fingerprint WHERE fp_hash = ?1 AND json_equals(fingerprint, (?2)::jsonb) LIMIT 1",
+                Integer.class)
+                .setParameter(1, fingerprint.hashCode())
+                .setParameter(2, fingerprint.toString())
+                .getResultStream().findFirst().orElse(null);
+        if (fpHash == null) {
+            // the JSON could be parsed into different node types (e.g. numbers), compare fingerprints of the test
+            fpHash = session.createNativeQuery("SELECT fp.fp_hash FROM fingerprint fp " +
+                    "JOIN dataset ds ON ds.id = fp.dataset_id " +
+                    "JOIN variable v ON v.testid = ds.testid " +
+                    "WHERE v.id = ?1 AND json_equals(fp.fingerprint, (?2)::jsonb) LIMIT 1", Integer.class)
                     .setParameter(1, variableId)
-                    .setParameter(2, query.range.from)
-                    .setParameter(3, query.range.to);
-            if (fingerprint != null) {
-                nativeQuery.setParameter(4, fingerprint.toString());
+                    .setParameter(2, fingerprint.toString())
+                    .getResultStream().findFirst().orElse(null);
+        }
+        return fpHash;
+    }
+
+    /**
+     * The series are shared between users; datapoints from datasets the user cannot see are filtered out.
+     */
+    private Set<Integer> visibleDatasets(List<CompressedSeries.Series> series) {
+        int[] datasetIds = series.stream().flatMapToInt(s -> Arrays.stream(s.datasetIds())).distinct().toArray();
+        if (datasetIds.length == 0) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(em.unwrap(Session.class)
+                .createNativeQuery("SELECT id FROM dataset WHERE id = ANY(?1)", Integer.class)
+                .setParameter(1, datasetIds, IntArrayType.INSTANCE)
+                .getResultList());
+    }
+
+    /**
+     * @return Datasets with a change, by variable ID; datapoints of these datasets are not downsampled.
+     */
+    private Map<Integer, Set<Integer>> changedDatasets(List<TimeseriesTarget> targets, Range range) {
+        int[] variableIds = targets.stream().mapToInt(tt -> tt.variableId).distinct().toArray();
+        Map<Integer, Set<Integer>> changedDatasets = new HashMap<>();
+        List<Object[]> rows = em.unwrap(Session.class).createNativeQuery(
+                "SELECT variable_id, dataset_id FROM change WHERE variable_id = ANY(?1) AND timestamp BETWEEN ?2 AND ?3",
+                Object[].class)
+                .setParameter(1, variableIds, IntArrayType.INSTANCE)
+                .setParameter(2, range.from)
+                .setParameter(3, range.to)
+                .getResultList();
+        for (Object[] row : rows) {
+            changedDatasets.computeIfAbsent(((Number) row[0]).intValue(), v -> new HashSet<>())
+                    .add(((Number) row[1]).intValue());
+        }
+        return changedDatasets;
+    }
+
+    private void addDatapoints(TimeseriesTarget tt, CompressedSeries.Series series, Set<Integer> visible, int threshold,
+            Set<Integer> changedDatasets) {
+        CompressedSeries.Series.Builder builder = new CompressedSeries.Series.Builder();
+        for (int i = 0; i < series.size(); ++i) {
+            if (visible.contains(series.datasetIds()[i])) {
+                builder.add(series.timestamps()[i], series.values()[i], series.datasetIds()[i]);
+            }
+        }
+        CompressedSeries.Series points = builder.build();
+        if (threshold >= 0 && points.size() > threshold) {
+            boolean[] keep = new boolean[points.size()];
+            for (int i = 0; i < keep.length; ++i) {
+                keep[i] = changedDatasets.contains(points.datasetIds()[i]);
             }
-            List<DataPointDAO> datapoints = nativeQuery.getResultList();
-            for (DataPointDAO dp : datapoints) {
-                tt.datapoints.add(new Number[] { dp.value, dp.timestamp.toEpochMilli(), /* non-standard! */ dp.dataset.id });
+            for (int i : Downsampling.select(points.timestamps(), points.values(), keep, threshold)) {
+                addDatapoint(tt, points, i);
+            }
+        } else {
+            for (int i = 0; i < points.size(); ++i) {
+                addDatapoint(tt, points, i);
             }
         }
-        return result;
+    }
+
+    private void addDatapoint(TimeseriesTarget tt, CompressedSeries.Series points, int i) {
+        tt.datapoints.add(new Number[] { points.values()[i], points.timestamps()[i],
+                /* non-standard! */ points.datasetIds()[i] });
     }
 
     private int parseVariableId(String target) {
@@ -171,39 +284,52 @@ public class ChangesServiceImpl implements ChangesService {
         if (variableId < 0) {
             throw ServiceException.badRequest("Query must be variable ID");
         }
-        StringBuilder sql = new StringBuilder("SELECT change.* FROM change ");
+        Integer fpHash = null;
         if (fingerprint != null) {
-            sql.append(" JOIN fingerprint fp ON fp.dataset_id = change.dataset_id ");
+            fpHash = resolveFingerprint(variableId, fingerprint);
+            if (fpHash == null) {
+                return annotations;
+            }
         }
-        sql.append(" WHERE variable_id = ?1 AND timestamp BETWEEN ?2 AND ?3 ");
-        if (fingerprint != null) {
-            sql.append("AND json_equals(fp.fingerprint, (?4)::jsonb)");
+        StringBuilder sql = new StringBuilder("SELECT change.id, floor(EXTRACT(EPOCH FROM change.timestamp) * 1000)::bigint, ")
+                .append("change.description, change.confirmed, v.name, v.\"group\", ds.runid, ds.ordinal FROM change ")
+                .append("JOIN variable v ON v.id = change.variable_id ")
+                .append("JOIN dataset ds ON ds.id = change.dataset_id ");
+        if (fpHash != null) {
+            sql.append("JOIN fingerprint fp ON fp.dataset_id = change.dataset_id AND fp.fp_hash = ?4 ");
         }
-        NativeQuery<ChangeDAO> nativeQuery = em.unwrap(Session.class).createNativeQuery(sql.toString(), ChangeDAO.class)
+        sql.append("WHERE change.variable_id = ?1 AND change.timestamp BETWEEN ?2 AND ?3");
+        NativeQuery<Object[]> nativeQuery = em.unwrap(Session.class).createNativeQuery(sql.toString(), Object[].class)
                 .setParameter(1, variableId)
                 .setParameter(2, query.range.from)
                 .setParameter(3, query.range.to);
-        if (fingerprint != null) {
-            nativeQuery.setParameter(4, fingerprint.toString());
+        if (fpHash != null) {
+            nativeQuery.setParameter(4, fpHash);
         }
 
-        List<ChangeDAO> changes = nativeQuery.getResultList();
-        for (ChangeDAO change : changes) {
-            annotations.add(createAnnotation(change));
+        List<Object[]> changes = nativeQuery.getResultList();
+        for (Object[] row : changes) {
+            annotations.add(createAnnotation(variableId, row));
         }
         return annotations;
     }
 
-    private AnnotationDefinition createAnnotation(ChangeDAO change) {
-        StringBuilder content = new StringBuilder("Variable: ").append(change.variable.name);
-        if (change.variable.group != null) {
-            content.append(" (group ").append(change.variable.group).append(")");
+    private AnnotationDefinition createAnnotation(int variableId, Object[] row) {
+        int changeId = ((Number) row[0]).intValue();
+        long timestamp = ((Number) row[1]).longValue();
+        String description = (String) row[2];
+        boolean confirmed = (Boolean) row[3];
+        String variableName = (String) row[4];
+        String group = (String) row[5];
+        int runId = ((Number) row[6]).intValue();
+        int ordinal = ((Number) row[7]).intValue();
+        StringBuilder content = new StringBuilder("Variable: ").append(variableName);
+        if (group != null) {
+            content.append(" (group ").append(group).append(")");
         }
-        content.append("<br>").append(change.description).append("<br>Confirmed: ").append(change.confirmed);
-        return new AnnotationDefinition("Change in run " + change.dataset.runId + "/" + change.dataset.ordinal,
-                content.toString(), false,
-                change.timestamp.toEpochMilli(), 0, new String[0], change.id, change.variable.id, change.dataset.runId,
-                change.dataset.ordinal);
+        content.append("<br>").append(description).append("<br>Confirmed: ").append(confirmed);
+        return new AnnotationDefinition("Change in run " + runId + "/" + ordinal, content.toString(), false,
+                timestamp, 0, new String[0], changeId, variableId, runId, ordinal);
     }
 
 }
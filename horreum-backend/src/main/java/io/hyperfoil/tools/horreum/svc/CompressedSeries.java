@@ -0,0 +1,358 @@
+package io.hyperfoil.tools.horreum.svc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Datapoints of a single series (timestamp, value, dataset ID) ordered by timestamp and compressed in chunks.
+ * Timestamps are stored as delta-of-delta, values as XOR with the previous value (both as in Facebook's Gorilla)
+ * and dataset IDs as zigzag-encoded deltas. Chunks keep their first and last point uncompressed, so that chunks
+ * outside of the requested range are skipped without decoding.
+ * <p>
+ * The instances are thread-safe.
+ */
+final class CompressedSeries {
+    static final int CHUNK_SIZE = 1024;
+
+    private final List<Chunk> chunks = new ArrayList<>();
+    private int size;
+
+    /**
+     * Appends a point; the point must not precede the last point in the series.
+     *
+     * @return <code>false</code> if the point is out of order and was not appended.
+     */
+    synchronized boolean append(long timestamp, double value, int datasetId) {
+        Chunk last = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+        if (last != null && (timestamp < last.lastTimestamp
+                || (timestamp == last.lastTimestamp && datasetId < last.lastDatasetId))) {
+            return false;
+        }
+        if (last == null || last.count == CHUNK_SIZE) {
+            if (last != null) {
+                last.seal();
+            }
+            last = new Chunk();
+            chunks.add(last);
+        }
+        last.append(timestamp, value, datasetId);
+        ++size;
+        return true;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return Points with timestamp within <code>[from, to]</code>; optionally including the last point before
+     *         and the first point after the range.
+     */
+    synchronized Series read(long from, long to, boolean oneBeforeAndAfter) {
+        Series.Builder builder = new Series.Builder();
+        Chunk before = null;
+        int i = 0;
+        for (; i < chunks.size(); ++i) {
+            Chunk chunk = chunks.get(i);
+            if (chunk.lastTimestamp >= from) {
+                break;
+            }
+            before = chunk;
+        }
+        boolean hasBefore = false;
+        long beforeTimestamp = 0;
+        double beforeValue = 0;
+        int beforeDatasetId = 0;
+        if (oneBeforeAndAfter && before != null) {
+            hasBefore = true;
+            beforeTimestamp = before.lastTimestamp;
+            beforeValue = before.lastValue;
+            beforeDatasetId = before.lastDatasetId;
+        }
+        for (; i < chunks.size(); ++i) {
+            Chunk chunk = chunks.get(i);
+            if (chunk.firstTimestamp > to) {
+                break;
+            }
+            Decoder decoder = chunk.decoder();
+            for (int j = 0; j < chunk.count; ++j) {
+                decoder.next();
+                if (decoder.timestamp < from) {
+                    hasBefore = oneBeforeAndAfter;
+                    beforeTimestamp = decoder.timestamp;
+                    beforeValue = decoder.value;
+                    beforeDatasetId = decoder.datasetId;
+                } else if (decoder.timestamp <= to) {
+                    if (hasBefore) {
+                        builder.add(beforeTimestamp, beforeValue, beforeDatasetId);
+                        hasBefore = false;
+                    }
+                    builder.add(decoder.timestamp, decoder.value, decoder.datasetId);
+                } else {
+                    if (hasBefore) {
+                        builder.add(beforeTimestamp, beforeValue, beforeDatasetId);
+                        hasBefore = false;
+                    }
+                    if (oneBeforeAndAfter) {
+                        builder.add(decoder.timestamp, decoder.value, decoder.datasetId);
+                    }
+                    return builder.build();
+                }
+            }
+        }
+        if (hasBefore) {
+            builder.add(beforeTimestamp, beforeValue, beforeDatasetId);
+        }
+        if (oneBeforeAndAfter && i < chunks.size()) {
+            Chunk after = chunks.get(i);
+            builder.add(after.firstTimestamp, after.firstValue, after.firstDatasetId);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return Approximate memory used by the compressed data, in bytes.
+     */
+    synchronized long compressedBytes() {
+        long bytes = 0;
+        for (Chunk chunk : chunks) {
+            bytes += chunk.bits.length * 8L + 64;
+        }
+        return bytes;
+    }
+
+    record Series(long[] timestamps, double[] values, int[] datasetIds) {
+        int size() {
+            return timestamps.length;
+        }
+
+        static final class Builder {
+            private long[] timestamps = new long[16];
+            private double[] values = new double[16];
+            private int[] datasetIds = new int[16];
+            private int size;
+
+            void add(long timestamp, double value, int datasetId) {
+                if (size == timestamps.length) {
+                    timestamps = Arrays.copyOf(timestamps, size * 2);
+                    values = Arrays.copyOf(values, size * 2);
+                    datasetIds = Arrays.copyOf(datasetIds, size * 2);
+                }
+                timestamps[size] = timestamp;
+                values[size] = value;
+                datasetIds[size] = datasetId;
+                ++size;
+            }
+
+            Series build() {
+                return new Series(Arrays.copyOf(timestamps, size), Arrays.copyOf(values, size),
+                        Arrays.copyOf(datasetIds, size));
+            }
+        }
+    }
+
+    private static final class Chunk {
+        private long[] bits = new long[16];
+        private int bitLength;
+        private int count;
+
+        private long firstTimestamp;
+        private double firstValue;
+        private int firstDatasetId;
+
+        // encoder state, also used as the last point of the chunk
+        private long lastTimestamp;
+        private long lastDelta;
+        private double lastValue;
+        private int lastDatasetId;
+        private int lastLeading = Integer.MAX_VALUE;
+        private int lastTrailing;
+
+        void append(long timestamp, double value, int datasetId) {
+            if (count == 0) {
+                firstTimestamp = timestamp;
+                firstValue = value;
+                firstDatasetId = datasetId;
+                write(timestamp, 64);
+                write(Double.doubleToRawLongBits(value), 64);
+                write(datasetId, 32);
+            } else {
+                long delta = timestamp - lastTimestamp;
+                writeTimestamp(count == 1 ? delta : delta - lastDelta);
+                lastDelta = delta;
+                writeValue(Double.doubleToRawLongBits(lastValue) ^ Double.doubleToRawLongBits(value));
+                writeZigZag((long) datasetId - lastDatasetId);
+            }
+            lastTimestamp = timestamp;
+            lastValue = value;
+            lastDatasetId = datasetId;
+            ++count;
+        }
+
+        private void writeTimestamp(long deltaOfDelta) {
+            long zigzag = (deltaOfDelta << 1) ^ (deltaOfDelta >> 63);
+            if (zigzag == 0) {
+                write(0, 1);
+            } else if (zigzag < (1 << 7)) {
+                write(0b10, 2);
+                write(zigzag, 7);
+            } else if (zigzag < (1 << 9)) {
+                write(0b110, 3);
+                write(zigzag, 9);
+            } else if (zigzag < (1 << 12)) {
+                write(0b1110, 4);
+                write(zigzag, 12);
+            } else {
+                write(0b1111, 4);
+                write(zigzag, 64);
+            }
+        }
+
+        private void writeValue(long xor) {
+            if (xor == 0) {
+                write(0, 1);
+                return;
+            }
+            int leading = Math.min(31, Long.numberOfLeadingZeros(xor));
+            int trailing = Long.numberOfTrailingZeros(xor);
+            if (leading >= lastLeading && trailing >= lastTrailing) {
+                // fits into the previous block of meaningful bits
+                write(0b10, 2);
+                write(xor >>> lastTrailing, 64 - lastLeading - lastTrailing);
+            } else {
+                int meaningful = 64 - leading - trailing;
+                write(0b11, 2);
+                write(leading, 5);
+                // 64 meaningful bits are stored as 0
+                write(meaningful & 63, 6);
+                write(xor >>> trailing, meaningful);
+                lastLeading = leading;
+                lastTrailing = trailing;
+            }
+        }
+
+        private void writeZigZag(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            int length = 64 - Long.numberOfLeadingZeros(zigzag);
+            write(length, 6);
+            write(zigzag, length);
+        }
+
+        private void write(long value, int length) {
+            if (length == 0) {
+                return;
+            }
+            if (bitLength + length > bits.length * 64L) {
+                bits = Arrays.copyOf(bits, bits.length * 2);
+            }
+            if (length < 64) {
+                value &= (1L << length) - 1;
+            }
+            int index = bitLength >>> 6;
+            int offset = bitLength & 63;
+            int free = 64 - offset;
+            if (length <= free) {
+                bits[index] |= value << (free - length);
+            } else {
+                bits[index] |= value >>> (length - free);
+                bits[index + 1] |= value << (64 - (length - free));
+            }
+            bitLength += length;
+        }
+
+        void seal() {
+            bits = Arrays.copyOf(bits, (bitLength + 63) >>> 6);
+        }
+
+        Decoder decoder() {
+            return new Decoder(bits);
+        }
+    }
+
+    private static final class Decoder {
+        private final long[] bits;
+        private int position;
+        private int index;
+
+        long timestamp;
+        double value;
+        int datasetId;
+        private long delta;
+        private int leading;
+        private int trailing;
+
+        Decoder(long[] bits) {
+            this.bits = bits;
+        }
+
+        void next() {
+            if (index == 0) {
+                timestamp = read(64);
+                value = Double.longBitsToDouble(read(64));
+                datasetId = (int) read(32);
+            } else {
+                long deltaOfDelta = readTimestamp();
+                delta = index == 1 ? deltaOfDelta : delta + deltaOfDelta;
+                timestamp += delta;
+                value = Double.longBitsToDouble(Double.doubleToRawLongBits(value) ^ readValue());
+                datasetId += (int) readZigZag();
+            }
+            ++index;
+        }
+
+        private long readTimestamp() {
+            long zigzag;
+            if (read(1) == 0) {
+                return 0;
+            } else if (read(1) == 0) {
+                zigzag = read(7);
+            } else if (read(1) == 0) {
+                zigzag = read(9);
+            } else if (read(1) == 0) {
+                zigzag = read(12);
+            } else {
+                zigzag = read(64);
+            }
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        private long readValue() {
+            if (read(1) == 0) {
+                return 0;
+            }
+            if (read(1) == 1) {
+                leading = (int) read(5);
+                int meaningful = (int) read(6);
+                if (meaningful == 0) {
+                    meaningful = 64;
+                }
+                trailing = 64 - leading - meaningful;
+            }
+            return read(64 - leading - trailing) << trailing;
+        }
+
+        private long readZigZag() {
+            int length = (int) read(6);
+            long zigzag = read(length);
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        private long read(int length) {
+            if (length == 0) {
+                return 0;
+            }
+            int index = position >>> 6;
+            int offset = position & 63;
+            int available = 64 - offset;
+            long result;
+            if (length <= available) {
+                result = bits[index] >>> (available - length);
+            } else {
+                result = (bits[index] << (length - available)) | (bits[index + 1] >>> (64 - (length - available)));
+            }
+            position += length;
+            return length == 64 ? result : result & ((1L << length) - 1);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package io.hyperfoil.tools.horreum.svc;
 
+import java.sql.PreparedStatement;
+import java.sql.Types;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -50,6 +54,7 @@ import io.hyperfoil.tools.horreum.entity.alerting.DatasetLogDAO;
 import io.hyperfoil.tools.horreum.entity.data.DatasetDAO;
 import io.hyperfoil.tools.horreum.entity.data.LabelValueDAO;
 import io.hyperfoil.tools.horreum.entity.data.TestDAO;
+import io.hyperfoil.tools.horreum.hibernate.IntArrayType;
 import io.hyperfoil.tools.horreum.hibernate.JsonBinaryType;
 import io.hyperfoil.tools.horreum.mapper.DatasetMapper;
 import io.hyperfoil.tools.horreum.server.WithRoles;
@@ -63,6 +68,11 @@ import io.quarkus.security.identity.SecurityIdentity;
 public class DatasetServiceImpl implements DatasetService {
 
     private static final int LABEL_VALUES_RECALC_BATCH_SIZE = 40;
+    // number of datasets whose label values are recomputed by single query, see calculateLabelValuesBulk
+    static final int LABEL_VALUES_BULK_SIZE = 100;
+    private static final int LABEL_VALUES_INSERT_BATCH_SIZE = 1000;
+    private static final String[] DATASET_DEPENDENT_TABLES = { "label_values", "dataset_schemas", "dataset_view",
+            "fingerprint", "dataset_validationerrors" };
 
     //@formatter:off
     private static final String LABEL_QUERY = """
@@ -98,6 +108,42 @@ public class DatasetServiceImpl implements DatasetService {
          JOIN used_labels ul ON label.id = ul.label_id
          GROUP BY lvalues.label_id, ul.name, function, ul.count
          """;
+    // Same as LABEL_QUERY but extracts the values for many datasets at once
+    private static final String LABEL_QUERY_BULK = """
+         WITH
+         used_labels AS (
+            SELECT ds.dataset_id, label.id AS label_id, label.name, ds.schema_id, count(le) AS count
+            FROM dataset_schemas ds
+            JOIN label ON label.schema_id = ds.schema_id
+            LEFT JOIN label_extractors le ON le.label_id = label.id
+            WHERE ds.dataset_id = ANY(:datasetIds) AND (:allLabels = TRUE OR label.id = ANY(:labelIds))
+            GROUP BY ds.dataset_id, label.id, label.name, ds.schema_id
+         ),
+         lvalues AS (
+            SELECT ul.dataset_id, ul.label_id, le.name,
+                  (CASE WHEN le.isarray THEN
+                     jsonb_path_query_array(dataset.data -> ds.index, le.jsonpath::jsonpath)
+                 ELSE
+                     jsonb_path_query_first(dataset.data -> ds.index, le.jsonpath::jsonpath)
+                  END) AS value
+            FROM dataset
+            JOIN dataset_schemas ds ON dataset.id = ds.dataset_id
+            JOIN used_labels ul ON ul.schema_id = ds.schema_id AND ul.dataset_id = ds.dataset_id
+            LEFT JOIN label_extractors le ON ul.label_id = le.label_id
+            WHERE dataset.id = ANY(:datasetIds)
+         )
+         SELECT lvalues.dataset_id, lvalues.label_id, ul.name, function,
+               (CASE
+                  WHEN ul.count > 1 THEN jsonb_object_agg(COALESCE(lvalues.name, ''), lvalues.value)
+                  WHEN ul.count = 1 THEN jsonb_agg(lvalues.value) -> 0
+                  ELSE '{}'::jsonb END
+               ) AS value
+         FROM label
+         JOIN lvalues ON lvalues.label_id = label.id
+         JOIN used_labels ul ON label.id = ul.label_id AND lvalues.dataset_id = ul.dataset_id
+         GROUP BY lvalues.dataset_id, lvalues.label_id, ul.name, function, ul.count
+         ORDER BY lvalues.dataset_id
+         """;
     protected static final String LABEL_PREVIEW = """
          WITH
          le AS (
@@ -210,6 +256,9 @@ public class DatasetServiceImpl implements DatasetService {
     @Inject
     SecurityIdentity identity;
 
+    @Inject
+    AlertingServiceImpl alertingService;
+
     @PermitAll
     @WithRoles
     @Override
@@ -518,15 +567,22 @@ public class DatasetServiceImpl implements DatasetService {
 
         // Delete data before re-computing Dataset specific data
         FingerprintDAO.deleteById(datasetId);
-        Util.evaluateWithCombinationFunction(toCompute,
+        // all label functions of the dataset are evaluated in one context, the values are persisted together
+        List<LabelValueDAO> labelValues = new ArrayList<>(toCompute.size());
+        List<String> nativeLabels = new ArrayList<>();
+        Util.evaluateBatch(toCompute,
                 (row) -> (String) row[2],
                 (row) -> (JsonNode) row[3],
-                (row, result) -> createLabelValue(datasetId, (int) row[0], Util.convertToJson(result)),
-                (row) -> createLabelValue(datasetId, (int) row[0], (JsonNode) row[3]),
+                (row, result) -> labelValues.add(newLabelValue(datasetId, (int) row[0], result)),
+                (row) -> nativeLabels.add((String) row[1]),
                 (row, e, jsCode) -> logMessage(datasetId, PersistentLogDAO.ERROR,
                         "Evaluation of label %s failed: '%s' Code:<pre>%s</pre>", row[0], e.getMessage(), jsCode),
                 (out) -> logMessage(datasetId, PersistentLogDAO.DEBUG, "Output while calculating labels: <pre>%s</pre>",
                         out));
+        LabelValueDAO.persist(labelValues);
+        if (!nativeLabels.isEmpty()) {
+            Log.debugf("Labels of dataset %d calculated without Javascript: %s", datasetId, nativeLabels);
+        }
 
         // create new dataset views from the recently created label values
         calcDatasetViews(datasetId);
@@ -534,7 +590,105 @@ public class DatasetServiceImpl implements DatasetService {
 
         // label values have been recomputed, invalidate existing datapoints
         // cleanup datapoints for the current dataset
-        DataPointDAO.delete("dataset.id", datasetId);
+        if (DataPointDAO.delete("dataset.id", datasetId) > 0) {
+            alertingService.onDatapointsDeleted(testId);
+        }
+    }
+
+    /**
+     * Recomputes label values of many datasets (of the same test) at once: the label values are extracted by a single
+     * query, the functions are evaluated in bulk and the values are stored using batched inserts.
+     * When any JSONPath fails the whole extraction fails with {@link PersistenceException}; the caller is expected
+     * to fall back to {@link #calculateLabelValues(int, int, Integer[])} for each dataset to locate the error.
+     */
+    @WithRoles(extras = Roles.HORREUM_SYSTEM)
+    @Transactional
+    void calculateLabelValuesBulk(int testId, int[] datasetIds, Integer[] queryLabelIds) {
+        Log.debugf("Calculating label values for datasets %s, labels %s", Arrays.toString(datasetIds),
+                Arrays.toString(queryLabelIds));
+        boolean allLabels = queryLabelIds == null || queryLabelIds.length == 0;
+        int[] labelIds = allLabels ? new int[0] : Stream.of(queryLabelIds).mapToInt(Integer::intValue).toArray();
+        Session session = em.unwrap(Session.class);
+        List<Object[]> toCompute = session.createNativeQuery(LABEL_QUERY_BULK, Object[].class)
+                .setParameter("datasetIds", datasetIds, IntArrayType.INSTANCE)
+                .setParameter("allLabels", allLabels)
+                .setParameter("labelIds", labelIds, IntArrayType.INSTANCE)
+                .addScalar("dataset_id", StandardBasicTypes.INTEGER)
+                .addScalar("label_id", StandardBasicTypes.INTEGER)
+                .addScalar("name", StandardBasicTypes.TEXT)
+                .addScalar("function", StandardBasicTypes.TEXT)
+                .addScalar("value", JsonBinaryType.INSTANCE)
+                .getResultList();
+
+        // see getLabelValuesToCompute for the reason of deleting the label values here
+        session.createNativeQuery("DELETE FROM label_values WHERE dataset_id = ANY(?1) AND (?2 = TRUE OR label_id = ANY(?3))")
+                .setParameter(1, datasetIds, IntArrayType.INSTANCE)
+                .setParameter(2, allLabels)
+                .setParameter(3, labelIds, IntArrayType.INSTANCE)
+                .executeUpdate();
+        session.createNativeQuery("DELETE FROM fingerprint WHERE dataset_id = ANY(?1)")
+                .setParameter(1, datasetIds, IntArrayType.INSTANCE).executeUpdate();
+
+        // rows are ordered by dataset; the output and native labels are reported per dataset
+        Map<Integer, List<Object[]>> byDataset = new LinkedHashMap<>();
+        for (Object[] row : toCompute) {
+            byDataset.computeIfAbsent((Integer) row[0], id -> new ArrayList<>()).add(row);
+        }
+        List<LabelValueDAO> labelValues = new ArrayList<>(toCompute.size());
+        byDataset.forEach((datasetId, rows) -> {
+            List<String> nativeLabels = new ArrayList<>();
+            Util.evaluateBatch(rows,
+                    (row) -> (String) row[3],
+                    (row) -> (JsonNode) row[4],
+                    (row, result) -> labelValues.add(newLabelValue(datasetId, (int) row[1], result)),
+                    (row) -> nativeLabels.add((String) row[2]),
+                    (row, e, jsCode) -> logMessage(datasetId, PersistentLogDAO.ERROR,
+                            "Evaluation of label %s failed: '%s' Code:<pre>%s</pre>", row[1], e.getMessage(), jsCode),
+                    (out) -> logMessage(datasetId, PersistentLogDAO.DEBUG, "Output while calculating labels: <pre>%s</pre>",
+                            out));
+            if (!nativeLabels.isEmpty()) {
+                Log.debugf("Labels of dataset %d calculated without Javascript: %s", datasetId, nativeLabels);
+            }
+        });
+        insertLabelValues(session, labelValues);
+
+        session.createNativeQuery("DELETE FROM dataset_view WHERE dataset_id = ANY(?1)")
+                .setParameter(1, datasetIds, IntArrayType.INSTANCE).executeUpdate();
+        for (int datasetId : datasetIds) {
+            em.createNativeQuery("call calc_dataset_view(?1, NULL);").setParameter(1, datasetId).executeUpdate();
+            createFingerprint(testId, datasetId);
+        }
+        int deletedDatapoints = session.createNativeQuery("DELETE FROM datapoint WHERE dataset_id = ANY(?1)")
+                .setParameter(1, datasetIds, IntArrayType.INSTANCE).executeUpdate();
+        if (deletedDatapoints > 0) {
+            alertingService.onDatapointsDeleted(testId);
+        }
+    }
+
+    private static void insertLabelValues(Session session, List<LabelValueDAO> labelValues) {
+        if (labelValues.isEmpty()) {
+            return;
+        }
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection
+                    .prepareStatement("INSERT INTO label_values(dataset_id, label_id, value) VALUES (?, ?, ?::jsonb)")) {
+                int count = 0;
+                for (LabelValueDAO labelValue : labelValues) {
+                    statement.setInt(1, labelValue.datasetId);
+                    statement.setInt(2, labelValue.labelId);
+                    if (labelValue.value == null) {
+                        statement.setNull(3, Types.VARCHAR);
+                    } else {
+                        statement.setString(3, labelValue.value.toString());
+                    }
+                    statement.addBatch();
+                    if (++count % LABEL_VALUES_INSERT_BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                    }
+                }
+                statement.executeBatch();
+            }
+        });
     }
 
     @Transactional
@@ -574,13 +728,22 @@ public class DatasetServiceImpl implements DatasetService {
         }
     }
 
+    /**
+     * Removes all datasets of the runs together with their label values, schemas, views, fingerprints and validation
+     * errors. Each table is cleaned up by a single statement, regardless of the number of datasets.
+     *
+     * @return number of deleted datasets
+     */
     @Transactional
-    public void deleteDataset(int datasetId) {
-        em.createNativeQuery("DELETE FROM label_values WHERE dataset_id = ?1").setParameter(1, datasetId).executeUpdate();
-        em.createNativeQuery("DELETE FROM dataset_schemas WHERE dataset_id = ?1").setParameter(1, datasetId).executeUpdate();
-        em.createNativeQuery("DELETE FROM dataset_view WHERE dataset_id = ?1").setParameter(1, datasetId).executeUpdate();
-        em.createNativeQuery("DELETE FROM fingerprint WHERE dataset_id = ?1").setParameter(1, datasetId).executeUpdate();
-        em.createNativeQuery("DELETE FROM dataset WHERE id = ?1").setParameter(1, datasetId).executeUpdate();
+    public int purgeDatasetsOfRuns(int[] runIds) {
+        Session session = em.unwrap(Session.class);
+        for (String table : DATASET_DEPENDENT_TABLES) {
+            session.createNativeQuery(
+                    "DELETE FROM " + table + " WHERE dataset_id IN (SELECT id FROM dataset WHERE runid = ANY(?1))")
+                    .setParameter(1, runIds, IntArrayType.INSTANCE).executeUpdate();
+        }
+        return session.createNativeQuery("DELETE FROM dataset WHERE runid = ANY(?1)")
+                .setParameter(1, runIds, IntArrayType.INSTANCE).executeUpdate();
     }
 
     @WithRoles(extras = Roles.HORREUM_SYSTEM)
@@ -612,13 +775,12 @@ public class DatasetServiceImpl implements DatasetService {
                 "We thought there's an error in one of the JSONPaths but independent validation did not find any problems.");
     }
 
-    @Transactional
-    void createLabelValue(int datasetId, int labelId, JsonNode value) {
+    private static LabelValueDAO newLabelValue(int datasetId, int labelId, JsonNode value) {
         LabelValueDAO labelValue = new LabelValueDAO();
         labelValue.datasetId = datasetId;
         labelValue.labelId = labelId;
         labelValue.value = value;
-        labelValue.persist();
+        return labelValue;
     }
 
     @Transactional
@@ -0,0 +1,108 @@
+package io.hyperfoil.tools.horreum.svc;
+
+import java.util.Arrays;
+
+/**
+ * Reduces a series to a bounded number of points for display. The points are split into buckets; from each bucket
+ * we keep the point selected by Largest-Triangle-Three-Buckets (Steinarsson, 2013), which follows the shape of the
+ * series, and the points with minimum and maximum value, so that outliers are not smoothed away.
+ */
+final class Downsampling {
+    private Downsampling() {
+    }
+
+    /**
+     * @param timestamps Timestamps in ascending order.
+     * @param values Values corresponding to the timestamps.
+     * @param keep Points that must be retained regardless of the threshold; may be <code>null</code>.
+     * @param threshold Maximum number of points, not counting the retained ones.
+     * @return Indices of the selected points in ascending order.
+     */
+    static int[] select(long[] timestamps, double[] values, boolean[] keep, int threshold) {
+        int n = timestamps.length;
+        if (n <= threshold || n <= 2) {
+            int[] all = new int[n];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        boolean[] selected = keep != null ? Arrays.copyOf(keep, n) : new boolean[n];
+        selected[0] = true;
+        selected[n - 1] = true;
+        // each bucket contributes up to three points: LTTB, minimum and maximum
+        int buckets = Math.max(1, (threshold - 2) / 3);
+        double bucketSize = (n - 2) / (double) buckets;
+        int previous = 0;
+        for (int b = 0; b < buckets; ++b) {
+            int start = 1 + (int) Math.floor(b * bucketSize);
+            int end = b == buckets - 1 ? n - 1 : 1 + (int) Math.floor((b + 1) * bucketSize);
+            if (start >= end) {
+                continue;
+            }
+            int nextEnd;
+            if (b == buckets - 1) {
+                // the last point is the only one that follows the last bucket
+                nextEnd = n;
+            } else if (b == buckets - 2) {
+                nextEnd = n - 1;
+            } else {
+                nextEnd = 1 + (int) Math.floor((b + 2) * bucketSize);
+            }
+            double avgX = 0, avgY = 0;
+            for (int i = end; i < nextEnd; ++i) {
+                avgX += timestamps[i];
+                avgY += values[i];
+            }
+            avgX /= nextEnd - end;
+            avgY /= nextEnd - end;
+
+            double ax = timestamps[previous];
+            double ay = values[previous];
+            int chosen = start, min = start, max = start;
+            double maxArea = -1;
+            for (int i = start; i < end; ++i) {
+                double area = Math.abs((ax - avgX) * (values[i] - ay) - (ax - timestamps[i]) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+                if (values[i] < values[min]) {
+                    min = i;
+                }
+                if (values[i] > values[max]) {
+                    max = i;
+                }
+            }
+            selected[chosen] = true;
+            selected[min] = true;
+            selected[max] = true;
+            previous = chosen;
+        }
+        int count = 0;
+        for (boolean s : selected) {
+            if (s) {
+                ++count;
+            }
+        }
+        int[] indices = new int[count];
+        for (int i = 0, j = 0; i < n; ++i) {
+            if (selected[i]) {
+                indices[j++] = i;
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * @return Maximum number of points for the query or <code>-1</code> if the series should not be reduced.
+     */
+    static int threshold(Integer maxDataPoints, Long intervalMs, long from, long to) {
+        long threshold = Long.MAX_VALUE;
+        if (maxDataPoints != null && maxDataPoints > 0) {
+            threshold = maxDataPoints;
+        }
+        if (intervalMs != null && intervalMs > 0) {
+            threshold = Math.min(threshold, (to - from) / intervalMs + 1);
+        }
+        return threshold == Long.MAX_VALUE ? -1 : (int) Math.max(3, Math.min(Integer.MAX_VALUE, threshold));
+    }
+}
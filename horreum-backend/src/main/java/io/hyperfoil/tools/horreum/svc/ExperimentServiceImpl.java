@@ -1,11 +1,20 @@
 package io.hyperfoil.tools.horreum.svc;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -15,6 +24,7 @@ import jakarta.annotation.security.RolesAllowed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
+import jakarta.transaction.Status;
 import jakarta.transaction.TransactionManager;
 import jakarta.transaction.Transactional;
 
@@ -38,13 +48,13 @@ import io.hyperfoil.tools.horreum.entity.alerting.DatasetLogDAO;
 import io.hyperfoil.tools.horreum.entity.data.*;
 import io.hyperfoil.tools.horreum.experiment.ExperimentConditionModel;
 import io.hyperfoil.tools.horreum.experiment.RelativeDifferenceExperimentModel;
+import io.hyperfoil.tools.horreum.hibernate.IntArrayType;
 import io.hyperfoil.tools.horreum.hibernate.JsonBinaryType;
 import io.hyperfoil.tools.horreum.mapper.DatasetLogMapper;
 import io.hyperfoil.tools.horreum.mapper.DatasetMapper;
 import io.hyperfoil.tools.horreum.mapper.ExperimentProfileMapper;
 import io.hyperfoil.tools.horreum.server.WithRoles;
 import io.quarkus.logging.Log;
-import io.quarkus.panache.common.Sort;
 import io.quarkus.runtime.Startup;
 
 @ApplicationScoped
@@ -52,6 +62,10 @@ import io.quarkus.runtime.Startup;
 public class ExperimentServiceImpl implements ExperimentService {
     private static final Map<String, ExperimentConditionModel> MODELS = Map.of(
             RelativeDifferenceExperimentModel.NAME, new RelativeDifferenceExperimentModel());
+    private static final Instant ALL_TIME_FROM = Instant.ofEpochMilli(Long.MIN_VALUE);
+    private static final Instant ALL_TIME_TO = Instant.ofEpochMilli(Long.MAX_VALUE);
+    private static final Comparator<BaselineDataset> NEWEST_FIRST = Comparator.comparingLong(BaselineDataset::start)
+            .thenComparingInt(BaselineDataset::id).reversed();
 
     @Inject
     EntityManager em;
@@ -61,6 +75,12 @@ public class ExperimentServiceImpl implements ExperimentService {
     @Inject
     TransactionManager tm;
 
+    @Inject
+    SeriesStore seriesStore;
+
+    // datasets matching the baseline filter, by profile ID
+    private final ConcurrentMap<Integer, Baseline> baselineCache = new ConcurrentHashMap<>();
+
     @WithRoles
     @PermitAll
     @Override
@@ -101,6 +121,7 @@ public class ExperimentServiceImpl implements ExperimentService {
         if (!ExperimentProfileDAO.deleteById(profileId)) {
             throw ServiceException.notFound("No experiment profile " + profileId);
         }
+        Util.doAfterCommit(tm, () -> baselineCache.remove(profileId));
     }
 
     @Override
@@ -123,7 +144,7 @@ public class ExperimentServiceImpl implements ExperimentService {
                         info, Collections.emptyList(),
                         Collections.emptyMap(),
                         null, false)),
-                false);
+                false, false);
         return results;
     }
 
@@ -134,7 +155,7 @@ public class ExperimentServiceImpl implements ExperimentService {
         runExperiments(event.dataset,
                 result -> Util.registerTxSynchronization(tm,
                         value -> mediator.publishEvent(AsyncEventChannels.EXPERIMENT_RESULT_NEW, event.dataset.testId, result)),
-                logs -> logs.forEach(log -> log.persist()), event.notify);
+                logs -> logs.forEach(log -> log.persist()), event.notify, true);
     }
 
     @WithRoles(extras = Roles.HORREUM_SYSTEM)
@@ -144,6 +165,19 @@ public class ExperimentServiceImpl implements ExperimentService {
         for (var profile : ExperimentProfileDAO.list("test.id", testId)) {
             profile.delete();
         }
+        Util.doAfterCommit(tm, () -> baselineCache.values().removeIf(baseline -> baseline.testId == testId));
+    }
+
+    /**
+     * Label values of the dataset have been calculated; its membership in the cached baselines is evaluated again
+     * on the next run of experiments in the test.
+     */
+    void onLabelValuesCalculation(int testId, int datasetId) {
+        Util.registerTxSynchronization(tm, txStatus -> baselineCache.values().forEach(baseline -> {
+            if (baseline.testId == testId) {
+                baseline.stale.add(datasetId);
+            }
+        }));
     }
 
     private void addLog(List<DatasetLogDAO> logs, int testId, int datasetId, int level, String format, Object... args) {
@@ -154,7 +188,7 @@ public class ExperimentServiceImpl implements ExperimentService {
     }
 
     private void runExperiments(Dataset.Info info, Consumer<ExperimentResult> resultConsumer,
-            Consumer<List<DatasetLogDAO>> noProfileConsumer, boolean notify) {
+            Consumer<List<DatasetLogDAO>> noProfileConsumer, boolean notify, boolean useCache) {
         List<DatasetLogDAO> logs = new ArrayList<>();
 
         NativeQuery<Object[]> selectorQuery = em.unwrap(Session.class).createNativeQuery(
@@ -197,58 +231,27 @@ public class ExperimentServiceImpl implements ExperimentService {
                         PersistentLogDAO.ERROR, "Selector filter failed: %s Code: %s", ex.getMessage(), code),
                 output -> addLog(logs, info.testId, info.id,
                         PersistentLogDAO.DEBUG, "Selector filter output: %s", output));
+
+        Map<Integer, List<DatasetLogDAO>> perProfileLogs = matchingProfile.stream()
+                .collect(Collectors.toMap(Function.identity(), id -> new ArrayList<>(logs)));
+        Map<Integer, List<BaselineDataset>> baselines;
+        if (useCache) {
+            // the dataset can become a baseline of any profile, not only the matching ones
+            baselines = updateCachedBaselines(info, perProfileLogs, logs);
+        } else if (!matchingProfile.isEmpty()) {
+            baselines = new HashMap<>();
+            evaluateBaselines(matchingProfile, info, null, perProfileLogs, logs, (profileId, dataset) -> baselines
+                    .computeIfAbsent(profileId, id -> new ArrayList<>()).add(dataset));
+            baselines.values().forEach(datasets -> datasets.sort(NEWEST_FIRST));
+        } else {
+            baselines = Collections.emptyMap();
+        }
         if (matchingProfile.isEmpty()) {
             addLog(logs, info.testId, info.id, PersistentLogDAO.INFO, "There are no matching experiment profiles.");
             noProfileConsumer.accept(logs);
             return;
         }
 
-        NativeQuery<Object[]> baselineQuery = em.unwrap(Session.class).createNativeQuery(
-                """
-                        WITH lvalues AS (
-                           SELECT ep.id AS profile_id, baseline_filter, jsonb_array_length(baseline_labels) as count, label.name, lv.value, lv.dataset_id
-                           FROM experiment_profile ep
-                           JOIN label ON json_contains(ep.baseline_labels, label.name)
-                           LEFT JOIN label_values lv ON label.id = lv.label_id
-                           JOIN dataset ON dataset.id = lv.dataset_id
-                           WHERE ep.id IN ?1
-                           AND dataset.testid = ?2
-                        )
-                        SELECT profile_id, baseline_filter,
-                           (CASE
-                              WHEN count > 1 THEN jsonb_object_agg(COALESCE(name, ''), lvalues.value)
-                              WHEN count = 1 THEN jsonb_agg(lvalues.value) -> 0
-                              ELSE '{}'::jsonb END
-                           ) AS value,
-                           dataset_id
-                        FROM lvalues
-                        GROUP BY profile_id, baseline_filter, dataset_id, count
-                        """,
-                Object[].class);
-        List<Object[]> baselineRows = baselineQuery.setParameter(1, matchingProfile).setParameter(2, info.testId)
-                .addScalar("profile_id", StandardBasicTypes.INTEGER)
-                .addScalar("baseline_filter", StandardBasicTypes.TEXT)
-                .addScalar("value", JsonBinaryType.INSTANCE)
-                .addScalar("dataset_id", StandardBasicTypes.INTEGER)
-                .getResultList();
-
-        Map<Integer, List<Integer>> baselines = new HashMap<>();
-        Map<Integer, List<DatasetLogDAO>> perProfileLogs = matchingProfile.stream()
-                .collect(Collectors.toMap(Function.identity(), id -> new ArrayList<>(logs)));
-        Util.evaluateWithCombinationFunction(baselineRows, r -> Util.makeFilter((String) r[1]), r -> (JsonNode) r[2],
-                (r, v) -> {
-                    if (v.asBoolean()) {
-                        baselines.computeIfAbsent((Integer) r[0], profileId -> new ArrayList<>()).add((Integer) r[3]);
-                    }
-                }, r -> {
-                    if (((JsonNode) r[2]).asBoolean()) {
-                        baselines.computeIfAbsent((Integer) r[0], profileId -> new ArrayList<>()).add((Integer) r[3]);
-                    }
-                }, (r, ex, code) -> addLog(perProfileLogs.get((Integer) r[0]), info.testId, (Integer) r[3],
-                        PersistentLogDAO.ERROR, "Baseline filter failed: %s Code: %s", ex.getMessage(), code),
-                output -> perProfileLogs.forEach((profileId, pls) -> addLog(pls, info.testId, info.id,
-                        PersistentLogDAO.DEBUG, "Baseline filter output: %s", output)));
-
         Map<Integer, DataPointDAO> datapoints = DataPointDAO.<DataPointDAO> find("dataset.id = ?1", info.id)
                 .stream().collect(Collectors.toMap(dp -> dp.variable.id, Function.identity(),
                         // defensive merge: although we should not be able to load any old datapoints
@@ -256,18 +259,21 @@ public class ExperimentServiceImpl implements ExperimentService {
                         // hence we let the new one (with higher id) win.
                         (dp1, dp2) -> dp1.id > dp2.id ? dp1 : dp2));
 
-        for (var entry : baselines.entrySet()) {
-            List<DatasetLogDAO> profileLogs = perProfileLogs.get(entry.getKey());
-            ExperimentProfileDAO profile = ExperimentProfileDAO.findById(entry.getKey());
-            Map<Integer, List<DataPointDAO>> byVar = new HashMap<>();
-            List<Integer> variableIds = profile.comparisons.stream().map(ExperimentComparisonDAO::getVariableId)
-                    .collect(Collectors.toList());
-            DataPointDAO
-                    .<DataPointDAO> find("dataset.id IN ?1 AND variable.id IN ?2", Sort.descending("timestamp", "dataset.id"),
-                            entry.getValue(), variableIds)
-                    .stream().forEach(dp -> byVar.computeIfAbsent(dp.variable.id, v -> new ArrayList<>()).add(dp));
+        for (int profileId : matchingProfile) {
+            List<BaselineDataset> baselineDatasets = baselines.get(profileId);
+            if (baselineDatasets == null || baselineDatasets.isEmpty()) {
+                continue;
+            }
+            List<DatasetLogDAO> profileLogs = perProfileLogs.get(profileId);
+            ExperimentProfileDAO profile = ExperimentProfileDAO.findById(profileId);
+            Set<Integer> baselineIds = baselineDatasets.stream().map(BaselineDataset::id).collect(Collectors.toSet());
+            // the series hold datapoints of all datasets in memory, these are filtered by the baseline
+            List<SeriesStore.SeriesKey> keys = profile.comparisons.stream()
+                    .map(comparison -> new SeriesStore.SeriesKey(comparison.getVariableId(), null)).toList();
+            List<CompressedSeries.Series> series = seriesStore.read(keys, ALL_TIME_FROM, ALL_TIME_TO, false);
             Map<String, ComparisonResult> results = new HashMap<>();
-            for (var comparison : profile.comparisons) {
+            for (int i = 0; i < profile.comparisons.size(); ++i) {
+                ExperimentComparisonDAO comparison = profile.comparisons.get(i);
                 Hibernate.initialize(comparison.variable);
                 ExperimentConditionModel model = MODELS.get(comparison.model);
                 if (model == null) {
@@ -276,27 +282,25 @@ public class ExperimentServiceImpl implements ExperimentService {
                             comparison.variable.name, profile.name);
                     continue;
                 }
-                List<DataPointDAO> baseline = byVar.get(comparison.getVariableId());
-                if (baseline == null) {
+                DataPointDAO datapoint = datapoints.get(comparison.getVariableId());
+                double[] baseline = baselineValues(series.get(i), baselineIds, datapoint);
+                if (baseline.length == 0) {
                     addLog(profileLogs, info.testId, info.id, PersistentLogDAO.INFO,
                             "Baseline for comparison of variable %s in profile %s is empty (datapoints are not present)",
                             comparison.variable.name, profile.name);
                     continue;
                 }
-                DataPointDAO datapoint = datapoints.get(comparison.getVariableId());
                 if (datapoint == null) {
                     addLog(profileLogs, info.testId, info.id, PersistentLogDAO.ERROR,
                             "No datapoint for comparison of variable %s in profile %s", comparison.variable.name, profile.name);
                     continue;
                 }
-                results.put(comparison.variable.name, model.compare(comparison.config, baseline, datapoint));
+                results.put(comparison.variable.name, model.compare(comparison.config, baseline, datapoint.value));
             }
 
-            org.hibernate.query.Query<Dataset.Info> datasetQuery = em.unwrap(Session.class).createQuery(
-                    "SELECT id, runId, ordinal, testid FROM dataset WHERE id IN ?1 ORDER BY start DESC", Dataset.Info.class);
-            datasetQuery.setTupleTransformer(
-                    (tuples, aliases) -> new Dataset.Info((int) tuples[0], (int) tuples[1], (int) tuples[2], (int) tuples[3]));
-            List<Dataset.Info> baseline = datasetQuery.setParameter(1, entry.getValue()).getResultList();
+            List<Dataset.Info> baseline = baselineDatasets.stream()
+                    .map(dataset -> new Dataset.Info(dataset.id(), dataset.runId(), dataset.ordinal(), info.testId))
+                    .collect(Collectors.toList());
 
             JsonNode extraLabels = (JsonNode) em.createNativeQuery("""
                     SELECT COALESCE(jsonb_object_agg(COALESCE(label.name, ''), lv.value), '{}'::jsonb) AS value
@@ -318,6 +322,186 @@ public class ExperimentServiceImpl implements ExperimentService {
         }
     }
 
+    /**
+     * Brings the cached baselines of all profiles in the test up to date: the baseline filters are evaluated
+     * for all datasets only when the baseline is not cached yet, otherwise just for the new dataset and datasets
+     * with recalculated label values. Cached datasets that no longer exist are dropped; datasets are removed
+     * by many bulk statements that do not notify the cache. The cache is updated when the transaction commits.
+     *
+     * @return Baseline datasets of the profiles matching the dataset, newest first.
+     */
+    private Map<Integer, List<BaselineDataset>> updateCachedBaselines(Dataset.Info info,
+            Map<Integer, List<DatasetLogDAO>> perProfileLogs, List<DatasetLogDAO> logs) {
+        Map<Integer, List<BaselineDataset>> result = new HashMap<>();
+        for (ExperimentProfileDAO profile : ExperimentProfileDAO.<ExperimentProfileDAO> list("test.id", info.testId)) {
+            Baseline cached = baselineCache.compute(profile.id, (id, current) -> current != null
+                    && Objects.equals(current.filter, profile.baselineFilter)
+                    && Objects.equals(current.labels, profile.baselineLabels) ? current
+                            : new Baseline(info.testId, profile.baselineFilter, profile.baselineLabels));
+            synchronized (cached) {
+                // datasets marked while evaluating are evaluated next time; marks are restored on rollback
+                Set<Integer> unmarked = new HashSet<>(cached.stale);
+                cached.stale.removeAll(unmarked);
+                boolean loaded = cached.loaded;
+                Set<Integer> evaluated = null;
+                if (loaded) {
+                    evaluated = new HashSet<>(unmarked);
+                    evaluated.add(info.id);
+                }
+                List<BaselineDataset> matching = new ArrayList<>();
+                try {
+                    evaluateBaselines(List.of(profile.id), info, evaluated, perProfileLogs, logs,
+                            (profileId, dataset) -> matching.add(dataset));
+                } catch (RuntimeException e) {
+                    cached.stale.addAll(unmarked);
+                    baselineCache.remove(profile.id, cached);
+                    throw e;
+                }
+                Map<Integer, BaselineDataset> datasets = new HashMap<>(loaded ? cached.byId : Collections.emptyMap());
+                if (evaluated != null) {
+                    datasets.keySet().removeAll(evaluated);
+                }
+                matching.forEach(dataset -> datasets.put(dataset.id(), dataset));
+                Set<Integer> removed = new HashSet<>(datasets.keySet());
+                removed.removeAll(existingDatasets(datasets.keySet()));
+                datasets.keySet().removeAll(removed);
+                if (evaluated != null) {
+                    removed.addAll(evaluated);
+                }
+                if (perProfileLogs.containsKey(profile.id)) {
+                    List<BaselineDataset> baseline = new ArrayList<>(datasets.values());
+                    baseline.sort(NEWEST_FIRST);
+                    result.put(profile.id, baseline);
+                }
+                Util.registerTxSynchronization(tm, txStatus -> {
+                    synchronized (cached) {
+                        if (txStatus != Status.STATUS_COMMITTED) {
+                            cached.stale.addAll(unmarked);
+                        } else if (loaded) {
+                            removed.forEach(cached::remove);
+                            matching.forEach(cached::add);
+                        } else {
+                            cached.clear();
+                            datasets.values().forEach(cached::add);
+                            cached.loaded = true;
+                        }
+                    }
+                });
+            }
+        }
+        return result;
+    }
+
+    private Set<Integer> existingDatasets(Collection<Integer> datasetIds) {
+        if (datasetIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(em.unwrap(Session.class)
+                .createNativeQuery("SELECT id FROM dataset WHERE id = ANY(?1)", Integer.class)
+                .setParameter(1, datasetIds.stream().mapToInt(Integer::intValue).toArray(), IntArrayType.INSTANCE)
+                .getResultList());
+    }
+
+    /**
+     * Evaluates the baseline filters of the profiles.
+     *
+     * @param datasetIds Datasets to evaluate, or <code>null</code> for all datasets of the test.
+     * @param consumer Receives profile ID and a dataset matching its baseline filter.
+     */
+    private void evaluateBaselines(List<Integer> profileIds, Dataset.Info info, Collection<Integer> datasetIds,
+            Map<Integer, List<DatasetLogDAO>> perProfileLogs, List<DatasetLogDAO> logs,
+            BiConsumer<Integer, BaselineDataset> consumer) {
+        if (datasetIds != null && datasetIds.isEmpty()) {
+            return;
+        }
+        NativeQuery<Object[]> baselineQuery = em.unwrap(Session.class).createNativeQuery(
+                """
+                        WITH lvalues AS (
+                           SELECT ep.id AS profile_id, baseline_filter, jsonb_array_length(baseline_labels) as count, label.name, lv.value, lv.dataset_id,
+                              dataset.runid, dataset.ordinal, dataset.start
+                           FROM experiment_profile ep
+                           JOIN label ON json_contains(ep.baseline_labels, label.name)
+                           LEFT JOIN label_values lv ON label.id = lv.label_id
+                           JOIN dataset ON dataset.id = lv.dataset_id
+                           WHERE ep.id IN ?1
+                           AND dataset.testid = ?2%s
+                        )
+                        SELECT profile_id, baseline_filter,
+                           (CASE
+                              WHEN count > 1 THEN jsonb_object_agg(COALESCE(name, ''), lvalues.value)
+                              WHEN count = 1 THEN jsonb_agg(lvalues.value) -> 0
+                              ELSE '{}'::jsonb END
+                           ) AS value,
+                           dataset_id, runid, ordinal, start
+                        FROM lvalues
+                        GROUP BY profile_id, baseline_filter, dataset_id, runid, ordinal, start, count
+                        """
+                        .formatted(datasetIds == null ? "" : " AND dataset.id IN ?3"),
+                Object[].class);
+        baselineQuery.setParameter(1, profileIds).setParameter(2, info.testId);
+        if (datasetIds != null) {
+            baselineQuery.setParameter(3, datasetIds);
+        }
+        List<Object[]> baselineRows = baselineQuery
+                .addScalar("profile_id", StandardBasicTypes.INTEGER)
+                .addScalar("baseline_filter", StandardBasicTypes.TEXT)
+                .addScalar("value", JsonBinaryType.INSTANCE)
+                .addScalar("dataset_id", StandardBasicTypes.INTEGER)
+                .addScalar("runid", StandardBasicTypes.INTEGER)
+                .addScalar("ordinal", StandardBasicTypes.INTEGER)
+                .addScalar("start", StandardBasicTypes.INSTANT)
+                .getResultList();
+
+        Function<Object[], BaselineDataset> toDataset = r -> new BaselineDataset((Integer) r[3], (Integer) r[4],
+                (Integer) r[5], ((Instant) r[6]).toEpochMilli());
+        Util.evaluateWithCombinationFunction(baselineRows, r -> Util.makeFilter((String) r[1]), r -> (JsonNode) r[2],
+                (r, v) -> {
+                    if (v.asBoolean()) {
+                        consumer.accept((Integer) r[0], toDataset.apply(r));
+                    }
+                }, r -> {
+                    if (((JsonNode) r[2]).asBoolean()) {
+                        consumer.accept((Integer) r[0], toDataset.apply(r));
+                    }
+                }, (r, ex, code) -> addLog(perProfileLogs.getOrDefault((Integer) r[0], logs), info.testId, (Integer) r[3],
+                        PersistentLogDAO.ERROR, "Baseline filter failed: %s Code: %s", ex.getMessage(), code),
+                output -> perProfileLogs.forEach((profileId, pls) -> addLog(pls, info.testId, info.id,
+                        PersistentLogDAO.DEBUG, "Baseline filter output: %s", output)));
+    }
+
+    /**
+     * @param current Datapoint of the evaluated dataset; it is not in the series until it is committed.
+     * @return Values of the baseline datasets, newest first.
+     */
+    private static double[] baselineValues(CompressedSeries.Series series, Set<Integer> baselineIds, DataPointDAO current) {
+        boolean addCurrent = current != null && baselineIds.contains(current.dataset.id);
+        long currentTimestamp = addCurrent ? current.timestamp.toEpochMilli() : 0;
+        double[] values = new double[series.size() + 1];
+        int count = 0;
+        int currentIndex = -1;
+        for (int i = series.size() - 1; i >= 0; --i) {
+            int datasetId = series.datasetIds()[i];
+            if (!baselineIds.contains(datasetId)) {
+                continue;
+            }
+            if (addCurrent && datasetId == current.dataset.id) {
+                addCurrent = false;
+            } else if (currentIndex < 0 && series.timestamps()[i] < currentTimestamp) {
+                currentIndex = count;
+            }
+            values[count++] = series.values()[i];
+        }
+        if (addCurrent) {
+            if (currentIndex < 0) {
+                currentIndex = count;
+            }
+            System.arraycopy(values, currentIndex, values, currentIndex + 1, count - currentIndex);
+            values[currentIndex] = current.value;
+            ++count;
+        }
+        return Arrays.copyOf(values, count);
+    }
+
     void exportTest(TestExport test) {
         test.experiments = ExperimentProfileDAO.<ExperimentProfileDAO> list("test.id", test.id)
                 .stream().map(ExperimentProfileMapper::from).collect(Collectors.toList());
@@ -338,4 +522,38 @@ public class ExperimentServiceImpl implements ExperimentService {
             }
         }
     }
+
+    /**
+     * Datasets matching the baseline filter of a profile; cached until the filter or labels of the profile change.
+     */
+    private static final class Baseline {
+        private final int testId;
+        private final String filter;
+        private final JsonNode labels;
+        private final Map<Integer, BaselineDataset> byId = new HashMap<>();
+        // datasets with recalculated label values
+        private final Set<Integer> stale = ConcurrentHashMap.newKeySet();
+        private boolean loaded;
+
+        private Baseline(int testId, String filter, JsonNode labels) {
+            this.testId = testId;
+            this.filter = filter;
+            this.labels = labels;
+        }
+
+        private void add(BaselineDataset dataset) {
+            byId.put(dataset.id(), dataset);
+        }
+
+        private void remove(int datasetId) {
+            byId.remove(datasetId);
+        }
+
+        private void clear() {
+            byId.clear();
+        }
+    }
+
+    private record BaselineDataset(int id, int runId, int ordinal, long start) {
+    }
 }
@@ -0,0 +1,360 @@
+package io.hyperfoil.tools.horreum.svc;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.ResourceLimits;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.management.ThreadMXBean;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * All Javascript evaluated by Horreum (transformers, labels, variables, filters, reports...) runs in contexts
+ * borrowed from this pool. The contexts share a single {@link Engine} so that parsed and compiled code is reused
+ * between contexts, and the functions are compiled into callable {@link Value values} only once per context.
+ * <p>
+ * The pool bounds only the number of idle contexts that are retained; when all of them are borrowed a new context
+ * is created (on the same engine) and closed after use. This way nested evaluations cannot deadlock.
+ * <p>
+ * Each call is bounded by the configured timeout, number of statements and memory. The Truffle runtime does not
+ * limit the heap of a context, the memory limit applies to the bytes allocated by the evaluating thread instead.
+ */
+final class JsContextPool {
+    private static final int DEFAULT_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration INTERRUPT_GRACE = Duration.ofSeconds(1);
+    private static final int MAX_CACHED_SOURCES = 4096;
+    private static final int MAX_CACHED_FUNCTIONS = 256;
+    private static final Duration MEMORY_CHECK_PERIOD = Duration.ofMillis(50);
+
+    // Parses the body on its own, so that the function cannot close the wrapper in function() and declare
+    // let/const bindings in the global scope; these are not properties of the global object and would survive reset
+    private static final String VALIDATE = """
+            (function() {
+              const F = Function;
+              return body => { new F(body); };
+            })()
+            """;
+
+    // Snapshot of the global object and built-ins, returns a function that compares the current state to it
+    private static final String PRISTINE_CHECK = """
+            (function() {
+              const builtins = ['Object', 'Function', 'Array', 'String', 'Number', 'Boolean', 'Symbol', 'BigInt', 'Date',
+                'RegExp', 'Error', 'Math', 'JSON', 'Reflect', 'Promise', 'Map', 'Set', 'WeakMap', 'WeakSet'];
+              const targets = [globalThis];
+              for (const name of builtins) {
+                const builtin = globalThis[name];
+                if (builtin !== undefined) {
+                  targets.push(builtin);
+                  if (typeof builtin === 'function' && builtin.prototype) {
+                    targets.push(builtin.prototype);
+                  }
+                }
+              }
+              const describe = target => Reflect.ownKeys(target).map(key => {
+                const desc = Reflect.getOwnPropertyDescriptor(target, key);
+                return [key, 'value' in desc ? desc.value : desc.get, desc.set];
+              });
+              const snapshot = targets.map(describe);
+              return function() {
+                return targets.every((target, i) => {
+                  const current = describe(target);
+                  return current.length === snapshot[i].length && current.every((prop, j) =>
+                      prop.every((item, k) => Object.is(item, snapshot[i][j][k])));
+                });
+              };
+            })()
+            """;
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static volatile JsContextPool instance;
+
+    private final Engine engine;
+    private final BlockingQueue<PooledContext> idle;
+    private final Duration timeout;
+    private final long statementLimit;
+    private final long memoryLimit;
+    private final ResourceLimits limits;
+    private final Map<String, Source> sources = Collections
+            .synchronizedMap(new LinkedHashMap<String, Source>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Source> eldest) {
+                    return size() > MAX_CACHED_SOURCES;
+                }
+            });
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "horreum-js-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    JsContextPool(int size, Duration timeout, long statementLimit, long memoryLimit) {
+        this.engine = Engine.newBuilder()
+                .option("engine.WarnInterpreterOnly", "false")
+                .build();
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, size));
+        this.timeout = timeout;
+        this.statementLimit = statementLimit;
+        if (memoryLimit > 0 && !(THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled())) {
+            Log.warn("Allocated memory of threads is not measured by this JVM, Javascript memory limit is ignored");
+            memoryLimit = 0;
+        }
+        this.memoryLimit = memoryLimit;
+        this.limits = statementLimit > 0 ? ResourceLimits.newBuilder().statementLimit(statementLimit, null).build() : null;
+    }
+
+    static JsContextPool get() {
+        JsContextPool pool = instance;
+        if (pool == null) {
+            synchronized (JsContextPool.class) {
+                pool = instance;
+                if (pool == null) {
+                    Config config = ConfigProvider.getConfig();
+                    pool = new JsContextPool(
+                            config.getOptionalValue("horreum.js.pool.size", Integer.class).orElse(DEFAULT_POOL_SIZE),
+                            config.getOptionalValue("horreum.js.timeout", Duration.class).orElse(DEFAULT_TIMEOUT),
+                            config.getOptionalValue("horreum.js.statement-limit", Long.class).orElse(0L),
+                            config.getOptionalValue("horreum.js.memory-limit", MemorySize.class)
+                                    .map(MemorySize::asLongValue).orElse(0L));
+                    instance = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Borrows a context; the context must be closed (returned) by the same thread once the evaluation is done.
+     */
+    static PooledContext acquire() {
+        return get().borrow();
+    }
+
+    PooledContext borrow() {
+        PooledContext context = idle.poll();
+        return context != null ? context : new PooledContext();
+    }
+
+    private Source source(String code) {
+        return sources.computeIfAbsent(code,
+                c -> Source.newBuilder("js", c, "horreum-function.js").cached(true).buildLiteral());
+    }
+
+    private void release(PooledContext context) {
+        if (context.broken || !context.reset() || !idle.offer(context)) {
+            context.destroy();
+        }
+    }
+
+    /**
+     * Renders the code in the same form it used to be executed, so that the error messages stay familiar.
+     */
+    static String describe(String function, JsonNode input) {
+        return "const __obj = " + input + ";\nconst __func = " + function + ";\n__func(__obj)";
+    }
+
+    final class PooledContext implements AutoCloseable {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final Context context;
+        private final Value jsonParse;
+        private final Value validate;
+        private final Value isPristine;
+        private final Map<String, Value> functions = new LinkedHashMap<String, Value>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Value> eldest) {
+                return size() > MAX_CACHED_FUNCTIONS;
+            }
+        };
+        private volatile boolean executing;
+        private volatile boolean broken;
+
+        private PooledContext() {
+            Context.Builder builder = Context.newBuilder("js")
+                    .engine(engine)
+                    .allowExperimentalOptions(true)
+                    .option("js.foreign-object-prototype", "true")
+                    .option("js.global-property", "true")
+                    .out(out)
+                    .err(out);
+            if (limits != null) {
+                builder.resourceLimits(limits);
+            }
+            context = builder.build();
+            context.enter();
+            try {
+                context.getBindings("js").putMember("isInstanceLike", new ProxyJacksonObject.InstanceCheck());
+                context.eval(source("Object.defineProperty(Object,Symbol.hasInstance, {\n" +
+                        "  value: function myinstanceof(obj) {\n" +
+                        "    return isInstanceLike(obj);\n" +
+                        "  }\n" +
+                        "});"));
+                jsonParse = context.eval(source("JSON.parse"));
+                validate = context.eval(source(VALIDATE));
+                isPristine = context.eval(source(PRISTINE_CHECK));
+            } finally {
+                context.leave();
+            }
+        }
+
+        Context context() {
+            return context;
+        }
+
+        /**
+         * Returns the function compiled into a callable value; subsequent calls with the same code are served
+         * from a per-context cache.
+         */
+        Value function(String function) {
+            Value compiled = functions.get(function);
+            if (compiled == null) {
+                // The function is wrapped into a block so that trailing semicolons and comments are tolerated
+                String body = "const __func = " + function + "\n;\nreturn __func;";
+                Source source = source("(function() {\n" + body + "\n})()");
+                compiled = guarded(() -> {
+                    validate.execute(body);
+                    return context.eval(source);
+                });
+                functions.put(function, compiled);
+            }
+            return compiled;
+        }
+
+        /**
+         * Invokes the function with the JSON input converted into a plain Javascript value, resolving any promise.
+         */
+        Value call(String function, JsonNode input) {
+            Value func = function(function);
+            Value arg = jsonParse.execute(input == null ? "null" : input.toString());
+            return Util.resolvePromise(guarded(() -> func.execute(arg)));
+        }
+
+        private Value guarded(Supplier<Value> supplier) {
+            context.enter();
+            ScheduledFuture<?> interrupt = null;
+            ScheduledFuture<?> memoryCheck = null;
+            try {
+                if (statementLimit > 0) {
+                    context.resetLimits();
+                }
+                if (!timeout.isZero() && !timeout.isNegative()) {
+                    interrupt = watchdog.schedule(() -> interrupt("exceeded the timeout of " + timeout),
+                            timeout.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                if (memoryLimit > 0) {
+                    long threadId = Thread.currentThread().getId();
+                    long allocated = THREADS.getThreadAllocatedBytes(threadId);
+                    memoryCheck = watchdog.scheduleAtFixedRate(() -> {
+                        if (THREADS.getThreadAllocatedBytes(threadId) - allocated > memoryLimit) {
+                            interrupt("allocated more than " + memoryLimit + " bytes");
+                        }
+                    }, MEMORY_CHECK_PERIOD.toMillis(), MEMORY_CHECK_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                executing = true;
+                return supplier.get();
+            } catch (PolyglotException e) {
+                if (e.isCancelled() || e.isResourceExhausted() || e.isInternalError() || e.isExit()) {
+                    broken = true;
+                }
+                throw e;
+            } finally {
+                executing = false;
+                if (interrupt != null) {
+                    interrupt.cancel(false);
+                }
+                if (memoryCheck != null) {
+                    memoryCheck.cancel(false);
+                }
+                try {
+                    context.leave();
+                } catch (IllegalStateException e) {
+                    // the context was closed by the watchdog
+                    broken = true;
+                }
+            }
+        }
+
+        private void interrupt(String reason) {
+            if (!executing) {
+                return;
+            }
+            Log.warnf("Javascript evaluation %s, interrupting", reason);
+            try {
+                context.interrupt(INTERRUPT_GRACE);
+            } catch (TimeoutException e) {
+                Log.errorf("Failed to interrupt Javascript evaluation, cancelling the context");
+                broken = true;
+                context.close(true);
+            }
+        }
+
+        /**
+         * @return Output written through <code>console.log</code> or similar since the last call.
+         */
+        String takeOutput() {
+            if (out.size() == 0) {
+                return null;
+            }
+            String output = out.toString(StandardCharsets.UTF_8);
+            out.reset();
+            return output;
+        }
+
+        /**
+         * Checks that the evaluated code did not declare or assign any globals, nor modified the built-in objects
+         * and their prototypes. Such changes cannot be reliably undone, so the context is discarded instead.
+         */
+        private boolean reset() {
+            out.reset();
+            try {
+                context.enter();
+                try {
+                    if (statementLimit > 0) {
+                        context.resetLimits();
+                    }
+                    return isPristine.execute().asBoolean();
+                } finally {
+                    context.leave();
+                }
+            } catch (PolyglotException | IllegalStateException e) {
+                Log.debug("Failed to reset Javascript context, discarding it", e);
+                return false;
+            }
+        }
+
+        private void destroy() {
+            try {
+                context.close(true);
+            } catch (PolyglotException | IllegalStateException e) {
+                Log.debug("Failed to close Javascript context", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            release(this);
+        }
+    }
+}
@@ -0,0 +1,527 @@
+package io.hyperfoil.tools.horreum.svc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionManager;
+import jakarta.transaction.Transactional;
+
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.hyperfoil.tools.horreum.api.data.Access;
+import io.hyperfoil.tools.horreum.hibernate.IntArrayType;
+import io.hyperfoil.tools.horreum.hibernate.JsonBinaryType;
+import io.hyperfoil.tools.horreum.server.WithRoles;
+import io.quarkus.logging.Log;
+import io.quarkus.scheduler.Scheduled;
+
+/**
+ * Dictionary of key paths present in the data of runs, per test, owner and access of the runs (a bucket).
+ * The dictionary is a superset of the paths, so that a search can be restricted to the tests and paths where
+ * the key occurs instead of descending recursively through the data of all runs. Paths are added on upload;
+ * deleting runs or changing their data, owner or access marks the bucket stale and its paths are rebuilt
+ * from the remaining runs.
+ * <p>
+ * The paths are also held in memory as a trie of keys, each node listing the buckets with the path, so that
+ * autocompletion does not depend on the number of runs. Keys are only offered from buckets whose runs the
+ * caller can see. The trie is loaded from the database on first use and updated when uploads and rebuilds
+ * on this instance commit. Changes committed by other instances are picked up when the trie is reloaded,
+ * every <code>horreum.key-path-index.refresh</code>; until then autocompletion on this instance may miss
+ * their keys or offer keys of removed runs. Searches always read the paths from the database.
+ */
+@ApplicationScoped
+public class KeyPathIndex {
+    // more paths are not worth a rewritten query, falls back to recursive search
+    static final int MAX_SEARCH_PATHS = 32;
+    private static final int LOAD_FETCH_SIZE = 1000;
+    private static final int REBUILD_FETCH_SIZE = 100;
+    private static final String INSERT_PATHS = "INSERT INTO run_key_path (testid, owner, access, path, key) " +
+            "SELECT ?, ?, ?, p.path, p.key FROM unnest(?, ?) AS p(path, key) ON CONFLICT DO NOTHING";
+    private static final String VISIBLE_OWNERS = "SELECT o.owner, o.access FROM unnest(?, ?) AS o(owner, access) " +
+            "WHERE can_view2(o.access, o.owner) OR has_role('horreum.system')";
+
+    @Inject
+    Session session;
+
+    @Inject
+    TransactionManager tm;
+
+    // null until first used; replaced as a whole on reload
+    private volatile Trie trie;
+    // changes committed during a reload, applied to the reloaded trie; guarded by this
+    private List<Consumer<Trie>> pending;
+    private final Object loadLock = new Object();
+
+    /**
+     * Records paths of the run data in the current transaction.
+     */
+    void addRun(int testId, String owner, Access access, JsonNode data) {
+        if (data == null) {
+            return;
+        }
+        Map<String, String> paths = new HashMap<>();
+        if (!KeyPaths.collect(data, paths)) {
+            Log.debugf("Data of a run in test %d has too many key paths, some are not recorded", testId);
+            paths.put(KeyPaths.ANY_PATH, KeyPaths.ANY_KEY);
+        }
+        Bucket bucket = new Bucket(testId, owner, access.ordinal());
+        session.doWork(connection -> {
+            // the paths of the bucket are not rebuilt until this transaction completes
+            lock(connection, "pg_advisory_xact_lock_shared", testId);
+            insert(connection, bucket, paths);
+        });
+        afterCommit(trie -> paths.keySet().forEach(path -> trie.add(bucket, path)));
+    }
+
+    void onTestDeleted(int testId) {
+        afterCommit(trie -> trie.remove(bucket -> bucket.testId() == testId));
+    }
+
+    /**
+     * Rebuilds paths of the buckets marked stale by deleted or modified runs.
+     */
+    @Scheduled(every = "{horreum.key-path-index.rebuild}")
+    void rebuildStale() {
+        // without @WithRoles the connections have the role horreum.system
+        List<Bucket> stale = Util.withTx(tm, () -> session
+                .createNativeQuery("SELECT testid, owner, access FROM run_key_path_stale", Object[].class)
+                .getResultStream().map(row -> new Bucket((Integer) row[0], (String) row[1], (Integer) row[2])).toList());
+        for (Bucket bucket : stale) {
+            // the runs are read without the lock, uploads to the test wait only for the replacement of the paths
+            Scan scan = Util.withTx(tm, () -> scan(bucket));
+            if (scan != null) {
+                Util.withTx(tm, () -> {
+                    replace(scan);
+                    return null;
+                });
+            }
+        }
+    }
+
+    private Scan scan(Bucket bucket) {
+        List<?> version = session.createNativeQuery(
+                "SELECT version FROM run_key_path_stale WHERE testid = ?1 AND owner = ?2 AND access = ?3")
+                .setParameter(1, bucket.testId()).setParameter(2, bucket.owner()).setParameter(3, bucket.access())
+                .getResultList();
+        if (version.isEmpty()) {
+            // rebuilt by another instance
+            return null;
+        }
+        Map<String, String> paths = new HashMap<>();
+        Set<Integer> runIds = new HashSet<>();
+        collect(bucket, "", null, paths, runIds);
+        return new Scan(bucket, ((Number) version.get(0)).longValue(), paths, runIds);
+    }
+
+    private void replace(Scan scan) {
+        Bucket bucket = scan.bucket();
+        session.doWork(connection -> lock(connection, "pg_advisory_xact_lock", bucket.testId()));
+        // the version changes when runs of the bucket are deleted or modified during the scan; the bucket
+        // stays marked and is scanned again
+        int stale = session.createNativeQuery(
+                "DELETE FROM run_key_path_stale WHERE testid = ?1 AND owner = ?2 AND access = ?3 AND version = ?4")
+                .setParameter(1, bucket.testId()).setParameter(2, bucket.owner()).setParameter(3, bucket.access())
+                .setParameter(4, scan.version()).executeUpdate();
+        if (stale == 0) {
+            return;
+        }
+        // runs uploaded during the scan have committed, uploads hold the lock in shared mode
+        Map<String, String> paths = new HashMap<>(scan.paths());
+        collect(bucket, " AND NOT id = ANY(?4)", scan.runIds().stream().mapToInt(Integer::intValue).toArray(), paths, null);
+        int removed = session.createNativeQuery(
+                "DELETE FROM run_key_path WHERE testid = ?1 AND owner = ?2 AND access = ?3")
+                .setParameter(1, bucket.testId()).setParameter(2, bucket.owner()).setParameter(3, bucket.access())
+                .executeUpdate();
+        session.doWork(connection -> insert(connection, bucket, paths));
+        Log.debugf("Rebuilt key paths of test %d, owner %s and access %d: removed %d, recorded %d", bucket.testId(),
+                bucket.owner(), bucket.access(), removed, paths.size());
+        afterCommit(trie -> {
+            trie.remove(bucket::equals);
+            paths.keySet().forEach(path -> trie.add(bucket, path));
+        });
+    }
+
+    private void collect(Bucket bucket, String condition, int[] excluded, Map<String, String> paths,
+            Set<Integer> runIds) {
+        NativeQuery<?> query = session.createNativeQuery(
+                "SELECT id, data FROM run WHERE testid = ?1 AND owner = ?2 AND access = ?3 AND data IS NOT NULL" + condition)
+                .setParameter(1, bucket.testId()).setParameter(2, bucket.owner()).setParameter(3, bucket.access())
+                .unwrap(NativeQuery.class).addScalar("id", StandardBasicTypes.INTEGER)
+                .addScalar("data", JsonBinaryType.INSTANCE);
+        if (excluded != null) {
+            query.setParameter(4, excluded, IntArrayType.INSTANCE);
+        }
+        try (Stream<?> runs = query.setFetchSize(REBUILD_FETCH_SIZE).getResultStream()) {
+            runs.forEach(row -> {
+                Object[] columns = (Object[]) row;
+                Map<String, String> runPaths = new HashMap<>();
+                if (!KeyPaths.collect((JsonNode) columns[1], runPaths)) {
+                    runPaths.put(KeyPaths.ANY_PATH, KeyPaths.ANY_KEY);
+                }
+                paths.putAll(runPaths);
+                if (runIds != null) {
+                    runIds.add((Integer) columns[0]);
+                }
+            });
+        }
+    }
+
+    /**
+     * Reloads the trie to pick up changes committed by other instances.
+     */
+    @Scheduled(every = "{horreum.key-path-index.refresh}")
+    void refresh() {
+        if (trie != null) {
+            synchronized (loadLock) {
+                reload();
+            }
+        }
+    }
+
+    private void afterCommit(Consumer<Trie> change) {
+        Util.registerTxSynchronization(tm, txStatus -> {
+            if (txStatus == Status.STATUS_COMMITTED) {
+                synchronized (this) {
+                    // paths committed before the load are read from the database
+                    if (trie != null) {
+                        change.accept(trie);
+                    }
+                    if (pending != null) {
+                        pending.add(change);
+                    }
+                }
+            }
+        });
+    }
+
+    private static void lock(Connection connection, String function, int testId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT " + function + "(hashtext('run_key_path'), ?)")) {
+            statement.setInt(1, testId);
+            statement.execute();
+        }
+    }
+
+    private static void insert(Connection connection, Bucket bucket, Map<String, String> paths) throws SQLException {
+        if (paths.isEmpty()) {
+            return;
+        }
+        String[] pathArray = paths.keySet().toArray(new String[0]);
+        String[] keyArray = new String[pathArray.length];
+        for (int i = 0; i < pathArray.length; ++i) {
+            keyArray[i] = paths.get(pathArray[i]);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_PATHS)) {
+            statement.setInt(1, bucket.testId());
+            statement.setString(2, bucket.owner());
+            statement.setInt(3, bucket.access());
+            statement.setArray(4, connection.createArrayOf("text", pathArray));
+            statement.setArray(5, connection.createArrayOf("text", keyArray));
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * @param parent Path to objects, may contain <code>.**</code>.
+     * @param prefix Prefix of the keys.
+     * @return Keys of objects at the given path in visible runs, or <code>null</code> if the path
+     *         is too complex or the dictionary is not complete.
+     */
+    List<String> findKeys(String parent, String prefix) {
+        List<String> pattern = KeyPaths.split(parent);
+        if (pattern == null) {
+            return null;
+        }
+        Trie trie = current();
+        Set<Bucket> visible = visibleBuckets(trie);
+        if (visible.stream().anyMatch(trie.incomplete::contains)) {
+            return null;
+        }
+        Set<String> keys = new TreeSet<>();
+        Set<Node> current = Set.of(trie.root);
+        for (int i = 0; i < pattern.size() && !current.isEmpty(); ++i) {
+            if (!"**".equals(pattern.get(i))) {
+                String key = pattern.get(i);
+                current = current.stream().map(node -> node.children.get(key)).filter(Objects::nonNull)
+                        .collect(Collectors.toSet());
+                continue;
+            }
+            while (i + 1 < pattern.size() && "**".equals(pattern.get(i + 1))) {
+                ++i;
+            }
+            Set<Node> ancestors = current;
+            if (i + 1 == pattern.size()) {
+                // keys at any depth below the current nodes
+                for (Map.Entry<String, Set<Node>> entry : withPrefix(trie.nodesByKey, prefix).entrySet()) {
+                    if (entry.getValue().stream()
+                            .anyMatch(node -> isVisible(node, visible) && isDescendant(node.parent, ancestors))) {
+                        keys.add(entry.getKey());
+                    }
+                }
+                return new ArrayList<>(keys);
+            }
+            String next = pattern.get(++i);
+            current = trie.nodesByKey.getOrDefault(next, Collections.emptySet()).stream()
+                    .filter(node -> isDescendant(node.parent, ancestors)).collect(Collectors.toSet());
+        }
+        for (Node node : current) {
+            for (Node child : withPrefix(node.children, prefix).values()) {
+                if (isVisible(child, visible)) {
+                    keys.add(child.key);
+                }
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * @return Paths ending with the key in visible runs, or <code>null</code> if there are too many of them.
+     */
+    PathsWithKey findPaths(String key) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = session.createNativeQuery(
+                "SELECT p.testid, p.path, p.key FROM run_key_path p JOIN test ON test.id = p.testid " +
+                        "WHERE p.key = ?1 OR p.key = ?2 ORDER BY p.testid LIMIT ?3")
+                .setParameter(1, key)
+                .setParameter(2, KeyPaths.ANY_KEY)
+                .setParameter(3, MAX_SEARCH_PATHS + 1)
+                .getResultList();
+        if (rows.size() > MAX_SEARCH_PATHS) {
+            return null;
+        }
+        Set<Integer> tests = new TreeSet<>();
+        // parents of the key, in order of appearance
+        Set<String> parents = new LinkedHashSet<>();
+        for (Object[] row : rows) {
+            tests.add((Integer) row[0]);
+            if (KeyPaths.ANY_KEY.equals(row[2])) {
+                parents.add(KeyPaths.ANY_PATH);
+            } else {
+                parents.add(KeyPaths.parent((String) row[1], (String) row[2]));
+            }
+        }
+        return new PathsWithKey(tests.stream().mapToInt(Integer::intValue).toArray(), new ArrayList<>(parents));
+    }
+
+    private Trie current() {
+        Trie trie = this.trie;
+        if (trie != null) {
+            return trie;
+        }
+        synchronized (loadLock) {
+            if (this.trie == null) {
+                reload();
+            }
+            return this.trie;
+        }
+    }
+
+    // must be called with loadLock held
+    private void reload() {
+        synchronized (this) {
+            pending = new ArrayList<>();
+        }
+        Trie loaded;
+        try {
+            loaded = load();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pending = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            pending.forEach(change -> change.accept(loaded));
+            pending = null;
+            trie = loaded;
+        }
+    }
+
+    // paths of all runs are loaded, visibility is checked on each search
+    @WithRoles(extras = Roles.HORREUM_SYSTEM)
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    Trie load() {
+        long start = System.nanoTime();
+        Trie loaded = new Trie();
+        try (Stream<Object[]> rows = session
+                .createNativeQuery("SELECT testid, owner, access, path FROM run_key_path", Object[].class)
+                .setFetchSize(LOAD_FETCH_SIZE).getResultStream()) {
+            rows.forEach(row -> loaded.add(new Bucket((Integer) row[0], (String) row[1], (Integer) row[2]), (String) row[3]));
+        }
+        Log.debugf("Loaded key paths of %d buckets in %d ms", loaded.root.buckets.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return loaded;
+    }
+
+    /**
+     * Visibility of runs depends only on their owner and access, the database evaluates it for each pair
+     * with the roles of the caller.
+     */
+    private Set<Bucket> visibleBuckets(Trie trie) {
+        Set<Bucket> buckets = new HashSet<>(trie.root.buckets);
+        buckets.addAll(trie.incomplete);
+        Map<String, Set<Integer>> owners = new HashMap<>();
+        for (Bucket bucket : buckets) {
+            owners.computeIfAbsent(bucket.owner(), o -> new HashSet<>()).add(bucket.access());
+        }
+        List<String> ownerList = new ArrayList<>();
+        List<Integer> accessList = new ArrayList<>();
+        owners.forEach((owner, accesses) -> accesses.forEach(access -> {
+            ownerList.add(owner);
+            accessList.add(access);
+        }));
+        Map<String, Set<Integer>> visible = new HashMap<>();
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(VISIBLE_OWNERS)) {
+                statement.setArray(1, connection.createArrayOf("text", ownerList.toArray()));
+                statement.setArray(2, connection.createArrayOf("integer", accessList.toArray()));
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        visible.computeIfAbsent(rs.getString(1), o -> new HashSet<>()).add(rs.getInt(2));
+                    }
+                }
+            }
+        });
+        buckets.removeIf(bucket -> !visible.getOrDefault(bucket.owner(), Collections.emptySet()).contains(bucket.access()));
+        return buckets;
+    }
+
+    private static <T> NavigableMap<String, T> withPrefix(NavigableMap<String, T> map, String prefix) {
+        return map.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    private static boolean isVisible(Node node, Set<Bucket> visible) {
+        if (node.buckets.size() <= visible.size()) {
+            return node.buckets.stream().anyMatch(visible::contains);
+        } else {
+            return visible.stream().anyMatch(node.buckets::contains);
+        }
+    }
+
+    private static boolean isDescendant(Node node, Set<Node> ancestors) {
+        for (; node != null; node = node.parent) {
+            if (ancestors.contains(node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param tests Tests whose runs may contain the key.
+     * @param parents Paths to the objects containing the key.
+     */
+    record PathsWithKey(int[] tests, List<String> parents) {
+    }
+
+    /**
+     * Runs of a test with the same owner and access; their paths are recorded and removed together.
+     */
+    private record Bucket(int testId, String owner, int access) {
+    }
+
+    /**
+     * Paths of the runs in a bucket, read when the bucket was marked with the version.
+     */
+    private record Scan(Bucket bucket, long version, Map<String, String> paths, Set<Integer> runIds) {
+    }
+
+    /**
+     * Keys of the recorded paths; modified only with the index locked.
+     */
+    static final class Trie {
+        private final Node root = new Node(null, null);
+        // nodes by their key, for paths containing .**
+        private final ConcurrentNavigableMap<String, Set<Node>> nodesByKey = new ConcurrentSkipListMap<>();
+        // buckets with runs whose paths are not recorded
+        private final Set<Bucket> incomplete = ConcurrentHashMap.newKeySet();
+
+        private void add(Bucket bucket, String path) {
+            if (KeyPaths.ANY_PATH.equals(path)) {
+                incomplete.add(bucket);
+                return;
+            }
+            List<String> keys = KeyPaths.split(path);
+            if (keys == null) {
+                return;
+            }
+            Node node = root;
+            node.buckets.add(bucket);
+            for (String key : keys) {
+                Node child = node.children.get(key);
+                if (child == null) {
+                    child = new Node(node, key);
+                    node.children.put(key, child);
+                    nodesByKey.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(child);
+                }
+                node = child;
+                node.buckets.add(bucket);
+            }
+        }
+
+        private void remove(Predicate<Bucket> removed) {
+            incomplete.removeIf(removed);
+            remove(root, removed);
+        }
+
+        // returns true if the node is no longer used
+        private boolean remove(Node node, Predicate<Bucket> removed) {
+            if (!node.buckets.removeIf(removed)) {
+                // all nodes on the paths of a bucket list the bucket
+                return false;
+            }
+            node.children.values().removeIf(child -> {
+                if (remove(child, removed)) {
+                    Set<Node> sameKey = nodesByKey.get(child.key);
+                    sameKey.remove(child);
+                    if (sameKey.isEmpty()) {
+                        nodesByKey.remove(child.key);
+                    }
+                    return true;
+                }
+                return false;
+            });
+            return node.buckets.isEmpty() && node.children.isEmpty();
+        }
+    }
+
+    private static final class Node {
+        private final Node parent;
+        private final String key;
+        private final ConcurrentNavigableMap<String, Node> children = new ConcurrentSkipListMap<>();
+        private final Set<Bucket> buckets = ConcurrentHashMap.newKeySet();
+
+        private Node(Node parent, String key) {
+            this.parent = parent;
+            this.key = key;
+        }
+    }
+}
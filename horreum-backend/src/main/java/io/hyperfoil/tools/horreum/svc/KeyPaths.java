@@ -0,0 +1,179 @@
+package io.hyperfoil.tools.horreum.svc;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Key paths of JSON documents, in the form of lax jsonpath: <code>$.foo."bar-baz"[*].qux</code>. Elements of arrays
+ * are not distinguished, so the number of paths depends on the structure of the document rather than its size.
+ */
+public final class KeyPaths {
+    /**
+     * Recorded instead of the paths of a document that is too complex; matches any path.
+     */
+    public static final String ANY_PATH = "$.**";
+    public static final String ANY_KEY = "*";
+    public static final int MAX_PATHS = 5000;
+    private static final int MAX_DEPTH = 64;
+    private static final int MAX_KEY_LENGTH = 256;
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+
+    private KeyPaths() {
+    }
+
+    /**
+     * @param paths Receives the key paths mapped to the last key in the path.
+     * @return <code>false</code> if the document has too many paths, or too deep or long ones, to record all of them.
+     */
+    public static boolean collect(JsonNode node, Map<String, String> paths) {
+        return collect(node, "$", 0, paths);
+    }
+
+    private static boolean collect(JsonNode node, String path, int depth, Map<String, String> paths) {
+        if (depth > MAX_DEPTH) {
+            return false;
+        }
+        if (node.isObject()) {
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext();) {
+                Map.Entry<String, JsonNode> field = it.next();
+                if (field.getKey().length() > MAX_KEY_LENGTH) {
+                    return false;
+                }
+                String fieldPath = path + "." + quote(field.getKey());
+                if (paths.put(fieldPath, field.getKey()) == null && paths.size() > MAX_PATHS) {
+                    return false;
+                }
+                if (!collect(field.getValue(), fieldPath, depth + 1, paths)) {
+                    return false;
+                }
+            }
+        } else if (node.isArray()) {
+            String elementPath = path + "[*]";
+            for (JsonNode element : node) {
+                if (!collect(element, elementPath, depth + 1, paths)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public static String quote(String key) {
+        if (IDENTIFIER.matcher(key).matches()) {
+            return key;
+        }
+        return "\"" + key.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    static boolean isIdentifier(String key) {
+        return IDENTIFIER.matcher(key).matches();
+    }
+
+    /**
+     * @return Identifier starting at the given index, or <code>null</code> if there is none.
+     */
+    static String leadingKey(String str, int from) {
+        Matcher matcher = IDENTIFIER.matcher(str).region(from, str.length());
+        return matcher.lookingAt() ? matcher.group() : null;
+    }
+
+    /**
+     * Splits a path into keys, dropping array accessors; <code>**</code> stands for any number of keys.
+     *
+     * @return Keys or <code>null</code> if the path contains anything else than keys, array accessors
+     *         and <code>.**</code>.
+     */
+    static List<String> split(String path) {
+        if (!path.startsWith("$")) {
+            return null;
+        }
+        List<String> keys = new ArrayList<>();
+        int i = 1;
+        int length = path.length();
+        while (i < length) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                ++i;
+                if (path.startsWith("**", i)) {
+                    keys.add("**");
+                    i += 2;
+                } else if (i < length && path.charAt(i) == '"') {
+                    StringBuilder key = new StringBuilder();
+                    ++i;
+                    while (i < length && path.charAt(i) != '"') {
+                        if (path.charAt(i) == '\\' && i + 1 < length) {
+                            ++i;
+                        }
+                        key.append(path.charAt(i++));
+                    }
+                    if (i >= length) {
+                        return null;
+                    }
+                    ++i;
+                    keys.add(key.toString());
+                } else {
+                    int start = i;
+                    while (i < length && (Character.isLetterOrDigit(path.charAt(i)) || path.charAt(i) == '_')) {
+                        ++i;
+                    }
+                    if (start == i) {
+                        return null;
+                    }
+                    keys.add(path.substring(start, i));
+                }
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    return null;
+                }
+                String index = path.substring(i + 1, end).trim();
+                if (!index.equals("*") && !index.chars().allMatch(Character::isDigit)) {
+                    return null;
+                }
+                i = end + 1;
+            } else if (Character.isWhitespace(c)) {
+                ++i;
+            } else {
+                return null;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * @param path Recorded path ending with the key.
+     * @return Path without the last key.
+     */
+    static String parent(String path, String key) {
+        return path.substring(0, path.length() - quote(key).length() - 1);
+    }
+
+    /**
+     * Checks if the keys of a recorded path match the pattern, where <code>**</code> matches any number of keys.
+     */
+    static boolean matches(List<String> pattern, int patternIndex, List<String> keys, int keyIndex) {
+        while (patternIndex < pattern.size()) {
+            String p = pattern.get(patternIndex);
+            if ("**".equals(p)) {
+                for (int k = keyIndex; k <= keys.size(); ++k) {
+                    if (matches(pattern, patternIndex + 1, keys, k)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (keyIndex >= keys.size() || !p.equals(keys.get(keyIndex))) {
+                return false;
+            }
+            ++patternIndex;
+            ++keyIndex;
+        }
+        return keyIndex == keys.size();
+    }
+}
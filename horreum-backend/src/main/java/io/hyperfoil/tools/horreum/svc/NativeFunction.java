@@ -0,0 +1,285 @@
+package io.hyperfoil.tools.horreum.svc;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Recognizes a whitelist of trivial Javascript functions (identity, arithmetic with a constant, sum/mean/min/max
+ * of an array...) and evaluates them directly on {@link JsonNode JSON nodes}.
+ * <p>
+ * The native evaluation is used only when the result is guaranteed to be the same as in Javascript; for any other
+ * input {@link #apply(JsonNode)} returns <code>null</code> and the caller must fall back to GraalJS.
+ */
+final class NativeFunction {
+    private static final int MAX_CACHED = 4096;
+    private static final String IDENTIFIER = "[A-Za-z_$][\\w$]*";
+    // no leading zeros, these denote octal numbers in sloppy mode
+    private static final String NUMBER = "(?:0|[1-9]\\d*)(?:\\.\\d+)?(?:[eE][-+]?\\d+)?";
+    // a line terminator is not allowed before the arrow and ends the return statement
+    private static final String SPACE_IN_LINE = "[^\\S\\n\\r\\u2028\\u2029]";
+    private static final Pattern ARROW = Pattern.compile(
+            "^(?:\\(\\s*(" + IDENTIFIER + ")\\s*\\)|(" + IDENTIFIER + "))" + SPACE_IN_LINE + "*=>\\s*(.+)$", Pattern.DOTALL);
+    private static final Pattern FUNCTION = Pattern
+            .compile("^function\\s*(?:" + IDENTIFIER + ")?\\s*\\(\\s*(" + IDENTIFIER + ")\\s*\\)\\s*(\\{.*})$",
+                    Pattern.DOTALL);
+    private static final Pattern BLOCK = Pattern.compile("^\\{\\s*return" + SPACE_IN_LINE + "+(.+?)[\\s;]*}$",
+            Pattern.DOTALL);
+    // whitespace is allowed only between tokens; a minus sign right after the minus operator would be a decrement
+    private static final Pattern ARITHMETIC_RIGHT = Pattern
+            .compile("^(" + IDENTIFIER + ")\\s*([-+*/])(\\s*)(-?)\\s*(" + NUMBER + ")$");
+    private static final Pattern ARITHMETIC_LEFT = Pattern
+            .compile("^(-?)\\s*(" + NUMBER + ")\\s*([-+*/])\\s*(" + IDENTIFIER + ")$");
+    private static final Pattern LENGTH = Pattern.compile("^(" + IDENTIFIER + ")\\s*\\.\\s*length$");
+    private static final Pattern REDUCE_SUM = Pattern.compile("^(" + IDENTIFIER + ")\\s*\\.\\s*reduce\\s*\\(\\s*\\(\\s*("
+            + IDENTIFIER + ")\\s*,\\s*(" + IDENTIFIER + ")\\s*\\)\\s*=>\\s*\\2\\s*\\+\\s*\\3\\s*(,\\s*0\\s*)?\\)");
+    private static final Pattern MEAN_DIVISOR = Pattern.compile("^\\s*/\\s*(" + IDENTIFIER + ")\\s*\\.\\s*length$");
+    private static final Pattern MIN_MAX = Pattern
+            .compile("^Math\\s*\\.\\s*(min|max)\\s*\\(\\s*\\.\\.\\.\\s*(" + IDENTIFIER + ")\\s*\\)$");
+    private static final Pattern ARRAY_INDEX = Pattern.compile("^(?:0|[1-9]\\d{0,9})$");
+    // largest magnitude of an integral double that Util.convertToJson converts into a long
+    private static final double MAX_LONG = 0x1p63;
+
+    private static final Map<String, Optional<NativeFunction>> CACHE = new ConcurrentHashMap<>();
+
+    private final String description;
+    private final Function<JsonNode, JsonNode> implementation;
+
+    private NativeFunction(String description, Function<JsonNode, JsonNode> implementation) {
+        this.description = description;
+        this.implementation = implementation;
+    }
+
+    /**
+     * @return Native implementation of the function or <code>null</code> if the function is not recognized.
+     */
+    static NativeFunction compile(String function) {
+        if (function == null || function.isBlank()) {
+            return null;
+        }
+        Optional<NativeFunction> cached = CACHE.get(function);
+        if (cached == null) {
+            if (CACHE.size() > MAX_CACHED) {
+                CACHE.clear();
+            }
+            cached = Optional.ofNullable(parse(function));
+            CACHE.put(function, cached);
+        }
+        return cached.orElse(null);
+    }
+
+    /**
+     * @return Result of the function or <code>null</code> if the input cannot be processed natively.
+     */
+    JsonNode apply(JsonNode input) {
+        return implementation.apply(input);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    private static NativeFunction parse(String function) {
+        String code = function.trim();
+        while (code.endsWith(";")) {
+            code = code.substring(0, code.length() - 1).trim();
+        }
+        String param;
+        String body;
+        Matcher arrow = ARROW.matcher(code);
+        Matcher func = FUNCTION.matcher(code);
+        if (arrow.matches()) {
+            param = arrow.group(1) != null ? arrow.group(1) : arrow.group(2);
+            body = arrow.group(3).trim();
+        } else if (func.matches()) {
+            param = func.group(1);
+            body = func.group(2).trim();
+        } else {
+            return null;
+        }
+        if (body.startsWith("{")) {
+            Matcher block = BLOCK.matcher(body);
+            if (!block.matches()) {
+                return null;
+            }
+            body = block.group(1);
+        }
+        String expression = body.trim();
+        if (expression.equals(param)) {
+            return new NativeFunction("identity",
+                    input -> input == null ? JsonNodeFactory.instance.nullNode() : normalize(input));
+        }
+        Matcher matcher = ARITHMETIC_RIGHT.matcher(expression);
+        if (matcher.matches() && matcher.group(1).equals(param)
+                && !(matcher.group(2).equals("-") && matcher.group(3).isEmpty() && !matcher.group(4).isEmpty())) {
+            double constant = Double.parseDouble(matcher.group(4) + matcher.group(5));
+            DoubleBinaryOperator operator = operator(matcher.group(2));
+            return new NativeFunction("arithmetic", input -> isNumber(input)
+                    ? toJson(operator.applyAsDouble(input.asDouble(), constant))
+                    : null);
+        }
+        matcher = ARITHMETIC_LEFT.matcher(expression);
+        if (matcher.matches() && matcher.group(4).equals(param)) {
+            double constant = Double.parseDouble(matcher.group(1) + matcher.group(2));
+            DoubleBinaryOperator operator = operator(matcher.group(3));
+            return new NativeFunction("arithmetic", input -> isNumber(input)
+                    ? toJson(operator.applyAsDouble(constant, input.asDouble()))
+                    : null);
+        }
+        matcher = LENGTH.matcher(expression);
+        if (matcher.matches() && matcher.group(1).equals(param)) {
+            return new NativeFunction("length", input -> input != null && input.isArray()
+                    ? JsonNodeFactory.instance.numberNode((long) input.size())
+                    : null);
+        }
+        matcher = MIN_MAX.matcher(expression);
+        if (matcher.matches() && matcher.group(2).equals(param)) {
+            boolean max = matcher.group(1).equals("max");
+            return new NativeFunction(matcher.group(1), input -> {
+                if (!isNumberArray(input) || input.isEmpty()) {
+                    return null;
+                }
+                double result = max ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+                for (JsonNode item : input) {
+                    result = max ? Math.max(result, item.asDouble()) : Math.min(result, item.asDouble());
+                }
+                return toJson(result);
+            });
+        }
+        matcher = REDUCE_SUM.matcher(expression);
+        // duplicate parameter names are a syntax error
+        if (matcher.find() && matcher.group(1).equals(param) && !matcher.group(2).equals(matcher.group(3))) {
+            String rest = expression.substring(matcher.end());
+            boolean hasInitial = matcher.group(4) != null;
+            Matcher divisor = MEAN_DIVISOR.matcher(rest);
+            if (rest.isBlank()) {
+                return new NativeFunction("sum", input -> {
+                    Double sum = sum(input, hasInitial);
+                    return sum == null ? null : toJson(sum);
+                });
+            } else if (divisor.matches() && divisor.group(1).equals(param)) {
+                return new NativeFunction("mean", input -> {
+                    Double sum = sum(input, hasInitial);
+                    return sum == null ? null : toJson(sum / input.size());
+                });
+            }
+        }
+        return null;
+    }
+
+    private static DoubleBinaryOperator operator(String operator) {
+        return switch (operator) {
+            case "+" -> (a, b) -> a + b;
+            case "-" -> (a, b) -> a - b;
+            case "*" -> (a, b) -> a * b;
+            case "/" -> (a, b) -> a / b;
+            default -> throw new IllegalArgumentException(operator);
+        };
+    }
+
+    private static Double sum(JsonNode input, boolean hasInitial) {
+        // reduce() without initial value fails on an empty array
+        if (!isNumberArray(input) || (input.isEmpty() && !hasInitial)) {
+            return null;
+        }
+        double sum = 0;
+        for (JsonNode item : input) {
+            sum += item.asDouble();
+        }
+        return sum;
+    }
+
+    private static boolean isNumber(JsonNode node) {
+        return node != null && node.isNumber();
+    }
+
+    private static boolean isNumberArray(JsonNode node) {
+        if (node == null || !node.isArray()) {
+            return false;
+        }
+        for (JsonNode item : node) {
+            if (!item.isNumber()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the node as it would come back from Javascript after <code>JSON.parse</code>: numbers are doubles
+     * and those with an integral value become longs. Containers are copied only if some of their values change.
+     *
+     * @return Normalized node or <code>null</code> if it must be left to Javascript: objects with keys that
+     *         are array indices (Javascript orders these first), integral values out of the range of long
+     *         and negative zero.
+     */
+    private static JsonNode normalize(JsonNode node) {
+        if (node.isNumber()) {
+            double value = node.asDouble();
+            // Util.convertToJson fails on nested negative zero
+            boolean negativeZero = value == 0 && Double.doubleToRawLongBits(value) != 0;
+            return Math.abs(value) >= MAX_LONG || negativeZero ? null : toJson(value);
+        } else if (node.isArray()) {
+            ArrayNode copy = null;
+            for (int i = 0; i < node.size(); ++i) {
+                JsonNode item = node.get(i);
+                JsonNode normalized = normalize(item);
+                if (normalized == null) {
+                    return null;
+                } else if (normalized != item && copy == null) {
+                    copy = JsonNodeFactory.instance.arrayNode(node.size());
+                    for (int j = 0; j < i; ++j) {
+                        copy.add(node.get(j));
+                    }
+                }
+                if (copy != null) {
+                    copy.add(normalized);
+                }
+            }
+            return copy != null ? copy : node;
+        } else if (node.isObject()) {
+            ObjectNode copy = null;
+            for (Map.Entry<String, JsonNode> entry : node.properties()) {
+                if (ARRAY_INDEX.matcher(entry.getKey()).matches()) {
+                    return null;
+                }
+                JsonNode normalized = normalize(entry.getValue());
+                if (normalized == null) {
+                    return null;
+                } else if (normalized != entry.getValue() && copy == null) {
+                    copy = JsonNodeFactory.instance.objectNode().setAll((ObjectNode) node);
+                }
+                if (copy != null) {
+                    copy.set(entry.getKey(), normalized);
+                }
+            }
+            return copy != null ? copy : node;
+        } else {
+            return node;
+        }
+    }
+
+    /**
+     * Mirrors {@link Util#convertToJson(org.graalvm.polyglot.Value)}: integral values become longs.
+     * Non-finite values are left to Javascript.
+     */
+    private static JsonNode toJson(double value) {
+        if (!Double.isFinite(value)) {
+            return null;
+        } else if (value == Math.rint(value)) {
+            return JsonNodeFactory.instance.numberNode((long) value);
+        } else {
+            return JsonNodeFactory.instance.numberNode(value);
+        }
+    }
+}
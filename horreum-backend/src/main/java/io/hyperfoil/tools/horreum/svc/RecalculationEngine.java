@@ -0,0 +1,88 @@
+package io.hyperfoil.tools.horreum.svc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.hyperfoil.tools.horreum.api.services.TestService;
+import io.quarkus.logging.Log;
+
+/**
+ * Transforms runs of a test in parallel, using a bounded pool of workers. Each run is processed by a single task and
+ * {@link RunServiceImpl#transform(int, boolean)} rejects concurrent transformation of the same run, therefore
+ * the datasets of a run are always recreated in order. The transformers of the test are loaded only once for all
+ * its runs, as definitions detached from any persistence context; each transformation loads the run in its own
+ * transaction.
+ */
+@ApplicationScoped
+public class RecalculationEngine {
+
+    @ConfigProperty(name = "horreum.recalculation.pool.max-concurrency", defaultValue = "6")
+    int maxConcurrency;
+
+    @Inject
+    RunServiceImpl runService;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, maxConcurrency), r -> {
+            Thread thread = new Thread(r, "horreum-recalculation-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Submits transformation of the runs; the progress is reported through the status and the completion callback
+     * is invoked when all runs have been processed, successfully or not.
+     */
+    void recalculate(List<Integer> runIds, Map<Integer, RunServiceImpl.TransformerDefinition> transformers,
+            TestService.RecalculationStatus status, Runnable onCompletion) {
+        synchronized (status) {
+            status.totalRuns = runIds.size();
+        }
+        if (runIds.isEmpty()) {
+            onCompletion.run();
+            return;
+        }
+        long start = System.currentTimeMillis();
+        for (int runId : runIds) {
+            executor.execute(Util.wrapForBlockingExecution(() -> {
+                int newDatasets = 0;
+                try {
+                    newDatasets = runService.transform(runId, true, transformers).size();
+                } catch (Exception e) {
+                    Log.errorf(e, "Failed to recalculate datasets for run %d", runId);
+                } finally {
+                    boolean completed;
+                    synchronized (status) {
+                        status.finished++;
+                        status.datasets += newDatasets;
+                        status.throughput = status.finished * 1000.0 / Math.max(1, System.currentTimeMillis() - start);
+                        completed = status.finished == status.totalRuns;
+                    }
+                    if (completed) {
+                        onCompletion.run();
+                    }
+                }
+            }));
+        }
+    }
+}
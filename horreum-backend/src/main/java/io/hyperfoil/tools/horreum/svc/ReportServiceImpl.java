@@ -1,15 +1,16 @@
 package io.hyperfoil.tools.horreum.svc;
 
-import java.io.ByteArrayOutputStream;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.security.PermitAll;
@@ -30,6 +31,7 @@ import org.hibernate.type.StandardBasicTypes;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.hyperfoil.tools.horreum.api.SortDirection;
 import io.hyperfoil.tools.horreum.api.internal.services.ReportService;
@@ -310,117 +312,40 @@ public class ReportServiceImpl implements ReportService {
             report.logs.clear();
         }
         report.config = config;
-        List<Object[]> categories = Collections.emptyList(), series, scales = Collections.emptyList();
-        NativeQuery<Object[]> timestampQuery;
-        if (!nullOrEmpty(config.filterLabels)) {
-            List<Integer> datasetIds = filterDatasetIds(config, report);
-            Log.debugf("Table report %s(%d) includes datasets %s", config.title, config.id, datasetIds);
-            series = selectByDatasets(config.seriesLabels, datasetIds);
-            Log.debugf("Series: %s", rowsToMap(series));
-            if (!nullOrEmpty(config.scaleLabels)) {
-                scales = selectByDatasets(config.scaleLabels, datasetIds);
-                Log.debugf("Scales: %s", rowsToMap(scales));
-            }
-            if (!nullOrEmpty(config.categoryLabels)) {
-                categories = selectByDatasets(config.categoryLabels, datasetIds);
-                Log.debugf("Categories: %s", rowsToMap(categories));
-            }
-            timestampQuery = em.unwrap(Session.class)
-                    .createNativeQuery("SELECT id, start FROM dataset WHERE id IN :datasets", Object[].class)
-                    .setParameter("datasets", datasetIds);
-        } else {
-            log(report, PersistentLogDAO.DEBUG, "Table report %s(%d) includes all datasets for test %s(%d)", config.title,
-                    config.id, config.test.name, config.test.id);
-            series = selectByTest(config.test.id, config.seriesLabels);
-            Log.debugf("Series: %s", rowsToMap(series));
-            if (!nullOrEmpty(config.scaleLabels)) {
-                scales = selectByTest(config.test.id, config.scaleLabels);
-                Log.debugf("Scales: %s", rowsToMap(scales));
-            }
-            if (!nullOrEmpty(config.categoryLabels)) {
-                categories = selectByTest(config.test.id, config.categoryLabels);
-                Log.debugf("Categories: %s", rowsToMap(categories));
-            }
-            timestampQuery = em.unwrap(Session.class)
-                    .createNativeQuery("SELECT id, start FROM dataset WHERE testid = ?", Object[].class)
-                    .setParameter(1, config.test.id);
-        }
-        if (categories.isEmpty() && !series.isEmpty()) {
-            assert config.categoryLabels == null;
-            assert config.categoryFunction == null;
-            assert config.categoryFormatter == null;
-            categories = series.stream()
-                    .map(row -> new Object[] { row[0], row[1], row[2], JsonNodeFactory.instance.textNode("") })
-                    .collect(Collectors.toList());
-        }
-        if (scales.isEmpty() && !series.isEmpty()) {
-            assert config.scaleLabels == null;
-            assert config.scaleFunction == null;
-            assert config.scaleFormatter == null;
-            scales = series.stream().map(row -> new Object[] { row[0], row[1], row[2], JsonNodeFactory.instance.textNode("") })
-                    .collect(Collectors.toList());
-        }
-        Map<Integer, TableReportDAO.Data> datasetData = series.isEmpty() ? Collections.emptyMap()
-                : getData(config, report, categories, series, scales);
-        Log.debugf("Data per dataset: %s", datasetData);
-
-        Map<Integer, Instant> timestamps = timestampQuery.getResultStream()
-                .collect(Collectors.toMap(row -> (Integer) row[0], row -> (Instant) row[1]));
-        // TODO: customizable time range
-        List<Integer> datasetIds = getFinalDatasetIds(timestamps, datasetData);
-        List<List<Object[]>> values = config.components.stream()
-                .map(component -> selectByDatasets(component.labels, datasetIds))
-                .collect(Collectors.toList());
+        List<DatasetLabels> datasets = selectLabels(config);
+        Map<Integer, TableReportDAO.Data> datasetData = new HashMap<>();
         executeInContext(config, context -> {
-            for (int i = 0; i < values.size(); i++) {
-                List<Object[]> valuesForComponent = values.get(i);
-                ReportComponentDAO component = config.components.get(i);
-                for (Object[] row : valuesForComponent) {
-                    Integer datasetId = (Integer) row[0];
-                    JsonNode value = (JsonNode) row[3];
-                    TableReportDAO.Data data = datasetData.get(datasetId);
-                    if (nullOrEmpty(component.function)) {
-                        if (value == null || value.isNull()) {
-                            data.values.addNull();
-                        } else {
-                            Double dValue = value.asDouble();
-                            if (dValue != null) {
-                                data.values.add(dValue);
-                            } else {
-                                data.values.add(value);
-                            }
-                        }
-                    } else {
-                        String jsCode = buildCode(component.function, String.valueOf(value));
-                        try {
-                            Value calculatedValue = context.eval("js", jsCode);
-                            Double maybeDouble = Util.toDoubleOrNull(calculatedValue,
-                                    err -> log(report, PersistentLogDAO.ERROR, err),
-                                    info -> log(report, PersistentLogDAO.INFO, info));
-                            if (maybeDouble != null) {
-                                data.values.add(maybeDouble);
-                            } else {
-                                data.values.add(Util.convertToJson(calculatedValue));
-                            }
-                        } catch (PolyglotException e) {
-                            log(report, PersistentLogDAO.ERROR,
-                                    "Failed to run report %s(%d) label function on run %d. Offending code: <br><pre>%s</pre>",
-                                    config.title, config.id, datasetId, jsCode);
-                            Log.debug("Caused by exception", e);
-                        }
-                    }
+            List<DatasetLabels> included;
+            if (!nullOrEmpty(config.filterLabels)) {
+                included = filterDatasets(config, report, datasets, context);
+                Log.debugf("Table report %s(%d) includes datasets %s", config.title, config.id,
+                        included.stream().map(DatasetLabels::id).collect(Collectors.toList()));
+            } else {
+                log(report, PersistentLogDAO.DEBUG, "Table report %s(%d) includes all datasets for test %s(%d)",
+                        config.title, config.id, config.test.name, config.test.id);
+                included = datasets;
+            }
+            Map<Integer, Instant> timestamps = new HashMap<>();
+            for (DatasetLabels dataset : included) {
+                timestamps.put(dataset.id(), dataset.start());
+                TableReportDAO.Data data = getData(config, report, dataset, context);
+                if (data != null) {
+                    datasetData.put(dataset.id(), data);
                 }
             }
+            Log.debugf("Data per dataset: %s", datasetData);
+            // TODO: customizable time range
+            List<Integer> datasetIds = getFinalDatasetIds(timestamps, datasetData);
+            Map<Integer, DatasetLabels> byId = included.stream()
+                    .collect(Collectors.toMap(DatasetLabels::id, Function.identity()));
+            for (Integer datasetId : datasetIds) {
+                addComponentValues(config, report, byId.get(datasetId), datasetData.get(datasetId), context);
+            }
+            report.data = datasetIds.stream().map(datasetData::get).collect(Collectors.toList());
         });
-        report.data = datasetIds.stream().map(datasetData::get).collect(Collectors.toList());
         return report;
     }
 
-    private Map<Object, Object> rowsToMap(List<Object[]> series) {
-        return series.stream().collect(
-                Collectors.toMap(row -> row[0] == null ? "<null>" : row[0], row -> row[3] == null ? "<null>" : row[3]));
-    }
-
     private boolean nullOrEmpty(String str) {
         return str == null || str.trim().isEmpty();
     }
@@ -429,87 +354,111 @@ public class ReportServiceImpl implements ReportService {
         return node == null || node.isNull() || node.isEmpty();
     }
 
-    private Map<Integer, TableReportDAO.Data> getData(TableReportConfigDAO config, TableReportDAO report,
-            List<Object[]> categories, List<Object[]> series, List<Object[]> scales) {
-        assert !categories.isEmpty();
-        assert !series.isEmpty();
-        assert !scales.isEmpty();
-
-        Map<Integer, TableReportDAO.Data> datasetData = new HashMap<>();
-        executeInContext(config, context -> {
-            for (Object[] row : categories) {
-                TableReportDAO.Data data = new TableReportDAO.Data();
-                data.datasetId = (Integer) row[0];
-                data.runId = (int) row[1];
-                data.ordinal = (int) row[2];
-                JsonNode value = (JsonNode) row[3];
-                data.values = JsonNodeFactory.instance.arrayNode(config.components.size());
-                if (nullOrEmpty(config.categoryFunction)) {
-                    data.category = toText(value);
-                } else {
-                    String jsCode = buildCode(config.categoryFunction, String.valueOf(value));
-                    try {
-                        data.category = Util.convert(context.eval("js", jsCode)).toString();
-                    } catch (PolyglotException e) {
-                        log(report, PersistentLogDAO.ERROR,
-                                "Failed to run report %s(%d) category function on dataset %d/%d (%d). Offending code: <br><pre>%s</pre>",
-                                config.title, config.id, data.runId, data.ordinal, data.datasetId, jsCode);
-                        Log.debug("Caused by exception", e);
-                        continue;
-                    }
+    private TableReportDAO.Data getData(TableReportConfigDAO config, TableReportDAO report, DatasetLabels dataset,
+            JsContextPool.PooledContext context) {
+        TableReportDAO.Data data = new TableReportDAO.Data();
+        data.datasetId = dataset.id();
+        data.runId = dataset.runId();
+        data.ordinal = dataset.ordinal();
+        data.values = JsonNodeFactory.instance.arrayNode(config.components.size());
+        if (!dataset.has(config.categoryLabels) || !dataset.has(config.seriesLabels)
+                || !dataset.has(config.scaleLabels)) {
+            Log.debugf("Dataset %d/%d (%d) does not have all labels for category, series and scale", data.runId,
+                    data.ordinal, data.datasetId);
+            return null;
+        }
+        if (nullOrEmpty(config.categoryLabels)) {
+            data.category = "";
+        } else {
+            JsonNode value = dataset.select(config.categoryLabels);
+            if (nullOrEmpty(config.categoryFunction)) {
+                data.category = toText(value);
+            } else {
+                try {
+                    data.category = Util.convert(context.call(config.categoryFunction, value)).toString();
+                } catch (PolyglotException e) {
+                    log(report, PersistentLogDAO.ERROR,
+                            "Failed to run report %s(%d) category function on dataset %d/%d (%d). Offending code: <br><pre>%s</pre>",
+                            config.title, config.id, data.runId, data.ordinal, data.datasetId,
+                            JsContextPool.describe(config.categoryFunction, value));
+                    Log.debug("Caused by exception", e);
+                    return null;
                 }
-                datasetData.put(data.datasetId, data);
             }
-            for (Object[] row : series) {
-                Integer datasetId = (Integer) row[0];
-                int runId = (int) row[1];
-                int ordinal = (int) row[2];
-                JsonNode value = (JsonNode) row[3];
-                TableReportDAO.Data data = datasetData.get(datasetId);
-                if (data == null) {
-                    log(report, PersistentLogDAO.ERROR, "Missing values for dataset %d!", datasetId);
-                    continue;
+        }
+        JsonNode seriesValue = dataset.select(config.seriesLabels);
+        if (nullOrEmpty(config.seriesFunction)) {
+            data.series = toText(seriesValue);
+        } else {
+            try {
+                data.series = Util.convert(context.call(config.seriesFunction, seriesValue)).toString();
+            } catch (PolyglotException e) {
+                log(report, PersistentLogDAO.ERROR,
+                        "Failed to run report %s(%d) series function on run %d/%d (%d). Offending code: <br><pre>%s</pre>",
+                        config.title, config.id, data.runId, data.ordinal, data.datasetId,
+                        JsContextPool.describe(config.seriesFunction, seriesValue));
+                Log.debug("Caused by exception", e);
+            }
+        }
+        if (nullOrEmpty(config.scaleLabels)) {
+            data.scale = "";
+        } else {
+            JsonNode value = dataset.select(config.scaleLabels);
+            if (nullOrEmpty(config.scaleFunction)) {
+                data.scale = toText(value);
+            } else {
+                try {
+                    data.scale = Util.convert(context.call(config.scaleFunction, value)).toString();
+                } catch (PolyglotException e) {
+                    log(report, PersistentLogDAO.ERROR,
+                            "Failed to run report %s(%d) label function on dataset %d/%d (%d). Offending code: <br><pre>%s</pre>",
+                            config.title, config.id, data.runId, data.ordinal, data.datasetId,
+                            JsContextPool.describe(config.scaleFunction, value));
+                    Log.debug("Caused by exception", e);
                 }
-                if (nullOrEmpty(config.seriesFunction)) {
-                    data.series = toText(value);
+            }
+        }
+        return data;
+    }
+
+    private void addComponentValues(TableReportConfigDAO config, TableReportDAO report, DatasetLabels dataset,
+            TableReportDAO.Data data, JsContextPool.PooledContext context) {
+        for (ReportComponentDAO component : config.components) {
+            JsonNode value = dataset.select(component.labels);
+            if (!dataset.has(component.labels)) {
+                data.values.addNull();
+            } else if (nullOrEmpty(component.function)) {
+                if (value == null || value.isNull()) {
+                    data.values.addNull();
                 } else {
-                    String jsCode = buildCode(config.seriesFunction, String.valueOf(value));
-                    try {
-                        data.series = Util.convert(context.eval("js", jsCode)).toString();
-                    } catch (PolyglotException e) {
-                        log(report, PersistentLogDAO.ERROR,
-                                "Failed to run report %s(%d) series function on run %d/%d (%d). Offending code: <br><pre>%s</pre>",
-                                config.title, config.id, runId, ordinal, datasetId, jsCode);
-                        Log.debug("Caused by exception", e);
+                    Double dValue = value.asDouble();
+                    if (dValue != null) {
+                        data.values.add(dValue);
+                    } else {
+                        data.values.add(value);
                     }
                 }
-            }
-            for (Object[] row : scales) {
-                Integer datasetId = (Integer) row[0];
-                int runId = (int) row[1];
-                int ordinal = (int) row[2];
-                JsonNode value = (JsonNode) row[3];
-                TableReportDAO.Data data = datasetData.get(datasetId);
-                if (data == null) {
-                    log(report, PersistentLogDAO.ERROR, "Missing values for dataset %d!", datasetId);
-                    continue;
-                }
-                if (nullOrEmpty(config.scaleFunction)) {
-                    data.scale = toText(value);
-                } else {
-                    String jsCode = buildCode(config.scaleFunction, String.valueOf(value));
-                    try {
-                        data.scale = Util.convert(context.eval("js", jsCode)).toString();
-                    } catch (PolyglotException e) {
-                        log(report, PersistentLogDAO.ERROR,
-                                "Failed to run report %s(%d) label function on dataset %d/%d (%d). Offending code: <br><pre>%s</pre>",
-                                config.title, config.id, runId, ordinal, datasetId, jsCode);
-                        Log.debug("Caused by exception", e);
+            } else {
+                try {
+                    Value calculatedValue = context.call(component.function, value);
+                    Double maybeDouble = Util.toDoubleOrNull(calculatedValue,
+                            err -> log(report, PersistentLogDAO.ERROR, err),
+                            info -> log(report, PersistentLogDAO.INFO, info));
+                    if (maybeDouble != null) {
+                        data.values.add(maybeDouble);
+                    } else {
+                        data.values.add(Util.convertToJson(calculatedValue));
                     }
+                } catch (PolyglotException e) {
+                    // keep the values aligned with the components
+                    data.values.addNull();
+                    log(report, PersistentLogDAO.ERROR,
+                            "Failed to run report %s(%d) label function on run %d. Offending code: <br><pre>%s</pre>",
+                            config.title, config.id, data.datasetId, JsContextPool.describe(component.function, value));
+                    Log.debug("Caused by exception", e);
                 }
             }
-        });
-        return datasetData;
+        }
     }
 
     private String toText(JsonNode value) {
@@ -541,57 +490,94 @@ public class ReportServiceImpl implements ReportService {
         return dataByCoords.values().stream().map(data -> data.datasetId).collect(Collectors.toList());
     }
 
-    private List<Object[]> selectByTest(int testId, ArrayNode labels) {
-        // We need an expression that will return NULLs when the labels are not present
-        StringBuilder sql = new StringBuilder("WITH ");
-        sql.append("ds AS (SELECT id, runid, ordinal FROM dataset WHERE testid = :testid), ");
-        sql.append("values as (SELECT lv.dataset_id, label.name, lv.value FROM label_values lv ");
-        sql.append(
-                "JOIN label ON label.id = label_id WHERE dataset_id IN (SELECT id FROM ds) AND json_contains(:labels, label.name)) ");
-        sql.append("SELECT id, runid, ordinal, ");
-        if (labels.size() != 1) {
-            // jsonb_object_agg fails when values.name is null
-            sql.append(
-                    "COALESCE(jsonb_object_agg(values.name, values.value) FILTER (WHERE values.name IS NOT NULL), '{}'::jsonb)");
-        } else {
-            sql.append("values.value");
-        }
-        sql.append(" AS value FROM ds LEFT JOIN values ON ds.id = values.dataset_id ");
-        if (labels.size() != 1) {
-            sql.append(" GROUP BY id, runid, ordinal");
-        }
-        NativeQuery<Object[]> query = em.unwrap(Session.class).createNativeQuery(sql.toString(), Object[].class)
-                .setParameter("testid", testId)
+    /**
+     * Fetches values of all labels used in the report (filter, categories, series, scales and components)
+     * for all datasets of the test in a single query, pivoted into one JSON object per dataset.
+     */
+    private List<DatasetLabels> selectLabels(TableReportConfigDAO config) {
+        Set<String> names = new LinkedHashSet<>();
+        Consumer<ArrayNode> addNames = labels -> {
+            if (labels != null) {
+                labels.forEach(label -> names.add(label.asText()));
+            }
+        };
+        addNames.accept(config.filterLabels);
+        addNames.accept(config.categoryLabels);
+        addNames.accept(config.seriesLabels);
+        addNames.accept(config.scaleLabels);
+        config.components.forEach(component -> addNames.accept(component.labels));
+        ArrayNode labels = JsonNodeFactory.instance.arrayNode(names.size());
+        names.forEach(labels::add);
+
+        // jsonb_object_agg fails when values.name is null
+        String sql = """
+                WITH values AS (
+                    SELECT lv.dataset_id, label.name, lv.value FROM label_values lv
+                    JOIN label ON label.id = lv.label_id
+                    JOIN dataset ON dataset.id = lv.dataset_id
+                    WHERE dataset.testid = :testid AND json_contains(:labels, label.name)
+                )
+                SELECT ds.id, ds.runid, ds.ordinal, ds.start,
+                    COALESCE(jsonb_object_agg(values.name, values.value) FILTER (WHERE values.name IS NOT NULL),
+                        '{}'::jsonb) AS value,
+                    NOT EXISTS (SELECT 1 FROM label_values lv WHERE lv.dataset_id = ds.id) AS unlabeled
+                FROM dataset ds LEFT JOIN values ON ds.id = values.dataset_id
+                WHERE ds.testid = :testid
+                GROUP BY ds.id, ds.runid, ds.ordinal, ds.start
+                """;
+        List<Object[]> rows = em.unwrap(Session.class).createNativeQuery(sql, Object[].class)
+                .setParameter("testid", config.test.id)
                 .setParameter("labels", labels, JsonBinaryType.INSTANCE)
                 .addScalar("id", StandardBasicTypes.INTEGER)
                 .addScalar("runid", StandardBasicTypes.INTEGER)
                 .addScalar("ordinal", StandardBasicTypes.INTEGER)
-                .addScalar("value", JsonBinaryType.INSTANCE);
-        return query.getResultList();
+                .addScalar("start", StandardBasicTypes.INSTANT)
+                .addScalar("value", JsonBinaryType.INSTANCE)
+                .addScalar("unlabeled", StandardBasicTypes.BOOLEAN)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new DatasetLabels((Integer) row[0], (Integer) row[1], (Integer) row[2], (Instant) row[3],
+                        (JsonNode) row[4], (Boolean) row[5]))
+                .collect(Collectors.toList());
     }
 
-    private List<Object[]> selectByDatasets(ArrayNode labels, List<Integer> datasets) {
-        StringBuilder sql = new StringBuilder("SELECT dataset.id AS id, dataset.runid AS runid, dataset.ordinal AS ordinal, ");
-        if (labels.size() != 1) {
-            sql.append("COALESCE(jsonb_object_agg(label.name, lv.value) FILTER (WHERE label.name IS NOT NULL), '{}'::jsonb)");
-        } else {
-            sql.append("lv.value");
+    /**
+     * Values of labels of a single dataset, keyed by the label name. Datasets without any label values
+     * (e.g. runs without a schema) are kept in all roles with empty values.
+     */
+    private record DatasetLabels(int id, int runId, int ordinal, Instant start, JsonNode values, boolean unlabeled) {
+        /**
+         * @return True if the dataset takes part in the role using these labels, i.e. it has at least one of them.
+         */
+        boolean has(ArrayNode labels) {
+            if (labels == null || labels.isEmpty() || unlabeled) {
+                return true;
+            }
+            for (JsonNode label : labels) {
+                if (values.has(label.asText())) {
+                    return true;
+                }
+            }
+            return false;
         }
-        sql.append(" AS value FROM dataset ")
-                .append("LEFT JOIN label_values lv ON dataset.id = lv.dataset_id ")
-                .append("LEFT JOIN label ON label.id = lv.label_id ")
-                .append("WHERE dataset.id IN :datasets AND (json_contains(:labels, label.name) OR label.name IS NULL)");
-        if (labels.size() != 1) {
-            sql.append(" GROUP BY dataset.id, dataset.runid, dataset.ordinal");
+
+        /**
+         * @return Value of the label if there is only one, otherwise an object with values of those labels
+         *         that are present in the dataset.
+         */
+        JsonNode select(ArrayNode labels) {
+            if (labels.size() == 1) {
+                return values.get(labels.get(0).asText());
+            }
+            ObjectNode selected = JsonNodeFactory.instance.objectNode();
+            for (JsonNode label : labels) {
+                JsonNode value = values.get(label.asText());
+                if (value != null) {
+                    selected.set(label.asText(), value);
+                }
+            }
+            return selected;
         }
-        NativeQuery<Object[]> query = em.unwrap(Session.class).createNativeQuery(sql.toString(), Object[].class)
-                .setParameter("datasets", datasets)
-                .setParameter("labels", labels, JsonBinaryType.INSTANCE)
-                .addScalar("id", StandardBasicTypes.INTEGER)
-                .addScalar("runid", StandardBasicTypes.INTEGER)
-                .addScalar("ordinal", StandardBasicTypes.INTEGER)
-                .addScalar("value", JsonBinaryType.INSTANCE);
-        return query.getResultList();
     }
 
     public static final class Coords {
@@ -622,70 +608,56 @@ public class ReportServiceImpl implements ReportService {
         }
     }
 
-    private List<Integer> filterDatasetIds(TableReportConfigDAO config, TableReportDAO report) {
-        List<Object[]> list = selectByTest(config.test.id, config.filterLabels);
-        if (list.isEmpty()) {
+    private List<DatasetLabels> filterDatasets(TableReportConfigDAO config, TableReportDAO report,
+            List<DatasetLabels> datasets, JsContextPool.PooledContext context) {
+        if (datasets.isEmpty()) {
             log(report, PersistentLogDAO.WARN, "There are no matching datasets for test %s (%d)", config.test.name,
                     config.test.id);
         }
-        List<Integer> datasetIds = new ArrayList<>(list.size());
-        if (nullOrEmpty(config.filterFunction)) {
-            StringBuilder debugList = new StringBuilder();
-            for (Object[] row : list) {
-                Integer datasetId = (Integer) row[0];
-                int runId = (int) row[1];
-                int ordinal = (int) row[2];
-                if (debugList.length() != 0) {
-                    debugList.append(", ");
-                }
-                debugList.append(runId).append('/').append(ordinal);
-                if (row[3] != null && ((JsonNode) row[3]).asBoolean(false)) {
-                    datasetIds.add(datasetId);
+        List<DatasetLabels> included = new ArrayList<>(datasets.size());
+        StringBuilder debugList = new StringBuilder();
+        for (DatasetLabels dataset : datasets) {
+            if (debugList.length() != 0) {
+                debugList.append(", ");
+            }
+            debugList.append(dataset.runId()).append('/').append(dataset.ordinal());
+            JsonNode input = dataset.select(config.filterLabels);
+            if (nullOrEmpty(config.filterFunction)) {
+                if (input != null && input.asBoolean(false)) {
+                    included.add(dataset);
                 } else {
                     debugList.append("(filtered, null dataset id, check for run without a schema)");
                 }
+                continue;
             }
-            log(report, PersistentLogDAO.DEBUG, "Datasets considered for report: %s", debugList);
-        } else {
-            executeInContext(config, context -> {
-                StringBuilder debugList = new StringBuilder();
-                for (Object[] row : list) {
-                    Integer datasetId = (Integer) row[0];
-                    int runId = (int) row[1];
-                    int ordinal = (int) row[2];
-                    String jsCode = buildCode(config.filterFunction, String.valueOf(row[3]));
-                    if (debugList.length() != 0) {
-                        debugList.append(", ");
-                    }
-                    debugList.append(runId).append('/').append(ordinal);
-                    try {
-                        org.graalvm.polyglot.Value value = context.eval("js", jsCode);
-                        if (value.isBoolean()) {
-                            if (value.asBoolean()) {
-                                datasetIds.add(datasetId);
-                            } else {
-                                debugList.append("(filtered)");
-                                Log.debugf("Dataset %d/%d (%d) filtered out, value: %s", runId, ordinal, datasetId, row[3]);
-
-                            }
-                        } else {
-                            debugList.append("(filtered: not boolean)");
-                            log(report, PersistentLogDAO.ERROR,
-                                    "Report %s(%d) filter result for dataset %d/%d (%d) is not a boolean: %s. Offending code: <br><pre>%s</pre>",
-                                    config.title, config.id, runId, ordinal, datasetId, value, jsCode);
-                        }
-                    } catch (PolyglotException e) {
-                        debugList.append("(filtered: JS error)");
-                        log(report, PersistentLogDAO.ERROR,
-                                "Failed to run report %s(%d) filter function on dataset %d/%d (%d). Offending code: <br><pre>%s</pre>",
-                                config.title, config.id, runId, ordinal, datasetId, jsCode);
-                        Log.debug("Caused by exception", e);
+            try {
+                Value value = context.call(config.filterFunction, input);
+                if (value.isBoolean()) {
+                    if (value.asBoolean()) {
+                        included.add(dataset);
+                    } else {
+                        debugList.append("(filtered)");
+                        Log.debugf("Dataset %d/%d (%d) filtered out, value: %s", dataset.runId(), dataset.ordinal(),
+                                dataset.id(), input);
                     }
+                } else {
+                    debugList.append("(filtered: not boolean)");
+                    log(report, PersistentLogDAO.ERROR,
+                            "Report %s(%d) filter result for dataset %d/%d (%d) is not a boolean: %s. Offending code: <br><pre>%s</pre>",
+                            config.title, config.id, dataset.runId(), dataset.ordinal(), dataset.id(), value,
+                            JsContextPool.describe(config.filterFunction, input));
                 }
-                log(report, PersistentLogDAO.DEBUG, "Datasets considered for report: %s", debugList);
-            });
+            } catch (PolyglotException e) {
+                debugList.append("(filtered: JS error)");
+                log(report, PersistentLogDAO.ERROR,
+                        "Failed to run report %s(%d) filter function on dataset %d/%d (%d). Offending code: <br><pre>%s</pre>",
+                        config.title, config.id, dataset.runId(), dataset.ordinal(), dataset.id(),
+                        JsContextPool.describe(config.filterFunction, input));
+                Log.debug("Caused by exception", e);
+            }
         }
-        return datasetIds;
+        log(report, PersistentLogDAO.DEBUG, "Datasets considered for report: %s", debugList);
+        return included;
     }
 
     private void log(TableReportDAO report, int level, String msg, Object... args) {
@@ -693,25 +665,21 @@ public class ReportServiceImpl implements ReportService {
         report.logs.add(new ReportLogDAO(report, level, message));
     }
 
-    private String buildCode(String function, String param) {
-        return "var __obj = " + param + ";\n" +
-                "var __func = " + function + ";\n" +
-                "__func(__obj)";
-    }
-
-    private void executeInContext(TableReportConfigDAO config, Consumer<Context> consumer) {
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        try (Context context = Context.newBuilder("js").out(out).err(out).build()) {
-            context.enter();
+    private void executeInContext(TableReportConfigDAO config, Consumer<JsContextPool.PooledContext> consumer) {
+        String output = null;
+        try (JsContextPool.PooledContext context = JsContextPool.acquire()) {
+            Context ctx = context.context();
+            ctx.enter();
             try {
                 consumer.accept(context);
             } finally {
-                context.leave();
+                ctx.leave();
+                output = context.takeOutput();
             }
         } finally {
-            if (out.size() > 0) {
+            if (output != null) {
                 Log.infof("Output while calculating data for report %s(%d): <pre>%s</pre>", config.title, config.id,
-                        out.toString());
+                        output);
             }
         }
     }
@@ -0,0 +1,382 @@
+package io.hyperfoil.tools.horreum.svc;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPInputStream;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+
+import io.hyperfoil.tools.horreum.api.services.RunService.RunImport;
+import io.hyperfoil.tools.horreum.server.RolesInterceptor;
+import io.quarkus.logging.Log;
+import io.quarkus.security.identity.SecurityIdentity;
+
+/**
+ * Bulk import of runs. The request body is spooled to a temporary file and the import continues in background,
+ * so that the client receives the import ID right away and can poll for progress. The runs are read from
+ * newline-delimited JSON or from a gzipped tar archive of JSON files, stored in batches by {@link RunServiceImpl}
+ * and transformed on a bounded pool of workers while the rest of the input is still being read. The number of
+ * stored runs waiting for transformation is limited, so a large import is read only as fast as it is transformed
+ * rather than filling the memory.
+ */
+@ApplicationScoped
+public class RunImporter {
+    private static final int MAX_ERRORS = 100;
+    private static final long KEEP_COMPLETED_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final int TAR_BLOCK = 512;
+
+    @ConfigProperty(name = "horreum.run-import.batch-size", defaultValue = "100")
+    int batchSize;
+
+    @ConfigProperty(name = "horreum.run-import.max-concurrency", defaultValue = "4")
+    int maxConcurrency;
+
+    @Inject
+    RunServiceImpl runService;
+
+    private final AtomicInteger importIds = new AtomicInteger();
+    private final ConcurrentMap<Integer, Job> jobs = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+    private ExecutorService readers;
+    private Semaphore pendingRuns;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, maxConcurrency), r -> {
+            Thread thread = new Thread(r, "horreum-run-import-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // readers block on the pending runs, so they must not take the threads of the transformation
+        AtomicInteger readerCounter = new AtomicInteger();
+        readers = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "horreum-run-import-reader-" + readerCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pendingRuns = new Semaphore(Math.max(1, batchSize) * Math.max(1, maxConcurrency) * 2);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        readers.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    int batchSize() {
+        return Math.max(1, batchSize);
+    }
+
+    Job start(int testId) {
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(job -> {
+            synchronized (job) {
+                return job.status.completed && job.status.timestamp < now - KEEP_COMPLETED_MILLIS;
+            }
+        });
+        Job job = new Job(new RunImport(importIds.incrementAndGet(), testId));
+        jobs.put(job.status.id, job);
+        return job;
+    }
+
+    RunImport getStatus(int id) {
+        Job job = jobs.get(id);
+        return job == null ? null : job.copyStatus();
+    }
+
+    /**
+     * Copies the request body to a temporary file; the file is removed when the import has read it.
+     */
+    Path spool(InputStream data) throws IOException {
+        Path file = Files.createTempFile("horreum-run-import-", ".data");
+        try {
+            Files.copy(data, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    /**
+     * Reads the spooled input in background, with the roles of the user who started the import.
+     */
+    void submit(Job job, Path file, SecurityIdentity identity, InputConsumer consumer) {
+        readers.execute(Util.wrapForBlockingExecution(() -> {
+            RolesInterceptor.setCurrentIdentity(identity);
+            try (InputStream input = Files.newInputStream(file)) {
+                consumer.accept(input);
+            } catch (IOException e) {
+                Log.error("Failed to read runs for import", e);
+                failed(job, "input", "Failed to read input: " + e.getMessage());
+            } catch (RuntimeException e) {
+                Log.errorf(e, "Import %d failed", job.id());
+                failed(job, "input", "Import failed: " + e.getMessage());
+            } finally {
+                inputFinished(job);
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    Log.warnf(e, "Failed to remove spooled input %s", file);
+                }
+            }
+        }));
+    }
+
+    /**
+     * Reads the runs from the input; gzipped input is expected to be a tar archive, unless the decompressed
+     * content is not a tar archive - then it is read as newline-delimited JSON, too.
+     *
+     * @param consumer Receives a description of the source (line or file name) and the run data.
+     */
+    void readRuns(Job job, InputStream input, BiConsumer<String, JsonNode> consumer) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input);
+        buffered.mark(2);
+        int b1 = buffered.read();
+        int b2 = buffered.read();
+        buffered.reset();
+        if (b1 == 0x1f && b2 == 0x8b) {
+            BufferedInputStream decompressed = new BufferedInputStream(new GZIPInputStream(buffered));
+            decompressed.mark(TAR_BLOCK);
+            byte[] header = decompressed.readNBytes(TAR_BLOCK);
+            decompressed.reset();
+            if (header.length == TAR_BLOCK && "ustar".equals(readString(header, 257, 5))) {
+                readTar(job, decompressed, consumer);
+            } else {
+                readNdjson(job, decompressed, consumer);
+            }
+        } else {
+            readNdjson(job, buffered, consumer);
+        }
+    }
+
+    private void readNdjson(Job job, InputStream input, BiConsumer<String, JsonNode> consumer) throws IOException {
+        int index = 0;
+        try (MappingIterator<JsonNode> it = Util.OBJECT_MAPPER.readerFor(JsonNode.class).readValues(input)) {
+            while (it.hasNextValue()) {
+                JsonNode run = it.nextValue();
+                received(job);
+                consumer.accept("run #" + (++index), run);
+            }
+        } catch (JsonProcessingException e) {
+            // we cannot find the start of the next run reliably
+            received(job);
+            failed(job, "run #" + (index + 1),
+                    "Cannot parse JSON, the rest of the input is ignored: " + e.getOriginalMessage());
+        }
+    }
+
+    private void readTar(Job job, InputStream input, BiConsumer<String, JsonNode> consumer) throws IOException {
+        String longName = null;
+        while (true) {
+            byte[] header = input.readNBytes(TAR_BLOCK);
+            if (header.length < TAR_BLOCK || isZero(header)) {
+                return;
+            }
+            String name = readString(header, 0, 100);
+            if ("ustar".equals(readString(header, 257, 5))) {
+                String prefix = readString(header, 345, 155);
+                if (!prefix.isEmpty()) {
+                    name = prefix + "/" + name;
+                }
+            }
+            if (longName != null) {
+                name = longName;
+                longName = null;
+            }
+            long size = parseOctal(header, 124, 12);
+            byte type = header[156];
+            long padding = (TAR_BLOCK - size % TAR_BLOCK) % TAR_BLOCK;
+            if (type == 'L') {
+                // GNU extension: the data holds the name of the next entry
+                longName = readString(input.readNBytes((int) size), 0, (int) size);
+                input.skipNBytes(padding);
+                continue;
+            }
+            String fileName = name.substring(name.lastIndexOf('/') + 1);
+            if ((type != '0' && type != 0) || !fileName.endsWith(".json") || fileName.startsWith("._")) {
+                input.skipNBytes(size + padding);
+                continue;
+            }
+            if (size > Integer.MAX_VALUE - 8) {
+                received(job);
+                failed(job, name, "File is too large");
+                input.skipNBytes(size + padding);
+                continue;
+            }
+            byte[] content = input.readNBytes((int) size);
+            input.skipNBytes(padding);
+            received(job);
+            JsonNode run;
+            try {
+                run = Util.OBJECT_MAPPER.readTree(content);
+            } catch (JsonProcessingException e) {
+                failed(job, name, "Cannot parse JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            consumer.accept(name, run);
+        }
+    }
+
+    private static String readString(byte[] bytes, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && bytes[end] != 0) {
+            ++end;
+        }
+        return new String(bytes, offset, end - offset, StandardCharsets.UTF_8).trim();
+    }
+
+    private static long parseOctal(byte[] bytes, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        while (i < end && bytes[i] == ' ') {
+            ++i;
+        }
+        long value = 0;
+        // the number is terminated by NUL or space
+        for (; i < end && bytes[i] >= '0' && bytes[i] <= '7'; ++i) {
+            value = value * 8 + (bytes[i] - '0');
+        }
+        return value;
+    }
+
+    private static boolean isZero(byte[] bytes) {
+        for (byte b : bytes) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void received(Job job) {
+        synchronized (job) {
+            job.status.received++;
+        }
+    }
+
+    void failed(Job job, String source, String error) {
+        Log.debugf("Import %d: failed to import %s: %s", job.status.id, source, error);
+        synchronized (job) {
+            job.status.failed++;
+            if (job.status.errors.size() < MAX_ERRORS) {
+                job.status.errors.add(source + ": " + error);
+            }
+        }
+    }
+
+    /**
+     * Schedules transformation of runs that have been stored; blocks when too many runs are waiting.
+     */
+    void stored(Job job, int testId, List<Integer> runIds, Set<String> roles) {
+        synchronized (job) {
+            job.status.stored += runIds.size();
+            job.pending += runIds.size();
+        }
+        for (int runId : runIds) {
+            try {
+                pendingRuns.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ServiceException.serverError("Interrupted while importing runs");
+            }
+            executor.execute(Util.wrapForBlockingExecution(() -> {
+                boolean success = false;
+                try {
+                    // persistRun adds the system role to the set
+                    success = runService.persistRun(new ServiceMediator.RunUpload(runId, testId, new HashSet<>(roles)));
+                } catch (Exception e) {
+                    Log.errorf(e, "Failed to transform imported run %d", runId);
+                } finally {
+                    pendingRuns.release();
+                    synchronized (job) {
+                        if (success) {
+                            job.status.processed++;
+                        } else {
+                            job.status.failed++;
+                            if (job.status.errors.size() < MAX_ERRORS) {
+                                job.status.errors.add("run " + runId + ": transformation failed");
+                            }
+                        }
+                        job.pending--;
+                        checkCompleted(job);
+                    }
+                }
+            }));
+        }
+    }
+
+    void inputFinished(Job job) {
+        synchronized (job) {
+            job.inputFinished = true;
+            checkCompleted(job);
+        }
+    }
+
+    // must be called with the job locked
+    private void checkCompleted(Job job) {
+        if (job.inputFinished && job.pending == 0 && !job.status.completed) {
+            job.status.completed = true;
+            Log.infof("Import %d of %d runs to test %d completed: %d processed, %d failed", job.status.id,
+                    job.status.received, job.status.testId, job.status.processed, job.status.failed);
+        }
+    }
+
+    @FunctionalInterface
+    interface InputConsumer {
+        void accept(InputStream input) throws IOException;
+    }
+
+    static final class Job {
+        private final RunImport status;
+        private boolean inputFinished;
+        private int pending;
+
+        private Job(RunImport status) {
+            this.status = status;
+        }
+
+        int id() {
+            return status.id;
+        }
+
+        synchronized RunImport copyStatus() {
+            RunImport copy = new RunImport(status.id, status.testId);
+            copy.timestamp = status.timestamp;
+            copy.received = status.received;
+            copy.stored = status.stored;
+            copy.processed = status.processed;
+            copy.failed = status.failed;
+            copy.completed = status.completed;
+            copy.errors = new ArrayList<>(status.errors);
+            return copy;
+        }
+    }
+}
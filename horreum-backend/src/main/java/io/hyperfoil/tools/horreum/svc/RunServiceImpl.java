@@ -5,17 +5,28 @@ import static io.hyperfoil.tools.horreum.entity.data.SchemaDAO.QUERY_1ST_LEVEL_B
 import static io.hyperfoil.tools.horreum.entity.data.SchemaDAO.QUERY_2ND_LEVEL_BY_RUNID_TRANSFORMERID_SCHEMA_ID;
 import static io.hyperfoil.tools.horreum.entity.data.SchemaDAO.QUERY_TRANSFORMER_TARGETS;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
 import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -61,6 +72,7 @@ import io.hyperfoil.tools.horreum.api.data.ExportedLabelValues;
 import io.hyperfoil.tools.horreum.api.data.JsonpathValidation;
 import io.hyperfoil.tools.horreum.api.data.Run;
 import io.hyperfoil.tools.horreum.api.data.ValidationError;
+import io.hyperfoil.tools.horreum.api.data.datastore.DatastoreType;
 import io.hyperfoil.tools.horreum.api.services.RunService;
 import io.hyperfoil.tools.horreum.api.services.SchemaService;
 import io.hyperfoil.tools.horreum.api.services.TestService;
@@ -69,13 +81,13 @@ import io.hyperfoil.tools.horreum.datastore.Datastore;
 import io.hyperfoil.tools.horreum.datastore.DatastoreResolver;
 import io.hyperfoil.tools.horreum.datastore.DatastoreResponse;
 import io.hyperfoil.tools.horreum.entity.PersistentLogDAO;
-import io.hyperfoil.tools.horreum.entity.alerting.DataPointDAO;
 import io.hyperfoil.tools.horreum.entity.alerting.TransformationLogDAO;
 import io.hyperfoil.tools.horreum.entity.data.DatasetDAO;
 import io.hyperfoil.tools.horreum.entity.data.RunDAO;
 import io.hyperfoil.tools.horreum.entity.data.SchemaDAO;
 import io.hyperfoil.tools.horreum.entity.data.TestDAO;
 import io.hyperfoil.tools.horreum.entity.data.TransformerDAO;
+import io.hyperfoil.tools.horreum.hibernate.IntArrayType;
 import io.hyperfoil.tools.horreum.hibernate.JsonBinaryType;
 import io.hyperfoil.tools.horreum.mapper.DatasetMapper;
 import io.hyperfoil.tools.horreum.mapper.RunMapper;
@@ -156,6 +168,12 @@ public class RunServiceImpl implements RunService {
     @Inject
     DatastoreResolver backendResolver;
 
+    @Inject
+    RunImporter runImporter;
+
+    @Inject
+    KeyPathIndex keyPathIndex;
+
     @Inject
     Session session;
 
@@ -165,13 +183,12 @@ public class RunServiceImpl implements RunService {
     @WithRoles(extras = Roles.HORREUM_SYSTEM)
     void onTestDeleted(int testId) {
         Log.debugf("Trashing runs for test %d", testId);
-        ScrollableResults<Integer> results = session.createNativeQuery("SELECT id FROM run WHERE testid = ?1", Integer.class)
+        List<Integer> runIds = session.createNativeQuery("SELECT id FROM run WHERE testid = ?1", Integer.class)
                 .setParameter(1, testId)
-                .setReadOnly(true)
-                .setFetchSize(100)
-                .scroll(ScrollMode.FORWARD_ONLY);
-        while (results.next()) {
-            int id = results.get();
+                .getResultList();
+        // remove datasets of all runs at once, trashing the runs one by one then finds no datasets
+        mediator.propagatedDatasetsPurge(runIds.stream().mapToInt(Integer::intValue).toArray());
+        for (int id : runIds) {
             trashDueToTestDeleted(id);
         }
     }
@@ -466,7 +483,26 @@ public class RunServiceImpl implements RunService {
             Log.error("Failed to read data/metadata from upload file", e);
             throw ServiceException.badRequest("Provided data/metadata can't be read (JSON encoding problem?)");
         }
-        return addRunFromData(start, stop, test, owner, access, schemaUri, description, dataNode.toString(), metadataNode);
+        // the file has been parsed once, pass the tree on rather than serializing it again
+        return addRunFromData(start, stop, test, owner, access, schemaUri, description, dataNode, metadataNode,
+                data.uploadedFile());
+    }
+
+    Response addRunFromData(String start, String stop, String test,
+            String owner, Access access,
+            String schemaUri, String description,
+            String stringData, JsonNode metadata) {
+        if (stringData == null) {
+            Log.debugf("Failed to upload for test %s with description %s because of missing data", test, description);
+            throw ServiceException.badRequest("No data!");
+        }
+        JsonNode data = null;
+        try {
+            data = Util.OBJECT_MAPPER.readValue(stringData, JsonNode.class);
+        } catch (JsonProcessingException e) {
+            throw ServiceException.badRequest("Could not map incoming data to JsonNode: " + e.getMessage());
+        }
+        return addRunFromData(start, stop, test, owner, access, schemaUri, description, data, metadata, null);
     }
 
     /**
@@ -475,8 +511,10 @@ public class RunServiceImpl implements RunService {
      * processing. - Handles single or multiple runs based on the datastore's response type. - Persists runs and their
      * associated datasets in the database. - Queues dataset recalculation tasks for further processing.
      *
-     * If the response, in the case of datastore, contains more than 10 runs, the processing of the entire run is offloaded to
-     * an asynchronous queue. For fewer runs, processing occurs synchronously.
+     * If the response, in the case of datastore, contains more than 10 runs, the runs are only stored and their processing is
+     * offloaded to an asynchronous queue; the queued message refers to the stored run rather than carrying its data. All the
+     * runs are created before any of them is stored, and they are stored in a single transaction, so that a run that cannot
+     * be parsed rejects the whole upload. For fewer runs, processing occurs synchronously.
      *
      * @param start the start time for the run
      * @param stop the stop time for the run
@@ -485,8 +523,9 @@ public class RunServiceImpl implements RunService {
      * @param access the access level for the run
      * @param schemaUri the URI of the schema used for validation
      * @param description a description of the run
-     * @param stringData the raw string data to be processed
+     * @param data the parsed data to be processed
      * @param metadata additional metadata associated with the run
+     * @param dataFile the uploaded file the data has been parsed from, or <code>null</code>
      * @return a Response indicating the result of the operation, including accepted or rejected status
      * @throws ServiceException if validation or data processing fails
      */
@@ -495,18 +534,7 @@ public class RunServiceImpl implements RunService {
     Response addRunFromData(String start, String stop, String test,
             String owner, Access access,
             String schemaUri, String description,
-            String stringData, JsonNode metadata) {
-        if (stringData == null) {
-            Log.debugf("Failed to upload for test %s with description %s because of missing data", test, description);
-            throw ServiceException.badRequest("No data!");
-        }
-        JsonNode data = null;
-        try {
-            data = Util.OBJECT_MAPPER.readValue(stringData, JsonNode.class);
-        } catch (JsonProcessingException e) {
-            throw ServiceException.badRequest("Could not map incoming data to JsonNode: " + e.getMessage());
-        }
-
+            JsonNode data, JsonNode metadata, Path dataFile) {
         Object foundTest = findIfNotSet(test, data);
         String testNameOrId = foundTest == null ? null : foundTest.toString().trim();
         if (testNameOrId == null || testNameOrId.isEmpty()) {
@@ -534,18 +562,22 @@ public class RunServiceImpl implements RunService {
             //if we return more than 10 results, offload to async queue to process - this might take a LOOONG time
             if (response.payload.size() > 10) {
                 Log.infof("Received more than 10 runs, processing them asynchronously");
-                response.payload.forEach(jsonNode -> {
-                    mediator.queueRunUpload(start, stop, test, owner, access, schemaUri, description, null, jsonNode,
-                            testEntity);
-                });
+                List<RunDAO> staged = new ArrayList<>(response.payload.size());
+                response.payload.forEach(jsonNode -> staged
+                        .add(newRun(start, stop, test, owner, access, schemaUri, description, null, jsonNode, testEntity)));
+                stageRuns(staged, testEntity, identity.getRoles())
+                        .forEach(runId -> mediator.queueRunUpload(runId, testEntity));
             } else { //process synchronously
                 response.payload.forEach(jsonNode -> runs
                         .add(getPersistRun(start, stop, test, owner, access, schemaUri, description, metadata, jsonNode,
                                 testEntity)));
             }
         } else {
-            runs.add(getPersistRun(start, stop, test, owner, access, schemaUri, description, metadata, response.payload,
-                    testEntity));
+            RunDAO run = newRun(start, stop, test, owner, access, schemaUri, description, metadata, response.payload,
+                    testEntity);
+            // the uploaded JSON can be stored as is unless the datastore or the schema parameter changed it
+            boolean unchanged = response.payload == data && (schemaUri == null || schemaUri.isEmpty());
+            runs.add(addAuthenticated(run, testEntity, unchanged ? dataFile : null));
         }
 
         if (!runs.isEmpty()) {
@@ -565,30 +597,160 @@ public class RunServiceImpl implements RunService {
                 .build();
     }
 
+    /**
+     * @return <code>false</code> if the run could not be persisted or processed.
+     */
     @Transactional
-    void persistRun(ServiceMediator.RunUpload runUpload) {
+    boolean persistRun(ServiceMediator.RunUpload runUpload) {
         runUpload.roles.add("horreum.system");
         roleManager.setRoles(String.join(",", runUpload.roles));
         TestDAO testEntity = TestDAO.findById(runUpload.testId);
         if (testEntity == null) {
             Log.errorf("Could not find Test (%d) for Run Upload", runUpload.testId);
-            return;
+            return false;
         }
         try {
-            RunPersistence run = getPersistRun(runUpload.start, runUpload.stop, runUpload.test,
-                    runUpload.owner, runUpload.access, runUpload.schemaUri,
-                    runUpload.description, runUpload.metaData, runUpload.payload, testEntity);
+            RunPersistence run;
+            if (runUpload.runId != null) {
+                // the run has been stored when the upload was accepted, only the processing is left
+                RunDAO stored = RunDAO.findById(runUpload.runId);
+                if (stored == null) {
+                    Log.errorf("Could not find Run (%d) for Run Upload", runUpload.runId);
+                    return false;
+                }
+                run = processRun(stored, testEntity);
+            } else {
+                // message queued by older version, carrying the whole payload
+                run = getPersistRun(runUpload.start, runUpload.stop, runUpload.test,
+                        runUpload.owner, runUpload.access, runUpload.schemaUri,
+                        runUpload.description, runUpload.metaData, runUpload.payload, testEntity);
+            }
 
             if (run.getRunId() == null) {
                 Log.errorf("Could not persist Run for Test:  %d", testEntity.name);
+                return false;
             }
+            // the datasets exist only if the transaction commits; the persistence context is closed by then
+            int testId = testEntity.id;
+            int runId = run.getRunId();
+            List<Integer> datasetIds = run.getDatasetIds();
+            Util.doAfterCommit(tm, () -> datasetIds.forEach(dsId -> {
+                Dataset.EventNew event = new Dataset.EventNew(dsId, testId, runId, new Integer[0], false);
+                mediator.queueDatasetEvents(event);
+                if (mediator.testMode()) {
+                    mediator.publishEvent(AsyncEventChannels.DATASET_NEW, testId, event);
+                }
+            }));
+            return true;
         } catch (ServiceException serviceException) {
             Log.errorf("Could not persist Run for Test: %d", testEntity.name, serviceException);
+            return false;
         }
     }
 
+    @RolesAllowed(Roles.UPLOADER)
+    @WithRoles
+    @Override
+    public RunImport importRuns(String start, String stop, String test, String owner, Access access, String schemaUri,
+            String description, InputStream data) {
+        if (data == null) {
+            throw ServiceException.badRequest("No data!");
+        } else if (test == null || test.isBlank()) {
+            throw ServiceException.badRequest("No test name or id provided");
+        } else if (start == null || start.isBlank() || stop == null || stop.isBlank()) {
+            throw ServiceException.badRequest("Start and stop must be set, either as a value or a JSONPath");
+        }
+        TestDAO testEntity = testService.ensureTestExists(test.trim());
+        if (testEntity.backendConfig != null && testEntity.backendConfig.type != DatastoreType.POSTGRES) {
+            throw ServiceException.badRequest("Runs can be imported only to tests using the Postgres datastore");
+        }
+        // the roles are used when storing and transforming the runs in background
+        Set<String> roles = new HashSet<>(identity.getRoles());
+        // all runs have the same owner, a wrong one is rejected before the input is read
+        String runOwner = resolveOwner(owner, testEntity, roles);
+        Path spooled;
+        try {
+            spooled = runImporter.spool(data);
+        } catch (IOException e) {
+            Log.error("Failed to read runs for import", e);
+            throw ServiceException.badRequest("Failed to read input: " + e.getMessage());
+        }
+        RunImporter.Job job = runImporter.start(testEntity.id);
+        runImporter.submit(job, spooled, new CachedSecurityIdentity(identity),
+                input -> readImport(job, testEntity, roles, input, node -> newRun(start, stop, test, runOwner, access,
+                        schemaUri, description, null, node, testEntity)));
+        return runImporter.getStatus(job.id());
+    }
+
+    private void readImport(RunImporter.Job job, TestDAO test, Set<String> roles, InputStream data,
+            Function<JsonNode, RunDAO> toRun) throws IOException {
+        List<RunDAO> batch = new ArrayList<>();
+        List<String> sources = new ArrayList<>();
+        runImporter.readRuns(job, data, (source, node) -> {
+            try {
+                batch.add(toRun.apply(node));
+                sources.add(source);
+            } catch (ServiceException e) {
+                runImporter.failed(job, source, e.getMessage());
+            }
+            if (batch.size() >= runImporter.batchSize()) {
+                stageImportBatch(job, test, batch, sources, roles);
+            }
+        });
+        stageImportBatch(job, test, batch, sources, roles);
+    }
+
+    private void stageImportBatch(RunImporter.Job job, TestDAO test, List<RunDAO> batch, List<String> sources,
+            Set<String> roles) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<Integer> runIds = stageRuns(batch, test, roles);
+            runImporter.stored(job, test.id, runIds, roles);
+        } catch (RuntimeException e) {
+            Log.errorf(e, "Failed to store batch of %d imported runs", batch.size());
+            String message = e instanceof ServiceException ? e.getMessage() : "Failed to store run";
+            sources.forEach(source -> runImporter.failed(job, source, message));
+        } finally {
+            batch.clear();
+            sources.clear();
+        }
+    }
+
+    /**
+     * Stores the runs in a single transaction without transforming them.
+     */
+    @WithRoles(extras = Roles.HORREUM_SYSTEM)
+    @Transactional
+    List<Integer> stageRuns(List<RunDAO> runs, TestDAO test, Set<String> roles) {
+        List<Integer> runIds = new ArrayList<>(runs.size());
+        for (RunDAO run : runs) {
+            storeRun(run, test, null, roles);
+            runIds.add(run.id);
+        }
+        return runIds;
+    }
+
+    @WithRoles
+    @Override
+    public RunImport getImportStatus(int id) {
+        RunImport status = runImporter.getStatus(id);
+        // the test is not visible to users who could not upload to it
+        if (status == null || TestDAO.findById(status.testId) == null) {
+            throw ServiceException.notFound("Import " + id + " not found");
+        }
+        return status;
+    }
+
     private RunPersistence getPersistRun(String start, String stop, String test, String owner, Access access,
             String schemaUri, String description, JsonNode metadata, JsonNode data, TestDAO testEntity) {
+        return addAuthenticated(newRun(start, stop, test, owner, access, schemaUri, description, metadata, data, testEntity),
+                testEntity);
+    }
+
+    private RunDAO newRun(String start, String stop, String test, String owner, Access access,
+            String schemaUri, String description, JsonNode metadata, JsonNode data, TestDAO testEntity) {
         Object foundStart = findIfNotSet(start, data);
         Object foundStop = findIfNotSet(stop, data);
         Object foundDescription = findIfNotSet(description, data);
@@ -630,8 +792,7 @@ public class RunServiceImpl implements RunService {
         run.metadata = metadata;
         run.owner = owner;
         run.access = access;
-
-        return addAuthenticated(run, testEntity);
+        return run;
     }
 
     private Object findIfNotSet(String value, JsonNode data) {
@@ -660,28 +821,32 @@ public class RunServiceImpl implements RunService {
     @WithRoles(extras = Roles.HORREUM_SYSTEM)
     @Transactional
     public RunPersistence addAuthenticated(RunDAO run, TestDAO test) {
+        return addAuthenticated(run, test, null);
+    }
+
+    /**
+     * Same as {@link #addAuthenticated(RunDAO, TestDAO)}; when <code>dataFile</code> is set the data of the run is read
+     * by the database straight from that file, rather than serialized again from the parsed tree.
+     */
+    @WithRoles(extras = Roles.HORREUM_SYSTEM)
+    @Transactional
+    RunPersistence addAuthenticated(RunDAO run, TestDAO test, Path dataFile) {
+        storeRun(run, test, dataFile, identity.getRoles());
+        return processRun(run, test);
+    }
+
+    /**
+     * @param roles the roles of the uploading user, who does not have to be the current user when the run is stored
+     *        in background
+     */
+    private void storeRun(RunDAO run, TestDAO test, Path dataFile, Set<String> roles) {
         // Id will be always generated anew
         run.id = null;
         //if run.metadata is null on the client, it will be converted to a NullNode, not null...
         if (run.metadata != null && run.metadata.isNull())
             run.metadata = null;
 
-        if (run.owner == null) {
-            List<String> uploaders = identity.getRoles().stream().filter(role -> role.endsWith("-uploader"))
-                    .collect(Collectors.toList());
-            if (uploaders.size() != 1) {
-                Log.debugf("Failed to upload for test %s: no owner, available uploaders: %s", test.name, uploaders);
-                throw ServiceException.badRequest(
-                        "Missing owner and cannot select single default owners; this user has these uploader roles: "
-                                + uploaders);
-            }
-            String uploader = uploaders.get(0);
-            run.owner = uploader.substring(0, uploader.length() - 9) + "-team";
-        } else if (!Objects.equals(test.owner, run.owner) && !identity.getRoles().contains(run.owner)) {
-            Log.debugf("Failed to upload for test %s: requested owner %s, available roles: %s", test.name, run.owner,
-                    identity.getRoles());
-            throw ServiceException.badRequest("This user does not have permissions to upload run for owner=" + run.owner);
-        }
+        run.owner = resolveOwner(run.owner, test, roles);
         if (run.access == null) {
             run.access = Access.PRIVATE;
         }
@@ -689,19 +854,92 @@ public class RunServiceImpl implements RunService {
 
         try {
             if (run.id == null) {
-                em.persist(run);
+                if (dataFile == null || !insertRun(run, dataFile)) {
+                    em.persist(run);
+                }
             } else {
                 trashConnectedDatasets(run.id, run.testid);
                 em.merge(run);
             }
             em.flush();
+            keyPathIndex.addRun(run.testid, run.owner, run.access, run.data);
         } catch (Exception e) {
             Log.error("Failed to persist run", e);
             throw ServiceException.serverError("Failed to persist run");
         }
 
         Log.infof("Run successfully persisted with ID %d", run.id);
+    }
 
+    /**
+     * @return the owner of the uploaded run, the default team of the uploader if <code>owner</code> is not set
+     */
+    private static String resolveOwner(String owner, TestDAO test, Set<String> roles) {
+        if (owner == null) {
+            List<String> uploaders = roles.stream().filter(role -> role.endsWith("-uploader"))
+                    .collect(Collectors.toList());
+            if (uploaders.size() != 1) {
+                Log.debugf("Failed to upload for test %s: no owner, available uploaders: %s", test.name, uploaders);
+                throw ServiceException.badRequest(
+                        "Missing owner and cannot select single default owners; this user has these uploader roles: "
+                                + uploaders);
+            }
+            String uploader = uploaders.get(0);
+            return uploader.substring(0, uploader.length() - 9) + "-team";
+        } else if (!Objects.equals(test.owner, owner) && !roles.contains(owner)) {
+            Log.debugf("Failed to upload for test %s: requested owner %s, available roles: %s", test.name, owner,
+                    roles);
+            throw ServiceException.badRequest("This user does not have permissions to upload run for owner=" + owner);
+        }
+        return owner;
+    }
+
+    /**
+     * Inserts a new run, streaming its data from the uploaded file to the database that parses it as JSONB.
+     * The run is not attached to the persistence context.
+     *
+     * @return <code>false</code> if the file is not encoded in UTF-8 and the run must be persisted from the parsed tree
+     */
+    private boolean insertRun(RunDAO run, Path dataFile) throws IOException {
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(dataFile))) {
+            long length = Files.size(dataFile);
+            input.mark(3);
+            byte[] head = input.readNBytes(3);
+            if (head.length == 3 && (head[0] & 0xFF) == 0xEF && (head[1] & 0xFF) == 0xBB && (head[2] & 0xFF) == 0xBF) {
+                // skip the byte order mark
+                length -= 3;
+            } else {
+                // UTF-16 and UTF-32 start with a zero byte or with a byte order mark
+                for (byte b : head) {
+                    if (b == 0 || (b & 0xFF) == 0xFE || (b & 0xFF) == 0xFF) {
+                        return false;
+                    }
+                }
+                input.reset();
+            }
+            run.id = ((Number) em.createNativeQuery("SELECT nextval('run_id_seq')").getSingleResult()).intValue();
+            long dataLength = length;
+            session.doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "INSERT INTO run (id, testid, start, stop, description, owner, access, data, metadata, trashed) " +
+                                "VALUES (?, ?, ?, ?, ?, ?, ?, convert_from(?, 'UTF8')::jsonb, ?::jsonb, false)")) {
+                    statement.setInt(1, run.id);
+                    statement.setInt(2, run.testid);
+                    statement.setObject(3, OffsetDateTime.ofInstant(run.start, ZoneOffset.UTC));
+                    statement.setObject(4, OffsetDateTime.ofInstant(run.stop, ZoneOffset.UTC));
+                    statement.setString(5, run.description);
+                    statement.setString(6, run.owner);
+                    statement.setInt(7, run.access.ordinal());
+                    statement.setBinaryStream(8, input, dataLength);
+                    statement.setString(9, run.metadata == null ? null : run.metadata.toString());
+                    statement.executeUpdate();
+                }
+            });
+            return true;
+        }
+    }
+
+    private RunPersistence processRun(RunDAO run, TestDAO test) {
         updateRunSchemas(run.id);
         mediator.newRun(RunMapper.from(run));
         List<Integer> datasetIds = transform(run.id, false);
@@ -761,10 +999,13 @@ public class RunServiceImpl implements RunService {
             jsonpath = "$.**." + jsonpath;
         }
         try {
-            NativeQuery<String> findAutocomplete = session.createNativeQuery(FIND_AUTOCOMPLETE, String.class);
-            findAutocomplete.setParameter(1, jsonpath);
-            findAutocomplete.setParameter(2, incomplete);
-            List<String> results = findAutocomplete.getResultList();
+            List<String> results = keyPathIndex.findKeys(jsonpath, incomplete);
+            if (results == null) {
+                NativeQuery<String> findAutocomplete = session.createNativeQuery(FIND_AUTOCOMPLETE, String.class);
+                findAutocomplete.setParameter(1, jsonpath);
+                findAutocomplete.setParameter(2, incomplete);
+                results = findAutocomplete.getResultList();
+            }
             return results.stream().map(option -> option.matches("^[a-zA-Z0-9_-]*$") ? option : "\"" + option + "\"")
                     .collect(Collectors.toList());
         } catch (PersistenceException e) {
@@ -782,36 +1023,47 @@ public class RunServiceImpl implements RunService {
                 .append("run.metadata IS NOT NULL AS has_metadata, test.name AS testname, ")
                 .append("'[]'::jsonb AS schemas, '[]'::jsonb AS datasets, '[]'::jsonb AS validationErrors ")
                 .append("FROM run JOIN test ON test.id = run.testId WHERE ");
-        String[] queryParts;
+        // original jsonpaths, for validation when the query fails
+        List<String> queryParts = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
         boolean whereStarted = false;
-        if (query == null || query.isEmpty()) {
-            queryParts = new String[0];
-        } else {
+        if (query != null && !query.isEmpty()) {
             query = query.trim();
+            String[] tokens;
             if (query.startsWith("$") || query.startsWith("@")) {
-                queryParts = new String[] { query };
+                tokens = new String[] { query };
             } else {
-                queryParts = query.split("([ \t\n,]+)|\\bOR\\b");
+                tokens = query.split("([ \t\n,]+)|\\bOR\\b");
             }
             sql.append("(");
-            for (int i = 0; i < queryParts.length; ++i) {
+            for (int i = 0; i < tokens.length; ++i) {
                 if (i != 0) {
                     sql.append(matchAll ? " AND " : " OR ");
                 }
-                sql.append("jsonb_path_exists(data, ?").append(i + 1).append(" ::jsonpath)");
-                if (queryParts[i].startsWith("$")) {
-                    // no change
-                } else if (queryParts[i].startsWith("@")) {
-                    queryParts[i] = "$.** ? (" + queryParts[i] + ")";
+                String jsonpath;
+                String condition = null;
+                if (tokens[i].startsWith("$")) {
+                    jsonpath = tokens[i];
                 } else {
-                    queryParts[i] = "$.**." + queryParts[i];
+                    if (tokens[i].startsWith("@")) {
+                        jsonpath = "$.** ? (" + tokens[i] + ")";
+                    } else {
+                        jsonpath = "$.**." + tokens[i];
+                    }
+                    condition = keyPathSearch(tokens[i], params);
                 }
+                queryParts.add(jsonpath);
+                if (condition == null) {
+                    params.add(jsonpath);
+                    condition = "jsonb_path_exists(data, ?" + params.size() + " ::jsonpath)";
+                }
+                sql.append(condition);
             }
             sql.append(")");
             whereStarted = true;
         }
 
-        whereStarted = Roles.addRolesSql(identity, "run", sql, roles, queryParts.length + 1, whereStarted ? " AND" : null)
+        whereStarted = Roles.addRolesSql(identity, "run", sql, roles, params.size() + 1, whereStarted ? " AND" : null)
                 || whereStarted;
         if (!trashed) {
             if (whereStarted) {
@@ -822,18 +1074,22 @@ public class RunServiceImpl implements RunService {
         Util.addPaging(sql, limit, page, sort, direction);
 
         NativeQuery<Object[]> sqlQuery = session.createNativeQuery(sql.toString(), Object[].class);
-        for (int i = 0; i < queryParts.length; ++i) {
-            sqlQuery.setParameter(i + 1, queryParts[i]);
+        for (int i = 0; i < params.size(); ++i) {
+            if (params.get(i) instanceof int[] ids) {
+                sqlQuery.setParameter(i + 1, ids, IntArrayType.INSTANCE);
+            } else {
+                sqlQuery.setParameter(i + 1, params.get(i));
+            }
         }
 
-        Roles.addRolesParam(identity, sqlQuery, queryParts.length + 1, roles);
+        Roles.addRolesParam(identity, sqlQuery, params.size() + 1, roles);
 
         try {
             List<Object[]> runs = sqlQuery.getResultList();
 
             RunsSummary summary = new RunsSummary();
             // TODO: total does not consider the query but evaluating all the expressions would be expensive
-            summary.total = trashed ? RunDAO.count() : RunDAO.count("trashed = false");
+            summary.total = countRuns(trashed);
             summary.runs = runs.stream().map(this::createSummary).collect(Collectors.toList());
             return summary;
         } catch (PersistenceException pe) {
@@ -857,6 +1113,46 @@ public class RunServiceImpl implements RunService {
         }
     }
 
+    /**
+     * Searching for a key with <code>$.**</code> descends through the data of all runs and cannot use an index.
+     * When the key is known to the {@link KeyPathIndex} the search is restricted to the tests that have the key
+     * and the paths where it occurs.
+     *
+     * @return SQL condition or <code>null</code> if the token must be searched recursively.
+     */
+    private String keyPathSearch(String token, List<Object> params) {
+        String key;
+        String suffix;
+        if (token.startsWith("@.")) {
+            // other operands of the condition could match objects without the key
+            if (token.indexOf('@', 1) >= 0 || token.contains("||") || token.contains("is unknown")) {
+                return null;
+            }
+            key = KeyPaths.leadingKey(token, 2);
+            if (key == null) {
+                return null;
+            }
+            suffix = " ? (" + token + ")";
+        } else {
+            key = KeyPaths.leadingKey(token, 0);
+            if (key == null || (key.length() < token.length() && token.charAt(key.length()) != '.'
+                    && token.charAt(key.length()) != '[')) {
+                return null;
+            }
+            suffix = "." + token;
+        }
+        KeyPathIndex.PathsWithKey paths = keyPathIndex.findPaths(key);
+        if (paths == null) {
+            return null;
+        } else if (paths.tests().length == 0) {
+            return "false";
+        }
+        params.add(paths.tests());
+        params.add(paths.parents().stream().map(parent -> "exists(" + parent + suffix + ")")
+                .collect(Collectors.joining(" || ")));
+        return "(run.testid = ANY(?" + (params.size() - 1) + ") AND data @@ ?" + params.size() + " ::jsonpath)";
+    }
+
     private void initTypes(Query query) {
         query.unwrap(NativeQuery.class)
                 .addScalar("id", StandardBasicTypes.INTEGER)
@@ -914,6 +1210,15 @@ public class RunServiceImpl implements RunService {
         return run;
     }
 
+    /**
+     * Counts visible runs from the counters in test_stats instead of scanning the whole run table.
+     * The policy on test_stats leaves only the counters of runs the caller can see.
+     */
+    private long countRuns(boolean includeTrashed) {
+        String sql = "SELECT COALESCE(sum(runs" + (includeTrashed ? " + trashed_runs" : "") + "), 0)::bigint FROM test_stats";
+        return session.createNativeQuery(sql, Long.class).getSingleResult();
+    }
+
     @PermitAll
     @WithRoles
     @Override
@@ -1033,11 +1338,8 @@ public class RunServiceImpl implements RunService {
     private void trashConnectedDatasets(int runId, int testId) {
         //Make sure to remove run_schemas as we've trashed the run
         em.createNativeQuery("DELETE FROM run_schemas WHERE runid = ?1").setParameter(1, runId).executeUpdate();
-        List<DatasetDAO> datasets = DatasetDAO.list("runId", runId);
-        Log.debugf("Trashing run %d (test %d, %d datasets)", runId, testId, datasets.size());
-        for (var dataset : datasets) {
-            mediator.propagatedDatasetDelete(dataset.id);
-        }
+        Log.debugf("Trashing run %d (test %d)", runId, testId);
+        mediator.propagatedDatasetsPurge(runId);
     }
 
     @RolesAllowed(Roles.TESTER)
@@ -1097,6 +1399,7 @@ public class RunServiceImpl implements RunService {
         run.data = updated;
         trashConnectedDatasets(run.id, run.testid);
         run.persist();
+        keyPathIndex.addRun(run.testid, run.owner, run.access, run.data);
         onNewOrUpdatedSchemaForRun(run.id, schemaOptional.get().id);
         Map<Integer, String> schemas = session
                 .createNativeQuery("SELECT schemaid AS key, uri AS value FROM run_schemas WHERE runid = ? ORDER BY schemaid",
@@ -1176,6 +1479,18 @@ public class RunServiceImpl implements RunService {
     @WithRoles(extras = Roles.HORREUM_SYSTEM)
     @Transactional
     List<Integer> transform(int runId, boolean isRecalculation) {
+        return transform(runId, isRecalculation, null);
+    }
+
+    /**
+     * Same as {@link #transform(int, boolean)} but using transformers preloaded by {@link #loadTransformers(int)},
+     * e.g. once for all runs of a test that is being recalculated.
+     *
+     * @param transformers definitions of the test's transformers, or null to load them
+     */
+    @WithRoles(extras = Roles.HORREUM_SYSTEM)
+    @Transactional
+    List<Integer> transform(int runId, boolean isRecalculation, Map<Integer, TransformerDefinition> transformers) {
         List<Integer> datasetIds = new ArrayList<>();
         if (runId < 1) {
             Log.errorf("Transformation parameters error: run %s", runId);
@@ -1198,18 +1513,16 @@ public class RunServiceImpl implements RunService {
 
         // We need to make sure all old datasets are gone before creating new; otherwise we could
         // break the runid,ordinal uniqueness constraint
-        for (DatasetDAO old : DatasetDAO.<DatasetDAO> list("runId", runId)) {
-            for (DataPointDAO dp : DataPointDAO.<DataPointDAO> list("dataset.id", old.getInfo().id)) {
-                dp.delete();
-            }
-            mediator.propagatedDatasetDelete(old.id);
-        }
+        mediator.propagatedDatasetsPurge(runId);
 
         RunDAO run = RunDAO.findById(runId);
         if (run == null) {
             Log.errorf("Cannot load run ID %d for transformation", runId);
             return datasetIds; // this is still empty
         }
+        if (transformers == null) {
+            transformers = loadTransformers(run.testid);
+        }
         Map<Integer, JsonNode> transformerResults = new TreeMap<>();
         // naked nodes (those produced by implicit identity transformers) are all added to each dataset
         List<JsonNode> nakedNodes = new ArrayList<>();
@@ -1232,19 +1545,22 @@ public class RunServiceImpl implements RunService {
             String uri = (String) relevantSchema[3];
             Integer source = (Integer) relevantSchema[4];
 
-            TransformerDAO t;
-            if (transformerId != null) {
-                t = TransformerDAO.findById(transformerId);
-                if (t == null) {
+            TransformerDefinition t;
+            if (transformerId == null) {
+                t = null;
+            } else if (transformers.containsKey(transformerId)) {
+                t = transformers.get(transformerId);
+            } else {
+                TransformerDAO transformer = TransformerDAO.findById(transformerId);
+                if (transformer == null) {
                     Log.errorf("Missing transformer with ID %d", transformerId);
                 }
-            } else {
-                t = null;
+                t = transformer == null ? null : TransformerDefinition.of(transformer);
             }
             if (t != null) {
                 JsonNode root = JsonNodeFactory.instance.objectNode();
                 JsonNode result;
-                if (t.extractors != null && !t.extractors.isEmpty()) {
+                if (t.extractors() > 0) {
                     List<Object[]> extractedData;
                     try {
                         if (type == SchemaDAO.TYPE_1ST_LEVEL) {
@@ -1275,7 +1591,7 @@ public class RunServiceImpl implements RunService {
                 }
                 // In Horreum it's customary that when a single extractor is used we pass the result directly to the function
                 // without wrapping it in an extra object.
-                if (t.extractors != null && t.extractors.size() == 1) {
+                if (t.extractors() == 1) {
                     if (root.size() != 1) {
                         // missing results should be null nodes
                         Log.errorf("Unexpected result for single extractor: %s", root.toPrettyString());
@@ -1285,14 +1601,14 @@ public class RunServiceImpl implements RunService {
                 }
                 logMessage(run, PersistentLogDAO.DEBUG,
                         "Run transformer %s/%s with input: <pre>%s</pre>, function: <pre>%s</pre>",
-                        uri, t.name, limitLength(root.toPrettyString()), t.function);
-                if (t.function != null && !t.function.isBlank()) {
-                    result = Util.evaluateOnce(t.function, root, Util::convertToJson,
+                        uri, t.name(), limitLength(root.toPrettyString()), t.function());
+                if (t.function() != null && !t.function().isBlank()) {
+                    result = Util.evaluateOnce(t.function(), root, Util::convertToJson,
                             (code, e) -> logMessage(run, PersistentLogDAO.ERROR,
-                                    "Evaluation of transformer %s/%s failed: '%s' Code: <pre>%s</pre>", uri, t.name,
+                                    "Evaluation of transformer %s/%s failed: '%s' Code: <pre>%s</pre>", uri, t.name(),
                                     e.getMessage(), code),
                             output -> logMessage(run, PersistentLogDAO.DEBUG,
-                                    "Output while running transformer %s/%s: <pre>%s</pre>", uri, t.name, output));
+                                    "Output while running transformer %s/%s: <pre>%s</pre>", uri, t.name(), output));
                     if (result == null) {
                         // this happens upon error
                         result = JsonNodeFactory.instance.nullNode();
@@ -1300,19 +1616,19 @@ public class RunServiceImpl implements RunService {
                 } else {
                     result = root;
                 }
-                if (t.targetSchemaUri != null) {
+                if (t.targetSchemaUri() != null) {
                     if (result.isObject()) {
-                        putIfAbsent(run, t.targetSchemaUri, (ObjectNode) result);
+                        putIfAbsent(run, t.targetSchemaUri(), (ObjectNode) result);
                     } else if (result.isArray()) {
                         ArrayNode array = (ArrayNode) result;
                         for (JsonNode node : array) {
                             if (node.isObject()) {
-                                putIfAbsent(run, t.targetSchemaUri, (ObjectNode) node);
+                                putIfAbsent(run, t.targetSchemaUri(), (ObjectNode) node);
                             }
                         }
                     } else {
                         result = instance.objectNode()
-                                .put("$schema", t.targetSchemaUri).set("value", result);
+                                .put("$schema", t.targetSchemaUri()).set("value", result);
                     }
                 } else if (!result.isContainerNode() || (result.isObject() && !result.has("$schema")) ||
                         (result.isArray()
@@ -1405,6 +1721,34 @@ public class RunServiceImpl implements RunService {
         return datasetIds;
     }
 
+    /**
+     * Loads transformers of the test including their extractors in a single query, rather than one by one
+     * for each schema of the run. The definitions are detached from the persistence context and can be shared
+     * by transformations running in parallel.
+     */
+    @WithRoles(extras = Roles.HORREUM_SYSTEM)
+    @Transactional
+    Map<Integer, TransformerDefinition> loadTransformers(int testId) {
+        Map<Integer, TransformerDefinition> transformers = new HashMap<>();
+        em.createQuery("SELECT DISTINCT t FROM test test JOIN test.transformers t LEFT JOIN FETCH t.extractors " +
+                "WHERE test.id = ?1", TransformerDAO.class)
+                .setParameter(1, testId)
+                .getResultList()
+                .forEach(t -> transformers.put(t.id, TransformerDefinition.of(t)));
+        return transformers;
+    }
+
+    /**
+     * Properties of a transformer used by {@link #transform(int, boolean, Map)}; the extractors are applied
+     * by the database, only their count is needed.
+     */
+    record TransformerDefinition(int id, String name, String function, String targetSchemaUri, int extractors) {
+        static TransformerDefinition of(TransformerDAO t) {
+            return new TransformerDefinition(t.id, t.name, t.function, t.targetSchemaUri,
+                    t.extractors == null ? 0 : t.extractors.size());
+        }
+    }
+
     /**
      * Persists a dataset, optionally triggers recalculation events, and validates the dataset. The recalculation is getting
      * triggered sync only if the {isRecalculation} is set to true otherwise it is completely skipped
@@ -15,6 +15,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -40,14 +42,15 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.networknt.schema.AbsoluteIri;
 import com.networknt.schema.JsonMetaSchema;
+import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.ValidationMessage;
 import com.networknt.schema.resource.InputStreamSource;
 import com.networknt.schema.resource.SchemaLoader;
 
 import io.hyperfoil.tools.horreum.api.SortDirection;
 import io.hyperfoil.tools.horreum.api.data.Access;
-import io.hyperfoil.tools.horreum.api.data.Dataset;
 import io.hyperfoil.tools.horreum.api.data.Extractor;
 import io.hyperfoil.tools.horreum.api.data.Label;
 import io.hyperfoil.tools.horreum.api.data.Schema;
@@ -111,6 +114,12 @@ public class SchemaServiceImpl implements SchemaService {
             .addMetaSchema(JsonMetaSchema.getV201909()).build();
     private static final String[] ALL_URNS = new String[] { "urn", "uri", "http", "https", "ftp", "file", "jar" };
 
+    // Compiled JSON schemas keyed by version and URI. As schemas can reference each other any change of a schema
+    // bumps the version in table schema_version (by a trigger, so that all nodes see it) and the entries compiled
+    // for older versions are dropped.
+    private static final Map<String, CompiledSchema> COMPILED_SCHEMAS = new ConcurrentHashMap<>();
+    private static final AtomicLong COMPILED_SCHEMAS_VERSION = new AtomicLong(-1);
+
     @Inject
     EntityManager em;
 
@@ -410,49 +419,118 @@ public class SchemaServiceImpl implements SchemaService {
             addIfHasSchema(toCheck, child);
         }
 
+        List<Validation> validations = new ArrayList<>();
+        long version = toCheck.isEmpty() ? 0 : schemasVersion();
         for (String schemaUri : toCheck.keySet()) {
             if (filter != null && !filter.test(schemaUri)) {
                 continue;
             }
-            NativeQuery<SchemaDAO> fetchSchemas = session.createNativeQuery(FETCH_SCHEMAS_RECURSIVE, SchemaDAO.class);
-            fetchSchemas.setParameter(1, schemaUri);
-            Map<String, SchemaDAO> schemas = fetchSchemas.getResultStream()
-                    .collect(Collectors.toMap(s -> s.uri, Function.identity()));
-
-            // this is root in the sense of JSON schema referencing other schemas, NOT Horreum first-level schema
-            SchemaDAO rootSchema = schemas.get(schemaUri);
-            if (rootSchema == null || rootSchema.schema == null) {
+            CompiledSchema compiled = compiledSchema(version, schemaUri);
+            if (compiled == CompiledSchema.NONE) {
+                continue;
+            } else if (compiled.error() != null) {
+                addValidationError(consumer, compiled.schemaId(), JsonNodeFactory.instance.objectNode()
+                        .put("type", "Execution error").put("message", compiled.error()));
                 continue;
             }
+            for (JsonNode node : toCheck.get(schemaUri)) {
+                validations.add(new Validation(compiled, node));
+            }
+        }
+        // the sub-documents are validated in parallel, the errors are collected in the original order
+        (validations.size() > 1 ? validations.parallelStream() : validations.stream()).forEach(Validation::run);
+        for (Validation validation : validations) {
+            if (validation.error != null) {
+                addValidationError(consumer, validation.compiled.schemaId(), JsonNodeFactory.instance.objectNode()
+                        .put("type", "Execution error").put("message", validation.error.getMessage()));
+            } else {
+                validation.messages.forEach(msg -> addValidationError(consumer, validation.compiled.schemaId(),
+                        Util.OBJECT_MAPPER.valueToTree(msg)));
+            }
+        }
+        Log.debug("Validation completed");
+    }
+
+    private void addValidationError(Collection<ValidationErrorDAO> consumer, int schemaId, JsonNode errorNode) {
+        ValidationErrorDAO error = new ValidationErrorDAO();
+        error.schema = em.getReference(SchemaDAO.class, schemaId);
+        error.error = errorNode;
+        if (!consumer.contains(error))
+            consumer.add(error);
+    }
+
+    private long schemasVersion() {
+        return ((Number) em.createNativeQuery("SELECT version FROM schema_version").getSingleResult()).longValue();
+    }
+
+    private CompiledSchema compiledSchema(long version, String schemaUri) {
+        long current = COMPILED_SCHEMAS_VERSION.get();
+        if (version > current && COMPILED_SCHEMAS_VERSION.compareAndSet(current, version)) {
+            COMPILED_SCHEMAS.keySet().removeIf(key -> !key.startsWith(version + ":"));
+        }
+        String key = version + ":" + schemaUri;
+        CompiledSchema compiled = COMPILED_SCHEMAS.get(key);
+        if (compiled == null) {
+            compiled = compileSchema(schemaUri);
+            if (COMPILED_SCHEMAS_VERSION.get() == version) {
+                // otherwise the schemas have changed while compiling
+                COMPILED_SCHEMAS.put(key, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    private CompiledSchema compileSchema(String schemaUri) {
+        NativeQuery<SchemaDAO> fetchSchemas = session.createNativeQuery(FETCH_SCHEMAS_RECURSIVE, SchemaDAO.class);
+        fetchSchemas.setParameter(1, schemaUri);
+        Map<String, SchemaDAO> schemas = fetchSchemas.getResultStream()
+                .collect(Collectors.toMap(s -> s.uri, Function.identity()));
+
+        // this is root in the sense of JSON schema referencing other schemas, NOT Horreum first-level schema
+        SchemaDAO rootSchema = schemas.get(schemaUri);
+        if (rootSchema == null || rootSchema.schema == null) {
+            return CompiledSchema.NONE;
+        }
+        try {
+            HorreumURIFetcher fetcher = new HorreumURIFetcher();
+            fetcher.addResource(SchemaLocation.of(schemaUri).getAbsoluteIri(), rootSchema.schema.toString());
+
+            JsonSchemaFactory factory = JsonSchemaFactory.builder(JSON_SCHEMA_FACTORY)
+                    .schemaLoaders(schemaLoaders -> schemaLoaders.add(fetcher))
+                    .build();
+            JsonSchema jsonSchema = factory.getSchema(rootSchema.schema);
+            // resolve all references now, the compiled schema is then safe to use from multiple threads
+            jsonSchema.initializeValidators();
+            return new CompiledSchema(rootSchema.id, jsonSchema, null);
+        } catch (Throwable e) {
+            // Do not let messed up schemas fail the upload
+            Log.error("Schema validation failed", e);
+            return new CompiledSchema(rootSchema.id, null, e.getMessage());
+        }
+    }
 
+    private record CompiledSchema(int schemaId, JsonSchema schema, String error) {
+        static final CompiledSchema NONE = new CompiledSchema(0, null, null);
+    }
+
+    private static class Validation {
+        final CompiledSchema compiled;
+        final JsonNode node;
+        Set<ValidationMessage> messages;
+        Throwable error;
+
+        Validation(CompiledSchema compiled, JsonNode node) {
+            this.compiled = compiled;
+            this.node = node;
+        }
+
+        void run() {
             try {
-                HorreumURIFetcher fetcher = new HorreumURIFetcher();
-                fetcher.addResource(SchemaLocation.of(schemaUri).getAbsoluteIri(), rootSchema.schema.toString());
-
-                JsonSchemaFactory factory = JsonSchemaFactory.builder(JSON_SCHEMA_FACTORY)
-                        .schemaLoaders(schemaLoaders -> schemaLoaders.add(fetcher))
-                        .build();
-
-                for (JsonNode node : toCheck.get(schemaUri)) {
-                    factory.getSchema(rootSchema.schema).validate(node).forEach(msg -> {
-                        ValidationErrorDAO error = new ValidationErrorDAO();
-                        error.schema = rootSchema;
-                        error.error = Util.OBJECT_MAPPER.valueToTree(msg);
-                        if (!consumer.contains(error))
-                            consumer.add(error);
-                    });
-                }
+                messages = compiled.schema().validate(node);
             } catch (Throwable e) {
-                // Do not let messed up schemas fail the upload
                 Log.error("Schema validation failed", e);
-                ValidationErrorDAO error = new ValidationErrorDAO();
-                error.schema = rootSchema;
-                error.error = JsonNodeFactory.instance.objectNode().put("type", "Execution error").put("message",
-                        e.getMessage());
-                if (!consumer.contains(error))
-                    consumer.add(error);
+                error = e;
             }
-            Log.debug("Validation completed");
         }
     }
 
@@ -861,14 +939,20 @@ public class SchemaServiceImpl implements SchemaService {
                 return;
             }
 
-            Log.infof("Queuing %s datasets for recalculation", datasetIds.size());
-            Util.registerTxSynchronization(tm, txStatus -> {
-                for (var dataset : datasetIds) {
-                    mediator.queueDatasetEvents(
-                            new Dataset.EventNew((Integer) dataset[0], (Integer) dataset[1], 0,
-                                    labelIds.toArray(new Integer[] {}), true));
+            // datasets are recalculated in bulk, grouped by test
+            Map<Integer, List<Integer>> datasetsByTest = new HashMap<>();
+            for (var dataset : datasetIds) {
+                datasetsByTest.computeIfAbsent((Integer) dataset[1], testId -> new ArrayList<>()).add((Integer) dataset[0]);
+            }
+            Integer[] labelIdsArray = labelIds.toArray(new Integer[] {});
+            Log.infof("Queuing %s datasets of %s tests for recalculation", datasetIds.size(), datasetsByTest.size());
+            Util.registerTxSynchronization(tm, txStatus -> datasetsByTest.forEach((testId, ids) -> {
+                for (int i = 0; i < ids.size(); i += DatasetServiceImpl.LABEL_VALUES_BULK_SIZE) {
+                    int[] chunk = ids.subList(i, Math.min(ids.size(), i + DatasetServiceImpl.LABEL_VALUES_BULK_SIZE))
+                            .stream().mapToInt(Integer::intValue).toArray();
+                    mediator.queueDatasetRecalculation(testId, chunk, labelIdsArray);
                 }
-            });
+            }));
         } catch (NoResultException nre) {
             Log.debugf("Could not find datasetId/testId to recalculate labels: %s", nre.getMessage());
         }
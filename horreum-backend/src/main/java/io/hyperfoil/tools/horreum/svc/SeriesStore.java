@@ -0,0 +1,224 @@
+package io.hyperfoil.tools.horreum.svc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Session;
+
+import io.hyperfoil.tools.horreum.server.WithRoles;
+import io.hyperfoil.tools.horreum.svc.CompressedSeries.Series;
+import io.quarkus.logging.Log;
+
+/**
+ * Read-optimized copy of the datapoints of a variable, either for a single fingerprint (by <code>fp_hash</code>)
+ * or for all fingerprints. The series are loaded from the <code>datapoint</code> table on first access, kept
+ * in {@link CompressedSeries compressed} form and updated as new datapoints are created; any other modification
+ * of datapoints drops the affected series.
+ * <p>
+ * The series are loaded with the system role, so the callers must filter out datasets that the user cannot see.
+ */
+@ApplicationScoped
+public class SeriesStore {
+    @Inject
+    EntityManager em;
+
+    @ConfigProperty(name = "horreum.series.cache.max-points", defaultValue = "20000000")
+    long maxPoints;
+
+    // access-ordered for LRU eviction
+    private final LinkedHashMap<SeriesKey, Entry> series = new LinkedHashMap<>(64, 0.75f, true);
+    private long cachedPoints;
+    // any modification while a series is being loaded prevents caching the loaded series
+    private final AtomicLong modifications = new AtomicLong();
+
+    /**
+     * @param fpHash Fingerprint hash or <code>null</code> for datapoints of all fingerprints.
+     * @return Datapoints within the range, ordered by timestamp.
+     */
+    Series read(int variableId, Integer fpHash, Instant from, Instant to, boolean oneBeforeAndAfter) {
+        return read(List.of(new SeriesKey(variableId, fpHash)), from, to, oneBeforeAndAfter).get(0);
+    }
+
+    /**
+     * Reads multiple series at once; the series that are not cached are loaded in a single query.
+     *
+     * @return Datapoints within the range for each of the keys, in the same order.
+     */
+    List<Series> read(List<SeriesKey> keys, Instant from, Instant to, boolean oneBeforeAndAfter) {
+        Map<SeriesKey, Entry> entries = new HashMap<>();
+        synchronized (this) {
+            for (SeriesKey key : keys) {
+                Entry entry = series.get(key);
+                if (entry != null) {
+                    entries.put(key, entry);
+                }
+            }
+        }
+        if (entries.size() < new HashSet<>(keys).size()) {
+            long modificationsBefore = modifications.get();
+            Map<SeriesKey, Entry> loaded = load(keys.stream().filter(key -> !entries.containsKey(key))
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+            synchronized (this) {
+                for (Map.Entry<SeriesKey, Entry> entry : loaded.entrySet()) {
+                    if (modifications.get() == modificationsBefore && !series.containsKey(entry.getKey())) {
+                        series.put(entry.getKey(), entry.getValue());
+                        cachedPoints += entry.getValue().series.size();
+                    }
+                }
+                evict();
+            }
+            entries.putAll(loaded);
+        }
+        List<Series> result = new ArrayList<>(keys.size());
+        for (SeriesKey key : keys) {
+            Entry entry = entries.get(key);
+            result.add(entry == null ? new Series(new long[0], new double[0], new int[0])
+                    : entry.series.read(from.toEpochMilli(), to.toEpochMilli(), oneBeforeAndAfter));
+        }
+        return result;
+    }
+
+    /**
+     * @return Loaded series; keys of variables that do not exist are omitted.
+     */
+    @WithRoles(extras = Roles.HORREUM_SYSTEM)
+    @Transactional
+    Map<SeriesKey, Entry> load(Set<SeriesKey> keys) {
+        Set<Integer> variableIds = keys.stream().map(SeriesKey::variableId).collect(Collectors.toSet());
+        Map<Integer, Integer> testIds = new HashMap<>();
+        for (Object[] row : em.createQuery("SELECT v.id, v.testId FROM variable v WHERE v.id IN ?1", Object[].class)
+                .setParameter(1, variableIds).getResultList()) {
+            testIds.put((Integer) row[0], (Integer) row[1]);
+        }
+        Map<SeriesKey, Entry> entries = new HashMap<>();
+        for (SeriesKey key : keys) {
+            Integer testId = testIds.get(key.variableId());
+            if (testId != null) {
+                entries.put(key, new Entry(testId, new CompressedSeries()));
+            }
+        }
+        if (entries.isEmpty()) {
+            return entries;
+        }
+        Integer[] keyVariables = new Integer[entries.size()];
+        Integer[] keyFingerprints = new Integer[entries.size()];
+        int i = 0;
+        for (SeriesKey key : entries.keySet()) {
+            keyVariables[i] = key.variableId();
+            keyFingerprints[i] = key.fpHash();
+            ++i;
+        }
+        // the fingerprint is matched through fp_hash alone, series without fp_hash take datapoints of all fingerprints
+        String sql = "SELECT k.variable_id, k.fp_hash, floor(EXTRACT(EPOCH FROM dp.timestamp) * 1000)::bigint, " +
+                "dp.value, dp.dataset_id " +
+                "FROM unnest(?, ?) AS k(variable_id, fp_hash) " +
+                "JOIN datapoint dp ON dp.variable_id = k.variable_id " +
+                "WHERE k.fp_hash IS NULL OR EXISTS (SELECT 1 FROM fingerprint fp " +
+                "WHERE fp.fp_hash = k.fp_hash AND fp.dataset_id = dp.dataset_id) " +
+                "ORDER BY 1, 2, 3, dp.dataset_id";
+        em.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setArray(1, connection.createArrayOf("integer", keyVariables));
+                statement.setArray(2, connection.createArrayOf("integer", keyFingerprints));
+                statement.setFetchSize(10000);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        int variableId = resultSet.getInt(1);
+                        int fpHash = resultSet.getInt(2);
+                        SeriesKey key = new SeriesKey(variableId, resultSet.wasNull() ? null : fpHash);
+                        entries.get(key).series.append(resultSet.getLong(3), resultSet.getDouble(4), resultSet.getInt(5));
+                    }
+                }
+            }
+        });
+        for (Map.Entry<SeriesKey, Entry> entry : entries.entrySet()) {
+            Log.debugf("Loaded %d datapoints of variable %d, fingerprint %s (%d bytes)", entry.getValue().series.size(),
+                    entry.getKey().variableId(), entry.getKey().fpHash(), entry.getValue().series.compressedBytes());
+        }
+        return entries;
+    }
+
+    /**
+     * Adds a datapoint that has been committed to the series of its variable; must be called after commit.
+     */
+    void append(int variableId, Integer fpHash, Instant timestamp, double value, int datasetId) {
+        modifications.incrementAndGet();
+        append(new SeriesKey(variableId, fpHash), timestamp, value, datasetId);
+        if (fpHash != null) {
+            append(new SeriesKey(variableId, null), timestamp, value, datasetId);
+        }
+    }
+
+    private synchronized void append(SeriesKey key, Instant timestamp, double value, int datasetId) {
+        Entry entry = series.get(key);
+        if (entry == null) {
+            return;
+        }
+        if (entry.series.append(timestamp.toEpochMilli(), value, datasetId)) {
+            ++cachedPoints;
+            evict();
+        } else {
+            // out of order, it's cheaper to load the series again
+            series.remove(key);
+            cachedPoints -= entry.series.size();
+        }
+    }
+
+    void invalidateTest(int testId) {
+        invalidate((key, entry) -> entry.testId == testId);
+    }
+
+    void invalidateVariable(int variableId) {
+        invalidate((key, entry) -> key.variableId() == variableId);
+    }
+
+    void invalidateVariables(Set<Integer> variableIds) {
+        invalidate((key, entry) -> variableIds.contains(key.variableId()));
+    }
+
+    private void invalidate(BiPredicate<SeriesKey, Entry> predicate) {
+        modifications.incrementAndGet();
+        synchronized (this) {
+            for (Iterator<Map.Entry<SeriesKey, Entry>> it = series.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<SeriesKey, Entry> entry = it.next();
+                if (predicate.test(entry.getKey(), entry.getValue())) {
+                    cachedPoints -= entry.getValue().series.size();
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    private void evict() {
+        for (Iterator<Map.Entry<SeriesKey, Entry>> it = series.entrySet().iterator(); cachedPoints > maxPoints
+                && it.hasNext();) {
+            cachedPoints -= it.next().getValue().series.size();
+            it.remove();
+        }
+    }
+
+    record SeriesKey(int variableId, Integer fpHash) {
+    }
+
+    record Entry(int testId, CompressedSeries series) {
+    }
+}
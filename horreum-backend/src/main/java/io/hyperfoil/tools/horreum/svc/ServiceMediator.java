@@ -1,6 +1,13 @@
 package io.hyperfoil.tools.horreum.svc;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
@@ -10,10 +17,13 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.context.control.ActivateRequestContext;
 import jakarta.inject.Inject;
+import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
@@ -97,6 +107,10 @@ public class ServiceMediator {
     @Channel("dataset-event-out")
     Emitter<Dataset.EventNew> dataSetEmitter;
 
+    @OnOverflow(value = OnOverflow.Strategy.BUFFER, bufferSize = 10000)
+    @Channel("dataset-recalc-out")
+    Emitter<DatasetRecalculation> datasetRecalcEmitter;
+
     @OnOverflow(value = OnOverflow.Strategy.BUFFER, bufferSize = 10000)
     @Channel("run-recalc-out")
     Emitter<Integer> runEmitter;
@@ -109,11 +123,24 @@ public class ServiceMediator {
     @Channel("run-upload-out")
     Emitter<RunUpload> runUploadEmitter;
 
+    // recalculations requested within this window are merged before being sent; zero disables coalescing.
+    // Until then they are held in memory only: they are sent on shutdown, but lost when the process is killed.
+    @ConfigProperty(name = "horreum.recalculation.coalesce-window", defaultValue = "1s")
+    Duration coalesceWindow;
+
     // dummy ack handler when submitting event to the queue
     private Supplier<CompletionStage<Void>> ackHandler = () -> CompletableFuture.completedFuture(null);
 
     private Map<AsyncEventChannels, Map<Integer, BlockingQueue<Object>>> events = new ConcurrentHashMap<>();
 
+    private final Object pendingLock = new Object();
+    // recalculation events by dataset ID
+    private Map<Integer, Dataset.EventNew> pendingDatasetEvents = new LinkedHashMap<>();
+    // labels to recalculate by test ID and dataset ID; null set stands for all labels
+    private Map<Integer, Map<Integer, Set<Integer>>> pendingDatasetRecalculations = new LinkedHashMap<>();
+    private Set<Integer> pendingRunRecalculations = new LinkedHashSet<>();
+    private boolean flushScheduled;
+
     public ServiceMediator() {
     }
 
@@ -132,7 +159,7 @@ public class ServiceMediator {
 
     @Transactional
     void deleteTest(int testId) {
-        // runService will call mediator.propagatedDatasetDelete which needs
+        // runService will call mediator.propagatedDatasetsPurge which needs
         // to be completed before we call the other services
         runService.onTestDeleted(testId);
         actionService.onTestDelete(testId);
@@ -151,10 +178,10 @@ public class ServiceMediator {
     }
 
     @Transactional
-    void propagatedDatasetDelete(int datasetId) {
+    void propagatedDatasetsPurge(int... runIds) {
         //make sure to delete the entities that has a reference on dataset first
-        alertingService.onDatasetDeleted(datasetId);
-        datasetService.deleteDataset(datasetId);
+        alertingService.onDatasetsOfRunsDeleted(runIds);
+        datasetService.purgeDatasetsOfRuns(runIds);
     }
 
     void newChange(Change.Event event) {
@@ -165,6 +192,7 @@ public class ServiceMediator {
     @WithRoles(extras = Roles.HORREUM_SYSTEM)
     void onNewDataset(Dataset.EventNew eventNew) {
         datasetService.calculateLabelValues(eventNew.testId, eventNew.datasetId, eventNew.labelIds);
+        experimentService.onLabelValuesCalculation(eventNew.testId, eventNew.datasetId);
         alertingService
                 .onLabelValuesCalculation(
                         new Dataset.LabelsUpdatedEvent(eventNew.testId, eventNew.datasetId, eventNew.isRecalculation));
@@ -184,7 +212,26 @@ public class ServiceMediator {
     // NEW_DATASET, i.e., when uploading new run, has higher priority than RECALC_DATASET, i.e., when updating label schema
     @Transactional(Transactional.TxType.NOT_SUPPORTED)
     void queueDatasetEvents(Dataset.EventNew event) {
+        if (coalesceWindow.isZero()) {
+            sendDatasetEvent(event);
+            return;
+        }
+        synchronized (pendingLock) {
+            Dataset.EventNew pending = pendingDatasetEvents.remove(event.datasetId);
+            if (pending != null) {
+                event = mergeDatasetEvents(pending, event);
+            }
+            if (event.isRecalculation) {
+                pendingDatasetEvents.put(event.datasetId, event);
+                scheduleFlush();
+                return;
+            }
+        }
+        // new datasets are not delayed
+        sendDatasetEvent(event);
+    }
 
+    private void sendDatasetEvent(Dataset.EventNew event) {
         Function<Throwable, CompletionStage<Void>> nackHandler = (throwable) -> {
             Log.error("NACK: Failed to send message for test {} and dataset {}.",
                     new Object[] { event.testId, event.datasetId }, throwable);
@@ -200,6 +247,76 @@ public class ServiceMediator {
         dataSetEmitter.send(msg);
     }
 
+    private static Dataset.EventNew mergeDatasetEvents(Dataset.EventNew pending, Dataset.EventNew event) {
+        Integer[] labelIds;
+        if (pending.labelIds == null || pending.labelIds.length == 0 || event.labelIds == null
+                || event.labelIds.length == 0) {
+            labelIds = new Integer[0];
+        } else {
+            labelIds = Stream.concat(Arrays.stream(pending.labelIds), Arrays.stream(event.labelIds)).distinct()
+                    .toArray(Integer[]::new);
+        }
+        return new Dataset.EventNew(event.datasetId, event.testId, event.runId, labelIds,
+                pending.isRecalculation && event.isRecalculation);
+    }
+
+    @WithRoles(extras = Roles.HORREUM_SYSTEM)
+    void onDatasetsRecalculation(DatasetRecalculation recalculation) {
+        try {
+            datasetService.calculateLabelValuesBulk(recalculation.testId, recalculation.datasetIds, recalculation.labelIds);
+        } catch (PersistenceException e) {
+            // the extraction failed for some dataset, process them one by one to report the error on the right one
+            Log.debugf(e, "Bulk recalculation of datasets %s failed, falling back to individual processing",
+                    Arrays.toString(recalculation.datasetIds));
+            for (int datasetId : recalculation.datasetIds) {
+                try {
+                    onNewDataset(new Dataset.EventNew(datasetId, recalculation.testId, 0, recalculation.labelIds, true));
+                } catch (PersistenceException pe) {
+                    // keep going, a failing dataset must not block recalculation of the others
+                    Log.errorf(pe, "Failed to recalculate label values of dataset %d", (Object) datasetId);
+                }
+            }
+            return;
+        }
+        for (int datasetId : recalculation.datasetIds) {
+            experimentService.onLabelValuesCalculation(recalculation.testId, datasetId);
+            alertingService.onLabelValuesCalculation(new Dataset.LabelsUpdatedEvent(recalculation.testId, datasetId, true));
+            if (recalculation.labelIds == null || recalculation.labelIds.length == 0) {
+                actionService.onDatasetLabelsComputed(recalculation.testId, datasetId);
+            }
+        }
+    }
+
+    @Incoming("dataset-recalc-in")
+    @Blocking(ordered = false, value = "horreum.dataset.pool")
+    @ActivateRequestContext
+    public void processDatasetRecalculation(DatasetRecalculation recalculation) {
+        onDatasetsRecalculation(recalculation);
+    }
+
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    void queueDatasetRecalculation(int testId, int[] datasetIds, Integer[] labelIds) {
+        if (coalesceWindow.isZero()) {
+            datasetRecalcEmitter.send(new DatasetRecalculation(testId, datasetIds, labelIds));
+            return;
+        }
+        boolean allLabels = labelIds == null || labelIds.length == 0;
+        synchronized (pendingLock) {
+            Map<Integer, Set<Integer>> datasets = pendingDatasetRecalculations.computeIfAbsent(testId,
+                    id -> new LinkedHashMap<>());
+            for (int datasetId : datasetIds) {
+                if (allLabels) {
+                    datasets.put(datasetId, null);
+                } else if (!datasets.containsKey(datasetId)) {
+                    datasets.put(datasetId, new HashSet<>(Arrays.asList(labelIds)));
+                } else if (datasets.get(datasetId) != null) {
+                    datasets.get(datasetId).addAll(Arrays.asList(labelIds));
+                }
+            }
+            scheduleFlush();
+        }
+    }
+
     @Incoming("run-recalc-in")
     @Blocking(ordered = false, value = "horreum.run.pool")
     @ActivateRequestContext
@@ -209,7 +326,62 @@ public class ServiceMediator {
 
     @Transactional(Transactional.TxType.NOT_SUPPORTED)
     void queueRunRecalculation(int runId) {
-        runEmitter.send(runId);
+        if (coalesceWindow.isZero()) {
+            runEmitter.send(runId);
+            return;
+        }
+        synchronized (pendingLock) {
+            pendingRunRecalculations.add(runId);
+            scheduleFlush();
+        }
+    }
+
+    // must be called with pendingLock held
+    private void scheduleFlush() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            vertx.setTimer(Math.max(1, coalesceWindow.toMillis()), timerId -> executeBlocking(this::flushRecalculations));
+        }
+    }
+
+    /**
+     * Sends the coalesced recalculations; this runs when the window elapses and on shutdown. The pending requests are
+     * not persisted: after a crash the affected runs must be recalculated manually, e.g. through
+     * <code>/api/run/{id}/recalculate</code>.
+     */
+    @PreDestroy
+    void flushRecalculations() {
+        Map<Integer, Dataset.EventNew> datasetEvents;
+        Map<Integer, Map<Integer, Set<Integer>>> datasetRecalculations;
+        Set<Integer> runRecalculations;
+        synchronized (pendingLock) {
+            datasetEvents = pendingDatasetEvents;
+            datasetRecalculations = pendingDatasetRecalculations;
+            runRecalculations = pendingRunRecalculations;
+            pendingDatasetEvents = new LinkedHashMap<>();
+            pendingDatasetRecalculations = new LinkedHashMap<>();
+            pendingRunRecalculations = new LinkedHashSet<>();
+            flushScheduled = false;
+        }
+        if (!datasetEvents.isEmpty() || !datasetRecalculations.isEmpty() || !runRecalculations.isEmpty()) {
+            Log.debugf("Sending coalesced recalculations: %d dataset events, datasets of %d tests, %d runs",
+                    datasetEvents.size(), datasetRecalculations.size(), runRecalculations.size());
+        }
+        datasetEvents.values().forEach(this::sendDatasetEvent);
+        datasetRecalculations.forEach((testId, datasets) -> {
+            // datasets with the same labels are recalculated together
+            Map<Set<Integer>, List<Integer>> byLabels = new HashMap<>();
+            datasets.forEach((datasetId, labels) -> byLabels.computeIfAbsent(labels, l -> new ArrayList<>()).add(datasetId));
+            byLabels.forEach((labels, ids) -> {
+                Integer[] labelIds = labels == null ? new Integer[0] : labels.toArray(new Integer[0]);
+                for (int i = 0; i < ids.size(); i += DatasetServiceImpl.LABEL_VALUES_BULK_SIZE) {
+                    int[] chunk = ids.subList(i, Math.min(ids.size(), i + DatasetServiceImpl.LABEL_VALUES_BULK_SIZE))
+                            .stream().mapToInt(Integer::intValue).toArray();
+                    datasetRecalcEmitter.send(new DatasetRecalculation(testId, chunk, labelIds));
+                }
+            });
+        });
+        runRecalculations.forEach(runEmitter::send);
     }
 
     @Incoming("schema-sync-in")
@@ -240,6 +412,15 @@ public class ServiceMediator {
         runUploadEmitter.send(upload);
     }
 
+    /**
+     * Queues processing of a run that has been already stored; the message carries only the reference to the run.
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    void queueRunUpload(int runId, TestDAO testEntity) {
+        RunUpload upload = new RunUpload(runId, testEntity.id, identity.getRoles());
+        runUploadEmitter.send(upload);
+    }
+
     void dataPointsProcessed(DataPoint.DatasetProcessedEvent event) {
         experimentService.onDatapointsCreated(event);
     }
@@ -256,6 +437,10 @@ public class ServiceMediator {
         return runService.transform(runId, isRecalculation).size();
     }
 
+    Map<Integer, RunServiceImpl.TransformerDefinition> loadTransformers(int testId) {
+        return runService.loadTransformers(testId);
+    }
+
     void newExperimentResult(ExperimentService.ExperimentResult result) {
         actionService.onNewExperimentResult(result);
     }
@@ -315,7 +500,27 @@ public class ServiceMediator {
         }
     }
 
+    /**
+     * Recalculation of label values of several datasets belonging to the same test.
+     */
+    public static class DatasetRecalculation {
+        public int testId;
+        public int[] datasetIds;
+        public Integer[] labelIds;
+
+        public DatasetRecalculation() {
+        }
+
+        public DatasetRecalculation(int testId, int[] datasetIds, Integer[] labelIds) {
+            this.testId = testId;
+            this.datasetIds = datasetIds;
+            this.labelIds = labelIds;
+        }
+    }
+
     public static class RunUpload {
+        // when set the run has been already stored and the payload is not sent
+        public Integer runId;
         public String start;
         public String stop;
         public String test;
@@ -347,6 +552,12 @@ public class ServiceMediator {
             this.testId = testId;
             this.roles = roles;
         }
+
+        public RunUpload(int runId, Integer testId, Set<String> roles) {
+            this.runId = runId;
+            this.testId = testId;
+            this.roles = roles;
+        }
     }
 
 }
@@ -1,5 +1,6 @@
 package io.hyperfoil.tools.horreum.svc;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -19,14 +20,13 @@ import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceException;
 import jakarta.persistence.Tuple;
+import jakarta.transaction.Status;
 import jakarta.transaction.TransactionManager;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 
-import org.hibernate.ScrollMode;
-import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.query.NativeQuery;
 import org.hibernate.type.StandardBasicTypes;
@@ -60,6 +60,7 @@ import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.logging.Log;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
+import io.quarkus.scheduler.Scheduled;
 import io.quarkus.security.identity.SecurityIdentity;
 
 @ApplicationScoped
@@ -111,6 +112,12 @@ public class TestServiceImpl implements TestService {
     @Inject
     TransactionManager tm;
 
+    @Inject
+    RecalculationEngine recalculationEngine;
+
+    @Inject
+    KeyPathIndex keyPathIndex;
+
     private final ConcurrentHashMap<Integer, RecalculationStatus> recalculations = new ConcurrentHashMap<>();
 
     @RolesAllowed(Roles.TESTER)
@@ -127,6 +134,7 @@ public class TestServiceImpl implements TestService {
         Log.debugf("Deleting test %s (%d)", test.name, test.id);
         mediator.deleteTest(test.id);
         test.delete();
+        keyPathIndex.onTestDeleted(test.id);
         if (mediator.testMode())
             Util.registerTxSynchronization(tm,
                     txStatus -> mediator.publishEvent(AsyncEventChannels.TEST_DELETED, test.id, TestMapper.from(test)));
@@ -353,12 +361,14 @@ public class TestServiceImpl implements TestService {
             String name) {
         folder = normalizeFolderName(folder);
         StringBuilder testSql = new StringBuilder();
+        // the counters are maintained by triggers, see table test_stats; its policy leaves only the visible buckets
         testSql.append(
-                "WITH runs AS (SELECT testid, count(id) as count FROM run WHERE run.trashed = false OR run.trashed IS NULL GROUP BY testid), ");
-        testSql.append("datasets AS (SELECT testid, count(id) as count FROM dataset GROUP BY testid) ");
+                "SELECT test.id,test.name,test.folder,test.description, COALESCE(stats.datasets, 0) AS datasets, COALESCE(stats.runs, 0) AS runs,test.owner,test.access, ");
+        testSql.append("stats.last_upload, stats.last_change ");
+        testSql.append("FROM test LEFT JOIN (SELECT testid, sum(datasets)::bigint AS datasets, sum(runs)::bigint AS runs, ");
         testSql.append(
-                "SELECT test.id,test.name,test.folder,test.description, COALESCE(datasets.count, 0) AS datasets, COALESCE(runs.count, 0) AS runs,test.owner,test.access ");
-        testSql.append("FROM test LEFT JOIN runs ON runs.testid = test.id LEFT JOIN datasets ON datasets.testid = test.id");
+                "max(last_upload) AS last_upload, max(last_change) AS last_change FROM test_stats GROUP BY testid) stats ");
+        testSql.append("ON stats.testid = test.id");
         boolean anyFolder = WILDCARD.equals(folder);
         if (anyFolder) {
             Roles.addRolesSql(identity, "test", testSql, roles, 1, " WHERE");
@@ -382,9 +392,14 @@ public class TestServiceImpl implements TestService {
 
         org.hibernate.query.Query<TestSummary> testQuery = em.unwrap(Session.class)
                 .createNativeQuery(testSql.toString(), Tuple.class)
-                .setTupleTransformer((tuples, aliases) -> new TestSummary((int) tuples[0], (String) tuples[1],
-                        (String) tuples[2], (String) tuples[3],
-                        (Number) tuples[4], (Number) tuples[5], (String) tuples[6], Access.fromInt((int) tuples[7])));
+                .setTupleTransformer((tuples, aliases) -> {
+                    TestSummary summary = new TestSummary((int) tuples[0], (String) tuples[1],
+                            (String) tuples[2], (String) tuples[3],
+                            (Number) tuples[4], (Number) tuples[5], (String) tuples[6], Access.fromInt((int) tuples[7]));
+                    summary.lastUpload = (Instant) tuples[8];
+                    summary.lastChange = (Instant) tuples[9];
+                    return summary;
+                });
         if (anyFolder) {
             Roles.addRolesParam(identity, testQuery, 1, roles);
         } else {
@@ -697,33 +712,22 @@ public class TestServiceImpl implements TestService {
         }
 
         Log.infof("Recalculating datasets for test %d (%s)", testId, test.name);
-        try (ScrollableResults<Integer> results = em
-                .createNativeQuery("SELECT id FROM run WHERE testid = ?1 AND NOT trashed ORDER BY start")
-                .setParameter(1, testId)
-                .unwrap(NativeQuery.class).setReadOnly(true).setFetchSize(100)
-                .scroll(ScrollMode.FORWARD_ONLY)) {
-            while (results.next()) {
-                int runId = (int) results.get();
-                Log.debugf("Recalculate Datasets for run %d - forcing recalculation for test %d (%s)", runId, testId,
-                        test.name);
-
-                mediator.executeBlocking(() -> {
-                    int newDatasets = 0;
-                    try {
-                        newDatasets = mediator.transform(runId, true);
-                    } finally {
-                        synchronized (status) {
-                            status.finished++;
-                            status.datasets += newDatasets;
-                            if (status.finished == status.totalRuns) {
-                                Log.infof("Datasets recalculation for test %d (%s) completed", testId, test.name);
-                                recalculations.remove(testId, status);
-                            }
-                        }
-                    }
-                });
+        @SuppressWarnings("unchecked")
+        List<Integer> runIds = em.createNativeQuery("SELECT id FROM run WHERE testid = ?1 AND NOT trashed ORDER BY start")
+                .setParameter(1, testId).getResultList();
+        String testName = test.name;
+        Map<Integer, RunServiceImpl.TransformerDefinition> transformers = mediator.loadTransformers(testId);
+        // the runs are transformed in parallel once the trashed datasets are gone
+        Util.doAfterCommit(tm, () -> recalculationEngine.recalculate(runIds, transformers, status, () -> {
+            Log.infof("Datasets recalculation for test %d (%s) completed, %.1f runs/s", testId, testName,
+                    status.throughput);
+            recalculations.remove(testId, status);
+        }));
+        Util.registerTxSynchronization(tm, txStatus -> {
+            if (txStatus != Status.STATUS_COMMITTED && txStatus != Status.STATUS_COMMITTING) {
+                recalculations.remove(testId, status);
             }
-        }
+        });
     }
 
     @Override
@@ -813,6 +817,14 @@ public class TestServiceImpl implements TestService {
         return t.id;
     }
 
+    @Scheduled(every = "{horreum.test-stats.compaction}")
+    @Transactional
+    void compactTestStats() {
+        // triggers only append deltas to test_stats, this merges them into one row per test, owner and access
+        Number merged = (Number) em.createNativeQuery("SELECT ts_compact()").getSingleResult();
+        Log.debugf("Merged %d rows of test statistics", merged.intValue());
+    }
+
     protected TestDAO getTestForUpdate(int testId) {
         TestDAO test = TestDAO.findById(testId);
         if (test == null) {
@@ -3,9 +3,7 @@ package io.hyperfoil.tools.horreum.svc;
 import static java.lang.annotation.ElementType.*;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -282,7 +280,14 @@ public class Util {
         if (value == null || value.isNull()) {
             return JsonNodeFactory.instance.nullNode();
         } else if (value.isProxyObject()) {
-            return value.asProxyObject();
+            Proxy p = value.asProxyObject();
+            if (p instanceof ProxyJacksonArray) {
+                return ((ProxyJacksonArray) p).getJsonNode();
+            } else if (p instanceof ProxyJacksonObject) {
+                return ((ProxyJacksonObject) p).getJsonNode();
+            } else {
+                return JsonNodeFactory.instance.textNode(value.toString());
+            }
         } else if (value.isBoolean()) {
             return JsonNodeFactory.instance.booleanNode(value.asBoolean());
         } else if (value.isNumber()) {
@@ -603,63 +608,89 @@ public class Util {
             Consumer<T> nonFuncResultConsumer,
             ExecutionExceptionConsumer<T> onJsEvaluationException,
             Consumer<String> jsOutputConsumer) {
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-
-        for (int i = 0; i < inputData.size(); i++) {
-            T element = inputData.get(i);
-            String jsFuncBody = jsCombinationFunction.apply(element);
-            if (jsFuncBody != null && !jsFuncBody.isBlank()) {
-                try (org.graalvm.polyglot.Context context = createContext(out)) {
-                    context.enter();
+        StringBuilder output = new StringBuilder();
+        JsContextPool.PooledContext context = null;
+        try {
+            for (T element : inputData) {
+                String jsFuncBody = jsCombinationFunction.apply(element);
+                if (jsFuncBody != null && !jsFuncBody.isBlank()) {
+                    if (context == null) {
+                        context = JsContextPool.acquire();
+                    }
+                    JsonNode input = evaluationInputObject.apply(element);
                     try {
-                        setupContext(context);
-                        StringBuilder jsCode = new StringBuilder("const __obj").append(i).append(" = ")
-                                .append(evaluationInputObject.apply(element)).append(";\n");
-                        jsCode.append("const __func").append(i).append(" = ").append(jsFuncBody).append(";\n");
-                        jsCode.append("__func").append(i).append("(__obj").append(i).append(")");
-                        try {
-                            Value value = context.eval("js", jsCode);
-                            value = resolvePromise(value);
-                            jsFuncResultConsumer.accept(element, value);
-                        } catch (PolyglotException e) {
-                            onJsEvaluationException.accept(element, e, jsCode.toString());
-                        }
-                    } catch (IOException e) {
-                        onJsEvaluationException.accept(null, e, "<init>");
-                    } finally {
-                        context.leave();
+                        Value value = context.call(jsFuncBody, input);
+                        jsFuncResultConsumer.accept(element, value);
+                    } catch (PolyglotException e) {
+                        onJsEvaluationException.accept(element, e, JsContextPool.describe(jsFuncBody, input));
                     }
+                    String out = context.takeOutput();
+                    if (out != null) {
+                        output.append(out);
+                    }
+                } else {
+                    nonFuncResultConsumer.accept(element);
                 }
-            } else {
-                nonFuncResultConsumer.accept(element);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
             }
         }
-        if (out.size() > 0) {
-            jsOutputConsumer.accept(out.toString(StandardCharsets.UTF_8));
+        if (!output.isEmpty()) {
+            jsOutputConsumer.accept(output.toString());
         }
     }
 
-    private static Context createContext(OutputStream out) {
-        return Context.newBuilder("js")
-                .engine(Engine.newBuilder()
-                        .option("engine.WarnInterpreterOnly", "false")
-                        .build())
-                .allowExperimentalOptions(true)
-                .option("js.foreign-object-prototype", "true")
-                .option("js.global-property", "true")
-                .out(out)
-                .err(out)
-                .build();
-    }
-
-    private static void setupContext(Context context) throws IOException {
-        context.getBindings("js").putMember("isInstanceLike", new ProxyJacksonObject.InstanceCheck());
-        context.eval("js",
-                "Object.defineProperty(Object,Symbol.hasInstance, {\n" +
-                        "  value: function myinstanceof(obj) {\n" +
-                        "    return isInstanceLike(obj);\n" +
-                        "  }\n" +
-                        "});");
+    /*
+     * Evaluates the functions of all inputs in a single Javascript context; each input is passed to JSON.parse
+     * of that context, so the functions receive plain Javascript values. Trivial functions recognized by NativeFunction are
+     * evaluated
+     * without Javascript, these rows are reported to the native consumer as well.
+     * Rows without a function are passed to the consumer unchanged, rows that failed evaluation are reported
+     * through the exception callback only.
+     */
+    static <T> void evaluateBatch(List<T> inputData,
+            Function<T, String> jsFunction,
+            Function<T, JsonNode> evaluationInputObject,
+            BiConsumer<T, JsonNode> resultConsumer,
+            Consumer<T> nativeConsumer,
+            ExecutionExceptionConsumer<T> onJsEvaluationException,
+            Consumer<String> jsOutputConsumer) {
+        JsContextPool.PooledContext context = null;
+        try {
+            for (T element : inputData) {
+                String jsFuncBody = jsFunction.apply(element);
+                JsonNode input = evaluationInputObject.apply(element);
+                if (jsFuncBody == null || jsFuncBody.isBlank()) {
+                    resultConsumer.accept(element, input);
+                    continue;
+                }
+                NativeFunction nativeFunction = NativeFunction.compile(jsFuncBody);
+                JsonNode nativeResult = nativeFunction == null ? null : nativeFunction.apply(input);
+                if (nativeResult != null) {
+                    nativeConsumer.accept(element);
+                    resultConsumer.accept(element, nativeResult);
+                    continue;
+                }
+                if (context == null) {
+                    context = JsContextPool.acquire();
+                }
+                try {
+                    resultConsumer.accept(element, convertToJson(context.call(jsFuncBody, input)));
+                } catch (PolyglotException e) {
+                    onJsEvaluationException.accept(element, e, JsContextPool.describe(jsFuncBody, input));
+                }
+            }
+            String out = context == null ? null : context.takeOutput();
+            if (out != null) {
+                jsOutputConsumer.accept(out);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
     }
 
     public static Value resolvePromise(Value value) {
@@ -694,31 +725,21 @@ public class Util {
     //I SWEAR IF I FIND ANOTHER PLACE THAT PERFORMS THE SAME CALCULATION I WILL BUY MORE SCREWDRIVERS
     static <T> T evaluateOnce(String function, JsonNode input, Function<Value, T> processResult,
             BiConsumer<String, Throwable> onException, Consumer<String> onOutput) {
-        StringBuilder jsCode = new StringBuilder("const __obj = ").append(input).append(";\n");
-        jsCode.append("const __func = ").append(function).append(";\n");
-        jsCode.append("__func(__obj)");
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        try (Context context = createContext(out)) {
-            context.enter();
+        try (JsContextPool.PooledContext context = JsContextPool.acquire()) {
             try {
-                setupContext(context);
-                Value value = context.eval("js", jsCode);
-                value = resolvePromise(value);
+                Value value = context.call(function, input);
                 //end of the sin
                 return processResult.apply(value);
             } catch (PolyglotException e) {
-                onException.accept(jsCode.toString(), e);
+                onException.accept(JsContextPool.describe(function, input), e);
                 return null;
-            } catch (IOException e) {
-                onException.accept(jsCode.toString(), e);
             } finally {
-                if (out.size() > 0) {
-                    onOutput.accept(out.toString());
+                String out = context.takeOutput();
+                if (out != null) {
+                    onOutput.accept(out);
                 }
-                context.leave();
             }
         }
-        return null;
     }
 
     static boolean evaluateTest(String function, JsonNode input,
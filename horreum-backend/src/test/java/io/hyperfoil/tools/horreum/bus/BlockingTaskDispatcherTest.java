@@ -0,0 +1,119 @@
+package io.hyperfoil.tools.horreum.bus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BlockingTaskDispatcherTest {
+    private BlockingTaskDispatcher dispatcher;
+
+    private BlockingTaskDispatcher dispatcher(int threads, int queueSize) {
+        dispatcher = new BlockingTaskDispatcher();
+        dispatcher.meterRegistry = new SimpleMeterRegistry();
+        dispatcher.threads = threads;
+        dispatcher.queueSize = queueSize;
+        dispatcher.init();
+        return dispatcher;
+    }
+
+    @AfterEach
+    public void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testOrderWithinTest() throws InterruptedException {
+        BlockingTaskDispatcher dispatcher = dispatcher(4, 1000);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(100);
+        for (int i = 0; i < 100; ++i) {
+            int index = i;
+            dispatcher.execute(1, () -> {
+                executed.add(index);
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 100).boxed().toList(), executed);
+    }
+
+    @Test
+    public void testTestsAreServedRoundRobin() throws InterruptedException {
+        BlockingTaskDispatcher dispatcher = dispatcher(1, 1000);
+        CountDownLatch gate = new CountDownLatch(1);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(6);
+        // occupy the only thread with the first task of test 1
+        dispatcher.execute(1, () -> await(gate));
+        for (int i = 0; i < 3; ++i) {
+            dispatcher.execute(1, () -> {
+                executed.add(1);
+                done.countDown();
+            });
+        }
+        for (int i = 0; i < 3; ++i) {
+            dispatcher.execute(2, () -> {
+                executed.add(2);
+                done.countDown();
+            });
+        }
+        gate.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        // test 1 was queued first but its backlog does not delay test 2
+        assertEquals(List.of(2, 1, 2, 1, 2, 1), executed);
+    }
+
+    @Test
+    public void testFullQueueBlocksProducer() throws Exception {
+        BlockingTaskDispatcher dispatcher = dispatcher(1, 2);
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        dispatcher.execute(1, () -> await(gate));
+        dispatcher.execute(1, done::countDown);
+        dispatcher.execute(1, done::countDown);
+
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> dispatcher.execute(1, done::countDown));
+        Thread.sleep(200);
+        assertFalse(producer.isDone());
+
+        gate.countDown();
+        producer.get(10, TimeUnit.SECONDS);
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFullQueueDoesNotBlockDispatcherThread() throws InterruptedException {
+        BlockingTaskDispatcher dispatcher = dispatcher(1, 1);
+        CountDownLatch done = new CountDownLatch(3);
+        // blocking here would wait for this very thread to drain the queue
+        dispatcher.execute(1, () -> {
+            for (int i = 0; i < 3; ++i) {
+                dispatcher.execute(1, done::countDown);
+            }
+        });
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
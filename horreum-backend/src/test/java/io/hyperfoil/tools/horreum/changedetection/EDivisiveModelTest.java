@@ -0,0 +1,130 @@
+package io.hyperfoil.tools.horreum.changedetection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import io.hyperfoil.tools.horreum.entity.alerting.ChangeDAO;
+import io.hyperfoil.tools.horreum.entity.alerting.DataPointDAO;
+import io.hyperfoil.tools.horreum.entity.alerting.VariableDAO;
+import io.hyperfoil.tools.horreum.entity.data.DatasetDAO;
+
+public class EDivisiveModelTest {
+
+    @Test
+    public void testShifts() {
+        Random random = new Random(1);
+        double[] values = new double[60];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = (i < 25 ? 10 : i < 45 ? 15 : 9) + random.nextGaussian() * 0.5;
+        }
+        List<EDivisiveModel.ChangePoint> changePoints = EDivisiveModel.changePoints(values,
+                EDivisiveModel.DEFAULT_MAX_PVALUE, EDivisiveModel.DEFAULT_PERMUTATIONS);
+        assertEquals(2, changePoints.size());
+        assertEquals(25, changePoints.get(0).index());
+        assertTrue(changePoints.get(0).relativeChange() > 0.4);
+        assertEquals(45, changePoints.get(1).index());
+        assertTrue(changePoints.get(1).relativeChange() < -0.3);
+    }
+
+    @Test
+    public void testNoChange() {
+        Random random = new Random(1);
+        double[] values = new double[60];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = 10 + random.nextGaussian();
+        }
+        assertTrue(EDivisiveModel.changePoints(values, EDivisiveModel.DEFAULT_MAX_PVALUE,
+                EDivisiveModel.DEFAULT_PERMUTATIONS).isEmpty());
+    }
+
+    @Test
+    public void testPermutationsForMaxPvalue() {
+        assertEquals(100, EDivisiveModel.permutations(0.05, 100));
+        assertEquals(999, EDivisiveModel.permutations(0.001, 100));
+        assertEquals(19, EDivisiveModel.permutations(0.05, 1));
+
+        // with 10 permutations the p-value cannot be lower than 1/11
+        double[] values = new double[40];
+        for (int i = 20; i < values.length; ++i) {
+            values[i] = 5;
+        }
+        assertTrue(EDivisiveModel.changePoints(values, 0.001, 10).isEmpty());
+        List<EDivisiveModel.ChangePoint> changePoints = EDivisiveModel.changePoints(values, 0.001,
+                EDivisiveModel.permutations(0.001, 10));
+        assertEquals(1, changePoints.size());
+        assertEquals(20, changePoints.get(0).index());
+    }
+
+    @Test
+    public void testShortSeries() {
+        assertTrue(EDivisiveModel.changePoints(new double[] { 1, 100, 1 }, 1, 10).isEmpty());
+    }
+
+    @Test
+    public void testConstantSeries() {
+        double[] values = new double[30];
+        Arrays.fill(values, 7);
+        assertTrue(EDivisiveModel.changePoints(values, EDivisiveModel.DEFAULT_MAX_PVALUE,
+                EDivisiveModel.DEFAULT_PERMUTATIONS).isEmpty());
+        assertTrue(EDivisiveModel.changePoints(new double[30], EDivisiveModel.DEFAULT_MAX_PVALUE,
+                EDivisiveModel.DEFAULT_PERMUTATIONS).isEmpty());
+    }
+
+    @Test
+    public void testShiftFromZero() {
+        double[] values = new double[40];
+        for (int i = 20; i < values.length; ++i) {
+            values[i] = 5;
+        }
+        List<EDivisiveModel.ChangePoint> changePoints = EDivisiveModel.changePoints(values,
+                EDivisiveModel.DEFAULT_MAX_PVALUE, EDivisiveModel.DEFAULT_PERMUTATIONS);
+        assertEquals(1, changePoints.size());
+        assertEquals(20, changePoints.get(0).index());
+        assertEquals(0, changePoints.get(0).before());
+        assertEquals(5, changePoints.get(0).after());
+        assertTrue(Double.isNaN(changePoints.get(0).relativeChange()));
+    }
+
+    @Test
+    public void testAnalyze() throws ChangeDetectionException {
+        EDivisiveModel model = new EDivisiveModel();
+        model.mapper = new ObjectMapper();
+        VariableDAO variable = new VariableDAO();
+        variable.id = 1;
+        double[] values = { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 20, 20, 20, 20, 20,
+                20, 20, 20, 20, 20 };
+        List<DataPointDAO> dataPoints = new ArrayList<>();
+        // most recent datapoint first
+        for (int i = values.length - 1; i >= 0; --i) {
+            DatasetDAO dataset = new DatasetDAO();
+            dataset.id = i;
+            dataset.runId = 100 + i;
+            DataPointDAO dp = new DataPointDAO();
+            dp.id = i;
+            dp.variable = variable;
+            dp.dataset = dataset;
+            dp.timestamp = Instant.ofEpochSecond(i);
+            dp.value = values[i];
+            dataPoints.add(dp);
+        }
+        List<ChangeDAO> changes = new ArrayList<>();
+        model.analyze(dataPoints, JsonNodeFactory.instance.objectNode(), changes::add);
+        assertEquals(List.of(12, 22), changes.stream().map(change -> change.dataset.id).toList());
+        for (ChangeDAO change : changes) {
+            assertFalse(change.description.contains("Infinity") || change.description.contains("NaN"), change.description);
+        }
+        assertTrue(changes.get(1).description.contains("+100.0%"), changes.get(1).description);
+    }
+}
@@ -0,0 +1,131 @@
+package io.hyperfoil.tools.horreum.changedetection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.hyperfoil.tools.horreum.entity.alerting.ChangeDAO;
+import io.hyperfoil.tools.horreum.entity.alerting.DataPointDAO;
+import io.hyperfoil.tools.horreum.entity.alerting.VariableDAO;
+import io.hyperfoil.tools.horreum.entity.data.DatasetDAO;
+
+public class IncrementalChangeDetectionTest {
+    private static final double[] VALUES = { 10, 11, 9, 10.5, 9.5, 10, 30, 10, 15, 16, 14.5, 15.5, 15, 9, 8.5, 9.5 };
+
+    private final RelativeDifferenceChangeDetectionModel model = new RelativeDifferenceChangeDetectionModel();
+    private final VariableDAO variable = new VariableDAO();
+
+    @BeforeEach
+    public void setup() {
+        model.mapper = new ObjectMapper();
+        variable.id = 1;
+    }
+
+    private static ObjectNode config(int window, String filter) {
+        return JsonNodeFactory.instance.objectNode()
+                .put("threshold", 0.2)
+                .put("window", window)
+                .put("minPrevious", 3)
+                .put("filter", filter);
+    }
+
+    private DataPointDAO dataPoint(int id, double value) {
+        DatasetDAO dataset = new DatasetDAO();
+        dataset.id = 100 + id;
+        dataset.runId = 200 + id;
+        dataset.ordinal = 0;
+        DataPointDAO dp = new DataPointDAO();
+        dp.id = id;
+        dp.variable = variable;
+        dp.dataset = dataset;
+        dp.timestamp = Instant.ofEpochSecond(id);
+        dp.value = value;
+        return dp;
+    }
+
+    private List<DataPointDAO> dataPoints() {
+        List<DataPointDAO> dataPoints = new ArrayList<>();
+        for (int i = 0; i < VALUES.length; ++i) {
+            dataPoints.add(dataPoint(i, VALUES[i]));
+        }
+        return dataPoints;
+    }
+
+    // result of the full analysis after each datapoint, in order of appearance
+    private List<String> fullRecomputation(List<DataPointDAO> dataPoints, ObjectNode config)
+            throws ChangeDetectionException {
+        List<String> results = new ArrayList<>();
+        for (int i = 0; i < dataPoints.size(); ++i) {
+            // the list-based analysis expects the most recent datapoint first
+            List<DataPointDAO> upTo = new ArrayList<>(dataPoints.subList(0, i + 1));
+            Collections.reverse(upTo);
+            List<ChangeDAO> changes = new ArrayList<>();
+            model.analyze(upTo, config, changes::add);
+            results.add(describe(changes));
+        }
+        return results;
+    }
+
+    private List<String> incremental(RollingStatistics statistics, List<DataPointDAO> dataPoints, int from,
+            ObjectNode config) throws ChangeDetectionException {
+        List<String> results = new ArrayList<>();
+        for (int i = from; i < dataPoints.size(); ++i) {
+            statistics.add(RollingStatistics.Point.of(dataPoints.get(i)));
+            List<ChangeDAO> changes = new ArrayList<>();
+            model.analyze(statistics, config, point -> dataPoints.stream().filter(dp -> dp.id == point.id()).findFirst()
+                    .orElseThrow(), changes::add);
+            results.add(describe(changes));
+        }
+        return results;
+    }
+
+    private static String describe(List<ChangeDAO> changes) {
+        StringBuilder sb = new StringBuilder();
+        for (ChangeDAO change : changes) {
+            sb.append(change.dataset.id).append(": ").append(change.description).append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testAppendsMatchFullRecomputation() throws ChangeDetectionException {
+        for (String filter : List.of("mean", "min", "max")) {
+            for (int window = 1; window <= 3; ++window) {
+                ObjectNode config = config(window, filter);
+                List<DataPointDAO> dataPoints = dataPoints();
+                List<String> expected = fullRecomputation(dataPoints, config);
+                assertEquals(expected, incremental(model.newStatistics(config), dataPoints, 0, config),
+                        "filter " + filter + ", window " + window);
+                assertFalse(expected.stream().allMatch(String::isEmpty), "the series should contain changes");
+            }
+        }
+    }
+
+    @Test
+    public void testDeletionMatchesFullRecomputation() throws ChangeDetectionException {
+        ObjectNode config = config(2, "mean");
+        List<DataPointDAO> dataPoints = dataPoints();
+        // the outlier in the middle is deleted after the first half has been analyzed
+        dataPoints.remove(6);
+        int half = dataPoints.size() / 2;
+        // deletion drops the rolling state; it is rebuilt from the remaining datapoints, most recent first
+        List<DataPointDAO> analyzed = new ArrayList<>(dataPoints.subList(0, half));
+        Collections.reverse(analyzed);
+        RollingStatistics rebuilt = RollingStatistics.of(2, analyzed);
+        List<String> expected = fullRecomputation(dataPoints, config);
+        assertEquals(expected.subList(half, expected.size()), incremental(rebuilt, dataPoints, half, config));
+        // appending all remaining datapoints from scratch gives the same result as well
+        assertEquals(expected, incremental(model.newStatistics(config), dataPoints, 0, config));
+    }
+}
@@ -0,0 +1,83 @@
+package io.hyperfoil.tools.horreum.changedetection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.junit.jupiter.api.Test;
+
+public class RollingStatisticsTest {
+
+    private static RollingStatistics.Point point(int id, double value) {
+        return new RollingStatistics.Point(id, 1, id, id, 0, Instant.ofEpochSecond(id), value);
+    }
+
+    @Test
+    public void testPreviousStatistics() {
+        double[] values = { 10, 12, 9, 11, 30, 10.5, 8, 12.5 };
+        int window = 3;
+        RollingStatistics statistics = new RollingStatistics(window);
+        for (int i = 0; i < values.length; ++i) {
+            statistics.add(point(i, values[i]));
+        }
+        SummaryStatistics expected = new SummaryStatistics();
+        for (int i = 0; i < values.length - window; ++i) {
+            expected.addValue(values[i]);
+        }
+        assertEquals(values.length, statistics.size());
+        assertEquals(values.length - window, statistics.previousCount());
+        assertEquals(expected.getMean(), statistics.previousMean(), 1e-9);
+        assertEquals(expected.getStandardDeviation(), statistics.previousStandardDeviation(), 1e-9);
+        assertEquals(values.length - 1, statistics.recent(0).id());
+        assertEquals(values.length - window, statistics.recent(window - 1).id());
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        RollingStatistics statistics = new RollingStatistics(1);
+        statistics.add(point(0, 1));
+        statistics.add(point(1, 2));
+        RollingStatistics copy = statistics.copy();
+        copy.add(point(2, 6));
+        assertEquals(2, statistics.size());
+        assertEquals(1, statistics.previousMean(), 1e-9);
+        assertEquals(1, statistics.recent(0).id());
+        assertEquals(3, copy.size());
+        assertEquals(1.5, copy.previousMean(), 1e-9);
+        assertEquals(2, copy.recent(0).id());
+    }
+
+    @Test
+    public void testJsonRoundTrip() {
+        RollingStatistics statistics = new RollingStatistics(2);
+        double[] values = { 0.1, 0.7, 1.3, 2.9, 0.2 };
+        for (int i = 0; i < values.length; ++i) {
+            statistics.add(point(i, values[i]));
+        }
+        RollingStatistics restored = RollingStatistics.fromJson(statistics.toJson());
+        assertEquals(statistics.size(), restored.size());
+        assertEquals(statistics.previousMean(), restored.previousMean());
+        assertEquals(statistics.previousStandardDeviation(), restored.previousStandardDeviation());
+        assertEquals(statistics.recent(0), restored.recent(0));
+        assertEquals(statistics.recent(1), restored.recent(1));
+
+        statistics.add(point(5, 4.2));
+        restored.add(point(5, 4.2));
+        assertEquals(statistics.previousMean(), restored.previousMean());
+        assertEquals(statistics.previousStandardDeviation(), restored.previousStandardDeviation());
+
+        statistics.add(point(6, Double.NaN));
+        assertNull(statistics.toJson());
+    }
+
+    @Test
+    public void testEmptyPrevious() {
+        RollingStatistics statistics = new RollingStatistics(2);
+        statistics.add(point(0, 1));
+        assertEquals(0, statistics.previousCount());
+        assertTrue(Double.isNaN(statistics.previousMean()));
+    }
+}
@@ -0,0 +1,121 @@
+package io.hyperfoil.tools.horreum.datastore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+
+import io.hyperfoil.tools.horreum.entity.backend.DatastoreConfigDAO;
+import io.hyperfoil.tools.horreum.svc.ServiceException;
+
+public class CollectorApiDatastoreTest {
+    private static final String PATH = "/api/v1/image-stats";
+
+    private HttpServer httpServer;
+    private final AtomicInteger tagRequests = new AtomicInteger();
+    private final AtomicReference<String> tags = new AtomicReference<>("[\"a\"]");
+    private CollectorApiDatastore datastore;
+    private DatastoreConfigDAO configuration;
+
+    @BeforeEach
+    public void start() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.createContext(PATH, exchange -> {
+            String response;
+            if (exchange.getRequestURI().getPath().equals(PATH + "/tags/distinct")) {
+                tagRequests.incrementAndGet();
+                response = tags.get();
+            } else {
+                response = "[{\"value\":42}]";
+            }
+            byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        httpServer.start();
+
+        datastore = new CollectorApiDatastore();
+        datastore.mapper = new ObjectMapper();
+        datastore.tagsTtl = Duration.ofHours(1);
+        configuration = new DatastoreConfigDAO();
+        configuration.id = 1;
+        configuration.name = "collector";
+        configuration.configuration = JsonNodeFactory.instance.objectNode()
+                .put("url", "http://localhost:" + httpServer.getAddress().getPort() + PATH)
+                .put("builtIn", false);
+        configuration.configuration.putObject("authentication").put("type", "none");
+    }
+
+    @AfterEach
+    public void stop() {
+        httpServer.stop(0);
+    }
+
+    @Test
+    public void testTagsAreCached() {
+        assertEquals(42, upload("a").get(0).path("value").asInt());
+        upload("a");
+        upload("a");
+        assertEquals(1, tagRequests.get());
+    }
+
+    @Test
+    public void testUnknownTagRefreshesTags() {
+        upload("a");
+        tags.set("[\"a\",\"b\"]");
+        // a tag added in the collector since the last fetch is found without waiting for the expiration
+        upload("b");
+        assertEquals(2, tagRequests.get());
+        assertThrows(ServiceException.class, () -> upload("c"));
+        assertEquals(3, tagRequests.get());
+        upload("b");
+        assertEquals(3, tagRequests.get());
+    }
+
+    @Test
+    public void testTagsExpire() throws InterruptedException {
+        datastore.tagsTtl = Duration.ofMillis(50);
+        upload("a");
+        tags.set("[\"b\"]");
+        Thread.sleep(100);
+        // the expired list is fetched again and the removed tag is rejected
+        assertThrows(ServiceException.class, () -> upload("a"));
+        assertEquals(2, tagRequests.get());
+    }
+
+    @Test
+    public void testUpdatedConfigurationDropsTags() {
+        upload("a");
+        configuration.configuration = configuration.configuration.deepCopy().put("builtIn", true);
+        upload("a");
+        assertEquals(2, tagRequests.get());
+    }
+
+    private JsonNode upload(String tag) {
+        ObjectNode payload = JsonNodeFactory.instance.objectNode()
+                .put("tag", tag)
+                .put("imgName", "image")
+                .put("newerThan", "2024-01-01 00:00:00.000")
+                .put("olderThan", "2024-01-02 00:00:00.000");
+        return datastore.handleRun(payload, null, configuration, Optional.empty()).payload;
+    }
+}
@@ -0,0 +1,43 @@
+package io.hyperfoil.tools.horreum.experiment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.hyperfoil.tools.horreum.api.services.ExperimentService;
+
+public class RelativeDifferenceExperimentModelTest {
+    private final RelativeDifferenceExperimentModel model = new RelativeDifferenceExperimentModel();
+
+    private static ObjectNode config(int maxBaselineDatasets) {
+        return JsonNodeFactory.instance.objectNode()
+                .put("maxBaselineDatasets", maxBaselineDatasets)
+                .put("threshold", 0.1)
+                .put("greaterBetter", true);
+    }
+
+    @Test
+    public void testWholeBaseline() {
+        ExperimentService.ComparisonResult result = model.compare(config(0), new double[] { 110, 100, 90 }, 120);
+        assertEquals(120, result.experimentValue, 0.0001);
+        assertEquals(100, result.baselineValue, 0.0001);
+        assertEquals(ExperimentService.BetterOrWorse.BETTER, result.overall);
+    }
+
+    @Test
+    public void testNewestDatasets() {
+        // only the two newest values are considered
+        ExperimentService.ComparisonResult result = model.compare(config(2), new double[] { 130, 110, 10 }, 125);
+        assertEquals(120, result.baselineValue, 0.0001);
+        assertEquals(ExperimentService.BetterOrWorse.SAME, result.overall);
+    }
+
+    @Test
+    public void testEmptyBaseline() {
+        assertThrows(IllegalArgumentException.class, () -> model.compare(config(0), new double[0], 1));
+    }
+}
@@ -16,6 +16,7 @@ import jakarta.inject.Inject;
 import org.junit.jupiter.api.TestInfo;
 import org.mockito.Mockito;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -235,6 +236,98 @@ public class AlertingServiceTest extends BaseServiceTest {
         assertEquals(run14, changeEvent2.change.dataset.runId);
     }
 
+    @org.junit.jupiter.api.Test
+    public void testChangesQueryWithFingerprints(TestInfo info) throws InterruptedException {
+        Test test = createExampleTest(getTestName(info));
+        test.fingerprintLabels = jsonArray("config");
+        test = createTest(test);
+        Schema schema = createExampleSchema(info);
+        addLabel(schema, "config", null, new Extractor("config", "$.config", false));
+        addChangeDetectionVariable(test, schema.id);
+        int variableId = variables(test.id).get(0).id;
+
+        BlockingQueue<DataPoint.Event> datapointQueue = serviceMediator.getEventQueue(AsyncEventChannels.DATAPOINT_NEW,
+                test.id);
+        long ts = System.currentTimeMillis();
+        uploadRun(ts, ts, runWithValue(1, schema).put("config", "foo"), test.name);
+        assertValue(datapointQueue, 1);
+        uploadRun(ts + 1, ts + 1, runWithValue(2, schema).put("config", "bar"), test.name);
+        assertValue(datapointQueue, 2);
+        uploadRun(ts + 2, ts + 2, runWithValue(3, schema).put("config", "foo"), test.name);
+        assertValue(datapointQueue, 3);
+
+        ObjectNode query = JsonNodeFactory.instance.objectNode();
+        query.putObject("range").put("from", Instant.ofEpochMilli(ts - 1000).toString())
+                .put("to", Instant.ofEpochMilli(ts + 1000).toString());
+        ArrayNode targets = query.putArray("targets");
+        // all targets are answered by one query; differently formatted fingerprints resolve to the same hash
+        for (String target : new String[] { variableId + ";{\"config\":\"foo\"}", variableId + ";{ \"config\" : \"bar\" }",
+                String.valueOf(variableId), variableId + ";{\"config\":\"foo\"}", variableId + ";{\"config\":\"xxx\"}" }) {
+            targets.addObject().put("target", target).put("type", "timeseries");
+        }
+        ArrayNode result = jsonRequest().body(query).post("/api/changes/query")
+                .then().statusCode(200).extract().body().as(ArrayNode.class);
+        assertEquals(5, result.size());
+        List<List<Double>> values = new ArrayList<>();
+        for (JsonNode tt : result) {
+            assertEquals("Value", tt.path("target").asText());
+            assertEquals(variableId, tt.path("variableId").asInt());
+            List<Double> ttValues = new ArrayList<>();
+            tt.path("datapoints").forEach(dp -> ttValues.add(dp.get(0).asDouble()));
+            values.add(ttValues);
+        }
+        assertEquals(List.of(1d, 3d), values.get(0));
+        assertEquals(List.of(2d), values.get(1));
+        assertEquals(List.of(1d, 2d, 3d), values.get(2));
+        assertEquals(List.of(1d, 3d), values.get(3));
+        // unknown fingerprint matches nothing but still produces a target
+        assertEquals(List.of(), values.get(4));
+    }
+
+    @org.junit.jupiter.api.Test
+    public void testStoredDetectionState(TestInfo info) throws InterruptedException {
+        Test test = createTest(createExampleTest(getTestName(info)));
+        int testId = test.id;
+        Schema schema = createExampleSchema(info);
+        addChangeDetectionVariable(test, schema.id);
+
+        BlockingQueue<DataPoint.Event> datapointQueue = serviceMediator.getEventQueue(AsyncEventChannels.DATAPOINT_NEW, testId);
+        BlockingQueue<Change.Event> changeQueue = serviceMediator.getEventQueue(AsyncEventChannels.CHANGE_NEW, testId);
+
+        long ts = System.currentTimeMillis();
+        for (int i = 0; i < 4; ++i) {
+            uploadRun(ts + i, ts + i, runWithValue(1, schema), test.name);
+            assertValue(datapointQueue, 1);
+        }
+        assertNull(changeQueue.poll(50, TimeUnit.MILLISECONDS));
+        Instant last = Instant.ofEpochMilli(ts + 3);
+        for (int i = 0; i < 100 && !last.equals(storedDetectionStateUpTo(testId)); ++i) {
+            Thread.sleep(100);
+        }
+        assertEquals(last, storedDetectionStateUpTo(testId));
+
+        // drop the statistics kept in memory, as after a restart; the stored ones are used instead
+        Util.withTx(tm, () -> {
+            alertingService.onDatapointsDeleted(testId);
+            return null;
+        });
+        int run = uploadRun(ts + 4, ts + 4, runWithValue(2, schema), test.name);
+        Change.Event changeEvent = changeQueue.poll(10, TimeUnit.SECONDS);
+        assertNotNull(changeEvent);
+        assertEquals(run, changeEvent.change.dataset.runId);
+    }
+
+    private Instant storedDetectionStateUpTo(int testId) {
+        return Util.withTx(tm, () -> {
+            try (CloseMe ignored = roleManager.withRoles(SYSTEM_ROLES)) {
+                List<?> upTo = em.createNativeQuery("SELECT up_to FROM change_detection_state s " +
+                        "JOIN variable v ON v.id = s.variable_id WHERE v.testid = ?1", Instant.class)
+                        .setParameter(1, testId).getResultList();
+                return upTo.isEmpty() ? null : (Instant) upTo.get(0);
+            }
+        });
+    }
+
     @org.junit.jupiter.api.Test
     public void testFingerprintLabelsChange(TestInfo info) throws Exception {
         Test test = createExampleTest(getTestName(info));
@@ -573,6 +666,52 @@ public class AlertingServiceTest extends BaseServiceTest {
         }
     }
 
+    @org.junit.jupiter.api.Test
+    public void testBatchAndPersistedDataPointIds(TestInfo info) throws InterruptedException {
+        Test test = createTest(createExampleTest(getTestName(info)));
+        Schema schema = createExampleSchema(info);
+        addChangeDetectionVariable(test, schema.id);
+
+        BlockingQueue<DataPoint.Event> datapointQueue = serviceMediator.getEventQueue(AsyncEventChannels.DATAPOINT_NEW,
+                test.id);
+
+        Set<Integer> ids = new HashSet<>();
+        uploadRun(runWithValue(1, schema), test.name);
+        int firstDPId = assertValue(datapointQueue, 1);
+        ids.add(firstDPId);
+        // datapoints persisted by Hibernate take ids from the same sequence blocks as the batch insert
+        ids.addAll(persistDataPoints(firstDPId, 3));
+        assertEquals(4, ids.size());
+
+        uploadRun(runWithValue(2, schema), test.name);
+        assertTrue(ids.add(assertValue(datapointQueue, 2)));
+        // more than one block of the sequence
+        ids.addAll(persistDataPoints(firstDPId, 60));
+        assertEquals(65, ids.size());
+
+        uploadRun(runWithValue(3, schema), test.name);
+        assertTrue(ids.add(assertValue(datapointQueue, 3)));
+    }
+
+    private List<Integer> persistDataPoints(int templateId, int count) {
+        return Util.withTx(tm, () -> {
+            try (CloseMe ignored = roleManager.withRoles(SYSTEM_ROLES)) {
+                DataPointDAO template = DataPointDAO.findById(templateId);
+                List<Integer> ids = new ArrayList<>();
+                for (int i = 0; i < count; ++i) {
+                    DataPointDAO dp = new DataPointDAO();
+                    dp.dataset = template.dataset;
+                    dp.variable = template.variable;
+                    dp.timestamp = template.timestamp;
+                    dp.value = i;
+                    dp.persistAndFlush();
+                    ids.add(dp.id);
+                }
+                return ids;
+            }
+        });
+    }
+
     private void recalculateDatasets(int testId, boolean waitForComplete) throws InterruptedException {
         jsonRequest()
                 .post("/api/test/" + testId + "/recalculate")
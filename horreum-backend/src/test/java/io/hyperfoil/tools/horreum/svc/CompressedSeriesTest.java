@@ -0,0 +1,64 @@
+package io.hyperfoil.tools.horreum.svc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedSeriesTest {
+
+    @Test
+    public void testRoundTrip() {
+        Random random = new Random(42);
+        int size = 3 * CompressedSeries.CHUNK_SIZE + 17;
+        long[] timestamps = new long[size];
+        double[] values = new double[size];
+        int[] datasetIds = new int[size];
+        CompressedSeries series = new CompressedSeries();
+        long timestamp = 1_700_000_000_000L;
+        for (int i = 0; i < size; ++i) {
+            // nightly runs with some jitter, occasionally two datasets at the same time
+            timestamp += random.nextInt(10) == 0 ? 0 : 86_400_000L + random.nextInt(60_000);
+            timestamps[i] = timestamp;
+            values[i] = random.nextInt(5) == 0 ? values[Math.max(0, i - 1)] : 1000 + random.nextGaussian() * 50;
+            datasetIds[i] = 100 + i;
+            series.append(timestamps[i], values[i], datasetIds[i]);
+        }
+        assertEquals(size, series.size());
+
+        CompressedSeries.Series all = series.read(Long.MIN_VALUE, Long.MAX_VALUE, false);
+        assertArrayEquals(timestamps, all.timestamps());
+        assertArrayEquals(values, all.values());
+        assertArrayEquals(datasetIds, all.datasetIds());
+
+        int from = CompressedSeries.CHUNK_SIZE - 10;
+        int to = 2 * CompressedSeries.CHUNK_SIZE + 5;
+        CompressedSeries.Series range = series.read(timestamps[from], timestamps[to], false);
+        assertEquals(timestamps[from], range.timestamps()[0]);
+        assertEquals(timestamps[to], range.timestamps()[range.size() - 1]);
+
+        CompressedSeries.Series extended = series.read(timestamps[from], timestamps[to], true);
+        assertEquals(range.size() + 2, extended.size());
+        assertEquals(range.timestamps()[0], extended.timestamps()[1]);
+        assertEquals(range.timestamps()[range.size() - 1], extended.timestamps()[extended.size() - 2]);
+    }
+
+    @Test
+    public void testOutOfOrder() {
+        CompressedSeries series = new CompressedSeries();
+        series.append(1000, 1, 1);
+        series.append(2000, 2, 2);
+        assertFalse(series.append(1500, 3, 3));
+        assertFalse(series.append(2000, 3, 1));
+        assertEquals(2, series.size());
+    }
+
+    @Test
+    public void testEmpty() {
+        CompressedSeries series = new CompressedSeries();
+        assertEquals(0, series.read(0, Long.MAX_VALUE, true).size());
+    }
+}
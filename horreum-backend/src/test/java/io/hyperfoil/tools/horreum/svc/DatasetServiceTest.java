@@ -3,6 +3,7 @@ package io.hyperfoil.tools.horreum.svc;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -19,6 +20,8 @@ import java.util.stream.StreamSupport;
 
 import jakarta.inject.Inject;
 
+import org.junit.jupiter.api.TestInfo;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.BooleanNode;
@@ -54,6 +57,9 @@ public class DatasetServiceTest extends BaseServiceTest {
     @Inject
     SqlService sqlService;
 
+    @Inject
+    DatasetServiceImpl datasetService;
+
     @org.junit.jupiter.api.Test
     public void testDatasetQueryNoSchema() {
         String value = testDatasetQuery("$.value", false, null);
@@ -261,6 +267,182 @@ public class DatasetServiceTest extends BaseServiceTest {
         }, "urn:A", "urn:B");
     }
 
+    @org.junit.jupiter.api.Test
+    public void testDatasetRecalculationBulk(TestInfo info) throws InterruptedException {
+        Schema schema = createExampleSchema(info);
+        int labelValue = addLabel(schema, "value", null, new Extractor("value", "$.value", false));
+        int labelInc = addLabel(schema, "inc", "v => v + 1", new Extractor("value", "$.value", false));
+        Test test = createTest(createExampleTest(getTestName(info)));
+        int[] datasetIds = uploadDatasets(test, runWithValue(10, schema), runWithValue(20, schema));
+
+        // drop the values so that only the bulk recalculation can restore them
+        deleteLabelValues(datasetIds);
+        serviceMediator.onDatasetsRecalculation(new ServiceMediator.DatasetRecalculation(test.id, datasetIds, null));
+        assertEquals(10.0, labelValue(datasetIds[0], labelValue));
+        assertEquals(11.0, labelValue(datasetIds[0], labelInc));
+        assertEquals(20.0, labelValue(datasetIds[1], labelValue));
+        assertEquals(21.0, labelValue(datasetIds[1], labelInc));
+
+        // only the requested labels are recalculated
+        deleteLabelValues(datasetIds);
+        serviceMediator.onDatasetsRecalculation(
+                new ServiceMediator.DatasetRecalculation(test.id, datasetIds, new Integer[] { labelInc }));
+        assertNull(labelValue(datasetIds[0], labelValue));
+        assertEquals(11.0, labelValue(datasetIds[0], labelInc));
+        assertNull(labelValue(datasetIds[1], labelValue));
+        assertEquals(21.0, labelValue(datasetIds[1], labelInc));
+    }
+
+    @org.junit.jupiter.api.Test
+    public void testDatasetRecalculationBulkFallback(TestInfo info) throws InterruptedException {
+        Schema schema = createExampleSchema(info);
+        int labelValue = addLabel(schema, "value", null, new Extractor("value", "$.value", false));
+        int labelExtra = addLabel(schema, "extra", null, new Extractor("extra", "$.extra", false));
+        Test test = createTest(createExampleTest(getTestName(info)));
+        int[] datasetIds = uploadDatasets(test, runWithValue(10, schema).put("extra", 1), runWithValue(20, schema),
+                runWithValue(30, schema).put("extra", 3));
+
+        // strict mode fails the extraction of the second dataset, and with it the whole bulk query
+        Util.withTx(tm, () -> {
+            try (CloseMe ignored = roleManager.withRoles(SYSTEM_ROLES)) {
+                em.createNativeQuery("UPDATE label_extractors SET jsonpath = 'strict $.extra' WHERE label_id = ?1")
+                        .setParameter(1, labelExtra).executeUpdate();
+                em.createNativeQuery("UPDATE label_values SET value = '0' WHERE label_id = ?1")
+                        .setParameter(1, labelValue).executeUpdate();
+            }
+            return null;
+        });
+        serviceMediator.onDatasetsRecalculation(new ServiceMediator.DatasetRecalculation(test.id, datasetIds, null));
+
+        // the datasets are processed one by one: the failing one is left intact, the others are recalculated
+        assertEquals(10.0, labelValue(datasetIds[0], labelValue));
+        assertEquals(1.0, labelValue(datasetIds[0], labelExtra));
+        assertEquals(0.0, labelValue(datasetIds[1], labelValue));
+        assertEquals(30.0, labelValue(datasetIds[2], labelValue));
+        assertEquals(3.0, labelValue(datasetIds[2], labelExtra));
+    }
+
+    @org.junit.jupiter.api.Test
+    public void testDatasetRecalculationsCoalesced(TestInfo info) throws InterruptedException {
+        Schema schema = createExampleSchema(info);
+        int labelA = addLabel(schema, "a", null, new Extractor("value", "$.value", false));
+        int labelB = addLabel(schema, "b", "v => v + 1", new Extractor("value", "$.value", false));
+        int labelC = addLabel(schema, "c", "v => v * 2", new Extractor("value", "$.value", false));
+        Test test = createTest(createExampleTest(getTestName(info)));
+        int[] datasetIds = uploadDatasets(test, runWithValue(10, schema), runWithValue(20, schema));
+        BlockingQueue<Dataset.LabelsUpdatedEvent> updateQueue = serviceMediator
+                .getEventQueue(AsyncEventChannels.DATASET_UPDATED_LABELS, test.id);
+        updateQueue.clear();
+        deleteLabelValues(datasetIds);
+
+        // requested within the window: labels of the first dataset are merged, all labels subsume the others
+        serviceMediator.queueDatasetRecalculation(test.id, new int[] { datasetIds[0] }, new Integer[] { labelA });
+        serviceMediator.queueDatasetRecalculation(test.id, new int[] { datasetIds[0] }, new Integer[] { labelB });
+        serviceMediator.queueDatasetRecalculation(test.id, new int[] { datasetIds[1] }, new Integer[] { labelA });
+        serviceMediator.queueDatasetRecalculation(test.id, new int[] { datasetIds[1] }, null);
+        serviceMediator.queueDatasetRecalculation(test.id, new int[] { datasetIds[1] }, new Integer[] { labelB });
+
+        Set<Integer> updated = new HashSet<>();
+        for (int i = 0; i < 2; ++i) {
+            Dataset.LabelsUpdatedEvent event = updateQueue.poll(10, TimeUnit.SECONDS);
+            assertNotNull(event);
+            updated.add(event.datasetId);
+        }
+        assertEquals(Set.of(datasetIds[0], datasetIds[1]), updated);
+        // each dataset is recalculated only once
+        assertNull(updateQueue.poll(2, TimeUnit.SECONDS));
+
+        assertEquals(10.0, labelValue(datasetIds[0], labelA));
+        assertEquals(11.0, labelValue(datasetIds[0], labelB));
+        assertNull(labelValue(datasetIds[0], labelC));
+        assertEquals(20.0, labelValue(datasetIds[1], labelA));
+        assertEquals(21.0, labelValue(datasetIds[1], labelB));
+        assertEquals(40.0, labelValue(datasetIds[1], labelC));
+    }
+
+    @org.junit.jupiter.api.Test
+    public void testPurgeDatasetsOfRuns(TestInfo info) throws InterruptedException {
+        Schema schema = createExampleSchema(info);
+        addLabel(schema, "value", null, new Extractor("value", "$.value", false));
+        Test test = createTest(createExampleTest(getTestName(info)));
+        int[] datasetIds = uploadDatasets(test, runWithValue(1, schema), runWithValue(2, schema), runWithValue(3, schema));
+        int[] runIds = Util.withTx(tm, () -> {
+            try (CloseMe ignored = roleManager.withRoles(SYSTEM_ROLES)) {
+                List<?> ids = em.createNativeQuery("SELECT runid FROM dataset WHERE testid = ?1 ORDER BY runid", Integer.class)
+                        .setParameter(1, test.id).getResultList();
+                return ids.stream().mapToInt(id -> (Integer) id).toArray();
+            }
+        });
+        assertEquals(1, countDatasetRows("label_values", datasetIds[2]));
+        assertEquals(1, countDatasetRows("dataset_schemas", datasetIds[2]));
+
+        int deleted = Util.withTx(tm, () -> {
+            try (CloseMe ignored = roleManager.withRoles(SYSTEM_ROLES)) {
+                return datasetService.purgeDatasetsOfRuns(new int[] { runIds[0], runIds[1] });
+            }
+        });
+        assertEquals(2, deleted);
+        for (String table : new String[] { "label_values", "dataset_schemas", "dataset_view", "fingerprint",
+                "dataset_validationerrors" }) {
+            assertEquals(0, countDatasetRows(table, datasetIds[0]), table);
+            assertEquals(0, countDatasetRows(table, datasetIds[1]), table);
+        }
+        // datasets of other runs are kept intact
+        assertEquals(1, countDatasetRows("label_values", datasetIds[2]));
+        assertEquals(1, countDatasetRows("dataset_schemas", datasetIds[2]));
+        Util.withTx(tm, () -> {
+            try (CloseMe ignored = roleManager.withRoles(SYSTEM_ROLES)) {
+                assertEquals(1, DatasetDAO.count("testid", test.id));
+                assertEquals(0, datasetService.purgeDatasetsOfRuns(new int[0]));
+            }
+            return null;
+        });
+    }
+
+    private long countDatasetRows(String table, int datasetId) {
+        return Util.withTx(tm, () -> {
+            try (CloseMe ignored = roleManager.withRoles(SYSTEM_ROLES)) {
+                return ((Number) em.createNativeQuery("SELECT count(*) FROM " + table + " WHERE dataset_id = ?1")
+                        .setParameter(1, datasetId).getSingleResult()).longValue();
+            }
+        });
+    }
+
+    private int[] uploadDatasets(Test test, ObjectNode... runs) throws InterruptedException {
+        BlockingQueue<Dataset.LabelsUpdatedEvent> updateQueue = serviceMediator
+                .getEventQueue(AsyncEventChannels.DATASET_UPDATED_LABELS, test.id);
+        for (ObjectNode run : runs) {
+            uploadRun(run, test.name);
+            assertNotNull(updateQueue.poll(10, TimeUnit.SECONDS));
+        }
+        return Util.withTx(tm, () -> {
+            try (CloseMe ignored = roleManager.withRoles(SYSTEM_ROLES)) {
+                List<?> ids = em.createNativeQuery("SELECT id FROM dataset WHERE testid = ?1 ORDER BY runid", Integer.class)
+                        .setParameter(1, test.id).getResultList();
+                return ids.stream().mapToInt(id -> (Integer) id).toArray();
+            }
+        });
+    }
+
+    private void deleteLabelValues(int[] datasetIds) {
+        Util.withTx(tm, () -> {
+            try (CloseMe ignored = roleManager.withRoles(SYSTEM_ROLES)) {
+                LabelValueDAO.delete("datasetId IN ?1", Arrays.stream(datasetIds).boxed().toList());
+            }
+            return null;
+        });
+    }
+
+    private Double labelValue(int datasetId, int labelId) {
+        return Util.withTx(tm, () -> {
+            try (CloseMe ignored = roleManager.withRoles(SYSTEM_ROLES)) {
+                em.clear();
+                LabelValueDAO value = LabelValueDAO.find("datasetId = ?1 AND labelId = ?2", datasetId, labelId).firstResult();
+                return value == null ? null : value.value.doubleValue();
+            }
+        });
+    }
+
     private List<Label.Value> withLabelValues(ArrayNode data) {
         Test test = createTest(createExampleTest("dummy"));
         BlockingQueue<Dataset.LabelsUpdatedEvent> updateQueue = serviceMediator
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.hyperfoil.tools.horreum.api.data.*;
 import io.hyperfoil.tools.horreum.api.data.Test;
@@ -32,6 +33,7 @@ import io.hyperfoil.tools.horreum.api.data.datastore.auth.NoAuth;
 import io.hyperfoil.tools.horreum.bus.AsyncEventChannels;
 import io.hyperfoil.tools.horreum.entity.backend.DatastoreConfigDAO;
 import io.hyperfoil.tools.horreum.entity.data.DatasetDAO;
+import io.hyperfoil.tools.horreum.entity.data.RunDAO;
 import io.hyperfoil.tools.horreum.test.ElasticsearchTestProfile;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
@@ -132,6 +134,29 @@ public class DatasourceTest extends BaseServiceTest {
         assertEquals(4, runIDs.size());
     }
 
+    @org.junit.jupiter.api.Test
+    public void limitedMultidocPayload(TestInfo info) {
+        TestConfig testConfig = createNewTestAndDatastores(info);
+
+        String payload = """
+                {
+                    "index": "tfb",
+                    "type": "SEARCH",
+                    "query": {
+                          "size": 2,
+                          "query": {
+                              "match_all" : {}
+                          }
+                    }
+                 }
+                """;
+
+        List<Integer> runIDs = uploadRun(payload, testConfig.test.name, testConfig.schema.uri);
+
+        assertNotNull(runIDs);
+        assertEquals(2, runIDs.size());
+    }
+
     @org.junit.jupiter.api.Test
     public void largeMultidocPayload(TestInfo info) throws InterruptedException {
         TestConfig testConfig = createNewTestAndDatastores(info);
@@ -154,7 +179,30 @@ public class DatasourceTest extends BaseServiceTest {
         assertNotNull(runResponse);
         // More than 10 runs uploaded, processing asynchronously
         assertEquals(0, runResponse.size());
+        // the runs are stored before the response is sent, only their processing is deferred
+        assertEquals(11, RunDAO.count("testid", testConfig.test.id));
+    }
+
+    @org.junit.jupiter.api.Test
+    public void largeMultidocPayloadWithInvalidRun(TestInfo info) {
+        TestConfig testConfig = createNewTestAndDatastores(info);
 
+        String payload = """
+                {
+                    "index": "partial",
+                    "type": "SEARCH",
+                    "query": {
+                          "query": {
+                              "match_all" : {}
+                          }
+                    }
+                 }
+                """;
+
+        // one of the documents has no start time
+        uploadRun("$.start", "$.stop", testConfig.test.name, UPLOADER_ROLES[0], Access.PUBLIC, testConfig.schema.uri, null,
+                jakarta.ws.rs.core.Response.Status.BAD_REQUEST.getStatusCode(), payload);
+        assertEquals(0, RunDAO.count("testid", testConfig.test.id));
     }
 
     @org.junit.jupiter.api.Test
@@ -293,6 +341,18 @@ public class DatasourceTest extends BaseServiceTest {
         uploadDoc("large", "uid", "data/experiment-ds10.json");
         uploadDoc("large", "uid", "data/experiment-ds11.json");
 
+        for (int i = 1; i <= 11; ++i) {
+            uploadDoc("partial", "uid", "data/experiment-ds" + i + ".json");
+        }
+        try {
+            ObjectNode withoutStart = (ObjectNode) new ObjectMapper()
+                    .readTree(resourceToString("data/config-quickstart.jvm.json"));
+            withoutStart.remove("start");
+            uploadDoc("partial", withoutStart.path("uid").asText(), withoutStart);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+
         //nasty hack; sleep for 10 seconds to "ensure" that the uploaded test data is indexed by ES
         try {
             Thread.currentThread().sleep(10_000);
@@ -305,15 +365,21 @@ public class DatasourceTest extends BaseServiceTest {
     private void uploadDoc(String index, String idField, String resourcepath) {
         try {
             JsonNode payload = new ObjectMapper().readTree(resourceToString(resourcepath));
+            uploadDoc(index, payload.get(idField).textValue(), payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void uploadDoc(String index, String id, JsonNode payload) {
+        try {
             Request request = new Request(
                     "PUT",
-                    "/" + index + "/_doc/" + payload.get(idField).textValue());
+                    "/" + index + "/_doc/" + id);
             request.setJsonEntity(payload.toString());
             Response response = elasticRestClient.performRequest(request);
             assertNotNull(response);
             assertEquals(2, response.getStatusLine().getStatusCode() / 100); // response is 2xx
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
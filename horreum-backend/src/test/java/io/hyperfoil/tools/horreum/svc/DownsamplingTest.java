@@ -0,0 +1,66 @@
+package io.hyperfoil.tools.horreum.svc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class DownsamplingTest {
+
+    @Test
+    public void testShortSeries() {
+        long[] timestamps = { 1, 2, 3 };
+        double[] values = { 1, 2, 3 };
+        assertArrayEquals(new int[] { 0, 1, 2 }, Downsampling.select(timestamps, values, null, 10));
+    }
+
+    @Test
+    public void testBoundedWithOutliers() {
+        int n = 10000;
+        long[] timestamps = new long[n];
+        double[] values = new double[n];
+        for (int i = 0; i < n; ++i) {
+            timestamps[i] = 1000L * i;
+            values[i] = Math.sin(i / 100.0);
+        }
+        values[4321] = 100;
+        values[8765] = -100;
+        int[] indices = Downsampling.select(timestamps, values, null, 300);
+        assertTrue(indices.length <= 300, "Too many points: " + indices.length);
+        assertEquals(0, indices[0]);
+        assertEquals(n - 1, indices[indices.length - 1]);
+        for (int i = 1; i < indices.length; ++i) {
+            assertTrue(indices[i - 1] < indices[i]);
+        }
+        assertTrue(Arrays.stream(indices).anyMatch(i -> i == 4321));
+        assertTrue(Arrays.stream(indices).anyMatch(i -> i == 8765));
+    }
+
+    @Test
+    public void testKeepsMarkedPoints() {
+        int n = 1000;
+        long[] timestamps = new long[n];
+        double[] values = new double[n];
+        boolean[] keep = new boolean[n];
+        for (int i = 0; i < n; ++i) {
+            timestamps[i] = i;
+            values[i] = 1;
+        }
+        keep[123] = true;
+        keep[456] = true;
+        int[] indices = Downsampling.select(timestamps, values, keep, 20);
+        assertTrue(indices.length <= 22);
+        assertTrue(Arrays.stream(indices).anyMatch(i -> i == 123));
+        assertTrue(Arrays.stream(indices).anyMatch(i -> i == 456));
+    }
+
+    @Test
+    public void testThreshold() {
+        assertEquals(-1, Downsampling.threshold(null, null, 0, 1000));
+        assertEquals(500, Downsampling.threshold(500, null, 0, 1000_000));
+        assertEquals(101, Downsampling.threshold(500, 10_000L, 0, 1000_000));
+    }
+}
@@ -0,0 +1,98 @@
+package io.hyperfoil.tools.horreum.svc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class NativeFunctionTest {
+
+    private static String evaluate(String function, String input) {
+        NativeFunction nativeFunction = NativeFunction.compile(function);
+        assertNotNull(nativeFunction, "function should be recognized: " + function);
+        JsonNode result = nativeFunction.apply(Util.toJsonNode(input));
+        return result == null ? null : result.toString();
+    }
+
+    @Test
+    public void testRecognized() {
+        assertEquals("{\"a\":1}", evaluate("v => v", "{\"a\":1}"));
+        assertEquals("{\"a\":1}", evaluate("function (value) { return value; }", "{\"a\":1}"));
+        assertEquals("1.5", evaluate("v => v / 1000", "1500"));
+        assertEquals("2", evaluate("(v) => { return 1000 * v; };", "0.002"));
+        assertEquals("2", evaluate("v => v.reduce((a,b)=>a+b)/v.length", "[1, 2, 3]"));
+        assertEquals("6", evaluate("v => v.reduce((acc, x) => acc + x, 0)", "[1, 2, 3]"));
+        assertEquals("3", evaluate("v => Math.max(...v)", "[1, 3, 2]"));
+        assertEquals("1", evaluate("v => Math.min(...v)", "[1, 3, 2]"));
+        assertEquals("3", evaluate("v => v.length", "[1, 3, 2]"));
+    }
+
+    @Test
+    public void testFallback() {
+        // not recognized at all
+        assertNull(NativeFunction.compile("v => v.foo"));
+        assertNull(NativeFunction.compile("(a, b) => a + b"));
+        assertNull(NativeFunction.compile("v => w / 1000"));
+        // recognized but the input requires Javascript semantics
+        assertNull(evaluate("v => v / 1000", "\"1500\""));
+        assertNull(evaluate("v => v / 0", "1"));
+        assertNull(evaluate("v => v.reduce((a,b)=>a+b)", "[]"));
+        assertNull(evaluate("v => v.reduce((a,b)=>a+b)", "[1, \"2\"]"));
+        assertNull(evaluate("v => Math.max(...v)", "[]"));
+        // Javascript would order the index keys first
+        assertNull(evaluate("v => v", "{\"b\":1,\"1\":2}"));
+        assertNull(evaluate("v => v", "[-0.0]"));
+    }
+
+    @Test
+    public void testNotJavascriptEquivalent() {
+        // decrement operator, not subtraction of a negative number
+        assertNull(NativeFunction.compile("v => v-- 1"));
+        assertNull(NativeFunction.compile("v => v--1"));
+        assertNull(NativeFunction.compile("v => v\n--1"));
+        // whitespace inside a number, octal literal
+        assertNull(NativeFunction.compile("v => v * 1 0"));
+        assertNull(NativeFunction.compile("v => v * 010"));
+        // the return statement ends at the line terminator
+        assertNull(NativeFunction.compile("v => { return\nv }"));
+        assertNull(NativeFunction.compile("v\n=> v"));
+        // a is a second argument of reduce, not a parameter of the callback
+        assertNull(NativeFunction.compile("v => v.reduce(a,b=>a+b)"));
+        assertNull(NativeFunction.compile("v => v.reduce((a,a)=>a+a)"));
+        assertNull(NativeFunction.compile("v => v.reduce((a,b)=>a+b) / w.length"));
+    }
+
+    @Test
+    public void testSameAsJavascript() {
+        String[][] cases = {
+                { "v => v", "{\"a\":1.0,\"b\":[2.0,2.5,{\"c\":-1.0}],\"d\":\"x\",\"e\":null,\"f\":true}" },
+                { "v => v", "9007199254740993" },
+                { "v => v", "3.0" },
+                { "v => v", "[1e2, 1.5e-3]" },
+                { "v => v - -1", "1" },
+                { "v => v -\n- 1", "1" },
+                { "v => v * -2.5", "2" },
+                { "v => -1 - v", "2" },
+                { "v => 1e3 / v", "3" },
+                { "v => v / 0.1", "0.3" },
+                { "v => v.length", "[1, 2]" },
+                { "v => Math.max( ... v )", "[1.5, -2]" },
+                { "v => v.reduce((a, b) => a + b, 0) / v.length", "[0.1, 0.2]" },
+                { "v => v . reduce ( ( a , b ) => a + b )", "[1.0, 2.0]" },
+        };
+        for (String[] c : cases) {
+            JsonNode input = Util.toJsonNode(c[1]);
+            NativeFunction nativeFunction = NativeFunction.compile(c[0]);
+            assertNotNull(nativeFunction, "function should be recognized: " + c[0]);
+            JsonNode nativeResult = nativeFunction.apply(input);
+            assertNotNull(nativeResult, c[0] + " with " + c[1]);
+            try (JsContextPool.PooledContext context = JsContextPool.acquire()) {
+                JsonNode jsResult = Util.convertToJson(context.call(c[0], input));
+                assertEquals(jsResult.toString(), nativeResult.toString(), c[0] + " with " + c[1]);
+            }
+        }
+    }
+}
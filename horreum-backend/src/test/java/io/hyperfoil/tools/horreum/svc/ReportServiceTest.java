@@ -10,8 +10,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.hyperfoil.tools.horreum.api.data.Dataset;
+import io.hyperfoil.tools.horreum.api.data.PersistentLog;
 import io.hyperfoil.tools.horreum.api.data.Test;
 import io.hyperfoil.tools.horreum.api.report.ReportComment;
 import io.hyperfoil.tools.horreum.api.report.TableReport;
@@ -55,6 +57,34 @@ public class ReportServiceTest extends BaseServiceTest {
         deleteReport(report);
     }
 
+    @org.junit.jupiter.api.Test
+    public void testDatasetWithoutRoleLabels() throws InterruptedException {
+        Test test = createTest(createExampleTest("withoutRoleLabels"));
+        createComparisonSchema();
+        uploadExampleRuns(test);
+
+        BlockingQueue<Dataset.LabelsUpdatedEvent> queue = serviceMediator
+                .getEventQueue(AsyncEventChannels.DATASET_UPDATED_LABELS, test.id);
+        // has some labels but neither series nor category or scale
+        ObjectNode data = JsonNodeFactory.instance.objectNode().put("$schema", SCHEMA).put("variant", "production")
+                .put("cpuUsage", 0.1);
+        int runId = uploadRun(System.currentTimeMillis(), data, test.name);
+        assertNotNull(queue.poll(10, TimeUnit.SECONDS));
+
+        TableReportConfig config = newExampleTableReportConfig(test);
+        config.categoryFunction = "category => category.toUpperCase()";
+        TableReport report = jsonRequest().body(config).post("/api/report/table/config")
+                .then().statusCode(200).extract().body().as(TableReport.class);
+
+        assertEquals(8, report.data.size());
+        assertTrue(report.data.stream().noneMatch(d -> d.runId == runId));
+        assertCount(report, 4, d -> d.category, "JVM");
+        assertCount(report, 4, d -> d.category, "NATIVE");
+        assertEquals(0, report.logs.stream().filter(log -> log.level == PersistentLog.ERROR).count());
+
+        deleteReport(report);
+    }
+
     @org.junit.jupiter.api.Test
     public void testFilter() throws InterruptedException {
         Test test = createTest(createExampleTest("filter"));
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 
@@ -61,6 +62,15 @@ class RunServiceNoRestTest extends BaseServiceNoRestTest {
         assertNotNull(RunDAO.findById(runId));
     }
 
+    @org.junit.jupiter.api.Test
+    void testRowSecurityPolicyIsInlined() {
+        List<?> rows = em.createNativeQuery("EXPLAIN (VERBOSE) SELECT id FROM run").getResultList();
+        String plan = rows.stream().map(String::valueOf).collect(Collectors.joining("\n"));
+        // has_role() is expanded into the policy predicate instead of being called for each row
+        assertTrue(plan.contains("strpos"), plan);
+        assertFalse(plan.contains("has_role"), plan);
+    }
+
     @org.junit.jupiter.api.Test
     void testTrashRun() {
         Test t1 = createSampleTest("test", null, null, null);
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -19,9 +20,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
+import jakarta.inject.Inject;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 
@@ -81,6 +84,9 @@ import io.restassured.specification.RequestSpecification;
 public class RunServiceTest extends BaseServiceTest {
     private static final int POLL_DURATION_SECONDS = 10;
 
+    @Inject
+    KeyPathIndex keyPathIndex;
+
     @org.junit.jupiter.api.Test
     public void testTransformationNoSchemaInData(TestInfo info) throws InterruptedException {
         Test exampleTest = createExampleTest(getTestName(info));
@@ -129,6 +135,59 @@ public class RunServiceTest extends BaseServiceTest {
         assertNewDataset(dataSetQueue, runId);
     }
 
+    @org.junit.jupiter.api.Test
+    public void testImportRuns(TestInfo info) throws InterruptedException {
+        Test test = createTest(createExampleTest(getTestName(info)));
+        BlockingQueue<Dataset.EventNew> dataSetQueue = serviceMediator.getEventQueue(AsyncEventChannels.DATASET_NEW, test.id);
+        Schema schema = createExampleSchema(info);
+
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 5; ++i) {
+            ndjson.append(runWithValue(i, schema).put("start", 1000 * (i + 1)).put("stop", 1000 * (i + 1) + 500)).append('\n');
+        }
+        // the start cannot be found
+        ndjson.append(runWithValue(42, schema)).append('\n');
+
+        RunService.RunImport status = RestAssured.given().auth().oauth2(getUploaderToken())
+                .header(HttpHeaders.CONTENT_TYPE, RunService.NDJSON)
+                .body(ndjson.toString())
+                .post("/api/run/import?start=$.start&stop=$.stop&test=" + test.name + "&owner=" + UPLOADER_ROLES[0]
+                        + "&access=" + Access.PUBLIC)
+                .then()
+                .statusCode(202)
+                .extract().as(RunService.RunImport.class);
+        // the input is read in background
+        assertEquals(test.id, status.testId);
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(POLL_DURATION_SECONDS);
+        while (!status.completed && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            status = jsonRequest().get("/api/run/import/" + status.id).then().statusCode(200)
+                    .extract().as(RunService.RunImport.class);
+        }
+        assertTrue(status.completed);
+        assertEquals(6, status.received);
+        assertEquals(5, status.stored);
+        assertEquals(5, status.processed);
+        assertEquals(1, status.failed);
+        assertEquals(1, status.errors.size());
+        assertTrue(status.errors.get(0).startsWith("run #6"), status.errors.get(0));
+        for (int i = 0; i < 5; ++i) {
+            assertNotNull(dataSetQueue.poll(POLL_DURATION_SECONDS, TimeUnit.SECONDS));
+        }
+        assertEquals(5, RunDAO.count("testid", test.id));
+
+        jsonRequest().get("/api/run/import/" + (status.id + 1000)).then().statusCode(404);
+
+        // the owner is checked before the import starts
+        RestAssured.given().auth().oauth2(getUploaderToken())
+                .header(HttpHeaders.CONTENT_TYPE, RunService.NDJSON)
+                .body(ndjson.toString())
+                .post("/api/run/import?start=$.start&stop=$.stop&test=" + test.name + "&owner=foo-team")
+                .then()
+                .statusCode(400);
+    }
+
     private String createTransformingSchema(Test t) {
         Schema fooSchema = createSchema("foo", "urn:fooBar");
         Schema postTransformSchema = createSchema("foo-post-function", postFunctionSchemaUri(fooSchema));
@@ -1161,6 +1220,117 @@ public class RunServiceTest extends BaseServiceTest {
         assertEquals(1, runs.runs.size());
     }
 
+    @org.junit.jupiter.api.Test
+    public void testListAllRunsByKey() throws IOException {
+        Test test = createTest(createExampleTest("key_search"));
+        ObjectMapper mapper = new ObjectMapper();
+        int first = uploadRun(mapper.readTree(
+                "{ \"nested\": { \"keySearchFoo\": 1, \"items\": [ { \"keySearchBar\": \"x\" } ] } }"), test.name);
+        int second = uploadRun(mapper.readTree("{ \"keySearchBar\": \"y\" }"), test.name);
+
+        BiConsumer<String, List<Integer>> assertRuns = (query, expected) -> {
+            RunService.RunsSummary runs = jsonRequest()
+                    .queryParam("query", query)
+                    .queryParam("matchAll", true)
+                    .get("/api/run/list")
+                    .then()
+                    .statusCode(200)
+                    .extract()
+                    .as(RunService.RunsSummary.class);
+            assertEquals(expected, runs.runs.stream().map(run -> run.id).sorted().toList(), query);
+        };
+        assertRuns.accept("keySearchFoo", List.of(first));
+        assertRuns.accept("keySearchBar", List.of(first, second));
+        assertRuns.accept("keySearchNone", List.of());
+        assertRuns.accept("keySearchFoo keySearchBar", List.of(first));
+        assertRuns.accept("@.keySearchBar == \"y\"", List.of(second));
+        assertRuns.accept("$.nested.keySearchFoo", List.of(first));
+
+        List<String> keys = jsonRequest().queryParam("query", "nested.").get("/api/run/autocomplete")
+                .then().statusCode(200).extract().body().jsonPath().getList(".", String.class);
+        assertTrue(keys.containsAll(List.of("items", "keySearchFoo")), keys.toString());
+        keys = jsonRequest().queryParam("query", "keySearchB").get("/api/run/autocomplete")
+                .then().statusCode(200).extract().body().jsonPath().getList(".", String.class);
+        assertEquals(List.of("keySearchBar"), keys);
+        keys = jsonRequest().queryParam("query", "$.nested.items[0].").get("/api/run/autocomplete")
+                .then().statusCode(200).extract().body().jsonPath().getList(".", String.class);
+        assertEquals(List.of("keySearchBar"), keys);
+    }
+
+    @org.junit.jupiter.api.Test
+    public void testAutocompleteVisibleKeys() throws IOException {
+        Test test = createTest(createExampleTest("key_visibility"));
+        ObjectMapper mapper = new ObjectMapper();
+        long now = System.currentTimeMillis();
+        uploadRun(now, now, mapper.readTree("{ \"keyVisiblePublic\": 1 }"), test.name, UPLOADER_ROLES[0], Access.PUBLIC);
+        int privateRun = uploadRun(now, now, mapper.readTree("{ \"keyVisiblePrivate\": 1 }"), test.name,
+                UPLOADER_ROLES[0], Access.PRIVATE);
+
+        assertEquals(List.of("keyVisiblePrivate", "keyVisiblePublic"), autocomplete(jsonRequest(), "keyVisibleP"));
+        // keys found only in private runs are not offered to users outside of the owning team
+        RequestSpecification otherTeam = RestAssured.given().auth().oauth2(getAccessToken("bob", "bar-team", Roles.VIEWER));
+        assertEquals(List.of("keyVisiblePublic"), autocomplete(otherTeam, "keyVisibleP"));
+
+        Util.withTx(tm, () -> {
+            try (CloseMe ignored = roleManager.withRoles(SYSTEM_ROLES)) {
+                RunDAO.deleteById(privateRun);
+            }
+            return null;
+        });
+        // paths of deleted runs are removed when the bucket is rebuilt
+        keyPathIndex.rebuildStale();
+        assertEquals(List.of("keyVisiblePublic"), autocomplete(jsonRequest(), "keyVisibleP"));
+    }
+
+    @org.junit.jupiter.api.Test
+    public void testRebuildAfterRepeatedChanges() throws IOException {
+        Test test = createTest(createExampleTest("key_rebuild"));
+        ObjectMapper mapper = new ObjectMapper();
+        int first = uploadRun(mapper.readTree("{ \"keyRebuildFirst\": 1 }"), test.name);
+        int second = uploadRun(mapper.readTree("{ \"keyRebuildSecond\": 1 }"), test.name);
+        assertEquals(List.of("keyRebuildFirst", "keyRebuildSecond"), autocomplete(jsonRequest(), "keyRebuild"));
+
+        for (int runId : new int[] { first, second }) {
+            Util.withTx(tm, () -> {
+                try (CloseMe ignored = roleManager.withRoles(SYSTEM_ROLES)) {
+                    RunDAO.deleteById(runId);
+                }
+                return null;
+            });
+        }
+        // every modification of a marked bucket changes the version of the mark
+        Number version = Util.withTx(tm, () -> (Number) em
+                .createNativeQuery("SELECT version FROM run_key_path_stale WHERE testid = ?1")
+                .setParameter(1, test.id).getSingleResult());
+        assertEquals(1, version.intValue());
+        uploadRun(mapper.readTree("{ \"keyRebuildThird\": 1 }"), test.name);
+
+        keyPathIndex.rebuildStale();
+        assertEquals(List.of("keyRebuildThird"), autocomplete(jsonRequest(), "keyRebuild"));
+        assertEquals(0, ((Number) Util.withTx(tm, () -> em
+                .createNativeQuery("SELECT count(*) FROM run_key_path_stale WHERE testid = ?1")
+                .setParameter(1, test.id).getSingleResult())).intValue());
+    }
+
+    @org.junit.jupiter.api.Test
+    public void testAutocompleteAfterRefresh() throws IOException {
+        Test test = createTest(createExampleTest("key_refresh"));
+        uploadRun(new ObjectMapper().readTree("{ \"keyRefreshLocal\": 1 }"), test.name);
+        assertEquals(List.of("keyRefreshLocal"), autocomplete(jsonRequest(), "keyRefresh"));
+
+        // paths recorded by another instance
+        Util.withTx(tm, () -> em.createNativeQuery("INSERT INTO run_key_path (testid, owner, access, path, key) " +
+                "VALUES (?1, ?2, 0, '$.keyRefreshRemote', 'keyRefreshRemote')")
+                .setParameter(1, test.id).setParameter(2, UPLOADER_ROLES[0]).executeUpdate());
+        keyPathIndex.refresh();
+        assertEquals(List.of("keyRefreshLocal", "keyRefreshRemote"), autocomplete(jsonRequest(), "keyRefresh"));
+    }
+
+    private static List<String> autocomplete(RequestSpecification request, String query) {
+        return request.queryParam("query", query).get("/api/run/autocomplete")
+                .then().statusCode(200).extract().body().jsonPath().getList(".", String.class);
+    }
+
     @org.junit.jupiter.api.Test
     public void testAddRunFromData() throws JsonProcessingException {
         Test test = createExampleTest("supersecret");
@@ -1216,6 +1386,13 @@ public class RunServiceTest extends BaseServiceTest {
 
         int runId = uploadRun("$.start", "$.stop", payload, metadata, test.name, test.owner, Access.PUBLIC);
         assertTrue(runId > 0);
+
+        // the data is read by the database from the uploaded file
+        RunDAO run = RunDAO.findById(runId);
+        assertEquals(payload, run.data);
+        assertEquals(JsonNodeFactory.instance.arrayNode().add(metadata), run.metadata);
+        assertEquals(Instant.parse("2021-07-12T04:17:48Z"), run.start);
+        assertEquals(Access.PUBLIC, run.access);
     }
 
     @org.junit.jupiter.api.Test
@@ -43,6 +43,7 @@ import io.hyperfoil.tools.horreum.entity.data.LabelDAO;
 import io.hyperfoil.tools.horreum.entity.data.SchemaDAO;
 import io.hyperfoil.tools.horreum.entity.data.TransformerDAO;
 import io.hyperfoil.tools.horreum.mapper.LabelMapper;
+import io.hyperfoil.tools.horreum.server.CloseMe;
 import io.hyperfoil.tools.horreum.test.HorreumTestProfile;
 import io.hyperfoil.tools.horreum.test.PostgresResource;
 import io.hyperfoil.tools.horreum.test.TestUtil;
@@ -293,6 +294,40 @@ class SchemaServiceTest extends BaseServiceTest {
         assertEquals(4, em.createNativeQuery("SELECT COUNT(*)::int FROM dataset_validationerrors").getSingleResult());
     }
 
+    @org.junit.jupiter.api.Test
+    void testValidateRunAfterSchemaChangedByAnotherNode() throws IOException, InterruptedException {
+        JsonNode allowAny = load("/allow-any.json");
+        Schema schema = createSchema("any", allowAny.path("$id").asText(), allowAny);
+
+        Test test = createTest(createExampleTest("schemaChangedTest"));
+        BlockingQueue<Schema.ValidationEvent> runValidations = serviceMediator.getEventQueue(AsyncEventChannels.RUN_VALIDATED,
+                test.id);
+
+        ObjectNode data = JsonNodeFactory.instance.objectNode().put("$schema", schema.uri).put("foo", "bar");
+        int runId = uploadRun(data.toString(), test.name);
+        Schema.ValidationEvent runValidation = runValidations.poll(10, TimeUnit.SECONDS);
+        assertNotNull(runValidation);
+        assertEquals(runId, runValidation.id);
+        assertEquals(0, runValidation.errors.size());
+
+        // change the schema directly in the database, the compiled schema cached in this node is not invalidated
+        ObjectNode allowNone = (ObjectNode) load("/allow-none.json");
+        allowNone.set("$id", allowAny.path("$id").deepCopy());
+        Util.withTx(tm, () -> {
+            try (CloseMe ignored = roleManager.withRoles(SYSTEM_ROLES)) {
+                return em.createNativeQuery("UPDATE schema SET schema = CAST(?1 AS jsonb) WHERE id = ?2")
+                        .setParameter(1, allowNone.toString()).setParameter(2, schema.id).executeUpdate();
+            }
+        });
+
+        int runId2 = uploadRun(data.toString(), test.name);
+        Schema.ValidationEvent runValidation2 = runValidations.poll(10, TimeUnit.SECONDS);
+        assertNotNull(runValidation2);
+        assertEquals(runId2, runValidation2.id);
+        // one error for extra "foo" and one for "$schema"
+        assertEquals(2, runValidation2.errors.size());
+    }
+
     @org.junit.jupiter.api.Test
     void testEditSchema() {
         Schema schema = createSchema("My Schema", "urn:my:schema");
@@ -1,5 +1,6 @@
 package io.hyperfoil.tools.horreum.svc;
 
+import static io.restassured.RestAssured.given;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.File;
@@ -407,6 +408,60 @@ class TestServiceTest extends BaseServiceTest {
         assertEquals("RulesWithJoinsProvides", ((FingerprintValue<String>) values.get(1).values.get(1).children.get(2)).value);
     }
 
+    @org.junit.jupiter.api.Test
+    public void testSummaryCounters(TestInfo info) throws InterruptedException {
+        Test test = createTest(createExampleTest(getTestName(info)));
+        Schema schema = createExampleSchema(info);
+        BlockingQueue<Dataset.EventNew> dataSetQueue = serviceMediator.getEventQueue(AsyncEventChannels.DATASET_NEW, test.id);
+
+        int firstRunId = uploadRun(runWithValue(1, schema), test.name);
+        uploadRun(runWithValue(2, schema), test.name);
+        assertNotNull(dataSetQueue.poll(10, TimeUnit.SECONDS));
+        assertNotNull(dataSetQueue.poll(10, TimeUnit.SECONDS));
+
+        TestService.TestSummary summary = findSummary(test.id);
+        assertEquals(2, summary.runs.intValue());
+        assertEquals(2, summary.datasets.intValue());
+        assertNotNull(summary.lastUpload);
+
+        trashRun(firstRunId, test.id, true);
+        summary = findSummary(test.id);
+        assertEquals(1, summary.runs.intValue());
+        assertEquals(1, summary.datasets.intValue());
+
+        // private runs are counted only for members of the owning team
+        long now = System.currentTimeMillis();
+        uploadRun(now, now, runWithValue(3, schema), test.name, UPLOADER_ROLES[0], Access.PRIVATE);
+        assertNotNull(dataSetQueue.poll(10, TimeUnit.SECONDS));
+        assertEquals(2, findSummary(test.id).runs.intValue());
+        TestService.TestSummary otherTeam = findOtherTeamSummary(test.id);
+        assertEquals(1, otherTeam.runs.intValue());
+        assertEquals(1, otherTeam.datasets.intValue());
+
+        // merging the deltas does not change the counts
+        Util.withTx(tm, () -> em.createNativeQuery("SELECT ts_compact()").getSingleResult());
+        summary = findSummary(test.id);
+        assertEquals(2, summary.runs.intValue());
+        assertEquals(2, summary.datasets.intValue());
+        assertEquals(1, findOtherTeamSummary(test.id).runs.intValue());
+
+        // buckets that are already merged are not rewritten
+        Number merged = Util.withTx(tm, () -> (Number) em.createNativeQuery("SELECT ts_compact()").getSingleResult());
+        assertEquals(0, merged.intValue());
+    }
+
+    private TestService.TestSummary findSummary(int testId) {
+        return listTestSummary("__all", "*", 0, 0, SortDirection.Ascending).tests.stream()
+                .filter(t -> t.id == testId).findFirst().orElseThrow();
+    }
+
+    private TestService.TestSummary findOtherTeamSummary(int testId) {
+        return given().auth().oauth2(getAccessToken("bob", "bar-team", Roles.VIEWER)).get("/api/test/summary?folder=*").then()
+                .statusCode(200).extract().body()
+                .as(TestService.TestListing.class).tests.stream()
+                .filter(t -> t.id == testId).findFirst().orElseThrow();
+    }
+
     @org.junit.jupiter.api.Test
     public void testPagination() {
         int count = 50;
@@ -9,9 +9,13 @@ import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.graalvm.polyglot.PolyglotException;
 import org.jboss.logmanager.Level;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.formatters.PatternFormatter;
@@ -20,6 +24,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
@@ -250,6 +255,122 @@ public class UtilTest {
         }
     }
 
+    @org.junit.jupiter.api.Test
+    public void evaluateOnceDoesNotLeakGlobals() {
+        Object first = Util.evaluateOnce("() => { leaked = 42; return typeof leaked; }", null, Util::convert,
+                (s, t) -> Assertions.fail(t.getMessage()), (s) -> {
+                });
+        Assertions.assertEquals("number", first);
+        Object second = Util.evaluateOnce("() => typeof leaked", null, Util::convert,
+                (s, t) -> Assertions.fail(t.getMessage()), (s) -> {
+                });
+        Assertions.assertEquals("undefined", second, "globals must not survive returning the context to the pool");
+    }
+
+    @org.junit.jupiter.api.Test
+    public void evaluateOnceDoesNotLeakBuiltinChanges() {
+        // indirect eval declares the variable in the global scope
+        String function = "() => { Array.prototype.leaked = () => 42; (0, eval)('var declared = 1'); return [].leaked(); }";
+        Object first = Util.evaluateOnce(function, null, Util::convert, (s, t) -> Assertions.fail(t.getMessage()), (s) -> {
+        });
+        Assertions.assertEquals(42L, first);
+        Object second = Util.evaluateOnce("() => typeof [].leaked + ',' + typeof declared", null, Util::convert,
+                (s, t) -> Assertions.fail(t.getMessage()), (s) -> {
+                });
+        Assertions.assertEquals("undefined,undefined", second,
+                "changes to built-ins must not survive returning the context to the pool");
+    }
+
+    @org.junit.jupiter.api.Test
+    public void evaluateOnceDoesNotLeakLexicalDeclarations() {
+        // the function closes the wrapper and declares a binding in the global scope
+        String function = "() => 1 }); const leakedConst = 42; (function() { return () => 2";
+        List<Throwable> errors = new ArrayList<>();
+        Util.evaluateOnce(function, null, Util::convert, (s, t) -> errors.add(t), (s) -> {
+        });
+        Assertions.assertEquals(1, errors.size());
+        Object second = Util.evaluateOnce("() => typeof leakedConst", null, Util::convert,
+                (s, t) -> Assertions.fail(t.getMessage()), (s) -> {
+                });
+        Assertions.assertEquals("undefined", second);
+    }
+
+    @org.junit.jupiter.api.Test
+    public void memoryLimitInterruptsEvaluation() {
+        JsContextPool pool = new JsContextPool(1, Duration.ofMinutes(1), 0, 16 * 1024 * 1024);
+        try (JsContextPool.PooledContext context = pool.borrow()) {
+            String function = "() => { const a = []; for (;;) { a.push(new Array(100).fill(a.length)); " +
+                    "if (a.length > 10000) { a.length = 0; } } }";
+            Assertions.assertThrows(PolyglotException.class, () -> context.call(function, null));
+            Assertions.assertEquals(2L, Util.convert(context.call("() => 2", null)));
+        }
+    }
+
+    @org.junit.jupiter.api.Test
+    public void evaluateWithCombinationFunctionReusesContext() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper();
+        List<JsonNode> inputs = List.of(mapper.readTree("{\"a\":1}"), mapper.readTree("{\"a\":2}"),
+                mapper.readTree("{\"a\":3}"));
+        List<Object> results = new ArrayList<>();
+        StringBuilder output = new StringBuilder();
+        Util.evaluateWithCombinationFunction(inputs,
+                input -> "v => { console.log(v.a); return v.a * 2; } // trailing comment",
+                input -> input,
+                (input, value) -> results.add(Util.convert(value)),
+                input -> Assertions.fail("function should be used"),
+                (input, t, code) -> Assertions.fail(t.getMessage()),
+                output::append);
+        Assertions.assertEquals(List.of(2L, 4L, 6L), results);
+        Assertions.assertEquals("1\n2\n3\n", output.toString());
+    }
+
+    @org.junit.jupiter.api.Test
+    public void evaluateBatchWithPlainValues() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper();
+        List<String[]> rows = List.of(
+                new String[] { "v => v.a.b * 2", "{\"a\":{\"b\":21}}" },
+                new String[] { "v => v.reduce((a, b) => a + b) / v.length", "[1,2,3]" },
+                new String[] { "v => JSON.stringify(v)", "{\"x\":1}" },
+                new String[] { "v => Array.isArray(v.a) && v instanceof Object && v.a instanceof Array", "{\"a\":[1]}" },
+                new String[] { "v => Object.getPrototypeOf(v) === Object.prototype", "{\"x\":1}" },
+                new String[] { "v => ({ ...v, y: [...v.a, 2] })", "{\"a\":[1]}" },
+                new String[] { null, "\"unchanged\"" },
+                new String[] { "v => { throw new Error('fail') }", "1" });
+        List<JsonNode> results = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        Util.evaluateBatch(rows, row -> row[0], row -> {
+            try {
+                return mapper.readTree(row[1]);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }, (row, result) -> results.add(result), row -> {
+        }, (row, t, code) -> errors.add(row[1]), s -> {
+        });
+        Assertions.assertEquals(List.of("42", "2", "\"{\\\"x\\\":1}\"", "true", "true", "{\"a\":[1],\"y\":[1,2]}",
+                "\"unchanged\""),
+                results.stream().map(JsonNode::toString).toList());
+        Assertions.assertEquals(List.of("1"), errors);
+    }
+
+    @org.junit.jupiter.api.Test
+    public void evaluateBatchWithMutatingFunctions() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode input = mapper.readTree("{\"a\":[1,2,3]}");
+        List<String> functions = List.of(
+                "v => { v.a.push(4); return v.a.length; }",
+                "v => { v.b = 1; delete v.a; return Object.keys(v); }",
+                "v => { v.a.sort((x, y) => y - x); return v.a[0]; }",
+                "v => v.a.length");
+        List<JsonNode> results = new ArrayList<>();
+        Util.evaluateBatch(functions, function -> function, function -> input, (function, result) -> results.add(result),
+                function -> {
+                }, (function, t, code) -> Assertions.fail(t.getMessage()), s -> {
+                });
+        Assertions.assertEquals(List.of("4", "[\"b\"]", "3", "3"), results.stream().map(JsonNode::toString).toList());
+        Assertions.assertEquals("{\"a\":[1,2,3]}", input.toString(), "input must not be modified");
+    }
+
     @org.junit.jupiter.api.Test
     void testDecomposeJsonPathInvalid() {
         assertNull(Util.decomposeJsonPath(""));
@@ -9,6 +9,8 @@ public class ElasticsearchTestProfile extends InMemoryAMQTestProfile {
     public Map<String, String> getConfigOverrides() {
         Map<String, String> configOverrides = new HashMap<>(super.getConfigOverrides());
         configOverrides.put("quarkus.elasticsearch.devservices.enabled", "true");
+        // small pages to exercise pagination of search results
+        configOverrides.put("horreum.elasticsearch.page-size", "3");
         return configOverrides;
     }
 
@@ -1,6 +1,9 @@
 package io.hyperfoil.tools;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -13,6 +16,7 @@ import org.jboss.resteasy.client.jaxrs.ResteasyWebTarget;
 import org.jboss.resteasy.plugins.providers.multipart.MultipartFormDataOutput;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 
 import io.hyperfoil.tools.horreum.api.SortDirection;
@@ -21,12 +25,15 @@ import io.hyperfoil.tools.horreum.api.data.Access;
 import io.hyperfoil.tools.horreum.api.data.ExportedLabelValues;
 import io.hyperfoil.tools.horreum.api.data.Run;
 import io.hyperfoil.tools.horreum.api.services.RunService.RunCount;
+import io.hyperfoil.tools.horreum.api.services.RunService.RunImport;
 import io.hyperfoil.tools.horreum.api.services.RunService.RunSummary;
 import io.hyperfoil.tools.horreum.api.services.RunService.RunsSummary;
 
 // Note: IDE may show errors because variant of RunService.addRunFromData is not implemented
 // but that method is not present in the class files (removed through @ApiIgnore).
 public class RunServiceExtension implements RunService {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     private final ResteasyWebTarget target;
     private final RunService delegate;
 
@@ -76,6 +83,40 @@ public class RunServiceExtension implements RunService {
                 .request().post(Entity.entity(multipart, MediaType.MULTIPART_FORM_DATA));
     }
 
+    @Override
+    public RunImport importRuns(String start, String stop, String test, String owner, Access access, String schemaUri,
+            String description, InputStream data) {
+        return this.delegate.importRuns(start, stop, test, owner, access, schemaUri, description, data);
+    }
+
+    /**
+     * Additional method provided to import many Runs at once, sent as newline-delimited JSON. The Runs are serialized
+     * one by one while the request is sent.
+     * @return RunImport status of the import
+     */
+    public RunImport importRuns(String start, String stop, String test, String owner, Access access, String schemaUri,
+            String description, Iterable<JsonNode> runs) {
+        return importRuns(start, stop, test, owner, access, schemaUri, description, new NdjsonInputStream(runs.iterator()));
+    }
+
+    /**
+     * Additional method provided to import Runs from a gzipped tar archive of JSON files
+     * @return RunImport status of the import
+     */
+    public RunImport importRunsFromArchive(String start, String stop, String test, String owner, Access access,
+            String schemaUri, String description, InputStream archive) {
+        return target.path("/api/run/import")
+                .queryParam("start", start).queryParam("stop", stop).queryParam("test", test)
+                .queryParam("owner", owner).queryParam("access", access)
+                .queryParam("schema", schemaUri).queryParam("description", description)
+                .request().post(Entity.entity(archive, "application/gzip"), RunImport.class);
+    }
+
+    @Override
+    public RunImport getImportStatus(int id) {
+        return this.delegate.getImportStatus(id);
+    }
+
     @Override
     public io.hyperfoil.tools.horreum.api.services.RunService.RunExtended getRun(int id) {
         return this.delegate.getRun(id);
@@ -164,4 +205,44 @@ public class RunServiceExtension implements RunService {
         this.delegate.recalculateAll(from, to);
     }
 
+    private static class NdjsonInputStream extends InputStream {
+        private final Iterator<JsonNode> runs;
+        private byte[] current = new byte[0];
+        private int position;
+
+        private NdjsonInputStream(Iterator<JsonNode> runs) {
+            this.runs = runs;
+        }
+
+        private boolean fill() throws IOException {
+            while (position >= current.length) {
+                if (!runs.hasNext()) {
+                    return false;
+                }
+                byte[] run = MAPPER.writeValueAsBytes(runs.next());
+                current = Arrays.copyOf(run, run.length + 1);
+                current[run.length] = '\n';
+                position = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return fill() ? current[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            } else if (!fill()) {
+                return -1;
+            }
+            int n = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, n);
+            position += n;
+            return n;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.hyperfoil.tools.horreum.api.client;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -92,6 +93,22 @@ public interface RunService {
             @QueryParam("access") Access access,
             Run run);
 
+    @POST
+    @Path("import")
+    @Consumes(io.hyperfoil.tools.horreum.api.services.RunService.NDJSON)
+    io.hyperfoil.tools.horreum.api.services.RunService.RunImport importRuns(@QueryParam("start") String start,
+            @QueryParam("stop") String stop,
+            @QueryParam("test") String test,
+            @QueryParam("owner") String owner,
+            @QueryParam("access") Access access,
+            @QueryParam("schema") String schemaUri,
+            @QueryParam("description") String description,
+            InputStream data);
+
+    @GET
+    @Path("import/{id}")
+    io.hyperfoil.tools.horreum.api.services.RunService.RunImport getImportStatus(@PathParam("id") int id);
+
     @GET
     @Path("autocomplete")
     @ApiIgnore
@@ -0,0 +1,469 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+import * as runtime from '../runtime';
+import type {
+  Action,
+  AllowedSite,
+  SortDirection,
+} from '../models/index';
+import {
+    ActionFromJSON,
+    ActionToJSON,
+    AllowedSiteFromJSON,
+    AllowedSiteToJSON,
+    SortDirectionFromJSON,
+    SortDirectionToJSON,
+} from '../models/index';
+
+export interface ActionApiAddActionRequest {
+    action: Action;
+}
+
+export interface ActionApiAddGlobalActionRequest {
+    action: Action;
+}
+
+export interface ActionApiAddSiteRequest {
+    body: string;
+}
+
+export interface ActionApiDeleteActionRequest {
+    id: number;
+}
+
+export interface ActionApiDeleteGlobalActionRequest {
+    id: number;
+}
+
+export interface ActionApiDeleteSiteRequest {
+    id: number;
+}
+
+export interface ActionApiGetActionRequest {
+    id: number;
+}
+
+export interface ActionApiGetTestActionsRequest {
+    id: number;
+}
+
+export interface ActionApiListActionsRequest {
+    direction?: SortDirection;
+    limit?: number;
+    page?: number;
+    sort?: string;
+}
+
+export interface ActionApiUpdateActionRequest {
+    action: Action;
+}
+
+/**
+ * 
+ */
+export class ActionApi extends runtime.BaseAPI {
+
+    /**
+     */
+    async addActionRaw(requestParameters: ActionApiAddActionRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Action>> {
+        if (requestParameters['action'] == null) {
+            throw new runtime.RequiredError(
+                'action',
+                'Required parameter "action" was null or undefined when calling addAction().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/action`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: ActionToJSON(requestParameters['action']),
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => ActionFromJSON(jsonValue));
+    }
+
+    /**
+     */
+    async addAction(action: Action, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Action> {
+        const response = await this.addActionRaw({ action: action }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async addGlobalActionRaw(requestParameters: ActionApiAddGlobalActionRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Action>> {
+        if (requestParameters['action'] == null) {
+            throw new runtime.RequiredError(
+                'action',
+                'Required parameter "action" was null or undefined when calling addGlobalAction().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/action/global`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: ActionToJSON(requestParameters['action']),
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => ActionFromJSON(jsonValue));
+    }
+
+    /**
+     */
+    async addGlobalAction(action: Action, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Action> {
+        const response = await this.addGlobalActionRaw({ action: action }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async addSiteRaw(requestParameters: ActionApiAddSiteRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<AllowedSite>> {
+        if (requestParameters['body'] == null) {
+            throw new runtime.RequiredError(
+                'body',
+                'Required parameter "body" was null or undefined when calling addSite().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'text/plain';
+
+
+        let urlPath = `/api/action/allowedSites`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: requestParameters['body'] as any,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => AllowedSiteFromJSON(jsonValue));
+    }
+
+    /**
+     */
+    async addSite(body: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<AllowedSite> {
+        const response = await this.addSiteRaw({ body: body }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async allowedSitesRaw(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<AllowedSite>>> {
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/action/allowedSites`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(AllowedSiteFromJSON));
+    }
+
+    /**
+     */
+    async allowedSites(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<AllowedSite>> {
+        const response = await this.allowedSitesRaw(initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async deleteActionRaw(requestParameters: ActionApiDeleteActionRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling deleteAction().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/action/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'DELETE',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     */
+    async deleteAction(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.deleteActionRaw({ id: id }, initOverrides);
+    }
+
+    /**
+     */
+    async deleteGlobalActionRaw(requestParameters: ActionApiDeleteGlobalActionRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling deleteGlobalAction().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/action/global/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'DELETE',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     */
+    async deleteGlobalAction(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.deleteGlobalActionRaw({ id: id }, initOverrides);
+    }
+
+    /**
+     */
+    async deleteSiteRaw(requestParameters: ActionApiDeleteSiteRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling deleteSite().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/action/allowedSites/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'DELETE',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     */
+    async deleteSite(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.deleteSiteRaw({ id: id }, initOverrides);
+    }
+
+    /**
+     */
+    async getActionRaw(requestParameters: ActionApiGetActionRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Action>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling getAction().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/action/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => ActionFromJSON(jsonValue));
+    }
+
+    /**
+     */
+    async getAction(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Action> {
+        const response = await this.getActionRaw({ id: id }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async getTestActionsRaw(requestParameters: ActionApiGetTestActionsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<Action>>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling getTestActions().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/action/test/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(ActionFromJSON));
+    }
+
+    /**
+     */
+    async getTestActions(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<Action>> {
+        const response = await this.getTestActionsRaw({ id: id }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async listActionsRaw(requestParameters: ActionApiListActionsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<Action>>> {
+        const queryParameters: any = {};
+
+        if (requestParameters['direction'] != null) {
+            queryParameters['direction'] = requestParameters['direction'];
+        }
+
+        if (requestParameters['limit'] != null) {
+            queryParameters['limit'] = requestParameters['limit'];
+        }
+
+        if (requestParameters['page'] != null) {
+            queryParameters['page'] = requestParameters['page'];
+        }
+
+        if (requestParameters['sort'] != null) {
+            queryParameters['sort'] = requestParameters['sort'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/action/list`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(ActionFromJSON));
+    }
+
+    /**
+     */
+    async listActions(direction?: SortDirection, limit?: number, page?: number, sort?: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<Action>> {
+        const response = await this.listActionsRaw({ direction: direction, limit: limit, page: page, sort: sort }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async updateActionRaw(requestParameters: ActionApiUpdateActionRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Action>> {
+        if (requestParameters['action'] == null) {
+            throw new runtime.RequiredError(
+                'action',
+                'Required parameter "action" was null or undefined when calling updateAction().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/action`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'PUT',
+            headers: headerParameters,
+            query: queryParameters,
+            body: ActionToJSON(requestParameters['action']),
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => ActionFromJSON(jsonValue));
+    }
+
+    /**
+     */
+    async updateAction(action: Action, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Action> {
+        const response = await this.updateActionRaw({ action: action }, initOverrides);
+        return await response.value();
+    }
+
+}
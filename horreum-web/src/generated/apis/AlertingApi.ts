@@ -0,0 +1,810 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+import * as runtime from '../runtime';
+import type {
+  Change,
+  ChangeDetection,
+  ChangeDetectionUpdate,
+  ConditionConfig,
+  DashboardInfo,
+  DatapointLastTimestamp,
+  DatapointRecalculationStatus,
+  LastDatapointsParams,
+  MissingDataRule,
+  RunExpectation,
+  Variable,
+} from '../models/index';
+import {
+    ChangeFromJSON,
+    ChangeToJSON,
+    ChangeDetectionFromJSON,
+    ChangeDetectionToJSON,
+    ChangeDetectionUpdateFromJSON,
+    ChangeDetectionUpdateToJSON,
+    ConditionConfigFromJSON,
+    ConditionConfigToJSON,
+    DashboardInfoFromJSON,
+    DashboardInfoToJSON,
+    DatapointLastTimestampFromJSON,
+    DatapointLastTimestampToJSON,
+    DatapointRecalculationStatusFromJSON,
+    DatapointRecalculationStatusToJSON,
+    LastDatapointsParamsFromJSON,
+    LastDatapointsParamsToJSON,
+    MissingDataRuleFromJSON,
+    MissingDataRuleToJSON,
+    RunExpectationFromJSON,
+    RunExpectationToJSON,
+    VariableFromJSON,
+    VariableToJSON,
+} from '../models/index';
+
+export interface AlertingApiChangesRequest {
+    _var: number;
+    fingerprint?: string;
+}
+
+export interface AlertingApiDashboardRequest {
+    test: number;
+    fingerprint?: string;
+}
+
+export interface AlertingApiDeleteChangeRequest {
+    id: number;
+}
+
+export interface AlertingApiDeleteMissingDataRuleRequest {
+    id: number;
+}
+
+export interface AlertingApiExpectRunRequest {
+    test: string;
+    timeout: number;
+    backlink?: string;
+    expectedby?: string;
+}
+
+export interface AlertingApiFindLastDatapointsRequest {
+    lastDatapointsParams: LastDatapointsParams;
+}
+
+export interface AlertingApiGetDatapointRecalculationStatusRequest {
+    test: number;
+}
+
+export interface AlertingApiMissingDataRulesRequest {
+    testId: number;
+}
+
+export interface AlertingApiRecalculateDatapointsRequest {
+    test: number;
+    clear?: boolean;
+    debug?: boolean;
+    from?: number;
+    notify?: boolean;
+    to?: number;
+}
+
+export interface AlertingApiUpdateChangeRequest {
+    id: number;
+    change: Change;
+}
+
+export interface AlertingApiUpdateChangeDetectionRequest {
+    testId: number;
+    changeDetectionUpdate: ChangeDetectionUpdate;
+}
+
+export interface AlertingApiUpdateMissingDataRuleRequest {
+    testId: number;
+    missingDataRule: MissingDataRule;
+}
+
+export interface AlertingApiUpdateVariablesRequest {
+    test: number;
+    variable: Array<Variable>;
+}
+
+export interface AlertingApiVariablesRequest {
+    test?: number;
+}
+
+/**
+ * 
+ */
+export class AlertingApi extends runtime.BaseAPI {
+
+    /**
+     */
+    async changeDetectionModelsRaw(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<ConditionConfig>>> {
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/alerting/changeDetectionModels`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(ConditionConfigFromJSON));
+    }
+
+    /**
+     */
+    async changeDetectionModels(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<ConditionConfig>> {
+        const response = await this.changeDetectionModelsRaw(initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async changesRaw(requestParameters: AlertingApiChangesRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<Change>>> {
+        if (requestParameters['_var'] == null) {
+            throw new runtime.RequiredError(
+                '_var',
+                'Required parameter "_var" was null or undefined when calling changes().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['fingerprint'] != null) {
+            queryParameters['fingerprint'] = requestParameters['fingerprint'];
+        }
+
+        if (requestParameters['_var'] != null) {
+            queryParameters['var'] = requestParameters['_var'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/alerting/changes`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(ChangeFromJSON));
+    }
+
+    /**
+     */
+    async changes(_var: number, fingerprint?: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<Change>> {
+        const response = await this.changesRaw({ _var: _var, fingerprint: fingerprint }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async dashboardRaw(requestParameters: AlertingApiDashboardRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<DashboardInfo>> {
+        if (requestParameters['test'] == null) {
+            throw new runtime.RequiredError(
+                'test',
+                'Required parameter "test" was null or undefined when calling dashboard().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['fingerprint'] != null) {
+            queryParameters['fingerprint'] = requestParameters['fingerprint'];
+        }
+
+        if (requestParameters['test'] != null) {
+            queryParameters['test'] = requestParameters['test'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/alerting/dashboard`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => DashboardInfoFromJSON(jsonValue));
+    }
+
+    /**
+     */
+    async dashboard(test: number, fingerprint?: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<DashboardInfo> {
+        const response = await this.dashboardRaw({ test: test, fingerprint: fingerprint }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async defaultChangeDetectionConfigsRaw(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<ChangeDetection>>> {
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/alerting/defaultChangeDetectionConfigs`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(ChangeDetectionFromJSON));
+    }
+
+    /**
+     */
+    async defaultChangeDetectionConfigs(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<ChangeDetection>> {
+        const response = await this.defaultChangeDetectionConfigsRaw(initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async deleteChangeRaw(requestParameters: AlertingApiDeleteChangeRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling deleteChange().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/alerting/change/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'DELETE',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     */
+    async deleteChange(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.deleteChangeRaw({ id: id }, initOverrides);
+    }
+
+    /**
+     */
+    async deleteMissingDataRuleRaw(requestParameters: AlertingApiDeleteMissingDataRuleRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling deleteMissingDataRule().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/alerting/missingdatarule/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'DELETE',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     */
+    async deleteMissingDataRule(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.deleteMissingDataRuleRaw({ id: id }, initOverrides);
+    }
+
+    /**
+     */
+    async expectRunRaw(requestParameters: AlertingApiExpectRunRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['test'] == null) {
+            throw new runtime.RequiredError(
+                'test',
+                'Required parameter "test" was null or undefined when calling expectRun().'
+            );
+        }
+
+        if (requestParameters['timeout'] == null) {
+            throw new runtime.RequiredError(
+                'timeout',
+                'Required parameter "timeout" was null or undefined when calling expectRun().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['backlink'] != null) {
+            queryParameters['backlink'] = requestParameters['backlink'];
+        }
+
+        if (requestParameters['expectedby'] != null) {
+            queryParameters['expectedby'] = requestParameters['expectedby'];
+        }
+
+        if (requestParameters['test'] != null) {
+            queryParameters['test'] = requestParameters['test'];
+        }
+
+        if (requestParameters['timeout'] != null) {
+            queryParameters['timeout'] = requestParameters['timeout'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/alerting/expectRun`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     */
+    async expectRun(test: string, timeout: number, backlink?: string, expectedby?: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.expectRunRaw({ test: test, timeout: timeout, backlink: backlink, expectedby: expectedby }, initOverrides);
+    }
+
+    /**
+     */
+    async expectationsRaw(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<RunExpectation>>> {
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/alerting/expectations`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(RunExpectationFromJSON));
+    }
+
+    /**
+     */
+    async expectations(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<RunExpectation>> {
+        const response = await this.expectationsRaw(initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async findLastDatapointsRaw(requestParameters: AlertingApiFindLastDatapointsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<DatapointLastTimestamp>>> {
+        if (requestParameters['lastDatapointsParams'] == null) {
+            throw new runtime.RequiredError(
+                'lastDatapointsParams',
+                'Required parameter "lastDatapointsParams" was null or undefined when calling findLastDatapoints().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/alerting/datapoint/last`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: LastDatapointsParamsToJSON(requestParameters['lastDatapointsParams']),
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(DatapointLastTimestampFromJSON));
+    }
+
+    /**
+     */
+    async findLastDatapoints(lastDatapointsParams: LastDatapointsParams, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<DatapointLastTimestamp>> {
+        const response = await this.findLastDatapointsRaw({ lastDatapointsParams: lastDatapointsParams }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async getDatapointRecalculationStatusRaw(requestParameters: AlertingApiGetDatapointRecalculationStatusRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<DatapointRecalculationStatus>> {
+        if (requestParameters['test'] == null) {
+            throw new runtime.RequiredError(
+                'test',
+                'Required parameter "test" was null or undefined when calling getDatapointRecalculationStatus().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['test'] != null) {
+            queryParameters['test'] = requestParameters['test'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/alerting/recalculate`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => DatapointRecalculationStatusFromJSON(jsonValue));
+    }
+
+    /**
+     */
+    async getDatapointRecalculationStatus(test: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<DatapointRecalculationStatus> {
+        const response = await this.getDatapointRecalculationStatusRaw({ test: test }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async missingDataRulesRaw(requestParameters: AlertingApiMissingDataRulesRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<MissingDataRule>>> {
+        if (requestParameters['testId'] == null) {
+            throw new runtime.RequiredError(
+                'testId',
+                'Required parameter "testId" was null or undefined when calling missingDataRules().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['testId'] != null) {
+            queryParameters['testId'] = requestParameters['testId'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/alerting/missingdatarule`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(MissingDataRuleFromJSON));
+    }
+
+    /**
+     */
+    async missingDataRules(testId: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<MissingDataRule>> {
+        const response = await this.missingDataRulesRaw({ testId: testId }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async recalculateDatapointsRaw(requestParameters: AlertingApiRecalculateDatapointsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['test'] == null) {
+            throw new runtime.RequiredError(
+                'test',
+                'Required parameter "test" was null or undefined when calling recalculateDatapoints().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['clear'] != null) {
+            queryParameters['clear'] = requestParameters['clear'];
+        }
+
+        if (requestParameters['debug'] != null) {
+            queryParameters['debug'] = requestParameters['debug'];
+        }
+
+        if (requestParameters['from'] != null) {
+            queryParameters['from'] = requestParameters['from'];
+        }
+
+        if (requestParameters['notify'] != null) {
+            queryParameters['notify'] = requestParameters['notify'];
+        }
+
+        if (requestParameters['test'] != null) {
+            queryParameters['test'] = requestParameters['test'];
+        }
+
+        if (requestParameters['to'] != null) {
+            queryParameters['to'] = requestParameters['to'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/alerting/recalculate`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     */
+    async recalculateDatapoints(test: number, clear?: boolean, debug?: boolean, from?: number, notify?: boolean, to?: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.recalculateDatapointsRaw({ test: test, clear: clear, debug: debug, from: from, notify: notify, to: to }, initOverrides);
+    }
+
+    /**
+     */
+    async updateChangeRaw(requestParameters: AlertingApiUpdateChangeRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling updateChange().'
+            );
+        }
+
+        if (requestParameters['change'] == null) {
+            throw new runtime.RequiredError(
+                'change',
+                'Required parameter "change" was null or undefined when calling updateChange().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/alerting/change/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'PUT',
+            headers: headerParameters,
+            query: queryParameters,
+            body: ChangeToJSON(requestParameters['change']),
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     */
+    async updateChange(id: number, change: Change, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.updateChangeRaw({ id: id, change: change }, initOverrides);
+    }
+
+    /**
+     */
+    async updateChangeDetectionRaw(requestParameters: AlertingApiUpdateChangeDetectionRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['testId'] == null) {
+            throw new runtime.RequiredError(
+                'testId',
+                'Required parameter "testId" was null or undefined when calling updateChangeDetection().'
+            );
+        }
+
+        if (requestParameters['changeDetectionUpdate'] == null) {
+            throw new runtime.RequiredError(
+                'changeDetectionUpdate',
+                'Required parameter "changeDetectionUpdate" was null or undefined when calling updateChangeDetection().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['testId'] != null) {
+            queryParameters['testId'] = requestParameters['testId'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/alerting/changeDetection`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: ChangeDetectionUpdateToJSON(requestParameters['changeDetectionUpdate']),
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     */
+    async updateChangeDetection(testId: number, changeDetectionUpdate: ChangeDetectionUpdate, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.updateChangeDetectionRaw({ testId: testId, changeDetectionUpdate: changeDetectionUpdate }, initOverrides);
+    }
+
+    /**
+     */
+    async updateMissingDataRuleRaw(requestParameters: AlertingApiUpdateMissingDataRuleRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<number>> {
+        if (requestParameters['testId'] == null) {
+            throw new runtime.RequiredError(
+                'testId',
+                'Required parameter "testId" was null or undefined when calling updateMissingDataRule().'
+            );
+        }
+
+        if (requestParameters['missingDataRule'] == null) {
+            throw new runtime.RequiredError(
+                'missingDataRule',
+                'Required parameter "missingDataRule" was null or undefined when calling updateMissingDataRule().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['testId'] != null) {
+            queryParameters['testId'] = requestParameters['testId'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/alerting/missingdatarule`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: MissingDataRuleToJSON(requestParameters['missingDataRule']),
+        }, initOverrides);
+
+        if (this.isJsonMime(response.headers.get('content-type'))) {
+            return new runtime.JSONApiResponse<number>(response);
+        } else {
+            return new runtime.TextApiResponse(response) as any;
+        }
+    }
+
+    /**
+     */
+    async updateMissingDataRule(testId: number, missingDataRule: MissingDataRule, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<number> {
+        const response = await this.updateMissingDataRuleRaw({ testId: testId, missingDataRule: missingDataRule }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async updateVariablesRaw(requestParameters: AlertingApiUpdateVariablesRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['test'] == null) {
+            throw new runtime.RequiredError(
+                'test',
+                'Required parameter "test" was null or undefined when calling updateVariables().'
+            );
+        }
+
+        if (requestParameters['variable'] == null) {
+            throw new runtime.RequiredError(
+                'variable',
+                'Required parameter "variable" was null or undefined when calling updateVariables().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['test'] != null) {
+            queryParameters['test'] = requestParameters['test'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/alerting/variables`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: requestParameters['variable']!.map(VariableToJSON),
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     */
+    async updateVariables(test: number, variable: Array<Variable>, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.updateVariablesRaw({ test: test, variable: variable }, initOverrides);
+    }
+
+    /**
+     */
+    async variablesRaw(requestParameters: AlertingApiVariablesRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<Variable>>> {
+        const queryParameters: any = {};
+
+        if (requestParameters['test'] != null) {
+            queryParameters['test'] = requestParameters['test'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/alerting/variables`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(VariableFromJSON));
+    }
+
+    /**
+     */
+    async variables(test?: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<Variable>> {
+        const response = await this.variablesRaw({ test: test }, initOverrides);
+        return await response.value();
+    }
+
+}
@@ -0,0 +1,97 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+import * as runtime from '../runtime';
+import type {
+  Banner,
+} from '../models/index';
+import {
+    BannerFromJSON,
+    BannerToJSON,
+} from '../models/index';
+
+export interface BannerApiSetBannerRequest {
+    banner: Banner;
+}
+
+/**
+ * 
+ */
+export class BannerApi extends runtime.BaseAPI {
+
+    /**
+     */
+    async getBannerRaw(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Banner>> {
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/banner`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => BannerFromJSON(jsonValue));
+    }
+
+    /**
+     */
+    async getBanner(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Banner> {
+        const response = await this.getBannerRaw(initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async setBannerRaw(requestParameters: BannerApiSetBannerRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['banner'] == null) {
+            throw new runtime.RequiredError(
+                'banner',
+                'Required parameter "banner" was null or undefined when calling setBanner().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/banner`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: BannerToJSON(requestParameters['banner']),
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     */
+    async setBanner(banner: Banner, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.setBannerRaw({ banner: banner }, initOverrides);
+    }
+
+}
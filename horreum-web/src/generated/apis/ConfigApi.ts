@@ -0,0 +1,341 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+import * as runtime from '../runtime';
+import type {
+  Datastore,
+  DatastoreTestResponse,
+  KeycloakConfig,
+  TypeConfig,
+  VersionInfo,
+} from '../models/index';
+import {
+    DatastoreFromJSON,
+    DatastoreToJSON,
+    DatastoreTestResponseFromJSON,
+    DatastoreTestResponseToJSON,
+    KeycloakConfigFromJSON,
+    KeycloakConfigToJSON,
+    TypeConfigFromJSON,
+    TypeConfigToJSON,
+    VersionInfoFromJSON,
+    VersionInfoToJSON,
+} from '../models/index';
+
+export interface ConfigApiDeleteDatastoreRequest {
+    id: number;
+}
+
+export interface ConfigApiGetDatastoresByTeamRequest {
+    team?: string;
+}
+
+export interface ConfigApiNewDatastoreRequest {
+    datastore: Datastore;
+}
+
+export interface ConfigApiTestDatastoreRequest {
+    id: number;
+}
+
+export interface ConfigApiUpdateDatastoreRequest {
+    datastore: Datastore;
+}
+
+/**
+ * 
+ */
+export class ConfigApi extends runtime.BaseAPI {
+
+    /**
+     * Obtain list of available datastore types
+     */
+    async datastoreTypesRaw(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<TypeConfig>>> {
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/config/datastore/types`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(TypeConfigFromJSON));
+    }
+
+    /**
+     * Obtain list of available datastore types
+     */
+    async datastoreTypes(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<TypeConfig>> {
+        const response = await this.datastoreTypesRaw(initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Test a Datastore
+     */
+    async deleteDatastoreRaw(requestParameters: ConfigApiDeleteDatastoreRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling deleteDatastore().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/config/datastore/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'DELETE',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     * Test a Datastore
+     */
+    async deleteDatastore(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.deleteDatastoreRaw({ id: id }, initOverrides);
+    }
+
+    /**
+     * Obtain list of configured datastores for particular team
+     */
+    async getDatastoresByTeamRaw(requestParameters: ConfigApiGetDatastoresByTeamRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<Datastore>>> {
+        const queryParameters: any = {};
+
+        if (requestParameters['team'] != null) {
+            queryParameters['team'] = requestParameters['team'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/config/datastore`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(DatastoreFromJSON));
+    }
+
+    /**
+     * Obtain list of configured datastores for particular team
+     */
+    async getDatastoresByTeam(team?: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<Datastore>> {
+        const response = await this.getDatastoresByTeamRaw({ team: team }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Obtain configuration information about keycloak server securing Horreum instance
+     */
+    async keycloakRaw(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<KeycloakConfig>> {
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/config/keycloak`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => KeycloakConfigFromJSON(jsonValue));
+    }
+
+    /**
+     * Obtain configuration information about keycloak server securing Horreum instance
+     */
+    async keycloak(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<KeycloakConfig> {
+        const response = await this.keycloakRaw(initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Create a new Datastore
+     */
+    async newDatastoreRaw(requestParameters: ConfigApiNewDatastoreRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<number>> {
+        if (requestParameters['datastore'] == null) {
+            throw new runtime.RequiredError(
+                'datastore',
+                'Required parameter "datastore" was null or undefined when calling newDatastore().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/config/datastore`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: DatastoreToJSON(requestParameters['datastore']),
+        }, initOverrides);
+
+        if (this.isJsonMime(response.headers.get('content-type'))) {
+            return new runtime.JSONApiResponse<number>(response);
+        } else {
+            return new runtime.TextApiResponse(response) as any;
+        }
+    }
+
+    /**
+     * Create a new Datastore
+     */
+    async newDatastore(datastore: Datastore, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<number> {
+        const response = await this.newDatastoreRaw({ datastore: datastore }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Test a Datastore connection
+     */
+    async testDatastoreRaw(requestParameters: ConfigApiTestDatastoreRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<DatastoreTestResponse>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling testDatastore().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/config/datastore/{id}/test`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => DatastoreTestResponseFromJSON(jsonValue));
+    }
+
+    /**
+     * Test a Datastore connection
+     */
+    async testDatastore(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<DatastoreTestResponse> {
+        const response = await this.testDatastoreRaw({ id: id }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Update an existing Datastore definition
+     */
+    async updateDatastoreRaw(requestParameters: ConfigApiUpdateDatastoreRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<number>> {
+        if (requestParameters['datastore'] == null) {
+            throw new runtime.RequiredError(
+                'datastore',
+                'Required parameter "datastore" was null or undefined when calling updateDatastore().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/config/datastore`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'PUT',
+            headers: headerParameters,
+            query: queryParameters,
+            body: DatastoreToJSON(requestParameters['datastore']),
+        }, initOverrides);
+
+        if (this.isJsonMime(response.headers.get('content-type'))) {
+            return new runtime.JSONApiResponse<number>(response);
+        } else {
+            return new runtime.TextApiResponse(response) as any;
+        }
+    }
+
+    /**
+     * Update an existing Datastore definition
+     */
+    async updateDatastore(datastore: Datastore, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<number> {
+        const response = await this.updateDatastoreRaw({ datastore: datastore }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Obtain version of the running Horreum instance
+     */
+    async versionRaw(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<VersionInfo>> {
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/config/version`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => VersionInfoFromJSON(jsonValue));
+    }
+
+    /**
+     * Obtain version of the running Horreum instance
+     */
+    async version(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<VersionInfo> {
+        const response = await this.versionRaw(initOverrides);
+        return await response.value();
+    }
+
+}
@@ -0,0 +1,428 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+import * as runtime from '../runtime';
+import type {
+  Dataset,
+  DatasetList,
+  DatasetSummary,
+  Label,
+  LabelPreview,
+  LabelValue,
+  SortDirection,
+} from '../models/index';
+import {
+    DatasetFromJSON,
+    DatasetToJSON,
+    DatasetListFromJSON,
+    DatasetListToJSON,
+    DatasetSummaryFromJSON,
+    DatasetSummaryToJSON,
+    LabelFromJSON,
+    LabelToJSON,
+    LabelPreviewFromJSON,
+    LabelPreviewToJSON,
+    LabelValueFromJSON,
+    LabelValueToJSON,
+    SortDirectionFromJSON,
+    SortDirectionToJSON,
+} from '../models/index';
+
+export interface DatasetApiGetDatasetRequest {
+    id: number;
+}
+
+export interface DatasetApiGetDatasetLabelValuesRequest {
+    datasetId: number;
+}
+
+export interface DatasetApiGetDatasetSummaryRequest {
+    datasetId: number;
+    viewId?: number;
+}
+
+export interface DatasetApiListByRunRequest {
+    runId: number;
+    filter?: string;
+    limit?: number;
+    page?: number;
+    sort?: string;
+    direction?: SortDirection;
+    viewId?: number;
+}
+
+export interface DatasetApiListByTestRequest {
+    testId: number;
+    filter?: string;
+    limit?: number;
+    page?: number;
+    sort?: string;
+    direction?: SortDirection;
+    viewId?: number;
+}
+
+export interface DatasetApiListDatasetsBySchemaRequest {
+    uri: string;
+    limit?: number;
+    page?: number;
+    sort?: string;
+    direction?: SortDirection;
+}
+
+export interface DatasetApiPreviewLabelRequest {
+    datasetId: number;
+    label: Label;
+}
+
+/**
+ * 
+ */
+export class DatasetApi extends runtime.BaseAPI {
+
+    /**
+     * Retrieve Dataset by ID
+     */
+    async getDatasetRaw(requestParameters: DatasetApiGetDatasetRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Dataset>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling getDataset().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/dataset/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => DatasetFromJSON(jsonValue));
+    }
+
+    /**
+     * Retrieve Dataset by ID
+     */
+    async getDataset(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Dataset> {
+        const response = await this.getDatasetRaw({ id: id }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async getDatasetLabelValuesRaw(requestParameters: DatasetApiGetDatasetLabelValuesRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<LabelValue>>> {
+        if (requestParameters['datasetId'] == null) {
+            throw new runtime.RequiredError(
+                'datasetId',
+                'Required parameter "datasetId" was null or undefined when calling getDatasetLabelValues().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/dataset/{datasetId}/labelValues`;
+        urlPath = urlPath.replace(`{${"datasetId"}}`, encodeURIComponent(String(requestParameters['datasetId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(LabelValueFromJSON));
+    }
+
+    /**
+     */
+    async getDatasetLabelValues(datasetId: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<LabelValue>> {
+        const response = await this.getDatasetLabelValuesRaw({ datasetId: datasetId }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async getDatasetSummaryRaw(requestParameters: DatasetApiGetDatasetSummaryRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<DatasetSummary>> {
+        if (requestParameters['datasetId'] == null) {
+            throw new runtime.RequiredError(
+                'datasetId',
+                'Required parameter "datasetId" was null or undefined when calling getDatasetSummary().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['viewId'] != null) {
+            queryParameters['viewId'] = requestParameters['viewId'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/dataset/{datasetId}/summary`;
+        urlPath = urlPath.replace(`{${"datasetId"}}`, encodeURIComponent(String(requestParameters['datasetId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => DatasetSummaryFromJSON(jsonValue));
+    }
+
+    /**
+     */
+    async getDatasetSummary(datasetId: number, viewId?: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<DatasetSummary> {
+        const response = await this.getDatasetSummaryRaw({ datasetId: datasetId, viewId: viewId }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve a paginated list of Datasets, with total count, by Run
+     */
+    async listByRunRaw(requestParameters: DatasetApiListByRunRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<DatasetList>> {
+        if (requestParameters['runId'] == null) {
+            throw new runtime.RequiredError(
+                'runId',
+                'Required parameter "runId" was null or undefined when calling listByRun().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['filter'] != null) {
+            queryParameters['filter'] = requestParameters['filter'];
+        }
+
+        if (requestParameters['limit'] != null) {
+            queryParameters['limit'] = requestParameters['limit'];
+        }
+
+        if (requestParameters['page'] != null) {
+            queryParameters['page'] = requestParameters['page'];
+        }
+
+        if (requestParameters['sort'] != null) {
+            queryParameters['sort'] = requestParameters['sort'];
+        }
+
+        if (requestParameters['direction'] != null) {
+            queryParameters['direction'] = requestParameters['direction'];
+        }
+
+        if (requestParameters['viewId'] != null) {
+            queryParameters['viewId'] = requestParameters['viewId'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/dataset/list/byRun/{runId}`;
+        urlPath = urlPath.replace(`{${"runId"}}`, encodeURIComponent(String(requestParameters['runId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => DatasetListFromJSON(jsonValue));
+    }
+
+    /**
+     * Retrieve a paginated list of Datasets, with total count, by Run
+     */
+    async listByRun(runId: number, filter?: string, limit?: number, page?: number, sort?: string, direction?: SortDirection, viewId?: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<DatasetList> {
+        const response = await this.listByRunRaw({ runId: runId, filter: filter, limit: limit, page: page, sort: sort, direction: direction, viewId: viewId }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve a paginated list of Datasets, with total count, by Test
+     */
+    async listByTestRaw(requestParameters: DatasetApiListByTestRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<DatasetList>> {
+        if (requestParameters['testId'] == null) {
+            throw new runtime.RequiredError(
+                'testId',
+                'Required parameter "testId" was null or undefined when calling listByTest().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['filter'] != null) {
+            queryParameters['filter'] = requestParameters['filter'];
+        }
+
+        if (requestParameters['limit'] != null) {
+            queryParameters['limit'] = requestParameters['limit'];
+        }
+
+        if (requestParameters['page'] != null) {
+            queryParameters['page'] = requestParameters['page'];
+        }
+
+        if (requestParameters['sort'] != null) {
+            queryParameters['sort'] = requestParameters['sort'];
+        }
+
+        if (requestParameters['direction'] != null) {
+            queryParameters['direction'] = requestParameters['direction'];
+        }
+
+        if (requestParameters['viewId'] != null) {
+            queryParameters['viewId'] = requestParameters['viewId'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/dataset/list/byTest/{testId}`;
+        urlPath = urlPath.replace(`{${"testId"}}`, encodeURIComponent(String(requestParameters['testId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => DatasetListFromJSON(jsonValue));
+    }
+
+    /**
+     * Retrieve a paginated list of Datasets, with total count, by Test
+     */
+    async listByTest(testId: number, filter?: string, limit?: number, page?: number, sort?: string, direction?: SortDirection, viewId?: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<DatasetList> {
+        const response = await this.listByTestRaw({ testId: testId, filter: filter, limit: limit, page: page, sort: sort, direction: direction, viewId: viewId }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve a paginated list of Datasets, with total count, by Schema
+     */
+    async listDatasetsBySchemaRaw(requestParameters: DatasetApiListDatasetsBySchemaRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<DatasetList>> {
+        if (requestParameters['uri'] == null) {
+            throw new runtime.RequiredError(
+                'uri',
+                'Required parameter "uri" was null or undefined when calling listDatasetsBySchema().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['uri'] != null) {
+            queryParameters['uri'] = requestParameters['uri'];
+        }
+
+        if (requestParameters['limit'] != null) {
+            queryParameters['limit'] = requestParameters['limit'];
+        }
+
+        if (requestParameters['page'] != null) {
+            queryParameters['page'] = requestParameters['page'];
+        }
+
+        if (requestParameters['sort'] != null) {
+            queryParameters['sort'] = requestParameters['sort'];
+        }
+
+        if (requestParameters['direction'] != null) {
+            queryParameters['direction'] = requestParameters['direction'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/dataset/list/bySchema`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => DatasetListFromJSON(jsonValue));
+    }
+
+    /**
+     * Retrieve a paginated list of Datasets, with total count, by Schema
+     */
+    async listDatasetsBySchema(uri: string, limit?: number, page?: number, sort?: string, direction?: SortDirection, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<DatasetList> {
+        const response = await this.listDatasetsBySchemaRaw({ uri: uri, limit: limit, page: page, sort: sort, direction: direction }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async previewLabelRaw(requestParameters: DatasetApiPreviewLabelRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<LabelPreview>> {
+        if (requestParameters['datasetId'] == null) {
+            throw new runtime.RequiredError(
+                'datasetId',
+                'Required parameter "datasetId" was null or undefined when calling previewLabel().'
+            );
+        }
+
+        if (requestParameters['label'] == null) {
+            throw new runtime.RequiredError(
+                'label',
+                'Required parameter "label" was null or undefined when calling previewLabel().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/dataset/{datasetId}/previewLabel`;
+        urlPath = urlPath.replace(`{${"datasetId"}}`, encodeURIComponent(String(requestParameters['datasetId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: LabelToJSON(requestParameters['label']),
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => LabelPreviewFromJSON(jsonValue));
+    }
+
+    /**
+     */
+    async previewLabel(datasetId: number, label: Label, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<LabelPreview> {
+        const response = await this.previewLabelRaw({ datasetId: datasetId, label: label }, initOverrides);
+        return await response.value();
+    }
+
+}
@@ -0,0 +1,248 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+import * as runtime from '../runtime';
+import type {
+  ConditionConfig,
+  ExperimentProfile,
+  ExperimentResult,
+} from '../models/index';
+import {
+    ConditionConfigFromJSON,
+    ConditionConfigToJSON,
+    ExperimentProfileFromJSON,
+    ExperimentProfileToJSON,
+    ExperimentResultFromJSON,
+    ExperimentResultToJSON,
+} from '../models/index';
+
+export interface ExperimentApiAddOrUpdateProfileRequest {
+    testId: number;
+    experimentProfile: ExperimentProfile;
+}
+
+export interface ExperimentApiDeleteProfileRequest {
+    testId: number;
+    profileId: number;
+}
+
+export interface ExperimentApiProfilesRequest {
+    testId: number;
+}
+
+export interface ExperimentApiRunExperimentsRequest {
+    datasetId?: number;
+}
+
+/**
+ * 
+ */
+export class ExperimentApi extends runtime.BaseAPI {
+
+    /**
+     * Save new or update existing Experiment Profiles for a Test 
+     */
+    async addOrUpdateProfileRaw(requestParameters: ExperimentApiAddOrUpdateProfileRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<number>> {
+        if (requestParameters['testId'] == null) {
+            throw new runtime.RequiredError(
+                'testId',
+                'Required parameter "testId" was null or undefined when calling addOrUpdateProfile().'
+            );
+        }
+
+        if (requestParameters['experimentProfile'] == null) {
+            throw new runtime.RequiredError(
+                'experimentProfile',
+                'Required parameter "experimentProfile" was null or undefined when calling addOrUpdateProfile().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/experiment/{testId}/profiles`;
+        urlPath = urlPath.replace(`{${"testId"}}`, encodeURIComponent(String(requestParameters['testId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: ExperimentProfileToJSON(requestParameters['experimentProfile']),
+        }, initOverrides);
+
+        if (this.isJsonMime(response.headers.get('content-type'))) {
+            return new runtime.JSONApiResponse<number>(response);
+        } else {
+            return new runtime.TextApiResponse(response) as any;
+        }
+    }
+
+    /**
+     * Save new or update existing Experiment Profiles for a Test 
+     */
+    async addOrUpdateProfile(testId: number, experimentProfile: ExperimentProfile, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<number> {
+        const response = await this.addOrUpdateProfileRaw({ testId: testId, experimentProfile: experimentProfile }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Delete an Experiment Profiles for a Test
+     */
+    async deleteProfileRaw(requestParameters: ExperimentApiDeleteProfileRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['testId'] == null) {
+            throw new runtime.RequiredError(
+                'testId',
+                'Required parameter "testId" was null or undefined when calling deleteProfile().'
+            );
+        }
+
+        if (requestParameters['profileId'] == null) {
+            throw new runtime.RequiredError(
+                'profileId',
+                'Required parameter "profileId" was null or undefined when calling deleteProfile().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/experiment/{testId}/profiles/{profileId}`;
+        urlPath = urlPath.replace(`{${"testId"}}`, encodeURIComponent(String(requestParameters['testId'])));
+        urlPath = urlPath.replace(`{${"profileId"}}`, encodeURIComponent(String(requestParameters['profileId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'DELETE',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     * Delete an Experiment Profiles for a Test
+     */
+    async deleteProfile(testId: number, profileId: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.deleteProfileRaw({ testId: testId, profileId: profileId }, initOverrides);
+    }
+
+    /**
+     * Retrieve a list of Condition Config models
+     */
+    async modelsRaw(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<ConditionConfig>>> {
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/experiment/models`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(ConditionConfigFromJSON));
+    }
+
+    /**
+     * Retrieve a list of Condition Config models
+     */
+    async models(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<ConditionConfig>> {
+        const response = await this.modelsRaw(initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve Experiment Profiles by Test ID
+     */
+    async profilesRaw(requestParameters: ExperimentApiProfilesRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<ExperimentProfile>>> {
+        if (requestParameters['testId'] == null) {
+            throw new runtime.RequiredError(
+                'testId',
+                'Required parameter "testId" was null or undefined when calling profiles().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/experiment/{testId}/profiles`;
+        urlPath = urlPath.replace(`{${"testId"}}`, encodeURIComponent(String(requestParameters['testId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(ExperimentProfileFromJSON));
+    }
+
+    /**
+     * Retrieve Experiment Profiles by Test ID
+     */
+    async profiles(testId: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<ExperimentProfile>> {
+        const response = await this.profilesRaw({ testId: testId }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Run an experiment for a given dataset and experiment profile
+     */
+    async runExperimentsRaw(requestParameters: ExperimentApiRunExperimentsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<ExperimentResult>>> {
+        const queryParameters: any = {};
+
+        if (requestParameters['datasetId'] != null) {
+            queryParameters['datasetId'] = requestParameters['datasetId'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/experiment/run`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(ExperimentResultFromJSON));
+    }
+
+    /**
+     * Run an experiment for a given dataset and experiment profile
+     */
+    async runExperiments(datasetId?: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<ExperimentResult>> {
+        const response = await this.runExperimentsRaw({ datasetId: datasetId }, initOverrides);
+        return await response.value();
+    }
+
+}
@@ -0,0 +1,1084 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+import * as runtime from '../runtime';
+import type {
+  Access,
+  Label,
+  LabelInfo,
+  LabelLocation,
+  Schema,
+  SchemaDescriptor,
+  SchemaExport,
+  SchemaQueryResult,
+  SortDirection,
+  Transformer,
+  TransformerInfo,
+} from '../models/index';
+import {
+    AccessFromJSON,
+    AccessToJSON,
+    LabelFromJSON,
+    LabelToJSON,
+    LabelInfoFromJSON,
+    LabelInfoToJSON,
+    LabelLocationFromJSON,
+    LabelLocationToJSON,
+    SchemaFromJSON,
+    SchemaToJSON,
+    SchemaDescriptorFromJSON,
+    SchemaDescriptorToJSON,
+    SchemaExportFromJSON,
+    SchemaExportToJSON,
+    SchemaQueryResultFromJSON,
+    SchemaQueryResultToJSON,
+    SortDirectionFromJSON,
+    SortDirectionToJSON,
+    TransformerFromJSON,
+    TransformerToJSON,
+    TransformerInfoFromJSON,
+    TransformerInfoToJSON,
+} from '../models/index';
+
+export interface SchemaApiAddLabelsRequest {
+    schemaId: number;
+    label: Array<Label>;
+}
+
+export interface SchemaApiAddSchemaRequest {
+    schema: Schema;
+}
+
+export interface SchemaApiAddSchemaWithImportRequest {
+    schemaExport: SchemaExport;
+}
+
+export interface SchemaApiAddTransformerRequest {
+    schemaId: number;
+    transformer: Transformer;
+}
+
+export interface SchemaApiAllLabelsRequest {
+    name?: string;
+}
+
+export interface SchemaApiDeleteLabelRequest {
+    schemaId: number;
+    labelId: number;
+}
+
+export interface SchemaApiDeleteSchemaRequest {
+    id: number;
+}
+
+export interface SchemaApiDeleteTransformerRequest {
+    schemaId: number;
+    transformerId: number;
+}
+
+export interface SchemaApiDescriptorsRequest {
+    id?: Array<number>;
+}
+
+export interface SchemaApiExportSchemaRequest {
+    id: number;
+}
+
+export interface SchemaApiFindUsagesRequest {
+    label: string;
+}
+
+export interface SchemaApiGetSchemaRequest {
+    id: number;
+}
+
+export interface SchemaApiIdByUriRequest {
+    uri: string;
+}
+
+export interface SchemaApiLabelsRequest {
+    schemaId: number;
+}
+
+export interface SchemaApiListSchemasRequest {
+    limit?: number;
+    page?: number;
+    sort?: string;
+    direction?: SortDirection;
+    roles?: string;
+    name?: string;
+}
+
+export interface SchemaApiListTransformersRequest {
+    schemaId: number;
+}
+
+export interface SchemaApiUpdateLabelsRequest {
+    schemaId: number;
+    label: Array<Label>;
+}
+
+export interface SchemaApiUpdateSchemaRequest {
+    schema: Schema;
+}
+
+export interface SchemaApiUpdateSchemaAccessRequest {
+    id: number;
+    owner: string;
+    access: Access;
+}
+
+export interface SchemaApiUpdateSchemaWithImportRequest {
+    schemaExport: SchemaExport;
+}
+
+export interface SchemaApiUpdateTransformerRequest {
+    schemaId: number;
+    transformer: Transformer;
+}
+
+/**
+ * 
+ */
+export class SchemaApi extends runtime.BaseAPI {
+
+    /**
+     * Save new Label for a Schema
+     */
+    async addLabelsRaw(requestParameters: SchemaApiAddLabelsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<number>>> {
+        if (requestParameters['schemaId'] == null) {
+            throw new runtime.RequiredError(
+                'schemaId',
+                'Required parameter "schemaId" was null or undefined when calling addLabels().'
+            );
+        }
+
+        if (requestParameters['label'] == null) {
+            throw new runtime.RequiredError(
+                'label',
+                'Required parameter "label" was null or undefined when calling addLabels().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/schema/{schemaId}/labels`;
+        urlPath = urlPath.replace(`{${"schemaId"}}`, encodeURIComponent(String(requestParameters['schemaId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: requestParameters['label']!.map(LabelToJSON),
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse<any>(response);
+    }
+
+    /**
+     * Save new Label for a Schema
+     */
+    async addLabels(schemaId: number, label: Array<Label>, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<number>> {
+        const response = await this.addLabelsRaw({ schemaId: schemaId, label: label }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Save a new Schema
+     */
+    async addSchemaRaw(requestParameters: SchemaApiAddSchemaRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<number>> {
+        if (requestParameters['schema'] == null) {
+            throw new runtime.RequiredError(
+                'schema',
+                'Required parameter "schema" was null or undefined when calling addSchema().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/schema`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: SchemaToJSON(requestParameters['schema']),
+        }, initOverrides);
+
+        if (this.isJsonMime(response.headers.get('content-type'))) {
+            return new runtime.JSONApiResponse<number>(response);
+        } else {
+            return new runtime.TextApiResponse(response) as any;
+        }
+    }
+
+    /**
+     * Save a new Schema
+     */
+    async addSchema(schema: Schema, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<number> {
+        const response = await this.addSchemaRaw({ schema: schema }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Import a previously exported Schema as a new Schema
+     */
+    async addSchemaWithImportRaw(requestParameters: SchemaApiAddSchemaWithImportRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<number>> {
+        if (requestParameters['schemaExport'] == null) {
+            throw new runtime.RequiredError(
+                'schemaExport',
+                'Required parameter "schemaExport" was null or undefined when calling addSchemaWithImport().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/schema/import`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: SchemaExportToJSON(requestParameters['schemaExport']),
+        }, initOverrides);
+
+        if (this.isJsonMime(response.headers.get('content-type'))) {
+            return new runtime.JSONApiResponse<number>(response);
+        } else {
+            return new runtime.TextApiResponse(response) as any;
+        }
+    }
+
+    /**
+     * Import a previously exported Schema as a new Schema
+     */
+    async addSchemaWithImport(schemaExport: SchemaExport, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<number> {
+        const response = await this.addSchemaWithImportRaw({ schemaExport: schemaExport }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Save new or update existing Transformer definition
+     */
+    async addTransformerRaw(requestParameters: SchemaApiAddTransformerRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<number>> {
+        if (requestParameters['schemaId'] == null) {
+            throw new runtime.RequiredError(
+                'schemaId',
+                'Required parameter "schemaId" was null or undefined when calling addTransformer().'
+            );
+        }
+
+        if (requestParameters['transformer'] == null) {
+            throw new runtime.RequiredError(
+                'transformer',
+                'Required parameter "transformer" was null or undefined when calling addTransformer().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/schema/{schemaId}/transformers`;
+        urlPath = urlPath.replace(`{${"schemaId"}}`, encodeURIComponent(String(requestParameters['schemaId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: TransformerToJSON(requestParameters['transformer']),
+        }, initOverrides);
+
+        if (this.isJsonMime(response.headers.get('content-type'))) {
+            return new runtime.JSONApiResponse<number>(response);
+        } else {
+            return new runtime.TextApiResponse(response) as any;
+        }
+    }
+
+    /**
+     * Save new or update existing Transformer definition
+     */
+    async addTransformer(schemaId: number, transformer: Transformer, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<number> {
+        const response = await this.addTransformerRaw({ schemaId: schemaId, transformer: transformer }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve list of Labels for ny name. Allows users to retrieve all Label Definitions that have the same name
+     */
+    async allLabelsRaw(requestParameters: SchemaApiAllLabelsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<LabelInfo>>> {
+        const queryParameters: any = {};
+
+        if (requestParameters['name'] != null) {
+            queryParameters['name'] = requestParameters['name'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema/allLabels`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(LabelInfoFromJSON));
+    }
+
+    /**
+     * Retrieve list of Labels for ny name. Allows users to retrieve all Label Definitions that have the same name
+     */
+    async allLabels(name?: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<LabelInfo>> {
+        const response = await this.allLabelsRaw({ name: name }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve all transformers
+     */
+    async allTransformersRaw(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<TransformerInfo>>> {
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema/allTransformers`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(TransformerInfoFromJSON));
+    }
+
+    /**
+     * Retrieve all transformers
+     */
+    async allTransformers(initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<TransformerInfo>> {
+        const response = await this.allTransformersRaw(initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Delete existing Label from a Schema
+     */
+    async deleteLabelRaw(requestParameters: SchemaApiDeleteLabelRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['schemaId'] == null) {
+            throw new runtime.RequiredError(
+                'schemaId',
+                'Required parameter "schemaId" was null or undefined when calling deleteLabel().'
+            );
+        }
+
+        if (requestParameters['labelId'] == null) {
+            throw new runtime.RequiredError(
+                'labelId',
+                'Required parameter "labelId" was null or undefined when calling deleteLabel().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema/{schemaId}/labels/{labelId}`;
+        urlPath = urlPath.replace(`{${"schemaId"}}`, encodeURIComponent(String(requestParameters['schemaId'])));
+        urlPath = urlPath.replace(`{${"labelId"}}`, encodeURIComponent(String(requestParameters['labelId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'DELETE',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     * Delete existing Label from a Schema
+     */
+    async deleteLabel(schemaId: number, labelId: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.deleteLabelRaw({ schemaId: schemaId, labelId: labelId }, initOverrides);
+    }
+
+    /**
+     * Delete a Schema by id
+     */
+    async deleteSchemaRaw(requestParameters: SchemaApiDeleteSchemaRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling deleteSchema().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'DELETE',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     * Delete a Schema by id
+     */
+    async deleteSchema(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.deleteSchemaRaw({ id: id }, initOverrides);
+    }
+
+    /**
+     * Delete a Transformer defined for a Schema
+     */
+    async deleteTransformerRaw(requestParameters: SchemaApiDeleteTransformerRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['schemaId'] == null) {
+            throw new runtime.RequiredError(
+                'schemaId',
+                'Required parameter "schemaId" was null or undefined when calling deleteTransformer().'
+            );
+        }
+
+        if (requestParameters['transformerId'] == null) {
+            throw new runtime.RequiredError(
+                'transformerId',
+                'Required parameter "transformerId" was null or undefined when calling deleteTransformer().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema/{schemaId}/transformers/{transformerId}`;
+        urlPath = urlPath.replace(`{${"schemaId"}}`, encodeURIComponent(String(requestParameters['schemaId'])));
+        urlPath = urlPath.replace(`{${"transformerId"}}`, encodeURIComponent(String(requestParameters['transformerId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'DELETE',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     * Delete a Transformer defined for a Schema
+     */
+    async deleteTransformer(schemaId: number, transformerId: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.deleteTransformerRaw({ schemaId: schemaId, transformerId: transformerId }, initOverrides);
+    }
+
+    /**
+     * Retrieve a list of Schema Descriptors
+     */
+    async descriptorsRaw(requestParameters: SchemaApiDescriptorsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<SchemaDescriptor>>> {
+        const queryParameters: any = {};
+
+        if (requestParameters['id'] != null) {
+            queryParameters['id'] = requestParameters['id'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema/descriptors`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(SchemaDescriptorFromJSON));
+    }
+
+    /**
+     * Retrieve a list of Schema Descriptors
+     */
+    async descriptors(id?: Array<number>, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<SchemaDescriptor>> {
+        const response = await this.descriptorsRaw({ id: id }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Export a Schema
+     */
+    async exportSchemaRaw(requestParameters: SchemaApiExportSchemaRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<SchemaExport>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling exportSchema().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema/{id}/export`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => SchemaExportFromJSON(jsonValue));
+    }
+
+    /**
+     * Export a Schema
+     */
+    async exportSchema(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<SchemaExport> {
+        const response = await this.exportSchemaRaw({ id: id }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Find all usages of a Schema by label name
+     */
+    async findUsagesRaw(requestParameters: SchemaApiFindUsagesRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<LabelLocation>>> {
+        if (requestParameters['label'] == null) {
+            throw new runtime.RequiredError(
+                'label',
+                'Required parameter "label" was null or undefined when calling findUsages().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['label'] != null) {
+            queryParameters['label'] = requestParameters['label'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema/findUsages`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(LabelLocationFromJSON));
+    }
+
+    /**
+     * Find all usages of a Schema by label name
+     */
+    async findUsages(label: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<LabelLocation>> {
+        const response = await this.findUsagesRaw({ label: label }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve Schema by ID
+     */
+    async getSchemaRaw(requestParameters: SchemaApiGetSchemaRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Schema>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling getSchema().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => SchemaFromJSON(jsonValue));
+    }
+
+    /**
+     * Retrieve Schema by ID
+     */
+    async getSchema(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Schema> {
+        const response = await this.getSchemaRaw({ id: id }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve Schema ID by uri
+     */
+    async idByUriRaw(requestParameters: SchemaApiIdByUriRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<number>> {
+        if (requestParameters['uri'] == null) {
+            throw new runtime.RequiredError(
+                'uri',
+                'Required parameter "uri" was null or undefined when calling idByUri().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema/idByUri/{uri}`;
+        urlPath = urlPath.replace(`{${"uri"}}`, encodeURIComponent(String(requestParameters['uri'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        if (this.isJsonMime(response.headers.get('content-type'))) {
+            return new runtime.JSONApiResponse<number>(response);
+        } else {
+            return new runtime.TextApiResponse(response) as any;
+        }
+    }
+
+    /**
+     * Retrieve Schema ID by uri
+     */
+    async idByUri(uri: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<number> {
+        const response = await this.idByUriRaw({ uri: uri }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve list of Labels for a Schema by Schema ID
+     */
+    async labelsRaw(requestParameters: SchemaApiLabelsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<Label>>> {
+        if (requestParameters['schemaId'] == null) {
+            throw new runtime.RequiredError(
+                'schemaId',
+                'Required parameter "schemaId" was null or undefined when calling labels().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema/{schemaId}/labels`;
+        urlPath = urlPath.replace(`{${"schemaId"}}`, encodeURIComponent(String(requestParameters['schemaId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(LabelFromJSON));
+    }
+
+    /**
+     * Retrieve list of Labels for a Schema by Schema ID
+     */
+    async labels(schemaId: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<Label>> {
+        const response = await this.labelsRaw({ schemaId: schemaId }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve a paginated list of Schemas with available count
+     */
+    async listSchemasRaw(requestParameters: SchemaApiListSchemasRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<SchemaQueryResult>> {
+        const queryParameters: any = {};
+
+        if (requestParameters['limit'] != null) {
+            queryParameters['limit'] = requestParameters['limit'];
+        }
+
+        if (requestParameters['page'] != null) {
+            queryParameters['page'] = requestParameters['page'];
+        }
+
+        if (requestParameters['sort'] != null) {
+            queryParameters['sort'] = requestParameters['sort'];
+        }
+
+        if (requestParameters['direction'] != null) {
+            queryParameters['direction'] = requestParameters['direction'];
+        }
+
+        if (requestParameters['roles'] != null) {
+            queryParameters['roles'] = requestParameters['roles'];
+        }
+
+        if (requestParameters['name'] != null) {
+            queryParameters['name'] = requestParameters['name'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => SchemaQueryResultFromJSON(jsonValue));
+    }
+
+    /**
+     * Retrieve a paginated list of Schemas with available count
+     */
+    async listSchemas(limit?: number, page?: number, sort?: string, direction?: SortDirection, roles?: string, name?: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<SchemaQueryResult> {
+        const response = await this.listSchemasRaw({ limit: limit, page: page, sort: sort, direction: direction, roles: roles, name: name }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * List all Transformers defined for a Schema
+     */
+    async listTransformersRaw(requestParameters: SchemaApiListTransformersRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<Transformer>>> {
+        if (requestParameters['schemaId'] == null) {
+            throw new runtime.RequiredError(
+                'schemaId',
+                'Required parameter "schemaId" was null or undefined when calling listTransformers().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema/{schemaId}/transformers`;
+        urlPath = urlPath.replace(`{${"schemaId"}}`, encodeURIComponent(String(requestParameters['schemaId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(TransformerFromJSON));
+    }
+
+    /**
+     * List all Transformers defined for a Schema
+     */
+    async listTransformers(schemaId: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<Transformer>> {
+        const response = await this.listTransformersRaw({ schemaId: schemaId }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Update existing Label(s) for a Schema
+     */
+    async updateLabelsRaw(requestParameters: SchemaApiUpdateLabelsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<number>>> {
+        if (requestParameters['schemaId'] == null) {
+            throw new runtime.RequiredError(
+                'schemaId',
+                'Required parameter "schemaId" was null or undefined when calling updateLabels().'
+            );
+        }
+
+        if (requestParameters['label'] == null) {
+            throw new runtime.RequiredError(
+                'label',
+                'Required parameter "label" was null or undefined when calling updateLabels().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/schema/{schemaId}/labels`;
+        urlPath = urlPath.replace(`{${"schemaId"}}`, encodeURIComponent(String(requestParameters['schemaId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'PUT',
+            headers: headerParameters,
+            query: queryParameters,
+            body: requestParameters['label']!.map(LabelToJSON),
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse<any>(response);
+    }
+
+    /**
+     * Update existing Label(s) for a Schema
+     */
+    async updateLabels(schemaId: number, label: Array<Label>, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<number>> {
+        const response = await this.updateLabelsRaw({ schemaId: schemaId, label: label }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Update an existing Schema
+     */
+    async updateSchemaRaw(requestParameters: SchemaApiUpdateSchemaRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<number>> {
+        if (requestParameters['schema'] == null) {
+            throw new runtime.RequiredError(
+                'schema',
+                'Required parameter "schema" was null or undefined when calling updateSchema().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/schema`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'PUT',
+            headers: headerParameters,
+            query: queryParameters,
+            body: SchemaToJSON(requestParameters['schema']),
+        }, initOverrides);
+
+        if (this.isJsonMime(response.headers.get('content-type'))) {
+            return new runtime.JSONApiResponse<number>(response);
+        } else {
+            return new runtime.TextApiResponse(response) as any;
+        }
+    }
+
+    /**
+     * Update an existing Schema
+     */
+    async updateSchema(schema: Schema, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<number> {
+        const response = await this.updateSchemaRaw({ schema: schema }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Update the Access configuration for a Schema
+     */
+    async updateSchemaAccessRaw(requestParameters: SchemaApiUpdateSchemaAccessRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling updateSchemaAccess().'
+            );
+        }
+
+        if (requestParameters['owner'] == null) {
+            throw new runtime.RequiredError(
+                'owner',
+                'Required parameter "owner" was null or undefined when calling updateSchemaAccess().'
+            );
+        }
+
+        if (requestParameters['access'] == null) {
+            throw new runtime.RequiredError(
+                'access',
+                'Required parameter "access" was null or undefined when calling updateSchemaAccess().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['owner'] != null) {
+            queryParameters['owner'] = requestParameters['owner'];
+        }
+
+        if (requestParameters['access'] != null) {
+            queryParameters['access'] = requestParameters['access'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/schema/{id}/updateAccess`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     * Update the Access configuration for a Schema
+     */
+    async updateSchemaAccess(id: number, owner: string, access: Access, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.updateSchemaAccessRaw({ id: id, owner: owner, access: access }, initOverrides);
+    }
+
+    /**
+     * Update an existing Schema using its previously exported version
+     */
+    async updateSchemaWithImportRaw(requestParameters: SchemaApiUpdateSchemaWithImportRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<number>> {
+        if (requestParameters['schemaExport'] == null) {
+            throw new runtime.RequiredError(
+                'schemaExport',
+                'Required parameter "schemaExport" was null or undefined when calling updateSchemaWithImport().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/schema/import`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'PUT',
+            headers: headerParameters,
+            query: queryParameters,
+            body: SchemaExportToJSON(requestParameters['schemaExport']),
+        }, initOverrides);
+
+        if (this.isJsonMime(response.headers.get('content-type'))) {
+            return new runtime.JSONApiResponse<number>(response);
+        } else {
+            return new runtime.TextApiResponse(response) as any;
+        }
+    }
+
+    /**
+     * Update an existing Schema using its previously exported version
+     */
+    async updateSchemaWithImport(schemaExport: SchemaExport, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<number> {
+        const response = await this.updateSchemaWithImportRaw({ schemaExport: schemaExport }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Save new or update existing Transformer definition
+     */
+    async updateTransformerRaw(requestParameters: SchemaApiUpdateTransformerRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<number>> {
+        if (requestParameters['schemaId'] == null) {
+            throw new runtime.RequiredError(
+                'schemaId',
+                'Required parameter "schemaId" was null or undefined when calling updateTransformer().'
+            );
+        }
+
+        if (requestParameters['transformer'] == null) {
+            throw new runtime.RequiredError(
+                'transformer',
+                'Required parameter "transformer" was null or undefined when calling updateTransformer().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/schema/{schemaId}/transformers`;
+        urlPath = urlPath.replace(`{${"schemaId"}}`, encodeURIComponent(String(requestParameters['schemaId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'PUT',
+            headers: headerParameters,
+            query: queryParameters,
+            body: TransformerToJSON(requestParameters['transformer']),
+        }, initOverrides);
+
+        if (this.isJsonMime(response.headers.get('content-type'))) {
+            return new runtime.JSONApiResponse<number>(response);
+        } else {
+            return new runtime.TextApiResponse(response) as any;
+        }
+    }
+
+    /**
+     * Save new or update existing Transformer definition
+     */
+    async updateTransformer(schemaId: number, transformer: Transformer, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<number> {
+        const response = await this.updateTransformerRaw({ schemaId: schemaId, transformer: transformer }, initOverrides);
+        return await response.value();
+    }
+
+}
@@ -0,0 +1,218 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+import * as runtime from '../runtime';
+import type {
+  Watch,
+} from '../models/index';
+import {
+    WatchFromJSON,
+    WatchToJSON,
+} from '../models/index';
+
+export interface SubscriptionsApiAddUserOrTeamRequest {
+    testid: number;
+    body: string;
+}
+
+export interface SubscriptionsApiGetSubscriptionRequest {
+    testId: number;
+}
+
+export interface SubscriptionsApiRemoveUserOrTeamRequest {
+    testid: number;
+    body: string;
+}
+
+export interface SubscriptionsApiUpdateSubscriptionRequest {
+    testid: number;
+    watch: Watch;
+}
+
+/**
+ * 
+ */
+export class SubscriptionsApi extends runtime.BaseAPI {
+
+    /**
+     */
+    async addUserOrTeamRaw(requestParameters: SubscriptionsApiAddUserOrTeamRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<string>>> {
+        if (requestParameters['testid'] == null) {
+            throw new runtime.RequiredError(
+                'testid',
+                'Required parameter "testid" was null or undefined when calling addUserOrTeam().'
+            );
+        }
+
+        if (requestParameters['body'] == null) {
+            throw new runtime.RequiredError(
+                'body',
+                'Required parameter "body" was null or undefined when calling addUserOrTeam().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/subscriptions/{testid}/add`;
+        urlPath = urlPath.replace(`{${"testid"}}`, encodeURIComponent(String(requestParameters['testid'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: requestParameters['body'] as any,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse<any>(response);
+    }
+
+    /**
+     */
+    async addUserOrTeam(testid: number, body: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<string>> {
+        const response = await this.addUserOrTeamRaw({ testid: testid, body: body }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async getSubscriptionRaw(requestParameters: SubscriptionsApiGetSubscriptionRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Watch>> {
+        if (requestParameters['testId'] == null) {
+            throw new runtime.RequiredError(
+                'testId',
+                'Required parameter "testId" was null or undefined when calling getSubscription().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/subscriptions/{testId}`;
+        urlPath = urlPath.replace(`{${"testId"}}`, encodeURIComponent(String(requestParameters['testId'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => WatchFromJSON(jsonValue));
+    }
+
+    /**
+     */
+    async getSubscription(testId: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Watch> {
+        const response = await this.getSubscriptionRaw({ testId: testId }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async removeUserOrTeamRaw(requestParameters: SubscriptionsApiRemoveUserOrTeamRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<string>>> {
+        if (requestParameters['testid'] == null) {
+            throw new runtime.RequiredError(
+                'testid',
+                'Required parameter "testid" was null or undefined when calling removeUserOrTeam().'
+            );
+        }
+
+        if (requestParameters['body'] == null) {
+            throw new runtime.RequiredError(
+                'body',
+                'Required parameter "body" was null or undefined when calling removeUserOrTeam().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/subscriptions/{testid}/remove`;
+        urlPath = urlPath.replace(`{${"testid"}}`, encodeURIComponent(String(requestParameters['testid'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: requestParameters['body'] as any,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse<any>(response);
+    }
+
+    /**
+     */
+    async removeUserOrTeam(testid: number, body: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<string>> {
+        const response = await this.removeUserOrTeamRaw({ testid: testid, body: body }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     */
+    async updateSubscriptionRaw(requestParameters: SubscriptionsApiUpdateSubscriptionRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['testid'] == null) {
+            throw new runtime.RequiredError(
+                'testid',
+                'Required parameter "testid" was null or undefined when calling updateSubscription().'
+            );
+        }
+
+        if (requestParameters['watch'] == null) {
+            throw new runtime.RequiredError(
+                'watch',
+                'Required parameter "watch" was null or undefined when calling updateSubscription().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/subscriptions/{testid}`;
+        urlPath = urlPath.replace(`{${"testid"}}`, encodeURIComponent(String(requestParameters['testid'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: WatchToJSON(requestParameters['watch']),
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     */
+    async updateSubscription(testid: number, watch: Watch, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.updateSubscriptionRaw({ testid: testid, watch: watch }, initOverrides);
+    }
+
+}
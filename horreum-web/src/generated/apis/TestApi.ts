@@ -0,0 +1,1070 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+import * as runtime from '../runtime';
+import type {
+  Access,
+  ExportedLabelValues,
+  Fingerprints,
+  RecalculationStatus,
+  SortDirection,
+  Test,
+  TestExport,
+  TestListing,
+  TestQueryResult,
+} from '../models/index';
+import {
+    AccessFromJSON,
+    AccessToJSON,
+    ExportedLabelValuesFromJSON,
+    ExportedLabelValuesToJSON,
+    FingerprintsFromJSON,
+    FingerprintsToJSON,
+    RecalculationStatusFromJSON,
+    RecalculationStatusToJSON,
+    SortDirectionFromJSON,
+    SortDirectionToJSON,
+    TestFromJSON,
+    TestToJSON,
+    TestExportFromJSON,
+    TestExportToJSON,
+    TestListingFromJSON,
+    TestListingToJSON,
+    TestQueryResultFromJSON,
+    TestQueryResultToJSON,
+} from '../models/index';
+
+export interface TestApiAddTestRequest {
+    test: Test;
+}
+
+export interface TestApiAddTestWithImportRequest {
+    testExport: TestExport;
+}
+
+export interface TestApiDeleteTestRequest {
+    id: number;
+}
+
+export interface TestApiExportTestRequest {
+    id: number;
+}
+
+export interface TestApiFilteringLabelValuesRequest {
+    id: number;
+}
+
+export interface TestApiFilteringLabelsRequest {
+    id: number;
+}
+
+export interface TestApiFoldersRequest {
+    roles?: string;
+}
+
+export interface TestApiGetByNameOrIdRequest {
+    name: string;
+}
+
+export interface TestApiGetTestRequest {
+    id: number;
+}
+
+export interface TestApiGetTestLabelValuesRequest {
+    id: number;
+    filtering?: boolean;
+    metrics?: boolean;
+    filter?: string;
+    before?: string;
+    after?: string;
+    sort?: string;
+    direction?: string;
+    limit?: number;
+    page?: number;
+    include?: Array<string>;
+    exclude?: Array<string>;
+    multiFilter?: boolean;
+}
+
+export interface TestApiGetTestRecalculationStatusRequest {
+    id: number;
+}
+
+export interface TestApiGetTestSummaryRequest {
+    roles?: string;
+    folder?: string;
+    limit?: number;
+    page?: number;
+    direction?: SortDirection;
+    name?: string;
+}
+
+export interface TestApiListFingerprintsRequest {
+    id: number;
+}
+
+export interface TestApiListTestsRequest {
+    roles?: string;
+    limit?: number;
+    page?: number;
+    sort?: string;
+    direction?: SortDirection;
+}
+
+export interface TestApiRecalculateTestDatasetsRequest {
+    id: number;
+}
+
+export interface TestApiUpdateFolderRequest {
+    id: number;
+    folder?: string;
+}
+
+export interface TestApiUpdateNotificationsRequest {
+    id: number;
+    enabled: boolean;
+}
+
+export interface TestApiUpdateTestRequest {
+    test: Test;
+}
+
+export interface TestApiUpdateTestAccessRequest {
+    id: number;
+    owner: string;
+    access: Access;
+}
+
+export interface TestApiUpdateTestWithImportRequest {
+    testExport: TestExport;
+}
+
+export interface TestApiUpdateTransformersRequest {
+    id: number;
+    requestBody: Array<number>;
+}
+
+/**
+ * 
+ */
+export class TestApi extends runtime.BaseAPI {
+
+    /**
+     * Create a new test
+     */
+    async addTestRaw(requestParameters: TestApiAddTestRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Test>> {
+        if (requestParameters['test'] == null) {
+            throw new runtime.RequiredError(
+                'test',
+                'Required parameter "test" was null or undefined when calling addTest().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/test`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: TestToJSON(requestParameters['test']),
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => TestFromJSON(jsonValue));
+    }
+
+    /**
+     * Create a new test
+     */
+    async addTest(test: Test, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Test> {
+        const response = await this.addTestRaw({ test: test }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Import a previously exported Test as new Test
+     */
+    async addTestWithImportRaw(requestParameters: TestApiAddTestWithImportRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<number>> {
+        if (requestParameters['testExport'] == null) {
+            throw new runtime.RequiredError(
+                'testExport',
+                'Required parameter "testExport" was null or undefined when calling addTestWithImport().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/test/import`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: TestExportToJSON(requestParameters['testExport']),
+        }, initOverrides);
+
+        if (this.isJsonMime(response.headers.get('content-type'))) {
+            return new runtime.JSONApiResponse<number>(response);
+        } else {
+            return new runtime.TextApiResponse(response) as any;
+        }
+    }
+
+    /**
+     * Import a previously exported Test as new Test
+     */
+    async addTestWithImport(testExport: TestExport, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<number> {
+        const response = await this.addTestWithImportRaw({ testExport: testExport }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Delete a Test by id
+     */
+    async deleteTestRaw(requestParameters: TestApiDeleteTestRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling deleteTest().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'DELETE',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     * Delete a Test by id
+     */
+    async deleteTest(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.deleteTestRaw({ id: id }, initOverrides);
+    }
+
+    /**
+     */
+    async exportTestRaw(requestParameters: TestApiExportTestRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<TestExport>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling exportTest().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/{id}/export`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => TestExportFromJSON(jsonValue));
+    }
+
+    /**
+     */
+    async exportTest(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<TestExport> {
+        const response = await this.exportTestRaw({ id: id }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * List all unique Label Values for a Test. This api is deprecated, use /filteringLabels instead.
+     * @deprecated
+     */
+    async filteringLabelValuesRaw(requestParameters: TestApiFilteringLabelValuesRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<any>>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling filteringLabelValues().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/{id}/filteringLabelValues`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse<any>(response);
+    }
+
+    /**
+     * List all unique Label Values for a Test. This api is deprecated, use /filteringLabels instead.
+     * @deprecated
+     */
+    async filteringLabelValues(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<any>> {
+        const response = await this.filteringLabelValuesRaw({ id: id }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * List all possible values for each filtering label associated to the test
+     */
+    async filteringLabelsRaw(requestParameters: TestApiFilteringLabelsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<any>>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling filteringLabels().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/{id}/filteringLabels`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse<any>(response);
+    }
+
+    /**
+     * List all possible values for each filtering label associated to the test
+     */
+    async filteringLabels(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<any>> {
+        const response = await this.filteringLabelsRaw({ id: id }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve a list of all folders
+     */
+    async foldersRaw(requestParameters: TestApiFoldersRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<string>>> {
+        const queryParameters: any = {};
+
+        if (requestParameters['roles'] != null) {
+            queryParameters['roles'] = requestParameters['roles'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/folders`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse<any>(response);
+    }
+
+    /**
+     * Retrieve a list of all folders
+     */
+    async folders(roles?: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<string>> {
+        const response = await this.foldersRaw({ roles: roles }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve a test by name
+     */
+    async getByNameOrIdRaw(requestParameters: TestApiGetByNameOrIdRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Test>> {
+        if (requestParameters['name'] == null) {
+            throw new runtime.RequiredError(
+                'name',
+                'Required parameter "name" was null or undefined when calling getByNameOrId().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/byName/{name}`;
+        urlPath = urlPath.replace(`{${"name"}}`, encodeURIComponent(String(requestParameters['name'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => TestFromJSON(jsonValue));
+    }
+
+    /**
+     * Retrieve a test by name
+     */
+    async getByNameOrId(name: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Test> {
+        const response = await this.getByNameOrIdRaw({ name: name }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve a test by id
+     */
+    async getTestRaw(requestParameters: TestApiGetTestRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Test>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling getTest().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/{id}`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => TestFromJSON(jsonValue));
+    }
+
+    /**
+     * Retrieve a test by id
+     */
+    async getTest(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Test> {
+        const response = await this.getTestRaw({ id: id }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * List all Label Values for a Test
+     */
+    async getTestLabelValuesRaw(requestParameters: TestApiGetTestLabelValuesRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<ExportedLabelValues>>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling getTestLabelValues().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['filtering'] != null) {
+            queryParameters['filtering'] = requestParameters['filtering'];
+        }
+
+        if (requestParameters['metrics'] != null) {
+            queryParameters['metrics'] = requestParameters['metrics'];
+        }
+
+        if (requestParameters['filter'] != null) {
+            queryParameters['filter'] = requestParameters['filter'];
+        }
+
+        if (requestParameters['before'] != null) {
+            queryParameters['before'] = requestParameters['before'];
+        }
+
+        if (requestParameters['after'] != null) {
+            queryParameters['after'] = requestParameters['after'];
+        }
+
+        if (requestParameters['sort'] != null) {
+            queryParameters['sort'] = requestParameters['sort'];
+        }
+
+        if (requestParameters['direction'] != null) {
+            queryParameters['direction'] = requestParameters['direction'];
+        }
+
+        if (requestParameters['limit'] != null) {
+            queryParameters['limit'] = requestParameters['limit'];
+        }
+
+        if (requestParameters['page'] != null) {
+            queryParameters['page'] = requestParameters['page'];
+        }
+
+        if (requestParameters['include'] != null) {
+            queryParameters['include'] = requestParameters['include'];
+        }
+
+        if (requestParameters['exclude'] != null) {
+            queryParameters['exclude'] = requestParameters['exclude'];
+        }
+
+        if (requestParameters['multiFilter'] != null) {
+            queryParameters['multiFilter'] = requestParameters['multiFilter'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/{id}/labelValues`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(ExportedLabelValuesFromJSON));
+    }
+
+    /**
+     * List all Label Values for a Test
+     */
+    async getTestLabelValues(id: number, filtering?: boolean, metrics?: boolean, filter?: string, before?: string, after?: string, sort?: string, direction?: string, limit?: number, page?: number, include?: Array<string>, exclude?: Array<string>, multiFilter?: boolean, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<ExportedLabelValues>> {
+        const response = await this.getTestLabelValuesRaw({ id: id, filtering: filtering, metrics: metrics, filter: filter, before: before, after: after, sort: sort, direction: direction, limit: limit, page: page, include: include, exclude: exclude, multiFilter: multiFilter }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Get recalculation status for Test
+     */
+    async getTestRecalculationStatusRaw(requestParameters: TestApiGetTestRecalculationStatusRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<RecalculationStatus>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling getTestRecalculationStatus().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/{id}/recalculate`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => RecalculationStatusFromJSON(jsonValue));
+    }
+
+    /**
+     * Get recalculation status for Test
+     */
+    async getTestRecalculationStatus(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<RecalculationStatus> {
+        const response = await this.getTestRecalculationStatusRaw({ id: id }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve a summary of Tests in a folder
+     */
+    async getTestSummaryRaw(requestParameters: TestApiGetTestSummaryRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<TestListing>> {
+        const queryParameters: any = {};
+
+        if (requestParameters['roles'] != null) {
+            queryParameters['roles'] = requestParameters['roles'];
+        }
+
+        if (requestParameters['folder'] != null) {
+            queryParameters['folder'] = requestParameters['folder'];
+        }
+
+        if (requestParameters['limit'] != null) {
+            queryParameters['limit'] = requestParameters['limit'];
+        }
+
+        if (requestParameters['page'] != null) {
+            queryParameters['page'] = requestParameters['page'];
+        }
+
+        if (requestParameters['direction'] != null) {
+            queryParameters['direction'] = requestParameters['direction'];
+        }
+
+        if (requestParameters['name'] != null) {
+            queryParameters['name'] = requestParameters['name'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/summary`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => TestListingFromJSON(jsonValue));
+    }
+
+    /**
+     * Retrieve a summary of Tests in a folder
+     */
+    async getTestSummary(roles?: string, folder?: string, limit?: number, page?: number, direction?: SortDirection, name?: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<TestListing> {
+        const response = await this.getTestSummaryRaw({ roles: roles, folder: folder, limit: limit, page: page, direction: direction, name: name }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * List all Fingerprints for a Test
+     */
+    async listFingerprintsRaw(requestParameters: TestApiListFingerprintsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Array<Fingerprints>>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling listFingerprints().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/{id}/fingerprint`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => jsonValue.map(FingerprintsFromJSON));
+    }
+
+    /**
+     * List all Fingerprints for a Test
+     */
+    async listFingerprints(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Array<Fingerprints>> {
+        const response = await this.listFingerprintsRaw({ id: id }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Retrieve a paginated list of Tests with available count
+     */
+    async listTestsRaw(requestParameters: TestApiListTestsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<TestQueryResult>> {
+        const queryParameters: any = {};
+
+        if (requestParameters['roles'] != null) {
+            queryParameters['roles'] = requestParameters['roles'];
+        }
+
+        if (requestParameters['limit'] != null) {
+            queryParameters['limit'] = requestParameters['limit'];
+        }
+
+        if (requestParameters['page'] != null) {
+            queryParameters['page'] = requestParameters['page'];
+        }
+
+        if (requestParameters['sort'] != null) {
+            queryParameters['sort'] = requestParameters['sort'];
+        }
+
+        if (requestParameters['direction'] != null) {
+            queryParameters['direction'] = requestParameters['direction'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'GET',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => TestQueryResultFromJSON(jsonValue));
+    }
+
+    /**
+     * Retrieve a paginated list of Tests with available count
+     */
+    async listTests(roles?: string, limit?: number, page?: number, sort?: string, direction?: SortDirection, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<TestQueryResult> {
+        const response = await this.listTestsRaw({ roles: roles, limit: limit, page: page, sort: sort, direction: direction }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Recalculate Datasets for Test
+     */
+    async recalculateTestDatasetsRaw(requestParameters: TestApiRecalculateTestDatasetsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling recalculateTestDatasets().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/{id}/recalculate`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     * Recalculate Datasets for Test
+     */
+    async recalculateTestDatasets(id: number, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.recalculateTestDatasetsRaw({ id: id }, initOverrides);
+    }
+
+    /**
+     * Update the folder for a Test. Tests can be moved to different folders
+     */
+    async updateFolderRaw(requestParameters: TestApiUpdateFolderRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling updateFolder().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['folder'] != null) {
+            queryParameters['folder'] = requestParameters['folder'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/{id}/move`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     * Update the folder for a Test. Tests can be moved to different folders
+     */
+    async updateFolder(id: number, folder?: string, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.updateFolderRaw({ id: id, folder: folder }, initOverrides);
+    }
+
+    /**
+     * Update notifications for a Test. It is possible to disable notifications for a Test, so that no notifications are sent to subscribers
+     */
+    async updateNotificationsRaw(requestParameters: TestApiUpdateNotificationsRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling updateNotifications().'
+            );
+        }
+
+        if (requestParameters['enabled'] == null) {
+            throw new runtime.RequiredError(
+                'enabled',
+                'Required parameter "enabled" was null or undefined when calling updateNotifications().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['enabled'] != null) {
+            queryParameters['enabled'] = requestParameters['enabled'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/{id}/notifications`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     * Update notifications for a Test. It is possible to disable notifications for a Test, so that no notifications are sent to subscribers
+     */
+    async updateNotifications(id: number, enabled: boolean, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.updateNotificationsRaw({ id: id, enabled: enabled }, initOverrides);
+    }
+
+    /**
+     * Update an existing test
+     */
+    async updateTestRaw(requestParameters: TestApiUpdateTestRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<Test>> {
+        if (requestParameters['test'] == null) {
+            throw new runtime.RequiredError(
+                'test',
+                'Required parameter "test" was null or undefined when calling updateTest().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/test`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'PUT',
+            headers: headerParameters,
+            query: queryParameters,
+            body: TestToJSON(requestParameters['test']),
+        }, initOverrides);
+
+        return new runtime.JSONApiResponse(response, (jsonValue) => TestFromJSON(jsonValue));
+    }
+
+    /**
+     * Update an existing test
+     */
+    async updateTest(test: Test, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<Test> {
+        const response = await this.updateTestRaw({ test: test }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Update the Access configuration for a Test
+     */
+    async updateTestAccessRaw(requestParameters: TestApiUpdateTestAccessRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling updateTestAccess().'
+            );
+        }
+
+        if (requestParameters['owner'] == null) {
+            throw new runtime.RequiredError(
+                'owner',
+                'Required parameter "owner" was null or undefined when calling updateTestAccess().'
+            );
+        }
+
+        if (requestParameters['access'] == null) {
+            throw new runtime.RequiredError(
+                'access',
+                'Required parameter "access" was null or undefined when calling updateTestAccess().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        if (requestParameters['owner'] != null) {
+            queryParameters['owner'] = requestParameters['owner'];
+        }
+
+        if (requestParameters['access'] != null) {
+            queryParameters['access'] = requestParameters['access'];
+        }
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+
+        let urlPath = `/api/test/{id}/updateAccess`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     * Update the Access configuration for a Test
+     */
+    async updateTestAccess(id: number, owner: string, access: Access, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.updateTestAccessRaw({ id: id, owner: owner, access: access }, initOverrides);
+    }
+
+    /**
+     * Update an existing Test using its exported version
+     */
+    async updateTestWithImportRaw(requestParameters: TestApiUpdateTestWithImportRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<number>> {
+        if (requestParameters['testExport'] == null) {
+            throw new runtime.RequiredError(
+                'testExport',
+                'Required parameter "testExport" was null or undefined when calling updateTestWithImport().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/test/import`;
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'PUT',
+            headers: headerParameters,
+            query: queryParameters,
+            body: TestExportToJSON(requestParameters['testExport']),
+        }, initOverrides);
+
+        if (this.isJsonMime(response.headers.get('content-type'))) {
+            return new runtime.JSONApiResponse<number>(response);
+        } else {
+            return new runtime.TextApiResponse(response) as any;
+        }
+    }
+
+    /**
+     * Update an existing Test using its exported version
+     */
+    async updateTestWithImport(testExport: TestExport, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<number> {
+        const response = await this.updateTestWithImportRaw({ testExport: testExport }, initOverrides);
+        return await response.value();
+    }
+
+    /**
+     * Update transformers for Test
+     */
+    async updateTransformersRaw(requestParameters: TestApiUpdateTransformersRequest, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<runtime.ApiResponse<void>> {
+        if (requestParameters['id'] == null) {
+            throw new runtime.RequiredError(
+                'id',
+                'Required parameter "id" was null or undefined when calling updateTransformers().'
+            );
+        }
+
+        if (requestParameters['requestBody'] == null) {
+            throw new runtime.RequiredError(
+                'requestBody',
+                'Required parameter "requestBody" was null or undefined when calling updateTransformers().'
+            );
+        }
+
+        const queryParameters: any = {};
+
+        const headerParameters: runtime.HTTPHeaders = {};
+
+        headerParameters['Content-Type'] = 'application/json';
+
+
+        let urlPath = `/api/test/{id}/transformers`;
+        urlPath = urlPath.replace(`{${"id"}}`, encodeURIComponent(String(requestParameters['id'])));
+
+        const response = await this.request({
+            path: urlPath,
+            method: 'POST',
+            headers: headerParameters,
+            query: queryParameters,
+            body: requestParameters['requestBody'],
+        }, initOverrides);
+
+        return new runtime.VoidApiResponse(response);
+    }
+
+    /**
+     * Update transformers for Test
+     */
+    async updateTransformers(id: number, requestBody: Array<number>, initOverrides?: RequestInit | runtime.InitOverrideFunction): Promise<void> {
+        await this.updateTransformersRaw({ id: id, requestBody: requestBody }, initOverrides);
+    }
+
+}
@@ -0,0 +1,73 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface APIKeyAuth
+ */
+export interface APIKeyAuth {
+    /**
+     * type
+     * @type {string}
+     * @memberof APIKeyAuth
+     */
+    type?: string;
+    /**
+     * Api key
+     * @type {string}
+     * @memberof APIKeyAuth
+     */
+    apiKey?: string;
+}
+
+/**
+ * Check if a given object implements the APIKeyAuth interface.
+ */
+export function instanceOfAPIKeyAuth(value: object): value is APIKeyAuth {
+    return true;
+}
+
+export function APIKeyAuthFromJSON(json: any): APIKeyAuth {
+    return APIKeyAuthFromJSONTyped(json, false);
+}
+
+export function APIKeyAuthFromJSONTyped(json: any, ignoreDiscriminator: boolean): APIKeyAuth {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'type': json['type'] == null ? undefined : json['type'],
+        'apiKey': json['apiKey'] == null ? undefined : json['apiKey'],
+    };
+}
+
+export function APIKeyAuthToJSON(json: any): APIKeyAuth {
+    return APIKeyAuthToJSONTyped(json, false);
+}
+
+export function APIKeyAuthToJSONTyped(value?: APIKeyAuth | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'type': value['type'],
+        'apiKey': value['apiKey'],
+    };
+}
+
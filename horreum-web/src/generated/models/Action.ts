@@ -0,0 +1,144 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { ActionConfig } from './ActionConfig';
+import {
+    ActionConfigFromJSON,
+    ActionConfigFromJSONTyped,
+    ActionConfigToJSON,
+    ActionConfigToJSONTyped,
+} from './ActionConfig';
+import type { ActionSecrets } from './ActionSecrets';
+import {
+    ActionSecretsFromJSON,
+    ActionSecretsFromJSONTyped,
+    ActionSecretsToJSON,
+    ActionSecretsToJSONTyped,
+} from './ActionSecrets';
+
+/**
+ * 
+ * @export
+ * @interface Action
+ */
+export interface Action {
+    /**
+     * 
+     * @type {number}
+     * @memberof Action
+     */
+    id: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof Action
+     */
+    event: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof Action
+     */
+    type: string;
+    /**
+     * 
+     * @type {ActionConfig}
+     * @memberof Action
+     */
+    config: ActionConfig;
+    /**
+     * 
+     * @type {ActionSecrets}
+     * @memberof Action
+     */
+    secrets: ActionSecrets;
+    /**
+     * 
+     * @type {number}
+     * @memberof Action
+     */
+    testId: number;
+    /**
+     * 
+     * @type {boolean}
+     * @memberof Action
+     */
+    active: boolean;
+    /**
+     * 
+     * @type {boolean}
+     * @memberof Action
+     */
+    runAlways: boolean;
+}
+
+/**
+ * Check if a given object implements the Action interface.
+ */
+export function instanceOfAction(value: object): value is Action {
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('event' in value) || value['event'] === undefined) return false;
+    if (!('type' in value) || value['type'] === undefined) return false;
+    if (!('config' in value) || value['config'] === undefined) return false;
+    if (!('secrets' in value) || value['secrets'] === undefined) return false;
+    if (!('testId' in value) || value['testId'] === undefined) return false;
+    if (!('active' in value) || value['active'] === undefined) return false;
+    if (!('runAlways' in value) || value['runAlways'] === undefined) return false;
+    return true;
+}
+
+export function ActionFromJSON(json: any): Action {
+    return ActionFromJSONTyped(json, false);
+}
+
+export function ActionFromJSONTyped(json: any, ignoreDiscriminator: boolean): Action {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'],
+        'event': json['event'],
+        'type': json['type'],
+        'config': ActionConfigFromJSON(json['config']),
+        'secrets': ActionSecretsFromJSON(json['secrets']),
+        'testId': json['testId'],
+        'active': json['active'],
+        'runAlways': json['runAlways'],
+    };
+}
+
+export function ActionToJSON(json: any): Action {
+    return ActionToJSONTyped(json, false);
+}
+
+export function ActionToJSONTyped(value?: Action | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'event': value['event'],
+        'type': value['type'],
+        'config': ActionConfigToJSON(value['config']),
+        'secrets': ActionSecretsToJSON(value['secrets']),
+        'testId': value['testId'],
+        'active': value['active'],
+        'runAlways': value['runAlways'],
+    };
+}
+
@@ -0,0 +1,94 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import type { GithubIssueCommentActionConfig } from './GithubIssueCommentActionConfig';
+import {
+    instanceOfGithubIssueCommentActionConfig,
+    GithubIssueCommentActionConfigFromJSON,
+    GithubIssueCommentActionConfigFromJSONTyped,
+    GithubIssueCommentActionConfigToJSON,
+} from './GithubIssueCommentActionConfig';
+import type { GithubIssueCreateActionConfig } from './GithubIssueCreateActionConfig';
+import {
+    instanceOfGithubIssueCreateActionConfig,
+    GithubIssueCreateActionConfigFromJSON,
+    GithubIssueCreateActionConfigFromJSONTyped,
+    GithubIssueCreateActionConfigToJSON,
+} from './GithubIssueCreateActionConfig';
+import type { HttpActionConfig } from './HttpActionConfig';
+import {
+    instanceOfHttpActionConfig,
+    HttpActionConfigFromJSON,
+    HttpActionConfigFromJSONTyped,
+    HttpActionConfigToJSON,
+} from './HttpActionConfig';
+import type { SlackChannelMessageActionConfig } from './SlackChannelMessageActionConfig';
+import {
+    instanceOfSlackChannelMessageActionConfig,
+    SlackChannelMessageActionConfigFromJSON,
+    SlackChannelMessageActionConfigFromJSONTyped,
+    SlackChannelMessageActionConfigToJSON,
+} from './SlackChannelMessageActionConfig';
+
+/**
+ * @type ActionConfig
+ * 
+ * @export
+ */
+export type ActionConfig = { type: 'github-issue-comment' } & GithubIssueCommentActionConfig | { type: 'github-issue-create' } & GithubIssueCreateActionConfig | { type: 'http' } & HttpActionConfig | { type: 'slack-channel-message' } & SlackChannelMessageActionConfig;
+
+export function ActionConfigFromJSON(json: any): ActionConfig {
+    return ActionConfigFromJSONTyped(json, false);
+}
+
+export function ActionConfigFromJSONTyped(json: any, ignoreDiscriminator: boolean): ActionConfig {
+    if (json == null) {
+        return json;
+    }
+    switch (json['type']) {
+        case 'github-issue-comment':
+            return Object.assign({}, GithubIssueCommentActionConfigFromJSONTyped(json, true), { type: 'github-issue-comment' } as const);
+        case 'github-issue-create':
+            return Object.assign({}, GithubIssueCreateActionConfigFromJSONTyped(json, true), { type: 'github-issue-create' } as const);
+        case 'http':
+            return Object.assign({}, HttpActionConfigFromJSONTyped(json, true), { type: 'http' } as const);
+        case 'slack-channel-message':
+            return Object.assign({}, SlackChannelMessageActionConfigFromJSONTyped(json, true), { type: 'slack-channel-message' } as const);
+        default:
+            return json;
+    }
+}
+
+export function ActionConfigToJSON(json: any): any {
+    return ActionConfigToJSONTyped(json, false);
+}
+
+export function ActionConfigToJSONTyped(value?: ActionConfig | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+    switch (value['type']) {
+        case 'github-issue-comment':
+            return Object.assign({}, GithubIssueCommentActionConfigToJSON(value), { type: 'github-issue-comment' } as const);
+        case 'github-issue-create':
+            return Object.assign({}, GithubIssueCreateActionConfigToJSON(value), { type: 'github-issue-create' } as const);
+        case 'http':
+            return Object.assign({}, HttpActionConfigToJSON(value), { type: 'http' } as const);
+        case 'slack-channel-message':
+            return Object.assign({}, SlackChannelMessageActionConfigToJSON(value), { type: 'slack-channel-message' } as const);
+        default:
+            return value;
+    }
+}
+
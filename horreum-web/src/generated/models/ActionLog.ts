@@ -0,0 +1,119 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * Action Log
+ * @export
+ * @interface ActionLog
+ */
+export interface ActionLog {
+    /**
+     * 
+     * @type {number}
+     * @memberof ActionLog
+     */
+    id: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof ActionLog
+     */
+    level: number;
+    /**
+     * 
+     * @type {Date}
+     * @memberof ActionLog
+     */
+    timestamp: Date;
+    /**
+     * 
+     * @type {string}
+     * @memberof ActionLog
+     */
+    message: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof ActionLog
+     */
+    testId: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof ActionLog
+     */
+    event: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ActionLog
+     */
+    type?: string;
+}
+
+/**
+ * Check if a given object implements the ActionLog interface.
+ */
+export function instanceOfActionLog(value: object): value is ActionLog {
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('level' in value) || value['level'] === undefined) return false;
+    if (!('timestamp' in value) || value['timestamp'] === undefined) return false;
+    if (!('message' in value) || value['message'] === undefined) return false;
+    if (!('testId' in value) || value['testId'] === undefined) return false;
+    if (!('event' in value) || value['event'] === undefined) return false;
+    return true;
+}
+
+export function ActionLogFromJSON(json: any): ActionLog {
+    return ActionLogFromJSONTyped(json, false);
+}
+
+export function ActionLogFromJSONTyped(json: any, ignoreDiscriminator: boolean): ActionLog {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'],
+        'level': json['level'],
+        'timestamp': (new Date(json['timestamp'])),
+        'message': json['message'],
+        'testId': json['testId'],
+        'event': json['event'],
+        'type': json['type'] == null ? undefined : json['type'],
+    };
+}
+
+export function ActionLogToJSON(json: any): ActionLog {
+    return ActionLogToJSONTyped(json, false);
+}
+
+export function ActionLogToJSONTyped(value?: ActionLog | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'level': value['level'],
+        'timestamp': value['timestamp'].toISOString(),
+        'message': value['message'],
+        'testId': value['testId'],
+        'event': value['event'],
+        'type': value['type'],
+    };
+}
+
@@ -0,0 +1,73 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface ActionSecrets
+ */
+export interface ActionSecrets {
+    /**
+     * 
+     * @type {string}
+     * @memberof ActionSecrets
+     */
+    token?: string;
+    /**
+     * 
+     * @type {boolean}
+     * @memberof ActionSecrets
+     */
+    modified?: boolean;
+}
+
+/**
+ * Check if a given object implements the ActionSecrets interface.
+ */
+export function instanceOfActionSecrets(value: object): value is ActionSecrets {
+    return true;
+}
+
+export function ActionSecretsFromJSON(json: any): ActionSecrets {
+    return ActionSecretsFromJSONTyped(json, false);
+}
+
+export function ActionSecretsFromJSONTyped(json: any, ignoreDiscriminator: boolean): ActionSecrets {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'token': json['token'] == null ? undefined : json['token'],
+        'modified': json['modified'] == null ? undefined : json['modified'],
+    };
+}
+
+export function ActionSecretsToJSON(json: any): ActionSecrets {
+    return ActionSecretsToJSONTyped(json, false);
+}
+
+export function ActionSecretsToJSONTyped(value?: ActionSecrets | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'token': value['token'],
+        'modified': value['modified'],
+    };
+}
+
@@ -0,0 +1,83 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { TableReportSummary } from './TableReportSummary';
+import {
+    TableReportSummaryFromJSON,
+    TableReportSummaryFromJSONTyped,
+    TableReportSummaryToJSON,
+    TableReportSummaryToJSONTyped,
+} from './TableReportSummary';
+
+/**
+ * 
+ * @export
+ * @interface AllTableReports
+ */
+export interface AllTableReports {
+    /**
+     * 
+     * @type {Array<TableReportSummary>}
+     * @memberof AllTableReports
+     */
+    reports: Array<TableReportSummary>;
+    /**
+     * 
+     * @type {number}
+     * @memberof AllTableReports
+     */
+    count: number;
+}
+
+/**
+ * Check if a given object implements the AllTableReports interface.
+ */
+export function instanceOfAllTableReports(value: object): value is AllTableReports {
+    if (!('reports' in value) || value['reports'] === undefined) return false;
+    if (!('count' in value) || value['count'] === undefined) return false;
+    return true;
+}
+
+export function AllTableReportsFromJSON(json: any): AllTableReports {
+    return AllTableReportsFromJSONTyped(json, false);
+}
+
+export function AllTableReportsFromJSONTyped(json: any, ignoreDiscriminator: boolean): AllTableReports {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'reports': ((json['reports'] as Array<any>).map(TableReportSummaryFromJSON)),
+        'count': json['count'],
+    };
+}
+
+export function AllTableReportsToJSON(json: any): AllTableReports {
+    return AllTableReportsToJSONTyped(json, false);
+}
+
+export function AllTableReportsToJSONTyped(value?: AllTableReports | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'reports': ((value['reports'] as Array<any>).map(TableReportSummaryToJSON)),
+        'count': value['count'],
+    };
+}
+
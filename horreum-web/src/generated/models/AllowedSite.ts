@@ -0,0 +1,74 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface AllowedSite
+ */
+export interface AllowedSite {
+    /**
+     * 
+     * @type {number}
+     * @memberof AllowedSite
+     */
+    id?: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof AllowedSite
+     */
+    prefix: string;
+}
+
+/**
+ * Check if a given object implements the AllowedSite interface.
+ */
+export function instanceOfAllowedSite(value: object): value is AllowedSite {
+    if (!('prefix' in value) || value['prefix'] === undefined) return false;
+    return true;
+}
+
+export function AllowedSiteFromJSON(json: any): AllowedSite {
+    return AllowedSiteFromJSONTyped(json, false);
+}
+
+export function AllowedSiteFromJSONTyped(json: any, ignoreDiscriminator: boolean): AllowedSite {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'] == null ? undefined : json['id'],
+        'prefix': json['prefix'],
+    };
+}
+
+export function AllowedSiteToJSON(json: any): AllowedSite {
+    return AllowedSiteToJSONTyped(json, false);
+}
+
+export function AllowedSiteToJSONTyped(value?: AllowedSite | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'prefix': value['prefix'],
+    };
+}
+
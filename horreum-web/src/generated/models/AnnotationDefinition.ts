@@ -0,0 +1,137 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface AnnotationDefinition
+ */
+export interface AnnotationDefinition {
+    /**
+     * 
+     * @type {string}
+     * @memberof AnnotationDefinition
+     */
+    title?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof AnnotationDefinition
+     */
+    text?: string;
+    /**
+     * 
+     * @type {boolean}
+     * @memberof AnnotationDefinition
+     */
+    isRegion?: boolean;
+    /**
+     * 
+     * @type {number}
+     * @memberof AnnotationDefinition
+     */
+    time?: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof AnnotationDefinition
+     */
+    timeEnd?: number;
+    /**
+     * 
+     * @type {Array<string>}
+     * @memberof AnnotationDefinition
+     */
+    tags?: Array<string>;
+    /**
+     * 
+     * @type {number}
+     * @memberof AnnotationDefinition
+     */
+    changeId?: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof AnnotationDefinition
+     */
+    variableId?: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof AnnotationDefinition
+     */
+    runId?: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof AnnotationDefinition
+     */
+    datasetOrdinal?: number;
+}
+
+/**
+ * Check if a given object implements the AnnotationDefinition interface.
+ */
+export function instanceOfAnnotationDefinition(value: object): value is AnnotationDefinition {
+    return true;
+}
+
+export function AnnotationDefinitionFromJSON(json: any): AnnotationDefinition {
+    return AnnotationDefinitionFromJSONTyped(json, false);
+}
+
+export function AnnotationDefinitionFromJSONTyped(json: any, ignoreDiscriminator: boolean): AnnotationDefinition {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'title': json['title'] == null ? undefined : json['title'],
+        'text': json['text'] == null ? undefined : json['text'],
+        'isRegion': json['isRegion'] == null ? undefined : json['isRegion'],
+        'time': json['time'] == null ? undefined : json['time'],
+        'timeEnd': json['timeEnd'] == null ? undefined : json['timeEnd'],
+        'tags': json['tags'] == null ? undefined : json['tags'],
+        'changeId': json['changeId'] == null ? undefined : json['changeId'],
+        'variableId': json['variableId'] == null ? undefined : json['variableId'],
+        'runId': json['runId'] == null ? undefined : json['runId'],
+        'datasetOrdinal': json['datasetOrdinal'] == null ? undefined : json['datasetOrdinal'],
+    };
+}
+
+export function AnnotationDefinitionToJSON(json: any): AnnotationDefinition {
+    return AnnotationDefinitionToJSONTyped(json, false);
+}
+
+export function AnnotationDefinitionToJSONTyped(value?: AnnotationDefinition | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'title': value['title'],
+        'text': value['text'],
+        'isRegion': value['isRegion'],
+        'time': value['time'],
+        'timeEnd': value['timeEnd'],
+        'tags': value['tags'],
+        'changeId': value['changeId'],
+        'variableId': value['variableId'],
+        'runId': value['runId'],
+        'datasetOrdinal': value['datasetOrdinal'],
+    };
+}
+
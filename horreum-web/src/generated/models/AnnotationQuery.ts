@@ -0,0 +1,97 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface AnnotationQuery
+ */
+export interface AnnotationQuery {
+    /**
+     * 
+     * @type {string}
+     * @memberof AnnotationQuery
+     */
+    name?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof AnnotationQuery
+     */
+    datasource?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof AnnotationQuery
+     */
+    iconColor?: string;
+    /**
+     * 
+     * @type {boolean}
+     * @memberof AnnotationQuery
+     */
+    enable?: boolean;
+    /**
+     * 
+     * @type {string}
+     * @memberof AnnotationQuery
+     */
+    query?: string;
+}
+
+/**
+ * Check if a given object implements the AnnotationQuery interface.
+ */
+export function instanceOfAnnotationQuery(value: object): value is AnnotationQuery {
+    return true;
+}
+
+export function AnnotationQueryFromJSON(json: any): AnnotationQuery {
+    return AnnotationQueryFromJSONTyped(json, false);
+}
+
+export function AnnotationQueryFromJSONTyped(json: any, ignoreDiscriminator: boolean): AnnotationQuery {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'name': json['name'] == null ? undefined : json['name'],
+        'datasource': json['datasource'] == null ? undefined : json['datasource'],
+        'iconColor': json['iconColor'] == null ? undefined : json['iconColor'],
+        'enable': json['enable'] == null ? undefined : json['enable'],
+        'query': json['query'] == null ? undefined : json['query'],
+    };
+}
+
+export function AnnotationQueryToJSON(json: any): AnnotationQuery {
+    return AnnotationQueryToJSONTyped(json, false);
+}
+
+export function AnnotationQueryToJSONTyped(value?: AnnotationQuery | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'name': value['name'],
+        'datasource': value['datasource'],
+        'iconColor': value['iconColor'],
+        'enable': value['enable'],
+        'query': value['query'],
+    };
+}
+
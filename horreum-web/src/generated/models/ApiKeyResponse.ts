@@ -0,0 +1,123 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { KeyType } from './KeyType';
+import {
+    KeyTypeFromJSON,
+    KeyTypeFromJSONTyped,
+    KeyTypeToJSON,
+    KeyTypeToJSONTyped,
+} from './KeyType';
+
+/**
+ * 
+ * @export
+ * @interface ApiKeyResponse
+ */
+export interface ApiKeyResponse {
+    /**
+     * 
+     * @type {number}
+     * @memberof ApiKeyResponse
+     */
+    id?: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof ApiKeyResponse
+     */
+    name?: string;
+    /**
+     * 
+     * @type {KeyType}
+     * @memberof ApiKeyResponse
+     */
+    type?: KeyType;
+    /**
+     * 
+     * @type {Date}
+     * @memberof ApiKeyResponse
+     */
+    creation?: Date;
+    /**
+     * 
+     * @type {Date}
+     * @memberof ApiKeyResponse
+     */
+    access?: Date;
+    /**
+     * 
+     * @type {boolean}
+     * @memberof ApiKeyResponse
+     */
+    isRevoked?: boolean;
+    /**
+     * 
+     * @type {number}
+     * @memberof ApiKeyResponse
+     */
+    toExpiration?: number;
+}
+
+
+
+/**
+ * Check if a given object implements the ApiKeyResponse interface.
+ */
+export function instanceOfApiKeyResponse(value: object): value is ApiKeyResponse {
+    return true;
+}
+
+export function ApiKeyResponseFromJSON(json: any): ApiKeyResponse {
+    return ApiKeyResponseFromJSONTyped(json, false);
+}
+
+export function ApiKeyResponseFromJSONTyped(json: any, ignoreDiscriminator: boolean): ApiKeyResponse {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'] == null ? undefined : json['id'],
+        'name': json['name'] == null ? undefined : json['name'],
+        'type': json['type'] == null ? undefined : KeyTypeFromJSON(json['type']),
+        'creation': json['creation'] == null ? undefined : (new Date(json['creation'])),
+        'access': json['access'] == null ? undefined : (new Date(json['access'])),
+        'isRevoked': json['isRevoked'] == null ? undefined : json['isRevoked'],
+        'toExpiration': json['toExpiration'] == null ? undefined : json['toExpiration'],
+    };
+}
+
+export function ApiKeyResponseToJSON(json: any): ApiKeyResponse {
+    return ApiKeyResponseToJSONTyped(json, false);
+}
+
+export function ApiKeyResponseToJSONTyped(value?: ApiKeyResponse | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'name': value['name'],
+        'type': KeyTypeToJSON(value['type']),
+        'creation': value['creation'] == null ? value['creation'] : value['creation'].toISOString(),
+        'access': value['access'] == null ? value['access'] : value['access'].toISOString(),
+        'isRevoked': value['isRevoked'],
+        'toExpiration': value['toExpiration'],
+    };
+}
+
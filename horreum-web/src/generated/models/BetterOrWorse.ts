@@ -0,0 +1,54 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+/**
+ * Result of running an Experiment
+ * @export
+ */
+export const BetterOrWorse = {
+    Better: 'BETTER',
+    Same: 'SAME',
+    Worse: 'WORSE'
+} as const;
+export type BetterOrWorse = typeof BetterOrWorse[keyof typeof BetterOrWorse];
+
+
+export function instanceOfBetterOrWorse(value: any): boolean {
+    for (const key in BetterOrWorse) {
+        if (Object.prototype.hasOwnProperty.call(BetterOrWorse, key)) {
+            if (BetterOrWorse[key as keyof typeof BetterOrWorse] === value) {
+                return true;
+            }
+        }
+    }
+    return false;
+}
+
+export function BetterOrWorseFromJSON(json: any): BetterOrWorse {
+    return BetterOrWorseFromJSONTyped(json, false);
+}
+
+export function BetterOrWorseFromJSONTyped(json: any, ignoreDiscriminator: boolean): BetterOrWorse {
+    return json as BetterOrWorse;
+}
+
+export function BetterOrWorseToJSON(value?: BetterOrWorse | null): any {
+    return value as any;
+}
+
+export function BetterOrWorseToJSONTyped(value: any, ignoreDiscriminator: boolean): BetterOrWorse {
+    return value as BetterOrWorse;
+}
+
@@ -0,0 +1,94 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import type { EDivisiveDetectionConfig } from './EDivisiveDetectionConfig';
+import {
+    instanceOfEDivisiveDetectionConfig,
+    EDivisiveDetectionConfigFromJSON,
+    EDivisiveDetectionConfigFromJSONTyped,
+    EDivisiveDetectionConfigToJSON,
+} from './EDivisiveDetectionConfig';
+import type { EDivisiveNativeDetectionConfig } from './EDivisiveNativeDetectionConfig';
+import {
+    instanceOfEDivisiveNativeDetectionConfig,
+    EDivisiveNativeDetectionConfigFromJSON,
+    EDivisiveNativeDetectionConfigFromJSONTyped,
+    EDivisiveNativeDetectionConfigToJSON,
+} from './EDivisiveNativeDetectionConfig';
+import type { FixedThresholdDetectionConfig } from './FixedThresholdDetectionConfig';
+import {
+    instanceOfFixedThresholdDetectionConfig,
+    FixedThresholdDetectionConfigFromJSON,
+    FixedThresholdDetectionConfigFromJSONTyped,
+    FixedThresholdDetectionConfigToJSON,
+} from './FixedThresholdDetectionConfig';
+import type { RelativeDifferenceDetectionConfig } from './RelativeDifferenceDetectionConfig';
+import {
+    instanceOfRelativeDifferenceDetectionConfig,
+    RelativeDifferenceDetectionConfigFromJSON,
+    RelativeDifferenceDetectionConfigFromJSONTyped,
+    RelativeDifferenceDetectionConfigToJSON,
+} from './RelativeDifferenceDetectionConfig';
+
+/**
+ * @type ChangeDetectionConfig
+ * 
+ * @export
+ */
+export type ChangeDetectionConfig = { model: 'eDivisive' } & EDivisiveDetectionConfig | { model: 'eDivisiveNative' } & EDivisiveNativeDetectionConfig | { model: 'fixedThreshold' } & FixedThresholdDetectionConfig | { model: 'relativeDifference' } & RelativeDifferenceDetectionConfig;
+
+export function ChangeDetectionConfigFromJSON(json: any): ChangeDetectionConfig {
+    return ChangeDetectionConfigFromJSONTyped(json, false);
+}
+
+export function ChangeDetectionConfigFromJSONTyped(json: any, ignoreDiscriminator: boolean): ChangeDetectionConfig {
+    if (json == null) {
+        return json;
+    }
+    switch (json['model']) {
+        case 'eDivisive':
+            return Object.assign({}, EDivisiveDetectionConfigFromJSONTyped(json, true), { model: 'eDivisive' } as const);
+        case 'eDivisiveNative':
+            return Object.assign({}, EDivisiveNativeDetectionConfigFromJSONTyped(json, true), { model: 'eDivisiveNative' } as const);
+        case 'fixedThreshold':
+            return Object.assign({}, FixedThresholdDetectionConfigFromJSONTyped(json, true), { model: 'fixedThreshold' } as const);
+        case 'relativeDifference':
+            return Object.assign({}, RelativeDifferenceDetectionConfigFromJSONTyped(json, true), { model: 'relativeDifference' } as const);
+        default:
+            return json;
+    }
+}
+
+export function ChangeDetectionConfigToJSON(json: any): any {
+    return ChangeDetectionConfigToJSONTyped(json, false);
+}
+
+export function ChangeDetectionConfigToJSONTyped(value?: ChangeDetectionConfig | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+    switch (value['model']) {
+        case 'eDivisive':
+            return Object.assign({}, EDivisiveDetectionConfigToJSON(value), { model: 'eDivisive' } as const);
+        case 'eDivisiveNative':
+            return Object.assign({}, EDivisiveNativeDetectionConfigToJSON(value), { model: 'eDivisiveNative' } as const);
+        case 'fixedThreshold':
+            return Object.assign({}, FixedThresholdDetectionConfigToJSON(value), { model: 'fixedThreshold' } as const);
+        case 'relativeDifference':
+            return Object.assign({}, RelativeDifferenceDetectionConfigToJSON(value), { model: 'relativeDifference' } as const);
+        default:
+            return value;
+    }
+}
+
@@ -0,0 +1,55 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+/**
+ * Type of Change Detection Model
+ * @export
+ */
+export const ChangeDetectionModelType = {
+    FixedThreshold: 'FIXED_THRESHOLD',
+    RelativeDifference: 'RELATIVE_DIFFERENCE',
+    Edivisive: 'EDIVISIVE',
+    EdivisiveNative: 'EDIVISIVE_NATIVE'
+} as const;
+export type ChangeDetectionModelType = typeof ChangeDetectionModelType[keyof typeof ChangeDetectionModelType];
+
+
+export function instanceOfChangeDetectionModelType(value: any): boolean {
+    for (const key in ChangeDetectionModelType) {
+        if (Object.prototype.hasOwnProperty.call(ChangeDetectionModelType, key)) {
+            if (ChangeDetectionModelType[key as keyof typeof ChangeDetectionModelType] === value) {
+                return true;
+            }
+        }
+    }
+    return false;
+}
+
+export function ChangeDetectionModelTypeFromJSON(json: any): ChangeDetectionModelType {
+    return ChangeDetectionModelTypeFromJSONTyped(json, false);
+}
+
+export function ChangeDetectionModelTypeFromJSONTyped(json: any, ignoreDiscriminator: boolean): ChangeDetectionModelType {
+    return json as ChangeDetectionModelType;
+}
+
+export function ChangeDetectionModelTypeToJSON(value?: ChangeDetectionModelType | null): any {
+    return value as any;
+}
+
+export function ChangeDetectionModelTypeToJSONTyped(value: any, ignoreDiscriminator: boolean): ChangeDetectionModelType {
+    return value as ChangeDetectionModelType;
+}
+
@@ -0,0 +1,92 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { CollectorApiDatastoreConfigAuthentication } from './CollectorApiDatastoreConfigAuthentication';
+import {
+    CollectorApiDatastoreConfigAuthenticationFromJSON,
+    CollectorApiDatastoreConfigAuthenticationFromJSONTyped,
+    CollectorApiDatastoreConfigAuthenticationToJSON,
+    CollectorApiDatastoreConfigAuthenticationToJSONTyped,
+} from './CollectorApiDatastoreConfigAuthentication';
+
+/**
+ * Type of backend datastore
+ * @export
+ * @interface CollectorApiDatastoreConfig
+ */
+export interface CollectorApiDatastoreConfig {
+    /**
+     * 
+     * @type {CollectorApiDatastoreConfigAuthentication}
+     * @memberof CollectorApiDatastoreConfig
+     */
+    authentication: CollectorApiDatastoreConfigAuthentication;
+    /**
+     * Built In
+     * @type {boolean}
+     * @memberof CollectorApiDatastoreConfig
+     */
+    builtIn: boolean;
+    /**
+     * Collector url, e.g. https://collector.foci.life/api/v1/image-stats
+     * @type {string}
+     * @memberof CollectorApiDatastoreConfig
+     */
+    url: string;
+}
+
+/**
+ * Check if a given object implements the CollectorApiDatastoreConfig interface.
+ */
+export function instanceOfCollectorApiDatastoreConfig(value: object): value is CollectorApiDatastoreConfig {
+    if (!('authentication' in value) || value['authentication'] === undefined) return false;
+    if (!('builtIn' in value) || value['builtIn'] === undefined) return false;
+    if (!('url' in value) || value['url'] === undefined) return false;
+    return true;
+}
+
+export function CollectorApiDatastoreConfigFromJSON(json: any): CollectorApiDatastoreConfig {
+    return CollectorApiDatastoreConfigFromJSONTyped(json, false);
+}
+
+export function CollectorApiDatastoreConfigFromJSONTyped(json: any, ignoreDiscriminator: boolean): CollectorApiDatastoreConfig {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'authentication': CollectorApiDatastoreConfigAuthenticationFromJSON(json['authentication']),
+        'builtIn': json['builtIn'],
+        'url': json['url'],
+    };
+}
+
+export function CollectorApiDatastoreConfigToJSON(json: any): CollectorApiDatastoreConfig {
+    return CollectorApiDatastoreConfigToJSONTyped(json, false);
+}
+
+export function CollectorApiDatastoreConfigToJSONTyped(value?: CollectorApiDatastoreConfig | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'authentication': CollectorApiDatastoreConfigAuthenticationToJSON(value['authentication']),
+        'builtIn': value['builtIn'],
+        'url': value['url'],
+    };
+}
+
@@ -0,0 +1,83 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import type { APIKeyAuth } from './APIKeyAuth';
+import {
+    instanceOfAPIKeyAuth,
+    APIKeyAuthFromJSON,
+    APIKeyAuthFromJSONTyped,
+    APIKeyAuthToJSON,
+} from './APIKeyAuth';
+import type { NoAuth } from './NoAuth';
+import {
+    instanceOfNoAuth,
+    NoAuthFromJSON,
+    NoAuthFromJSONTyped,
+    NoAuthToJSON,
+} from './NoAuth';
+import type { UsernamePassAuth } from './UsernamePassAuth';
+import {
+    instanceOfUsernamePassAuth,
+    UsernamePassAuthFromJSON,
+    UsernamePassAuthFromJSONTyped,
+    UsernamePassAuthToJSON,
+} from './UsernamePassAuth';
+
+/**
+ * @type CollectorApiDatastoreConfigAuthentication
+ * 
+ * @export
+ */
+export type CollectorApiDatastoreConfigAuthentication = { type: 'api-key' } & APIKeyAuth | { type: 'none' } & NoAuth | { type: 'username' } & UsernamePassAuth;
+
+export function CollectorApiDatastoreConfigAuthenticationFromJSON(json: any): CollectorApiDatastoreConfigAuthentication {
+    return CollectorApiDatastoreConfigAuthenticationFromJSONTyped(json, false);
+}
+
+export function CollectorApiDatastoreConfigAuthenticationFromJSONTyped(json: any, ignoreDiscriminator: boolean): CollectorApiDatastoreConfigAuthentication {
+    if (json == null) {
+        return json;
+    }
+    switch (json['type']) {
+        case 'api-key':
+            return Object.assign({}, APIKeyAuthFromJSONTyped(json, true), { type: 'api-key' } as const);
+        case 'none':
+            return Object.assign({}, NoAuthFromJSONTyped(json, true), { type: 'none' } as const);
+        case 'username':
+            return Object.assign({}, UsernamePassAuthFromJSONTyped(json, true), { type: 'username' } as const);
+        default:
+            return json;
+    }
+}
+
+export function CollectorApiDatastoreConfigAuthenticationToJSON(json: any): any {
+    return CollectorApiDatastoreConfigAuthenticationToJSONTyped(json, false);
+}
+
+export function CollectorApiDatastoreConfigAuthenticationToJSONTyped(value?: CollectorApiDatastoreConfigAuthentication | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+    switch (value['type']) {
+        case 'api-key':
+            return Object.assign({}, APIKeyAuthToJSON(value), { type: 'api-key' } as const);
+        case 'none':
+            return Object.assign({}, NoAuthToJSON(value), { type: 'none' } as const);
+        case 'username':
+            return Object.assign({}, UsernamePassAuthToJSON(value), { type: 'username' } as const);
+        default:
+            return value;
+    }
+}
+
@@ -0,0 +1,112 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { ConditionComponentType } from './ConditionComponentType';
+import {
+    ConditionComponentTypeFromJSON,
+    ConditionComponentTypeFromJSONTyped,
+    ConditionComponentTypeToJSON,
+    ConditionComponentTypeToJSONTyped,
+} from './ConditionComponentType';
+
+/**
+ * 
+ * @export
+ * @interface ConditionComponent
+ */
+export interface ConditionComponent {
+    /**
+     * Change detection model component name
+     * @type {string}
+     * @memberof ConditionComponent
+     */
+    name: string;
+    /**
+     * Change detection model component title
+     * @type {string}
+     * @memberof ConditionComponent
+     */
+    title: string;
+    /**
+     * Change detection model component description
+     * @type {string}
+     * @memberof ConditionComponent
+     */
+    description: string;
+    /**
+     * 
+     * @type {ConditionComponentType}
+     * @memberof ConditionComponent
+     */
+    type: ConditionComponentType;
+    /**
+     * Map of properties for component
+     * @type {{ [key: string]: any; }}
+     * @memberof ConditionComponent
+     */
+    properties: { [key: string]: any; };
+}
+
+
+
+/**
+ * Check if a given object implements the ConditionComponent interface.
+ */
+export function instanceOfConditionComponent(value: object): value is ConditionComponent {
+    if (!('name' in value) || value['name'] === undefined) return false;
+    if (!('title' in value) || value['title'] === undefined) return false;
+    if (!('description' in value) || value['description'] === undefined) return false;
+    if (!('type' in value) || value['type'] === undefined) return false;
+    if (!('properties' in value) || value['properties'] === undefined) return false;
+    return true;
+}
+
+export function ConditionComponentFromJSON(json: any): ConditionComponent {
+    return ConditionComponentFromJSONTyped(json, false);
+}
+
+export function ConditionComponentFromJSONTyped(json: any, ignoreDiscriminator: boolean): ConditionComponent {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'name': json['name'],
+        'title': json['title'],
+        'description': json['description'],
+        'type': ConditionComponentTypeFromJSON(json['type']),
+        'properties': json['properties'],
+    };
+}
+
+export function ConditionComponentToJSON(json: any): ConditionComponent {
+    return ConditionComponentToJSONTyped(json, false);
+}
+
+export function ConditionComponentToJSONTyped(value?: ConditionComponent | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'name': value['name'],
+        'title': value['title'],
+        'description': value['description'],
+        'type': ConditionComponentTypeToJSON(value['type']),
+        'properties': value['properties'],
+    };
+}
+
@@ -0,0 +1,55 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+/**
+ * UI Component type
+ * @export
+ */
+export const ConditionComponentType = {
+    LogSlider: 'LOG_SLIDER',
+    Enum: 'ENUM',
+    NumberBound: 'NUMBER_BOUND',
+    Switch: 'SWITCH'
+} as const;
+export type ConditionComponentType = typeof ConditionComponentType[keyof typeof ConditionComponentType];
+
+
+export function instanceOfConditionComponentType(value: any): boolean {
+    for (const key in ConditionComponentType) {
+        if (Object.prototype.hasOwnProperty.call(ConditionComponentType, key)) {
+            if (ConditionComponentType[key as keyof typeof ConditionComponentType] === value) {
+                return true;
+            }
+        }
+    }
+    return false;
+}
+
+export function ConditionComponentTypeFromJSON(json: any): ConditionComponentType {
+    return ConditionComponentTypeFromJSONTyped(json, false);
+}
+
+export function ConditionComponentTypeFromJSONTyped(json: any, ignoreDiscriminator: boolean): ConditionComponentType {
+    return json as ConditionComponentType;
+}
+
+export function ConditionComponentTypeToJSON(value?: ConditionComponentType | null): any {
+    return value as any;
+}
+
+export function ConditionComponentTypeToJSONTyped(value: any, ignoreDiscriminator: boolean): ConditionComponentType {
+    return value as ConditionComponentType;
+}
+
@@ -0,0 +1,97 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { UserData } from './UserData';
+import {
+    UserDataFromJSON,
+    UserDataFromJSONTyped,
+    UserDataToJSON,
+    UserDataToJSONTyped,
+} from './UserData';
+
+/**
+ * 
+ * @export
+ * @interface CreateUserRequest
+ */
+export interface CreateUserRequest {
+    /**
+     * 
+     * @type {UserData}
+     * @memberof CreateUserRequest
+     */
+    user?: UserData;
+    /**
+     * 
+     * @type {string}
+     * @memberof CreateUserRequest
+     */
+    password?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof CreateUserRequest
+     */
+    team?: string;
+    /**
+     * 
+     * @type {Array<string>}
+     * @memberof CreateUserRequest
+     */
+    roles?: Array<string>;
+}
+
+/**
+ * Check if a given object implements the CreateUserRequest interface.
+ */
+export function instanceOfCreateUserRequest(value: object): value is CreateUserRequest {
+    return true;
+}
+
+export function CreateUserRequestFromJSON(json: any): CreateUserRequest {
+    return CreateUserRequestFromJSONTyped(json, false);
+}
+
+export function CreateUserRequestFromJSONTyped(json: any, ignoreDiscriminator: boolean): CreateUserRequest {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'user': json['user'] == null ? undefined : UserDataFromJSON(json['user']),
+        'password': json['password'] == null ? undefined : json['password'],
+        'team': json['team'] == null ? undefined : json['team'],
+        'roles': json['roles'] == null ? undefined : json['roles'],
+    };
+}
+
+export function CreateUserRequestToJSON(json: any): CreateUserRequest {
+    return CreateUserRequestToJSONTyped(json, false);
+}
+
+export function CreateUserRequestToJSONTyped(value?: CreateUserRequest | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'user': UserDataToJSON(value['user']),
+        'password': value['password'],
+        'team': value['team'],
+        'roles': value['roles'],
+    };
+}
+
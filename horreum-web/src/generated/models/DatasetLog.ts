@@ -0,0 +1,138 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * Dataset Log
+ * @export
+ * @interface DatasetLog
+ */
+export interface DatasetLog {
+    /**
+     * 
+     * @type {number}
+     * @memberof DatasetLog
+     */
+    id: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof DatasetLog
+     */
+    level: number;
+    /**
+     * 
+     * @type {Date}
+     * @memberof DatasetLog
+     */
+    timestamp: Date;
+    /**
+     * 
+     * @type {string}
+     * @memberof DatasetLog
+     */
+    message: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof DatasetLog
+     */
+    source: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof DatasetLog
+     */
+    testId: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof DatasetLog
+     */
+    runId: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof DatasetLog
+     */
+    datasetId: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof DatasetLog
+     */
+    datasetOrdinal: number;
+}
+
+/**
+ * Check if a given object implements the DatasetLog interface.
+ */
+export function instanceOfDatasetLog(value: object): value is DatasetLog {
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('level' in value) || value['level'] === undefined) return false;
+    if (!('timestamp' in value) || value['timestamp'] === undefined) return false;
+    if (!('message' in value) || value['message'] === undefined) return false;
+    if (!('source' in value) || value['source'] === undefined) return false;
+    if (!('testId' in value) || value['testId'] === undefined) return false;
+    if (!('runId' in value) || value['runId'] === undefined) return false;
+    if (!('datasetId' in value) || value['datasetId'] === undefined) return false;
+    if (!('datasetOrdinal' in value) || value['datasetOrdinal'] === undefined) return false;
+    return true;
+}
+
+export function DatasetLogFromJSON(json: any): DatasetLog {
+    return DatasetLogFromJSONTyped(json, false);
+}
+
+export function DatasetLogFromJSONTyped(json: any, ignoreDiscriminator: boolean): DatasetLog {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'],
+        'level': json['level'],
+        'timestamp': (new Date(json['timestamp'])),
+        'message': json['message'],
+        'source': json['source'],
+        'testId': json['testId'],
+        'runId': json['runId'],
+        'datasetId': json['datasetId'],
+        'datasetOrdinal': json['datasetOrdinal'],
+    };
+}
+
+export function DatasetLogToJSON(json: any): DatasetLog {
+    return DatasetLogToJSONTyped(json, false);
+}
+
+export function DatasetLogToJSONTyped(value?: DatasetLog | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'level': value['level'],
+        'timestamp': value['timestamp'].toISOString(),
+        'message': value['message'],
+        'source': value['source'],
+        'testId': value['testId'],
+        'runId': value['runId'],
+        'datasetId': value['datasetId'],
+        'datasetOrdinal': value['datasetOrdinal'],
+    };
+}
+
@@ -0,0 +1,198 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { SchemaUsage } from './SchemaUsage';
+import {
+    SchemaUsageFromJSON,
+    SchemaUsageFromJSONTyped,
+    SchemaUsageToJSON,
+    SchemaUsageToJSONTyped,
+} from './SchemaUsage';
+import type { ValidationError } from './ValidationError';
+import {
+    ValidationErrorFromJSON,
+    ValidationErrorFromJSONTyped,
+    ValidationErrorToJSON,
+    ValidationErrorToJSONTyped,
+} from './ValidationError';
+
+/**
+ * 
+ * @export
+ * @interface DatasetSummary
+ */
+export interface DatasetSummary {
+    /**
+     * Access rights for the test. This defines the visibility of the Test in the UI
+     * @type {string}
+     * @memberof DatasetSummary
+     */
+    access: DatasetSummaryAccessEnum;
+    /**
+     * Name of the team that owns the test. Users must belong to the team that owns a test to make modifications
+     * @type {string}
+     * @memberof DatasetSummary
+     */
+    owner: string;
+    /**
+     * Run Start timestamp
+     * @type {number}
+     * @memberof DatasetSummary
+     */
+    start: number;
+    /**
+     * Run Stop timestamp
+     * @type {number}
+     * @memberof DatasetSummary
+     */
+    stop: number;
+    /**
+     * Unique Dataset ID
+     * @type {number}
+     * @memberof DatasetSummary
+     */
+    id: number;
+    /**
+     * Run ID that Dataset relates to
+     * @type {number}
+     * @memberof DatasetSummary
+     */
+    runId: number;
+    /**
+     * Ordinal position of Dataset Summary on returned List
+     * @type {number}
+     * @memberof DatasetSummary
+     */
+    ordinal: number;
+    /**
+     * Test ID that Dataset relates to
+     * @type {number}
+     * @memberof DatasetSummary
+     */
+    testId: number;
+    /**
+     * Test name that the Dataset relates to
+     * @type {string}
+     * @memberof DatasetSummary
+     */
+    testname: string;
+    /**
+     * Dataset description
+     * @type {string}
+     * @memberof DatasetSummary
+     */
+    description?: string;
+    /**
+     * 
+     * @type {{ [key: string]: object; }}
+     * @memberof DatasetSummary
+     */
+    view?: { [key: string]: object; };
+    /**
+     * List of Schema usages
+     * @type {Array<SchemaUsage>}
+     * @memberof DatasetSummary
+     */
+    schemas: Array<SchemaUsage>;
+    /**
+     * List of Validation Errors
+     * @type {Array<ValidationError>}
+     * @memberof DatasetSummary
+     */
+    validationErrors?: Array<ValidationError>;
+}
+
+
+/**
+ * @export
+ */
+export const DatasetSummaryAccessEnum = {
+    Public: 'PUBLIC',
+    Protected: 'PROTECTED',
+    Private: 'PRIVATE'
+} as const;
+export type DatasetSummaryAccessEnum = typeof DatasetSummaryAccessEnum[keyof typeof DatasetSummaryAccessEnum];
+
+
+/**
+ * Check if a given object implements the DatasetSummary interface.
+ */
+export function instanceOfDatasetSummary(value: object): value is DatasetSummary {
+    if (!('access' in value) || value['access'] === undefined) return false;
+    if (!('owner' in value) || value['owner'] === undefined) return false;
+    if (!('start' in value) || value['start'] === undefined) return false;
+    if (!('stop' in value) || value['stop'] === undefined) return false;
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('runId' in value) || value['runId'] === undefined) return false;
+    if (!('ordinal' in value) || value['ordinal'] === undefined) return false;
+    if (!('testId' in value) || value['testId'] === undefined) return false;
+    if (!('testname' in value) || value['testname'] === undefined) return false;
+    if (!('schemas' in value) || value['schemas'] === undefined) return false;
+    return true;
+}
+
+export function DatasetSummaryFromJSON(json: any): DatasetSummary {
+    return DatasetSummaryFromJSONTyped(json, false);
+}
+
+export function DatasetSummaryFromJSONTyped(json: any, ignoreDiscriminator: boolean): DatasetSummary {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'access': json['access'],
+        'owner': json['owner'],
+        'start': json['start'],
+        'stop': json['stop'],
+        'id': json['id'],
+        'runId': json['runId'],
+        'ordinal': json['ordinal'],
+        'testId': json['testId'],
+        'testname': json['testname'],
+        'description': json['description'] == null ? undefined : json['description'],
+        'view': json['view'] == null ? undefined : json['view'],
+        'schemas': ((json['schemas'] as Array<any>).map(SchemaUsageFromJSON)),
+        'validationErrors': json['validationErrors'] == null ? undefined : ((json['validationErrors'] as Array<any>).map(ValidationErrorFromJSON)),
+    };
+}
+
+export function DatasetSummaryToJSON(json: any): DatasetSummary {
+    return DatasetSummaryToJSONTyped(json, false);
+}
+
+export function DatasetSummaryToJSONTyped(value?: DatasetSummary | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'access': value['access'],
+        'owner': value['owner'],
+        'start': value['start'],
+        'stop': value['stop'],
+        'id': value['id'],
+        'runId': value['runId'],
+        'ordinal': value['ordinal'],
+        'testId': value['testId'],
+        'testname': value['testname'],
+        'description': value['description'],
+        'view': value['view'],
+        'schemas': ((value['schemas'] as Array<any>).map(SchemaUsageToJSON)),
+        'validationErrors': value['validationErrors'] == null ? undefined : ((value['validationErrors'] as Array<any>).map(ValidationErrorToJSON)),
+    };
+}
+
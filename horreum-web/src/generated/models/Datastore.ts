@@ -0,0 +1,141 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { DatastoreConfig } from './DatastoreConfig';
+import {
+    DatastoreConfigFromJSON,
+    DatastoreConfigFromJSONTyped,
+    DatastoreConfigToJSON,
+    DatastoreConfigToJSONTyped,
+} from './DatastoreConfig';
+
+/**
+ * Instance of backend datastore
+ * @export
+ * @interface Datastore
+ */
+export interface Datastore {
+    /**
+     * Access rights for the test. This defines the visibility of the Test in the UI
+     * @type {string}
+     * @memberof Datastore
+     */
+    access: DatastoreAccessEnum;
+    /**
+     * Name of the team that owns the test. Users must belong to the team that owns a test to make modifications
+     * @type {string}
+     * @memberof Datastore
+     */
+    owner: string;
+    /**
+     * Unique Datastore id
+     * @type {number}
+     * @memberof Datastore
+     */
+    id: number;
+    /**
+     * Name of the datastore, used to identify the datastore in the Test definition
+     * @type {string}
+     * @memberof Datastore
+     */
+    name: string;
+    /**
+     * 
+     * @type {DatastoreConfig}
+     * @memberof Datastore
+     */
+    config: DatastoreConfig;
+    /**
+     * Type of backend datastore
+     * @type {string}
+     * @memberof Datastore
+     */
+    type: DatastoreTypeEnum;
+}
+
+
+/**
+ * @export
+ */
+export const DatastoreAccessEnum = {
+    Public: 'PUBLIC',
+    Protected: 'PROTECTED',
+    Private: 'PRIVATE'
+} as const;
+export type DatastoreAccessEnum = typeof DatastoreAccessEnum[keyof typeof DatastoreAccessEnum];
+
+/**
+ * @export
+ */
+export const DatastoreTypeEnum = {
+    Postgres: 'POSTGRES',
+    Elasticsearch: 'ELASTICSEARCH',
+    Collectorapi: 'COLLECTORAPI'
+} as const;
+export type DatastoreTypeEnum = typeof DatastoreTypeEnum[keyof typeof DatastoreTypeEnum];
+
+
+/**
+ * Check if a given object implements the Datastore interface.
+ */
+export function instanceOfDatastore(value: object): value is Datastore {
+    if (!('access' in value) || value['access'] === undefined) return false;
+    if (!('owner' in value) || value['owner'] === undefined) return false;
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('name' in value) || value['name'] === undefined) return false;
+    if (!('config' in value) || value['config'] === undefined) return false;
+    if (!('type' in value) || value['type'] === undefined) return false;
+    return true;
+}
+
+export function DatastoreFromJSON(json: any): Datastore {
+    return DatastoreFromJSONTyped(json, false);
+}
+
+export function DatastoreFromJSONTyped(json: any, ignoreDiscriminator: boolean): Datastore {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'access': json['access'],
+        'owner': json['owner'],
+        'id': json['id'],
+        'name': json['name'],
+        'config': DatastoreConfigFromJSON(json['config']),
+        'type': json['type'],
+    };
+}
+
+export function DatastoreToJSON(json: any): Datastore {
+    return DatastoreToJSONTyped(json, false);
+}
+
+export function DatastoreToJSONTyped(value?: Datastore | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'access': value['access'],
+        'owner': value['owner'],
+        'id': value['id'],
+        'name': value['name'],
+        'config': DatastoreConfigToJSON(value['config']),
+        'type': value['type'],
+    };
+}
+
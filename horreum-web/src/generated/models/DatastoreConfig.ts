@@ -0,0 +1,89 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import type { CollectorApiDatastoreConfig } from './CollectorApiDatastoreConfig';
+import {
+    instanceOfCollectorApiDatastoreConfig,
+    CollectorApiDatastoreConfigFromJSON,
+    CollectorApiDatastoreConfigFromJSONTyped,
+    CollectorApiDatastoreConfigToJSON,
+} from './CollectorApiDatastoreConfig';
+import type { ElasticsearchDatastoreConfig } from './ElasticsearchDatastoreConfig';
+import {
+    instanceOfElasticsearchDatastoreConfig,
+    ElasticsearchDatastoreConfigFromJSON,
+    ElasticsearchDatastoreConfigFromJSONTyped,
+    ElasticsearchDatastoreConfigToJSON,
+} from './ElasticsearchDatastoreConfig';
+import type { PostgresDatastoreConfig } from './PostgresDatastoreConfig';
+import {
+    instanceOfPostgresDatastoreConfig,
+    PostgresDatastoreConfigFromJSON,
+    PostgresDatastoreConfigFromJSONTyped,
+    PostgresDatastoreConfigToJSON,
+} from './PostgresDatastoreConfig';
+
+/**
+ * @type DatastoreConfig
+ * 
+ * @export
+ */
+export type DatastoreConfig = CollectorApiDatastoreConfig | ElasticsearchDatastoreConfig | PostgresDatastoreConfig;
+
+export function DatastoreConfigFromJSON(json: any): DatastoreConfig {
+    return DatastoreConfigFromJSONTyped(json, false);
+}
+
+export function DatastoreConfigFromJSONTyped(json: any, ignoreDiscriminator: boolean): DatastoreConfig {
+    if (json == null) {
+        return json;
+    }
+    if (typeof json !== 'object') {
+        return json;
+    }
+    if (instanceOfCollectorApiDatastoreConfig(json)) {
+        return CollectorApiDatastoreConfigFromJSONTyped(json, true);
+    }
+    if (instanceOfElasticsearchDatastoreConfig(json)) {
+        return ElasticsearchDatastoreConfigFromJSONTyped(json, true);
+    }
+    if (instanceOfPostgresDatastoreConfig(json)) {
+        return PostgresDatastoreConfigFromJSONTyped(json, true);
+    }
+    return {} as any;
+}
+
+export function DatastoreConfigToJSON(json: any): any {
+    return DatastoreConfigToJSONTyped(json, false);
+}
+
+export function DatastoreConfigToJSONTyped(value?: DatastoreConfig | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+    if (typeof value !== 'object') {
+        return value;
+    }
+    if (instanceOfCollectorApiDatastoreConfig(value)) {
+        return CollectorApiDatastoreConfigToJSON(value as CollectorApiDatastoreConfig);
+    }
+    if (instanceOfElasticsearchDatastoreConfig(value)) {
+        return ElasticsearchDatastoreConfigToJSON(value as ElasticsearchDatastoreConfig);
+    }
+    if (instanceOfPostgresDatastoreConfig(value)) {
+        return PostgresDatastoreConfigToJSON(value as PostgresDatastoreConfig);
+    }
+    return {};
+}
+
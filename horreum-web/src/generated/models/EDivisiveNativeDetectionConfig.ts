@@ -0,0 +1,103 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface EDivisiveNativeDetectionConfig
+ */
+export interface EDivisiveNativeDetectionConfig {
+    /**
+     * Built In
+     * @type {boolean}
+     * @memberof EDivisiveNativeDetectionConfig
+     */
+    builtIn: boolean;
+    /**
+     * 
+     * @type {string}
+     * @memberof EDivisiveNativeDetectionConfig
+     */
+    model: EDivisiveNativeDetectionConfigModelEnum;
+    /**
+     * Maximum p-value of the permutation test for a change point to be reported. Unlike Hunter, which uses a t-test and 0.001 by default, the p-value is estimated from permutations.
+     * @type {number}
+     * @memberof EDivisiveNativeDetectionConfig
+     */
+    maxPvalue: number;
+    /**
+     * Number of random permutations used to estimate the significance of a change point. Raised to at least 1/maxPvalue - 1, the lowest number that can yield a p-value of maxPvalue.
+     * @type {number}
+     * @memberof EDivisiveNativeDetectionConfig
+     */
+    permutations: number;
+}
+
+
+/**
+ * @export
+ */
+export const EDivisiveNativeDetectionConfigModelEnum = {
+    EDivisiveNative: 'eDivisiveNative'
+} as const;
+export type EDivisiveNativeDetectionConfigModelEnum = typeof EDivisiveNativeDetectionConfigModelEnum[keyof typeof EDivisiveNativeDetectionConfigModelEnum];
+
+
+/**
+ * Check if a given object implements the EDivisiveNativeDetectionConfig interface.
+ */
+export function instanceOfEDivisiveNativeDetectionConfig(value: object): value is EDivisiveNativeDetectionConfig {
+    if (!('builtIn' in value) || value['builtIn'] === undefined) return false;
+    if (!('model' in value) || value['model'] === undefined) return false;
+    if (!('maxPvalue' in value) || value['maxPvalue'] === undefined) return false;
+    if (!('permutations' in value) || value['permutations'] === undefined) return false;
+    return true;
+}
+
+export function EDivisiveNativeDetectionConfigFromJSON(json: any): EDivisiveNativeDetectionConfig {
+    return EDivisiveNativeDetectionConfigFromJSONTyped(json, false);
+}
+
+export function EDivisiveNativeDetectionConfigFromJSONTyped(json: any, ignoreDiscriminator: boolean): EDivisiveNativeDetectionConfig {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'builtIn': json['builtIn'],
+        'model': json['model'],
+        'maxPvalue': json['maxPvalue'],
+        'permutations': json['permutations'],
+    };
+}
+
+export function EDivisiveNativeDetectionConfigToJSON(json: any): EDivisiveNativeDetectionConfig {
+    return EDivisiveNativeDetectionConfigToJSONTyped(json, false);
+}
+
+export function EDivisiveNativeDetectionConfigToJSONTyped(value?: EDivisiveNativeDetectionConfig | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'builtIn': value['builtIn'],
+        'model': value['model'],
+        'maxPvalue': value['maxPvalue'],
+        'permutations': value['permutations'],
+    };
+}
+
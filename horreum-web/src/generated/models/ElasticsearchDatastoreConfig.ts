@@ -0,0 +1,92 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { CollectorApiDatastoreConfigAuthentication } from './CollectorApiDatastoreConfigAuthentication';
+import {
+    CollectorApiDatastoreConfigAuthenticationFromJSON,
+    CollectorApiDatastoreConfigAuthenticationFromJSONTyped,
+    CollectorApiDatastoreConfigAuthenticationToJSON,
+    CollectorApiDatastoreConfigAuthenticationToJSONTyped,
+} from './CollectorApiDatastoreConfigAuthentication';
+
+/**
+ * Type of backend datastore
+ * @export
+ * @interface ElasticsearchDatastoreConfig
+ */
+export interface ElasticsearchDatastoreConfig {
+    /**
+     * 
+     * @type {CollectorApiDatastoreConfigAuthentication}
+     * @memberof ElasticsearchDatastoreConfig
+     */
+    authentication: CollectorApiDatastoreConfigAuthentication;
+    /**
+     * Built In
+     * @type {boolean}
+     * @memberof ElasticsearchDatastoreConfig
+     */
+    builtIn: boolean;
+    /**
+     * Elasticsearch url
+     * @type {string}
+     * @memberof ElasticsearchDatastoreConfig
+     */
+    url: string;
+}
+
+/**
+ * Check if a given object implements the ElasticsearchDatastoreConfig interface.
+ */
+export function instanceOfElasticsearchDatastoreConfig(value: object): value is ElasticsearchDatastoreConfig {
+    if (!('authentication' in value) || value['authentication'] === undefined) return false;
+    if (!('builtIn' in value) || value['builtIn'] === undefined) return false;
+    if (!('url' in value) || value['url'] === undefined) return false;
+    return true;
+}
+
+export function ElasticsearchDatastoreConfigFromJSON(json: any): ElasticsearchDatastoreConfig {
+    return ElasticsearchDatastoreConfigFromJSONTyped(json, false);
+}
+
+export function ElasticsearchDatastoreConfigFromJSONTyped(json: any, ignoreDiscriminator: boolean): ElasticsearchDatastoreConfig {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'authentication': CollectorApiDatastoreConfigAuthenticationFromJSON(json['authentication']),
+        'builtIn': json['builtIn'],
+        'url': json['url'],
+    };
+}
+
+export function ElasticsearchDatastoreConfigToJSON(json: any): ElasticsearchDatastoreConfig {
+    return ElasticsearchDatastoreConfigToJSONTyped(json, false);
+}
+
+export function ElasticsearchDatastoreConfigToJSONTyped(value?: ElasticsearchDatastoreConfig | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'authentication': CollectorApiDatastoreConfigAuthenticationToJSON(value['authentication']),
+        'builtIn': value['builtIn'],
+        'url': value['url'],
+    };
+}
+
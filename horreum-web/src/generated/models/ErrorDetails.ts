@@ -0,0 +1,164 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * Validation Error Details
+ * @export
+ * @interface ErrorDetails
+ */
+export interface ErrorDetails {
+    /**
+     * Validation Error type
+     * @type {string}
+     * @memberof ErrorDetails
+     */
+    type: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ErrorDetails
+     */
+    code?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ErrorDetails
+     */
+    path?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ErrorDetails
+     */
+    evaluationPath?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ErrorDetails
+     * @deprecated
+     */
+    schemaPath?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ErrorDetails
+     */
+    schemaLocation?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ErrorDetails
+     */
+    instanceLocation?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ErrorDetails
+     */
+    property?: string;
+    /**
+     * 
+     * @type {Array<string>}
+     * @memberof ErrorDetails
+     */
+    arguments?: Array<string>;
+    /**
+     * 
+     * @type {string}
+     * @memberof ErrorDetails
+     */
+    details?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ErrorDetails
+     */
+    messageKey?: string;
+    /**
+     * 
+     * @type {boolean}
+     * @memberof ErrorDetails
+     */
+    valid?: boolean;
+    /**
+     * 
+     * @type {string}
+     * @memberof ErrorDetails
+     */
+    message: string;
+}
+
+/**
+ * Check if a given object implements the ErrorDetails interface.
+ */
+export function instanceOfErrorDetails(value: object): value is ErrorDetails {
+    if (!('type' in value) || value['type'] === undefined) return false;
+    if (!('message' in value) || value['message'] === undefined) return false;
+    return true;
+}
+
+export function ErrorDetailsFromJSON(json: any): ErrorDetails {
+    return ErrorDetailsFromJSONTyped(json, false);
+}
+
+export function ErrorDetailsFromJSONTyped(json: any, ignoreDiscriminator: boolean): ErrorDetails {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'type': json['type'],
+        'code': json['code'] == null ? undefined : json['code'],
+        'path': json['path'] == null ? undefined : json['path'],
+        'evaluationPath': json['evaluationPath'] == null ? undefined : json['evaluationPath'],
+        'schemaPath': json['schemaPath'] == null ? undefined : json['schemaPath'],
+        'schemaLocation': json['schemaLocation'] == null ? undefined : json['schemaLocation'],
+        'instanceLocation': json['instanceLocation'] == null ? undefined : json['instanceLocation'],
+        'property': json['property'] == null ? undefined : json['property'],
+        'arguments': json['arguments'] == null ? undefined : json['arguments'],
+        'details': json['details'] == null ? undefined : json['details'],
+        'messageKey': json['messageKey'] == null ? undefined : json['messageKey'],
+        'valid': json['valid'] == null ? undefined : json['valid'],
+        'message': json['message'],
+    };
+}
+
+export function ErrorDetailsToJSON(json: any): ErrorDetails {
+    return ErrorDetailsToJSONTyped(json, false);
+}
+
+export function ErrorDetailsToJSONTyped(value?: ErrorDetails | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'type': value['type'],
+        'code': value['code'],
+        'path': value['path'],
+        'evaluationPath': value['evaluationPath'],
+        'schemaPath': value['schemaPath'],
+        'schemaLocation': value['schemaLocation'],
+        'instanceLocation': value['instanceLocation'],
+        'property': value['property'],
+        'arguments': value['arguments'],
+        'details': value['details'],
+        'messageKey': value['messageKey'],
+        'valid': value['valid'],
+        'message': value['message'],
+    };
+}
+
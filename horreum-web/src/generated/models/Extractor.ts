@@ -0,0 +1,84 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * An Extractor defines how values are extracted from a JSON document, for use in Labels etc.
+ * @export
+ * @interface Extractor
+ */
+export interface Extractor {
+    /**
+     * Name of extractor. This name is used in Combination Functions to refer to values by name
+     * @type {string}
+     * @memberof Extractor
+     */
+    name: string;
+    /**
+     * JSON path expression defining the location of the extractor value in the JSON document. This is a pSQL json path expression
+     * @type {string}
+     * @memberof Extractor
+     */
+    jsonpath: string;
+    /**
+     * Does the JSON path expression reference an Array?
+     * @type {boolean}
+     * @memberof Extractor
+     */
+    isarray: boolean;
+}
+
+/**
+ * Check if a given object implements the Extractor interface.
+ */
+export function instanceOfExtractor(value: object): value is Extractor {
+    if (!('name' in value) || value['name'] === undefined) return false;
+    if (!('jsonpath' in value) || value['jsonpath'] === undefined) return false;
+    if (!('isarray' in value) || value['isarray'] === undefined) return false;
+    return true;
+}
+
+export function ExtractorFromJSON(json: any): Extractor {
+    return ExtractorFromJSONTyped(json, false);
+}
+
+export function ExtractorFromJSONTyped(json: any, ignoreDiscriminator: boolean): Extractor {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'name': json['name'],
+        'jsonpath': json['jsonpath'],
+        'isarray': json['isarray'],
+    };
+}
+
+export function ExtractorToJSON(json: any): Extractor {
+    return ExtractorToJSONTyped(json, false);
+}
+
+export function ExtractorToJSONTyped(value?: Extractor | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'name': value['name'],
+        'jsonpath': value['jsonpath'],
+        'isarray': value['isarray'],
+    };
+}
+
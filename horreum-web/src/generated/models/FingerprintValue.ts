@@ -0,0 +1,81 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * Representation of Fingerprint. If the Fingerprint has children the value will be null.
+ * @export
+ * @interface FingerprintValue
+ */
+export interface FingerprintValue {
+    /**
+     * Fingerprint name
+     * @type {string}
+     * @memberof FingerprintValue
+     */
+    name?: string;
+    /**
+     * 
+     * @type {any}
+     * @memberof FingerprintValue
+     */
+    value?: any | null;
+    /**
+     * List of Fingerprint children
+     * @type {Array<any>}
+     * @memberof FingerprintValue
+     */
+    children?: Array<any>;
+}
+
+/**
+ * Check if a given object implements the FingerprintValue interface.
+ */
+export function instanceOfFingerprintValue(value: object): value is FingerprintValue {
+    return true;
+}
+
+export function FingerprintValueFromJSON(json: any): FingerprintValue {
+    return FingerprintValueFromJSONTyped(json, false);
+}
+
+export function FingerprintValueFromJSONTyped(json: any, ignoreDiscriminator: boolean): FingerprintValue {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'name': json['name'] == null ? undefined : json['name'],
+        'value': json['value'] == null ? undefined : json['value'],
+        'children': json['children'] == null ? undefined : json['children'],
+    };
+}
+
+export function FingerprintValueToJSON(json: any): FingerprintValue {
+    return FingerprintValueToJSONTyped(json, false);
+}
+
+export function FingerprintValueToJSONTyped(value?: FingerprintValue | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'name': value['name'],
+        'value': value['value'],
+        'children': value['children'],
+    };
+}
+
@@ -0,0 +1,73 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { FingerprintValue } from './FingerprintValue';
+import {
+    FingerprintValueFromJSON,
+    FingerprintValueFromJSONTyped,
+    FingerprintValueToJSON,
+    FingerprintValueToJSONTyped,
+} from './FingerprintValue';
+
+/**
+ * A list of Fingerprints representing one dataset
+ * @export
+ * @interface Fingerprints
+ */
+export interface Fingerprints {
+    /**
+     * 
+     * @type {Array<FingerprintValue>}
+     * @memberof Fingerprints
+     */
+    values?: Array<FingerprintValue>;
+}
+
+/**
+ * Check if a given object implements the Fingerprints interface.
+ */
+export function instanceOfFingerprints(value: object): value is Fingerprints {
+    return true;
+}
+
+export function FingerprintsFromJSON(json: any): Fingerprints {
+    return FingerprintsFromJSONTyped(json, false);
+}
+
+export function FingerprintsFromJSONTyped(json: any, ignoreDiscriminator: boolean): Fingerprints {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'values': json['values'] == null ? undefined : ((json['values'] as Array<any>).map(FingerprintValueFromJSON)),
+    };
+}
+
+export function FingerprintsToJSON(json: any): Fingerprints {
+    return FingerprintsToJSONTyped(json, false);
+}
+
+export function FingerprintsToJSONTyped(value?: Fingerprints | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'values': value['values'] == null ? undefined : ((value['values'] as Array<any>).map(FingerprintValueToJSON)),
+    };
+}
+
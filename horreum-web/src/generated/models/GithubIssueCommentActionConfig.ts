@@ -0,0 +1,111 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface GithubIssueCommentActionConfig
+ */
+export interface GithubIssueCommentActionConfig {
+    /**
+     * Action type
+     * @type {string}
+     * @memberof GithubIssueCommentActionConfig
+     */
+    type: string;
+    /**
+     * GitHub issue URL
+     * @type {string}
+     * @memberof GithubIssueCommentActionConfig
+     */
+    issueUrl: string;
+    /**
+     * GitHub repo owner
+     * @type {string}
+     * @memberof GithubIssueCommentActionConfig
+     */
+    owner: string;
+    /**
+     * GitHub repo name
+     * @type {string}
+     * @memberof GithubIssueCommentActionConfig
+     */
+    repo: string;
+    /**
+     * GitHub issue number
+     * @type {string}
+     * @memberof GithubIssueCommentActionConfig
+     */
+    issue: string;
+    /**
+     * Object markdown formatter
+     * @type {string}
+     * @memberof GithubIssueCommentActionConfig
+     */
+    formatter: string;
+}
+
+/**
+ * Check if a given object implements the GithubIssueCommentActionConfig interface.
+ */
+export function instanceOfGithubIssueCommentActionConfig(value: object): value is GithubIssueCommentActionConfig {
+    if (!('type' in value) || value['type'] === undefined) return false;
+    if (!('issueUrl' in value) || value['issueUrl'] === undefined) return false;
+    if (!('owner' in value) || value['owner'] === undefined) return false;
+    if (!('repo' in value) || value['repo'] === undefined) return false;
+    if (!('issue' in value) || value['issue'] === undefined) return false;
+    if (!('formatter' in value) || value['formatter'] === undefined) return false;
+    return true;
+}
+
+export function GithubIssueCommentActionConfigFromJSON(json: any): GithubIssueCommentActionConfig {
+    return GithubIssueCommentActionConfigFromJSONTyped(json, false);
+}
+
+export function GithubIssueCommentActionConfigFromJSONTyped(json: any, ignoreDiscriminator: boolean): GithubIssueCommentActionConfig {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'type': json['type'],
+        'issueUrl': json['issueUrl'],
+        'owner': json['owner'],
+        'repo': json['repo'],
+        'issue': json['issue'],
+        'formatter': json['formatter'],
+    };
+}
+
+export function GithubIssueCommentActionConfigToJSON(json: any): GithubIssueCommentActionConfig {
+    return GithubIssueCommentActionConfigToJSONTyped(json, false);
+}
+
+export function GithubIssueCommentActionConfigToJSONTyped(value?: GithubIssueCommentActionConfig | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'type': value['type'],
+        'issueUrl': value['issueUrl'],
+        'owner': value['owner'],
+        'repo': value['repo'],
+        'issue': value['issue'],
+        'formatter': value['formatter'],
+    };
+}
+
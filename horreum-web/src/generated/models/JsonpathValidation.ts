@@ -0,0 +1,106 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface JsonpathValidation
+ */
+export interface JsonpathValidation {
+    /**
+     * 
+     * @type {boolean}
+     * @memberof JsonpathValidation
+     */
+    valid: boolean;
+    /**
+     * 
+     * @type {string}
+     * @memberof JsonpathValidation
+     */
+    jsonpath?: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof JsonpathValidation
+     */
+    errorCode?: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof JsonpathValidation
+     */
+    sqlState?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof JsonpathValidation
+     */
+    reason?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof JsonpathValidation
+     */
+    sql?: string;
+}
+
+/**
+ * Check if a given object implements the JsonpathValidation interface.
+ */
+export function instanceOfJsonpathValidation(value: object): value is JsonpathValidation {
+    if (!('valid' in value) || value['valid'] === undefined) return false;
+    return true;
+}
+
+export function JsonpathValidationFromJSON(json: any): JsonpathValidation {
+    return JsonpathValidationFromJSONTyped(json, false);
+}
+
+export function JsonpathValidationFromJSONTyped(json: any, ignoreDiscriminator: boolean): JsonpathValidation {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'valid': json['valid'],
+        'jsonpath': json['jsonpath'] == null ? undefined : json['jsonpath'],
+        'errorCode': json['errorCode'] == null ? undefined : json['errorCode'],
+        'sqlState': json['sqlState'] == null ? undefined : json['sqlState'],
+        'reason': json['reason'] == null ? undefined : json['reason'],
+        'sql': json['sql'] == null ? undefined : json['sql'],
+    };
+}
+
+export function JsonpathValidationToJSON(json: any): JsonpathValidation {
+    return JsonpathValidationToJSONTyped(json, false);
+}
+
+export function JsonpathValidationToJSONTyped(value?: JsonpathValidation | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'valid': value['valid'],
+        'jsonpath': value['jsonpath'],
+        'errorCode': value['errorCode'],
+        'sqlState': value['sqlState'],
+        'reason': value['reason'],
+        'sql': value['sql'],
+    };
+}
+
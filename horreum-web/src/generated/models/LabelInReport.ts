@@ -0,0 +1,113 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface LabelInReport
+ */
+export interface LabelInReport {
+    /**
+     * Location of Label usage
+     * @type {string}
+     * @memberof LabelInReport
+     */
+    type?: string;
+    /**
+     * Unique ID for location that references Schema
+     * @type {number}
+     * @memberof LabelInReport
+     */
+    testId?: number;
+    /**
+     * Test name that references Schema
+     * @type {string}
+     * @memberof LabelInReport
+     */
+    testName?: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof LabelInReport
+     */
+    configId?: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof LabelInReport
+     */
+    title?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof LabelInReport
+     */
+    where?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof LabelInReport
+     */
+    name?: string;
+}
+
+/**
+ * Check if a given object implements the LabelInReport interface.
+ */
+export function instanceOfLabelInReport(value: object): value is LabelInReport {
+    return true;
+}
+
+export function LabelInReportFromJSON(json: any): LabelInReport {
+    return LabelInReportFromJSONTyped(json, false);
+}
+
+export function LabelInReportFromJSONTyped(json: any, ignoreDiscriminator: boolean): LabelInReport {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'type': json['type'] == null ? undefined : json['type'],
+        'testId': json['testId'] == null ? undefined : json['testId'],
+        'testName': json['testName'] == null ? undefined : json['testName'],
+        'configId': json['configId'] == null ? undefined : json['configId'],
+        'title': json['title'] == null ? undefined : json['title'],
+        'where': json['where'] == null ? undefined : json['where'],
+        'name': json['name'] == null ? undefined : json['name'],
+    };
+}
+
+export function LabelInReportToJSON(json: any): LabelInReport {
+    return LabelInReportToJSONTyped(json, false);
+}
+
+export function LabelInReportToJSONTyped(value?: LabelInReport | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'type': value['type'],
+        'testId': value['testId'],
+        'testName': value['testName'],
+        'configId': value['configId'],
+        'title': value['title'],
+        'where': value['where'],
+        'name': value['name'],
+    };
+}
+
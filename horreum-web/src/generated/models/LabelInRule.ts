@@ -0,0 +1,97 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface LabelInRule
+ */
+export interface LabelInRule {
+    /**
+     * Location of Label usage
+     * @type {string}
+     * @memberof LabelInRule
+     */
+    type?: string;
+    /**
+     * Unique ID for location that references Schema
+     * @type {number}
+     * @memberof LabelInRule
+     */
+    testId?: number;
+    /**
+     * Test name that references Schema
+     * @type {string}
+     * @memberof LabelInRule
+     */
+    testName?: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof LabelInRule
+     */
+    ruleId?: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof LabelInRule
+     */
+    ruleName?: string;
+}
+
+/**
+ * Check if a given object implements the LabelInRule interface.
+ */
+export function instanceOfLabelInRule(value: object): value is LabelInRule {
+    return true;
+}
+
+export function LabelInRuleFromJSON(json: any): LabelInRule {
+    return LabelInRuleFromJSONTyped(json, false);
+}
+
+export function LabelInRuleFromJSONTyped(json: any, ignoreDiscriminator: boolean): LabelInRule {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'type': json['type'] == null ? undefined : json['type'],
+        'testId': json['testId'] == null ? undefined : json['testId'],
+        'testName': json['testName'] == null ? undefined : json['testName'],
+        'ruleId': json['ruleId'] == null ? undefined : json['ruleId'],
+        'ruleName': json['ruleName'] == null ? undefined : json['ruleName'],
+    };
+}
+
+export function LabelInRuleToJSON(json: any): LabelInRule {
+    return LabelInRuleToJSONTyped(json, false);
+}
+
+export function LabelInRuleToJSONTyped(value?: LabelInRule | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'type': value['type'],
+        'testId': value['testId'],
+        'testName': value['testName'],
+        'ruleId': value['ruleId'],
+        'ruleName': value['ruleName'],
+    };
+}
+
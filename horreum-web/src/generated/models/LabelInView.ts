@@ -0,0 +1,113 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface LabelInView
+ */
+export interface LabelInView {
+    /**
+     * Location of Label usage
+     * @type {string}
+     * @memberof LabelInView
+     */
+    type?: string;
+    /**
+     * Unique ID for location that references Schema
+     * @type {number}
+     * @memberof LabelInView
+     */
+    testId?: number;
+    /**
+     * Test name that references Schema
+     * @type {string}
+     * @memberof LabelInView
+     */
+    testName?: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof LabelInView
+     */
+    viewId?: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof LabelInView
+     */
+    viewName?: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof LabelInView
+     */
+    componentId?: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof LabelInView
+     */
+    header?: string;
+}
+
+/**
+ * Check if a given object implements the LabelInView interface.
+ */
+export function instanceOfLabelInView(value: object): value is LabelInView {
+    return true;
+}
+
+export function LabelInViewFromJSON(json: any): LabelInView {
+    return LabelInViewFromJSONTyped(json, false);
+}
+
+export function LabelInViewFromJSONTyped(json: any, ignoreDiscriminator: boolean): LabelInView {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'type': json['type'] == null ? undefined : json['type'],
+        'testId': json['testId'] == null ? undefined : json['testId'],
+        'testName': json['testName'] == null ? undefined : json['testName'],
+        'viewId': json['viewId'] == null ? undefined : json['viewId'],
+        'viewName': json['viewName'] == null ? undefined : json['viewName'],
+        'componentId': json['componentId'] == null ? undefined : json['componentId'],
+        'header': json['header'] == null ? undefined : json['header'],
+    };
+}
+
+export function LabelInViewToJSON(json: any): LabelInView {
+    return LabelInViewToJSONTyped(json, false);
+}
+
+export function LabelInViewToJSONTyped(value?: LabelInView | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'type': value['type'],
+        'testId': value['testId'],
+        'testName': value['testName'],
+        'viewId': value['viewId'],
+        'viewName': value['viewName'],
+        'componentId': value['componentId'],
+        'header': value['header'],
+    };
+}
+
@@ -0,0 +1,101 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { SchemaDescriptor } from './SchemaDescriptor';
+import {
+    SchemaDescriptorFromJSON,
+    SchemaDescriptorFromJSONTyped,
+    SchemaDescriptorToJSON,
+    SchemaDescriptorToJSONTyped,
+} from './SchemaDescriptor';
+
+/**
+ * 
+ * @export
+ * @interface LabelInfo
+ */
+export interface LabelInfo {
+    /**
+     * Label name
+     * @type {string}
+     * @memberof LabelInfo
+     */
+    name: string;
+    /**
+     * Is label a metrics label?
+     * @type {boolean}
+     * @memberof LabelInfo
+     */
+    metrics: boolean;
+    /**
+     * Is label a filtering label?
+     * @type {boolean}
+     * @memberof LabelInfo
+     */
+    filtering: boolean;
+    /**
+     * List of schemas where label is referenced
+     * @type {Array<SchemaDescriptor>}
+     * @memberof LabelInfo
+     */
+    schemas: Array<SchemaDescriptor>;
+}
+
+/**
+ * Check if a given object implements the LabelInfo interface.
+ */
+export function instanceOfLabelInfo(value: object): value is LabelInfo {
+    if (!('name' in value) || value['name'] === undefined) return false;
+    if (!('metrics' in value) || value['metrics'] === undefined) return false;
+    if (!('filtering' in value) || value['filtering'] === undefined) return false;
+    if (!('schemas' in value) || value['schemas'] === undefined) return false;
+    return true;
+}
+
+export function LabelInfoFromJSON(json: any): LabelInfo {
+    return LabelInfoFromJSONTyped(json, false);
+}
+
+export function LabelInfoFromJSONTyped(json: any, ignoreDiscriminator: boolean): LabelInfo {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'name': json['name'],
+        'metrics': json['metrics'],
+        'filtering': json['filtering'],
+        'schemas': ((json['schemas'] as Array<any>).map(SchemaDescriptorFromJSON)),
+    };
+}
+
+export function LabelInfoToJSON(json: any): LabelInfo {
+    return LabelInfoToJSONTyped(json, false);
+}
+
+export function LabelInfoToJSONTyped(value?: LabelInfo | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'name': value['name'],
+        'metrics': value['metrics'],
+        'filtering': value['filtering'],
+        'schemas': ((value['schemas'] as Array<any>).map(SchemaDescriptorToJSON)),
+    };
+}
+
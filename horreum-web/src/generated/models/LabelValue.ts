@@ -0,0 +1,100 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { SchemaDescriptor } from './SchemaDescriptor';
+import {
+    SchemaDescriptorFromJSON,
+    SchemaDescriptorFromJSONTyped,
+    SchemaDescriptorToJSON,
+    SchemaDescriptorToJSONTyped,
+} from './SchemaDescriptor';
+
+/**
+ * Label Value derived from Label definition and Dataset Data
+ * @export
+ * @interface LabelValue
+ */
+export interface LabelValue {
+    /**
+     * Unique ID for Label Value
+     * @type {number}
+     * @memberof LabelValue
+     */
+    id: number;
+    /**
+     * Label name
+     * @type {string}
+     * @memberof LabelValue
+     */
+    name: string;
+    /**
+     * Summary description of Schema
+     * @type {SchemaDescriptor}
+     * @memberof LabelValue
+     */
+    schema: SchemaDescriptor;
+    /**
+     * Value value extracted from Dataset. This can be a scalar, array or JSON object
+     * @type {string}
+     * @memberof LabelValue
+     */
+    value?: string;
+}
+
+/**
+ * Check if a given object implements the LabelValue interface.
+ */
+export function instanceOfLabelValue(value: object): value is LabelValue {
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('name' in value) || value['name'] === undefined) return false;
+    if (!('schema' in value) || value['schema'] === undefined) return false;
+    return true;
+}
+
+export function LabelValueFromJSON(json: any): LabelValue {
+    return LabelValueFromJSONTyped(json, false);
+}
+
+export function LabelValueFromJSONTyped(json: any, ignoreDiscriminator: boolean): LabelValue {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'],
+        'name': json['name'],
+        'schema': json['schema'],
+        'value': json['value'] == null ? undefined : json['value'],
+    };
+}
+
+export function LabelValueToJSON(json: any): LabelValue {
+    return LabelValueToJSONTyped(json, false);
+}
+
+export function LabelValueToJSONTyped(value?: LabelValue | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'name': value['name'],
+        'schema': value['schema'],
+        'value': value['value'],
+    };
+}
+
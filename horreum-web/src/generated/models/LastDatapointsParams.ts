@@ -0,0 +1,75 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface LastDatapointsParams
+ */
+export interface LastDatapointsParams {
+    /**
+     * 
+     * @type {Array<number>}
+     * @memberof LastDatapointsParams
+     */
+    variables: Array<number>;
+    /**
+     * 
+     * @type {string}
+     * @memberof LastDatapointsParams
+     */
+    fingerprint: string;
+}
+
+/**
+ * Check if a given object implements the LastDatapointsParams interface.
+ */
+export function instanceOfLastDatapointsParams(value: object): value is LastDatapointsParams {
+    if (!('variables' in value) || value['variables'] === undefined) return false;
+    if (!('fingerprint' in value) || value['fingerprint'] === undefined) return false;
+    return true;
+}
+
+export function LastDatapointsParamsFromJSON(json: any): LastDatapointsParams {
+    return LastDatapointsParamsFromJSONTyped(json, false);
+}
+
+export function LastDatapointsParamsFromJSONTyped(json: any, ignoreDiscriminator: boolean): LastDatapointsParams {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'variables': json['variables'],
+        'fingerprint': json['fingerprint'],
+    };
+}
+
+export function LastDatapointsParamsToJSON(json: any): LastDatapointsParams {
+    return LastDatapointsParamsToJSONTyped(json, false);
+}
+
+export function LastDatapointsParamsToJSONTyped(value?: LastDatapointsParams | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'variables': value['variables'],
+        'fingerprint': value['fingerprint'],
+    };
+}
+
@@ -0,0 +1,116 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface MissingDataRule
+ */
+export interface MissingDataRule {
+    /**
+     * 
+     * @type {number}
+     * @memberof MissingDataRule
+     */
+    id: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof MissingDataRule
+     */
+    name?: string;
+    /**
+     * 
+     * @type {Array<string>}
+     * @memberof MissingDataRule
+     */
+    labels?: Array<string>;
+    /**
+     * 
+     * @type {string}
+     * @memberof MissingDataRule
+     */
+    condition?: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof MissingDataRule
+     */
+    maxStaleness: number;
+    /**
+     * 
+     * @type {Date}
+     * @memberof MissingDataRule
+     */
+    lastNotification?: Date;
+    /**
+     * 
+     * @type {number}
+     * @memberof MissingDataRule
+     */
+    testId: number;
+}
+
+/**
+ * Check if a given object implements the MissingDataRule interface.
+ */
+export function instanceOfMissingDataRule(value: object): value is MissingDataRule {
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('maxStaleness' in value) || value['maxStaleness'] === undefined) return false;
+    if (!('testId' in value) || value['testId'] === undefined) return false;
+    return true;
+}
+
+export function MissingDataRuleFromJSON(json: any): MissingDataRule {
+    return MissingDataRuleFromJSONTyped(json, false);
+}
+
+export function MissingDataRuleFromJSONTyped(json: any, ignoreDiscriminator: boolean): MissingDataRule {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'],
+        'name': json['name'] == null ? undefined : json['name'],
+        'labels': json['labels'] == null ? undefined : json['labels'],
+        'condition': json['condition'] == null ? undefined : json['condition'],
+        'maxStaleness': json['maxStaleness'],
+        'lastNotification': json['lastNotification'] == null ? undefined : (new Date(json['lastNotification'])),
+        'testId': json['testId'],
+    };
+}
+
+export function MissingDataRuleToJSON(json: any): MissingDataRule {
+    return MissingDataRuleToJSONTyped(json, false);
+}
+
+export function MissingDataRuleToJSONTyped(value?: MissingDataRule | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'name': value['name'],
+        'labels': value['labels'],
+        'condition': value['condition'],
+        'maxStaleness': value['maxStaleness'],
+        'lastNotification': value['lastNotification'] == null ? value['lastNotification'] : value['lastNotification'].toISOString(),
+        'testId': value['testId'],
+    };
+}
+
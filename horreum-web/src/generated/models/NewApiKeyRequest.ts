@@ -0,0 +1,83 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { KeyType } from './KeyType';
+import {
+    KeyTypeFromJSON,
+    KeyTypeFromJSONTyped,
+    KeyTypeToJSON,
+    KeyTypeToJSONTyped,
+} from './KeyType';
+
+/**
+ * 
+ * @export
+ * @interface NewApiKeyRequest
+ */
+export interface NewApiKeyRequest {
+    /**
+     * 
+     * @type {string}
+     * @memberof NewApiKeyRequest
+     */
+    name?: string;
+    /**
+     * 
+     * @type {KeyType}
+     * @memberof NewApiKeyRequest
+     */
+    type?: KeyType;
+}
+
+
+
+/**
+ * Check if a given object implements the NewApiKeyRequest interface.
+ */
+export function instanceOfNewApiKeyRequest(value: object): value is NewApiKeyRequest {
+    return true;
+}
+
+export function NewApiKeyRequestFromJSON(json: any): NewApiKeyRequest {
+    return NewApiKeyRequestFromJSONTyped(json, false);
+}
+
+export function NewApiKeyRequestFromJSONTyped(json: any, ignoreDiscriminator: boolean): NewApiKeyRequest {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'name': json['name'] == null ? undefined : json['name'],
+        'type': json['type'] == null ? undefined : KeyTypeFromJSON(json['type']),
+    };
+}
+
+export function NewApiKeyRequestToJSON(json: any): NewApiKeyRequest {
+    return NewApiKeyRequestToJSONTyped(json, false);
+}
+
+export function NewApiKeyRequestToJSONTyped(value?: NewApiKeyRequest | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'name': value['name'],
+        'type': KeyTypeToJSON(value['type']),
+    };
+}
+
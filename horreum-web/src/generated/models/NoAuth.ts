@@ -0,0 +1,65 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface NoAuth
+ */
+export interface NoAuth {
+    /**
+     * type
+     * @type {string}
+     * @memberof NoAuth
+     */
+    type?: string;
+}
+
+/**
+ * Check if a given object implements the NoAuth interface.
+ */
+export function instanceOfNoAuth(value: object): value is NoAuth {
+    return true;
+}
+
+export function NoAuthFromJSON(json: any): NoAuth {
+    return NoAuthFromJSONTyped(json, false);
+}
+
+export function NoAuthFromJSONTyped(json: any, ignoreDiscriminator: boolean): NoAuth {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'type': json['type'] == null ? undefined : json['type'],
+    };
+}
+
+export function NoAuthToJSON(json: any): NoAuth {
+    return NoAuthToJSONTyped(json, false);
+}
+
+export function NoAuthToJSONTyped(value?: NoAuth | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'type': value['type'],
+    };
+}
+
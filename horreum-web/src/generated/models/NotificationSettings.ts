@@ -0,0 +1,109 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface NotificationSettings
+ */
+export interface NotificationSettings {
+    /**
+     * 
+     * @type {number}
+     * @memberof NotificationSettings
+     */
+    id?: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof NotificationSettings
+     */
+    name: string;
+    /**
+     * 
+     * @type {boolean}
+     * @memberof NotificationSettings
+     */
+    isTeam: boolean;
+    /**
+     * 
+     * @type {string}
+     * @memberof NotificationSettings
+     */
+    method: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof NotificationSettings
+     */
+    data?: string;
+    /**
+     * 
+     * @type {boolean}
+     * @memberof NotificationSettings
+     */
+    disabled: boolean;
+}
+
+/**
+ * Check if a given object implements the NotificationSettings interface.
+ */
+export function instanceOfNotificationSettings(value: object): value is NotificationSettings {
+    if (!('name' in value) || value['name'] === undefined) return false;
+    if (!('isTeam' in value) || value['isTeam'] === undefined) return false;
+    if (!('method' in value) || value['method'] === undefined) return false;
+    if (!('disabled' in value) || value['disabled'] === undefined) return false;
+    return true;
+}
+
+export function NotificationSettingsFromJSON(json: any): NotificationSettings {
+    return NotificationSettingsFromJSONTyped(json, false);
+}
+
+export function NotificationSettingsFromJSONTyped(json: any, ignoreDiscriminator: boolean): NotificationSettings {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'] == null ? undefined : json['id'],
+        'name': json['name'],
+        'isTeam': json['isTeam'],
+        'method': json['method'],
+        'data': json['data'] == null ? undefined : json['data'],
+        'disabled': json['disabled'],
+    };
+}
+
+export function NotificationSettingsToJSON(json: any): NotificationSettings {
+    return NotificationSettingsToJSONTyped(json, false);
+}
+
+export function NotificationSettingsToJSONTyped(value?: NotificationSettings | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'name': value['name'],
+        'isTeam': value['isTeam'],
+        'method': value['method'],
+        'data': value['data'],
+        'disabled': value['disabled'],
+    };
+}
+
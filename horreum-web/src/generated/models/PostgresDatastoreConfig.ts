@@ -0,0 +1,83 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { CollectorApiDatastoreConfigAuthentication } from './CollectorApiDatastoreConfigAuthentication';
+import {
+    CollectorApiDatastoreConfigAuthenticationFromJSON,
+    CollectorApiDatastoreConfigAuthenticationFromJSONTyped,
+    CollectorApiDatastoreConfigAuthenticationToJSON,
+    CollectorApiDatastoreConfigAuthenticationToJSONTyped,
+} from './CollectorApiDatastoreConfigAuthentication';
+
+/**
+ * Built in backend datastore
+ * @export
+ * @interface PostgresDatastoreConfig
+ */
+export interface PostgresDatastoreConfig {
+    /**
+     * 
+     * @type {CollectorApiDatastoreConfigAuthentication}
+     * @memberof PostgresDatastoreConfig
+     */
+    authentication: CollectorApiDatastoreConfigAuthentication;
+    /**
+     * Built In
+     * @type {boolean}
+     * @memberof PostgresDatastoreConfig
+     */
+    builtIn: boolean;
+}
+
+/**
+ * Check if a given object implements the PostgresDatastoreConfig interface.
+ */
+export function instanceOfPostgresDatastoreConfig(value: object): value is PostgresDatastoreConfig {
+    if (!('authentication' in value) || value['authentication'] === undefined) return false;
+    if (!('builtIn' in value) || value['builtIn'] === undefined) return false;
+    return true;
+}
+
+export function PostgresDatastoreConfigFromJSON(json: any): PostgresDatastoreConfig {
+    return PostgresDatastoreConfigFromJSONTyped(json, false);
+}
+
+export function PostgresDatastoreConfigFromJSONTyped(json: any, ignoreDiscriminator: boolean): PostgresDatastoreConfig {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'authentication': CollectorApiDatastoreConfigAuthenticationFromJSON(json['authentication']),
+        'builtIn': json['builtIn'],
+    };
+}
+
+export function PostgresDatastoreConfigToJSON(json: any): PostgresDatastoreConfig {
+    return PostgresDatastoreConfigToJSONTyped(json, false);
+}
+
+export function PostgresDatastoreConfigToJSONTyped(value?: PostgresDatastoreConfig | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'authentication': CollectorApiDatastoreConfigAuthenticationToJSON(value['authentication']),
+        'builtIn': value['builtIn'],
+    };
+}
+
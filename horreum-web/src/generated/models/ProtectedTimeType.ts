@@ -0,0 +1,105 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface ProtectedTimeType
+ */
+export interface ProtectedTimeType {
+    /**
+     * Access rights for the test. This defines the visibility of the Test in the UI
+     * @type {string}
+     * @memberof ProtectedTimeType
+     */
+    access: ProtectedTimeTypeAccessEnum;
+    /**
+     * Name of the team that owns the test. Users must belong to the team that owns a test to make modifications
+     * @type {string}
+     * @memberof ProtectedTimeType
+     */
+    owner: string;
+    /**
+     * Run Start timestamp
+     * @type {number}
+     * @memberof ProtectedTimeType
+     */
+    start: number;
+    /**
+     * Run Stop timestamp
+     * @type {number}
+     * @memberof ProtectedTimeType
+     */
+    stop: number;
+}
+
+
+/**
+ * @export
+ */
+export const ProtectedTimeTypeAccessEnum = {
+    Public: 'PUBLIC',
+    Protected: 'PROTECTED',
+    Private: 'PRIVATE'
+} as const;
+export type ProtectedTimeTypeAccessEnum = typeof ProtectedTimeTypeAccessEnum[keyof typeof ProtectedTimeTypeAccessEnum];
+
+
+/**
+ * Check if a given object implements the ProtectedTimeType interface.
+ */
+export function instanceOfProtectedTimeType(value: object): value is ProtectedTimeType {
+    if (!('access' in value) || value['access'] === undefined) return false;
+    if (!('owner' in value) || value['owner'] === undefined) return false;
+    if (!('start' in value) || value['start'] === undefined) return false;
+    if (!('stop' in value) || value['stop'] === undefined) return false;
+    return true;
+}
+
+export function ProtectedTimeTypeFromJSON(json: any): ProtectedTimeType {
+    return ProtectedTimeTypeFromJSONTyped(json, false);
+}
+
+export function ProtectedTimeTypeFromJSONTyped(json: any, ignoreDiscriminator: boolean): ProtectedTimeType {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'access': json['access'],
+        'owner': json['owner'],
+        'start': json['start'],
+        'stop': json['stop'],
+    };
+}
+
+export function ProtectedTimeTypeToJSON(json: any): ProtectedTimeType {
+    return ProtectedTimeTypeToJSONTyped(json, false);
+}
+
+export function ProtectedTimeTypeToJSONTyped(value?: ProtectedTimeType | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'access': value['access'],
+        'owner': value['owner'],
+        'start': value['start'],
+        'stop': value['stop'],
+    };
+}
+
@@ -0,0 +1,106 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { Target } from './Target';
+import {
+    TargetFromJSON,
+    TargetFromJSONTyped,
+    TargetToJSON,
+    TargetToJSONTyped,
+} from './Target';
+import type { Range } from './Range';
+import {
+    RangeFromJSON,
+    RangeFromJSONTyped,
+    RangeToJSON,
+    RangeToJSONTyped,
+} from './Range';
+
+/**
+ * 
+ * @export
+ * @interface Query
+ */
+export interface Query {
+    /**
+     * 
+     * @type {Range}
+     * @memberof Query
+     */
+    range: Range;
+    /**
+     * 
+     * @type {Array<Target>}
+     * @memberof Query
+     */
+    targets: Array<Target>;
+    /**
+     * 
+     * @type {number}
+     * @memberof Query
+     */
+    maxDataPoints?: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof Query
+     */
+    intervalMs?: number;
+}
+
+/**
+ * Check if a given object implements the Query interface.
+ */
+export function instanceOfQuery(value: object): value is Query {
+    if (!('range' in value) || value['range'] === undefined) return false;
+    if (!('targets' in value) || value['targets'] === undefined) return false;
+    return true;
+}
+
+export function QueryFromJSON(json: any): Query {
+    return QueryFromJSONTyped(json, false);
+}
+
+export function QueryFromJSONTyped(json: any, ignoreDiscriminator: boolean): Query {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'range': RangeFromJSON(json['range']),
+        'targets': ((json['targets'] as Array<any>).map(TargetFromJSON)),
+        'maxDataPoints': json['maxDataPoints'] == null ? undefined : json['maxDataPoints'],
+        'intervalMs': json['intervalMs'] == null ? undefined : json['intervalMs'],
+    };
+}
+
+export function QueryToJSON(json: any): Query {
+    return QueryToJSONTyped(json, false);
+}
+
+export function QueryToJSONTyped(value?: Query | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'range': RangeToJSON(value['range']),
+        'targets': ((value['targets'] as Array<any>).map(TargetToJSON)),
+        'maxDataPoints': value['maxDataPoints'],
+        'intervalMs': value['intervalMs'],
+    };
+}
+
@@ -0,0 +1,114 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface QueryResult
+ */
+export interface QueryResult {
+    /**
+     * 
+     * @type {boolean}
+     * @memberof QueryResult
+     */
+    valid: boolean;
+    /**
+     * 
+     * @type {string}
+     * @memberof QueryResult
+     */
+    jsonpath?: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof QueryResult
+     */
+    errorCode?: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof QueryResult
+     */
+    sqlState?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof QueryResult
+     */
+    reason?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof QueryResult
+     */
+    sql?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof QueryResult
+     */
+    value?: string;
+}
+
+/**
+ * Check if a given object implements the QueryResult interface.
+ */
+export function instanceOfQueryResult(value: object): value is QueryResult {
+    if (!('valid' in value) || value['valid'] === undefined) return false;
+    return true;
+}
+
+export function QueryResultFromJSON(json: any): QueryResult {
+    return QueryResultFromJSONTyped(json, false);
+}
+
+export function QueryResultFromJSONTyped(json: any, ignoreDiscriminator: boolean): QueryResult {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'valid': json['valid'],
+        'jsonpath': json['jsonpath'] == null ? undefined : json['jsonpath'],
+        'errorCode': json['errorCode'] == null ? undefined : json['errorCode'],
+        'sqlState': json['sqlState'] == null ? undefined : json['sqlState'],
+        'reason': json['reason'] == null ? undefined : json['reason'],
+        'sql': json['sql'] == null ? undefined : json['sql'],
+        'value': json['value'] == null ? undefined : json['value'],
+    };
+}
+
+export function QueryResultToJSON(json: any): QueryResult {
+    return QueryResultToJSONTyped(json, false);
+}
+
+export function QueryResultToJSONTyped(value?: QueryResult | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'valid': value['valid'],
+        'jsonpath': value['jsonpath'],
+        'errorCode': value['errorCode'],
+        'sqlState': value['sqlState'],
+        'reason': value['reason'],
+        'sql': value['sql'],
+        'value': value['value'],
+    };
+}
+
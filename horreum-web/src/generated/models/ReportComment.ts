@@ -0,0 +1,99 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface ReportComment
+ */
+export interface ReportComment {
+    /**
+     * 
+     * @type {number}
+     * @memberof ReportComment
+     */
+    id?: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof ReportComment
+     */
+    level: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof ReportComment
+     */
+    category?: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof ReportComment
+     */
+    componentId?: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof ReportComment
+     */
+    comment: string;
+}
+
+/**
+ * Check if a given object implements the ReportComment interface.
+ */
+export function instanceOfReportComment(value: object): value is ReportComment {
+    if (!('level' in value) || value['level'] === undefined) return false;
+    if (!('comment' in value) || value['comment'] === undefined) return false;
+    return true;
+}
+
+export function ReportCommentFromJSON(json: any): ReportComment {
+    return ReportCommentFromJSONTyped(json, false);
+}
+
+export function ReportCommentFromJSONTyped(json: any, ignoreDiscriminator: boolean): ReportComment {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'] == null ? undefined : json['id'],
+        'level': json['level'],
+        'category': json['category'] == null ? undefined : json['category'],
+        'componentId': json['componentId'] == null ? undefined : json['componentId'],
+        'comment': json['comment'],
+    };
+}
+
+export function ReportCommentToJSON(json: any): ReportComment {
+    return ReportCommentToJSONTyped(json, false);
+}
+
+export function ReportCommentToJSONTyped(value?: ReportComment | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'level': value['level'],
+        'category': value['category'],
+        'componentId': value['componentId'],
+        'comment': value['comment'],
+    };
+}
+
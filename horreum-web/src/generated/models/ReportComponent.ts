@@ -0,0 +1,116 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * Report Component
+ * @export
+ * @interface ReportComponent
+ */
+export interface ReportComponent {
+    /**
+     * 
+     * @type {number}
+     * @memberof ReportComponent
+     */
+    id?: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof ReportComponent
+     */
+    name: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof ReportComponent
+     */
+    order: number;
+    /**
+     * Array of labels
+     * @type {Array<string>}
+     * @memberof ReportComponent
+     */
+    labels: Array<string>;
+    /**
+     * 
+     * @type {string}
+     * @memberof ReportComponent
+     */
+    _function?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ReportComponent
+     */
+    unit?: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof ReportComponent
+     */
+    reportId?: number;
+}
+
+/**
+ * Check if a given object implements the ReportComponent interface.
+ */
+export function instanceOfReportComponent(value: object): value is ReportComponent {
+    if (!('name' in value) || value['name'] === undefined) return false;
+    if (!('order' in value) || value['order'] === undefined) return false;
+    if (!('labels' in value) || value['labels'] === undefined) return false;
+    return true;
+}
+
+export function ReportComponentFromJSON(json: any): ReportComponent {
+    return ReportComponentFromJSONTyped(json, false);
+}
+
+export function ReportComponentFromJSONTyped(json: any, ignoreDiscriminator: boolean): ReportComponent {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'] == null ? undefined : json['id'],
+        'name': json['name'],
+        'order': json['order'],
+        'labels': json['labels'],
+        '_function': json['function'] == null ? undefined : json['function'],
+        'unit': json['unit'] == null ? undefined : json['unit'],
+        'reportId': json['reportId'] == null ? undefined : json['reportId'],
+    };
+}
+
+export function ReportComponentToJSON(json: any): ReportComponent {
+    return ReportComponentToJSONTyped(json, false);
+}
+
+export function ReportComponentToJSONTyped(value?: ReportComponent | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'name': value['name'],
+        'order': value['order'],
+        'labels': value['labels'],
+        'function': value['_function'],
+        'unit': value['unit'],
+        'reportId': value['reportId'],
+    };
+}
+
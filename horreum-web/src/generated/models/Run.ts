@@ -0,0 +1,188 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { Dataset } from './Dataset';
+import {
+    DatasetFromJSON,
+    DatasetFromJSONTyped,
+    DatasetToJSON,
+    DatasetToJSONTyped,
+} from './Dataset';
+import type { ValidationError } from './ValidationError';
+import {
+    ValidationErrorFromJSON,
+    ValidationErrorFromJSONTyped,
+    ValidationErrorToJSON,
+    ValidationErrorToJSONTyped,
+} from './ValidationError';
+
+/**
+ * 
+ * @export
+ * @interface Run
+ */
+export interface Run {
+    /**
+     * Access rights for the test. This defines the visibility of the Test in the UI
+     * @type {string}
+     * @memberof Run
+     */
+    access: RunAccessEnum;
+    /**
+     * Name of the team that owns the test. Users must belong to the team that owns a test to make modifications
+     * @type {string}
+     * @memberof Run
+     */
+    owner: string;
+    /**
+     * Run Start timestamp
+     * @type {number}
+     * @memberof Run
+     */
+    start: number;
+    /**
+     * Run Stop timestamp
+     * @type {number}
+     * @memberof Run
+     */
+    stop: number;
+    /**
+     * Unique Run ID
+     * @type {number}
+     * @memberof Run
+     */
+    id: number;
+    /**
+     * Run description
+     * @type {string}
+     * @memberof Run
+     */
+    description?: string;
+    /**
+     * Test ID run relates to
+     * @type {number}
+     * @memberof Run
+     */
+    testid: number;
+    /**
+     * Run result payload
+     * @type {string}
+     * @memberof Run
+     */
+    data: string;
+    /**
+     * JSON metadata related to run, can be tool configuration etc
+     * @type {string}
+     * @memberof Run
+     */
+    metadata?: string;
+    /**
+     * Has Run been deleted from UI
+     * @type {boolean}
+     * @memberof Run
+     */
+    trashed: boolean;
+    /**
+     * Collection of Datasets derived from Run payload
+     * @type {Array<Dataset>}
+     * @memberof Run
+     */
+    datasets?: Array<Dataset>;
+    /**
+     * Collection of Validation Errors in Run payload
+     * @type {Array<ValidationError>}
+     * @memberof Run
+     */
+    validationErrors?: Array<ValidationError>;
+}
+
+
+/**
+ * @export
+ */
+export const RunAccessEnum = {
+    Public: 'PUBLIC',
+    Protected: 'PROTECTED',
+    Private: 'PRIVATE'
+} as const;
+export type RunAccessEnum = typeof RunAccessEnum[keyof typeof RunAccessEnum];
+
+
+/**
+ * Check if a given object implements the Run interface.
+ */
+export function instanceOfRun(value: object): value is Run {
+    if (!('access' in value) || value['access'] === undefined) return false;
+    if (!('owner' in value) || value['owner'] === undefined) return false;
+    if (!('start' in value) || value['start'] === undefined) return false;
+    if (!('stop' in value) || value['stop'] === undefined) return false;
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('testid' in value) || value['testid'] === undefined) return false;
+    if (!('data' in value) || value['data'] === undefined) return false;
+    if (!('trashed' in value) || value['trashed'] === undefined) return false;
+    return true;
+}
+
+export function RunFromJSON(json: any): Run {
+    return RunFromJSONTyped(json, false);
+}
+
+export function RunFromJSONTyped(json: any, ignoreDiscriminator: boolean): Run {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'access': json['access'],
+        'owner': json['owner'],
+        'start': json['start'],
+        'stop': json['stop'],
+        'id': json['id'],
+        'description': json['description'] == null ? undefined : json['description'],
+        'testid': json['testid'],
+        'data': json['data'],
+        'metadata': json['metadata'] == null ? undefined : json['metadata'],
+        'trashed': json['trashed'],
+        'datasets': json['datasets'] == null ? undefined : ((json['datasets'] as Array<any>).map(DatasetFromJSON)),
+        'validationErrors': json['validationErrors'] == null ? undefined : ((json['validationErrors'] as Array<any>).map(ValidationErrorFromJSON)),
+    };
+}
+
+export function RunToJSON(json: any): Run {
+    return RunToJSONTyped(json, false);
+}
+
+export function RunToJSONTyped(value?: Run | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'access': value['access'],
+        'owner': value['owner'],
+        'start': value['start'],
+        'stop': value['stop'],
+        'id': value['id'],
+        'description': value['description'],
+        'testid': value['testid'],
+        'data': value['data'],
+        'metadata': value['metadata'],
+        'trashed': value['trashed'],
+        'datasets': value['datasets'] == null ? undefined : ((value['datasets'] as Array<any>).map(DatasetToJSON)),
+        'validationErrors': value['validationErrors'] == null ? undefined : ((value['validationErrors'] as Array<any>).map(ValidationErrorToJSON)),
+    };
+}
+
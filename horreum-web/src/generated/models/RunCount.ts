@@ -0,0 +1,84 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface RunCount
+ */
+export interface RunCount {
+    /**
+     * Total count of Runs visible
+     * @type {number}
+     * @memberof RunCount
+     */
+    total: number;
+    /**
+     * Total count of active Runs visible
+     * @type {number}
+     * @memberof RunCount
+     */
+    active: number;
+    /**
+     * Total count of trashed Runs
+     * @type {number}
+     * @memberof RunCount
+     */
+    trashed: number;
+}
+
+/**
+ * Check if a given object implements the RunCount interface.
+ */
+export function instanceOfRunCount(value: object): value is RunCount {
+    if (!('total' in value) || value['total'] === undefined) return false;
+    if (!('active' in value) || value['active'] === undefined) return false;
+    if (!('trashed' in value) || value['trashed'] === undefined) return false;
+    return true;
+}
+
+export function RunCountFromJSON(json: any): RunCount {
+    return RunCountFromJSONTyped(json, false);
+}
+
+export function RunCountFromJSONTyped(json: any, ignoreDiscriminator: boolean): RunCount {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'total': json['total'],
+        'active': json['active'],
+        'trashed': json['trashed'],
+    };
+}
+
+export function RunCountToJSON(json: any): RunCount {
+    return RunCountToJSONTyped(json, false);
+}
+
+export function RunCountToJSONTyped(value?: RunCount | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'total': value['total'],
+        'active': value['active'],
+        'trashed': value['trashed'],
+    };
+}
+
@@ -0,0 +1,137 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * Progress of a bulk import of Runs
+ * @export
+ * @interface RunImport
+ */
+export interface RunImport {
+    /**
+     * Import ID
+     * @type {number}
+     * @memberof RunImport
+     */
+    id: number;
+    /**
+     * Test ID the Runs are imported to
+     * @type {number}
+     * @memberof RunImport
+     */
+    testId: number;
+    /**
+     * Import start timestamp
+     * @type {number}
+     * @memberof RunImport
+     */
+    timestamp: number;
+    /**
+     * Number of Runs read from the input
+     * @type {number}
+     * @memberof RunImport
+     */
+    received: number;
+    /**
+     * Number of Runs stored
+     * @type {number}
+     * @memberof RunImport
+     */
+    stored: number;
+    /**
+     * Number of stored Runs that have been transformed into Datasets
+     * @type {number}
+     * @memberof RunImport
+     */
+    processed: number;
+    /**
+     * Number of Runs that could not be stored or transformed
+     * @type {number}
+     * @memberof RunImport
+     */
+    failed: number;
+    /**
+     * True when the whole input has been read and all stored Runs have been transformed
+     * @type {boolean}
+     * @memberof RunImport
+     */
+    completed: boolean;
+    /**
+     * Errors of the failed Runs; only the first errors are kept
+     * @type {Array<string>}
+     * @memberof RunImport
+     */
+    errors?: Array<string>;
+}
+
+/**
+ * Check if a given object implements the RunImport interface.
+ */
+export function instanceOfRunImport(value: object): value is RunImport {
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('testId' in value) || value['testId'] === undefined) return false;
+    if (!('timestamp' in value) || value['timestamp'] === undefined) return false;
+    if (!('received' in value) || value['received'] === undefined) return false;
+    if (!('stored' in value) || value['stored'] === undefined) return false;
+    if (!('processed' in value) || value['processed'] === undefined) return false;
+    if (!('failed' in value) || value['failed'] === undefined) return false;
+    if (!('completed' in value) || value['completed'] === undefined) return false;
+    return true;
+}
+
+export function RunImportFromJSON(json: any): RunImport {
+    return RunImportFromJSONTyped(json, false);
+}
+
+export function RunImportFromJSONTyped(json: any, ignoreDiscriminator: boolean): RunImport {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'],
+        'testId': json['testId'],
+        'timestamp': json['timestamp'],
+        'received': json['received'],
+        'stored': json['stored'],
+        'processed': json['processed'],
+        'failed': json['failed'],
+        'completed': json['completed'],
+        'errors': json['errors'] == null ? undefined : json['errors'],
+    };
+}
+
+export function RunImportToJSON(json: any): RunImport {
+    return RunImportToJSONTyped(json, false);
+}
+
+export function RunImportToJSONTyped(value?: RunImport | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'testId': value['testId'],
+        'timestamp': value['timestamp'],
+        'received': value['received'],
+        'stored': value['stored'],
+        'processed': value['processed'],
+        'failed': value['failed'],
+        'completed': value['completed'],
+        'errors': value['errors'],
+    };
+}
+
@@ -0,0 +1,83 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { RunSummary } from './RunSummary';
+import {
+    RunSummaryFromJSON,
+    RunSummaryFromJSONTyped,
+    RunSummaryToJSON,
+    RunSummaryToJSONTyped,
+} from './RunSummary';
+
+/**
+ * 
+ * @export
+ * @interface RunsSummary
+ */
+export interface RunsSummary {
+    /**
+     * Total count of Runs visible
+     * @type {number}
+     * @memberof RunsSummary
+     */
+    total: number;
+    /**
+     * List of Run Summaries
+     * @type {Array<RunSummary>}
+     * @memberof RunsSummary
+     */
+    runs: Array<RunSummary>;
+}
+
+/**
+ * Check if a given object implements the RunsSummary interface.
+ */
+export function instanceOfRunsSummary(value: object): value is RunsSummary {
+    if (!('total' in value) || value['total'] === undefined) return false;
+    if (!('runs' in value) || value['runs'] === undefined) return false;
+    return true;
+}
+
+export function RunsSummaryFromJSON(json: any): RunsSummary {
+    return RunsSummaryFromJSONTyped(json, false);
+}
+
+export function RunsSummaryFromJSONTyped(json: any, ignoreDiscriminator: boolean): RunsSummary {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'total': json['total'],
+        'runs': ((json['runs'] as Array<any>).map(RunSummaryFromJSON)),
+    };
+}
+
+export function RunsSummaryToJSON(json: any): RunsSummary {
+    return RunsSummaryToJSONTyped(json, false);
+}
+
+export function RunsSummaryToJSONTyped(value?: RunsSummary | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'total': value['total'],
+        'runs': ((value['runs'] as Array<any>).map(RunSummaryToJSON)),
+    };
+}
+
@@ -0,0 +1,140 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { ReportLog } from './ReportLog';
+import {
+    ReportLogFromJSON,
+    ReportLogFromJSONTyped,
+    ReportLogToJSON,
+    ReportLogToJSONTyped,
+} from './ReportLog';
+import type { TableReportCommentsInner } from './TableReportCommentsInner';
+import {
+    TableReportCommentsInnerFromJSON,
+    TableReportCommentsInnerFromJSONTyped,
+    TableReportCommentsInnerToJSON,
+    TableReportCommentsInnerToJSONTyped,
+} from './TableReportCommentsInner';
+import type { TableReportData } from './TableReportData';
+import {
+    TableReportDataFromJSON,
+    TableReportDataFromJSONTyped,
+    TableReportDataToJSON,
+    TableReportDataToJSONTyped,
+} from './TableReportData';
+import type { TableReportConfig } from './TableReportConfig';
+import {
+    TableReportConfigFromJSON,
+    TableReportConfigFromJSONTyped,
+    TableReportConfigToJSON,
+    TableReportConfigToJSONTyped,
+} from './TableReportConfig';
+
+/**
+ * Table Report
+ * @export
+ * @interface TableReport
+ */
+export interface TableReport {
+    /**
+     * 
+     * @type {number}
+     * @memberof TableReport
+     */
+    id: number;
+    /**
+     * Table Report Config
+     * @type {TableReportConfig}
+     * @memberof TableReport
+     */
+    config: TableReportConfig;
+    /**
+     * Created timestamp
+     * @type {Date}
+     * @memberof TableReport
+     */
+    created: Date;
+    /**
+     * List of ReportComments
+     * @type {Array<TableReportCommentsInner>}
+     * @memberof TableReport
+     */
+    comments: Array<TableReportCommentsInner>;
+    /**
+     * List of TableReportData
+     * @type {Array<TableReportData>}
+     * @memberof TableReport
+     */
+    data: Array<TableReportData>;
+    /**
+     * List of ReportLogs
+     * @type {Array<ReportLog>}
+     * @memberof TableReport
+     */
+    logs: Array<ReportLog>;
+}
+
+/**
+ * Check if a given object implements the TableReport interface.
+ */
+export function instanceOfTableReport(value: object): value is TableReport {
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('config' in value) || value['config'] === undefined) return false;
+    if (!('created' in value) || value['created'] === undefined) return false;
+    if (!('comments' in value) || value['comments'] === undefined) return false;
+    if (!('data' in value) || value['data'] === undefined) return false;
+    if (!('logs' in value) || value['logs'] === undefined) return false;
+    return true;
+}
+
+export function TableReportFromJSON(json: any): TableReport {
+    return TableReportFromJSONTyped(json, false);
+}
+
+export function TableReportFromJSONTyped(json: any, ignoreDiscriminator: boolean): TableReport {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'],
+        'config': json['config'],
+        'created': (new Date(json['created'])),
+        'comments': ((json['comments'] as Array<any>).map(TableReportCommentsInnerFromJSON)),
+        'data': ((json['data'] as Array<any>).map(TableReportDataFromJSON)),
+        'logs': ((json['logs'] as Array<any>).map(ReportLogFromJSON)),
+    };
+}
+
+export function TableReportToJSON(json: any): TableReport {
+    return TableReportToJSONTyped(json, false);
+}
+
+export function TableReportToJSONTyped(value?: TableReport | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'config': value['config'],
+        'created': value['created'].toISOString(),
+        'comments': ((value['comments'] as Array<any>).map(TableReportCommentsInnerToJSON)),
+        'data': ((value['data'] as Array<any>).map(TableReportDataToJSON)),
+        'logs': ((value['logs'] as Array<any>).map(ReportLogToJSON)),
+    };
+}
+
@@ -0,0 +1,204 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { Test } from './Test';
+import {
+    TestFromJSON,
+    TestFromJSONTyped,
+    TestToJSON,
+    TestToJSONTyped,
+} from './Test';
+import type { ReportComponent } from './ReportComponent';
+import {
+    ReportComponentFromJSON,
+    ReportComponentFromJSONTyped,
+    ReportComponentToJSON,
+    ReportComponentToJSONTyped,
+} from './ReportComponent';
+
+/**
+ * Table Report Config
+ * @export
+ * @interface TableReportConfig
+ */
+export interface TableReportConfig {
+    /**
+     * 
+     * @type {number}
+     * @memberof TableReportConfig
+     */
+    id: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof TableReportConfig
+     */
+    title: string;
+    /**
+     * 
+     * @type {Test}
+     * @memberof TableReportConfig
+     */
+    test?: Test;
+    /**
+     * ArrayNode of filter labels
+     * @type {Array<string>}
+     * @memberof TableReportConfig
+     */
+    filterLabels?: Array<string>;
+    /**
+     * 
+     * @type {string}
+     * @memberof TableReportConfig
+     */
+    filterFunction?: string;
+    /**
+     * ArrayNode of category labels
+     * @type {Array<string>}
+     * @memberof TableReportConfig
+     */
+    categoryLabels?: Array<string>;
+    /**
+     * 
+     * @type {string}
+     * @memberof TableReportConfig
+     */
+    categoryFunction?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof TableReportConfig
+     */
+    categoryFormatter?: string;
+    /**
+     * ArrayNode of series labels
+     * @type {Array<string>}
+     * @memberof TableReportConfig
+     */
+    seriesLabels: Array<string>;
+    /**
+     * 
+     * @type {string}
+     * @memberof TableReportConfig
+     */
+    seriesFunction?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof TableReportConfig
+     */
+    seriesFormatter?: string;
+    /**
+     * ArrayNode of filter labels
+     * @type {Array<string>}
+     * @memberof TableReportConfig
+     */
+    scaleLabels?: Array<string>;
+    /**
+     * 
+     * @type {string}
+     * @memberof TableReportConfig
+     */
+    scaleFunction?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof TableReportConfig
+     */
+    scaleFormatter?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof TableReportConfig
+     */
+    scaleDescription?: string;
+    /**
+     * List of ReportComponents
+     * @type {Array<ReportComponent>}
+     * @memberof TableReportConfig
+     */
+    components: Array<ReportComponent>;
+}
+
+/**
+ * Check if a given object implements the TableReportConfig interface.
+ */
+export function instanceOfTableReportConfig(value: object): value is TableReportConfig {
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('title' in value) || value['title'] === undefined) return false;
+    if (!('seriesLabels' in value) || value['seriesLabels'] === undefined) return false;
+    if (!('components' in value) || value['components'] === undefined) return false;
+    return true;
+}
+
+export function TableReportConfigFromJSON(json: any): TableReportConfig {
+    return TableReportConfigFromJSONTyped(json, false);
+}
+
+export function TableReportConfigFromJSONTyped(json: any, ignoreDiscriminator: boolean): TableReportConfig {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'],
+        'title': json['title'],
+        'test': json['test'] == null ? undefined : TestFromJSON(json['test']),
+        'filterLabels': json['filterLabels'] == null ? undefined : json['filterLabels'],
+        'filterFunction': json['filterFunction'] == null ? undefined : json['filterFunction'],
+        'categoryLabels': json['categoryLabels'] == null ? undefined : json['categoryLabels'],
+        'categoryFunction': json['categoryFunction'] == null ? undefined : json['categoryFunction'],
+        'categoryFormatter': json['categoryFormatter'] == null ? undefined : json['categoryFormatter'],
+        'seriesLabels': json['seriesLabels'],
+        'seriesFunction': json['seriesFunction'] == null ? undefined : json['seriesFunction'],
+        'seriesFormatter': json['seriesFormatter'] == null ? undefined : json['seriesFormatter'],
+        'scaleLabels': json['scaleLabels'] == null ? undefined : json['scaleLabels'],
+        'scaleFunction': json['scaleFunction'] == null ? undefined : json['scaleFunction'],
+        'scaleFormatter': json['scaleFormatter'] == null ? undefined : json['scaleFormatter'],
+        'scaleDescription': json['scaleDescription'] == null ? undefined : json['scaleDescription'],
+        'components': ((json['components'] as Array<any>).map(ReportComponentFromJSON)),
+    };
+}
+
+export function TableReportConfigToJSON(json: any): TableReportConfig {
+    return TableReportConfigToJSONTyped(json, false);
+}
+
+export function TableReportConfigToJSONTyped(value?: TableReportConfig | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'title': value['title'],
+        'test': TestToJSON(value['test']),
+        'filterLabels': value['filterLabels'],
+        'filterFunction': value['filterFunction'],
+        'categoryLabels': value['categoryLabels'],
+        'categoryFunction': value['categoryFunction'],
+        'categoryFormatter': value['categoryFormatter'],
+        'seriesLabels': value['seriesLabels'],
+        'seriesFunction': value['seriesFunction'],
+        'seriesFormatter': value['seriesFormatter'],
+        'scaleLabels': value['scaleLabels'],
+        'scaleFunction': value['scaleFunction'],
+        'scaleFormatter': value['scaleFormatter'],
+        'scaleDescription': value['scaleDescription'],
+        'components': ((value['components'] as Array<any>).map(ReportComponentToJSON)),
+    };
+}
+
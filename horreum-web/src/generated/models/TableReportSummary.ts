@@ -0,0 +1,110 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { TableReportSummaryItem } from './TableReportSummaryItem';
+import {
+    TableReportSummaryItemFromJSON,
+    TableReportSummaryItemFromJSONTyped,
+    TableReportSummaryItemToJSON,
+    TableReportSummaryItemToJSONTyped,
+} from './TableReportSummaryItem';
+
+/**
+ * 
+ * @export
+ * @interface TableReportSummary
+ */
+export interface TableReportSummary {
+    /**
+     * 
+     * @type {number}
+     * @memberof TableReportSummary
+     */
+    configId: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof TableReportSummary
+     */
+    testId: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof TableReportSummary
+     */
+    testName: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof TableReportSummary
+     */
+    title: string;
+    /**
+     * 
+     * @type {Array<TableReportSummaryItem>}
+     * @memberof TableReportSummary
+     */
+    reports: Array<TableReportSummaryItem>;
+}
+
+/**
+ * Check if a given object implements the TableReportSummary interface.
+ */
+export function instanceOfTableReportSummary(value: object): value is TableReportSummary {
+    if (!('configId' in value) || value['configId'] === undefined) return false;
+    if (!('testId' in value) || value['testId'] === undefined) return false;
+    if (!('testName' in value) || value['testName'] === undefined) return false;
+    if (!('title' in value) || value['title'] === undefined) return false;
+    if (!('reports' in value) || value['reports'] === undefined) return false;
+    return true;
+}
+
+export function TableReportSummaryFromJSON(json: any): TableReportSummary {
+    return TableReportSummaryFromJSONTyped(json, false);
+}
+
+export function TableReportSummaryFromJSONTyped(json: any, ignoreDiscriminator: boolean): TableReportSummary {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'configId': json['configId'],
+        'testId': json['testId'],
+        'testName': json['testName'],
+        'title': json['title'],
+        'reports': ((json['reports'] as Array<any>).map(TableReportSummaryItemFromJSON)),
+    };
+}
+
+export function TableReportSummaryToJSON(json: any): TableReportSummary {
+    return TableReportSummaryToJSONTyped(json, false);
+}
+
+export function TableReportSummaryToJSONTyped(value?: TableReportSummary | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'configId': value['configId'],
+        'testId': value['testId'],
+        'testName': value['testName'],
+        'title': value['title'],
+        'reports': ((value['reports'] as Array<any>).map(TableReportSummaryItemToJSON)),
+    };
+}
+
@@ -0,0 +1,285 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { Action } from './Action';
+import {
+    ActionFromJSON,
+    ActionFromJSONTyped,
+    ActionToJSON,
+    ActionToJSONTyped,
+} from './Action';
+import type { ExperimentProfile } from './ExperimentProfile';
+import {
+    ExperimentProfileFromJSON,
+    ExperimentProfileFromJSONTyped,
+    ExperimentProfileToJSON,
+    ExperimentProfileToJSONTyped,
+} from './ExperimentProfile';
+import type { Transformer } from './Transformer';
+import {
+    TransformerFromJSON,
+    TransformerFromJSONTyped,
+    TransformerToJSON,
+    TransformerToJSONTyped,
+} from './Transformer';
+import type { Variable } from './Variable';
+import {
+    VariableFromJSON,
+    VariableFromJSONTyped,
+    VariableToJSON,
+    VariableToJSONTyped,
+} from './Variable';
+import type { Datastore } from './Datastore';
+import {
+    DatastoreFromJSON,
+    DatastoreFromJSONTyped,
+    DatastoreToJSON,
+    DatastoreToJSONTyped,
+} from './Datastore';
+import type { Watch } from './Watch';
+import {
+    WatchFromJSON,
+    WatchFromJSONTyped,
+    WatchToJSON,
+    WatchToJSONTyped,
+} from './Watch';
+import type { MissingDataRule } from './MissingDataRule';
+import {
+    MissingDataRuleFromJSON,
+    MissingDataRuleFromJSONTyped,
+    MissingDataRuleToJSON,
+    MissingDataRuleToJSONTyped,
+} from './MissingDataRule';
+
+/**
+ * Represents a Test with all associated data used for export/import operations.
+ * @export
+ * @interface TestExport
+ */
+export interface TestExport {
+    /**
+     * Access rights for the test. This defines the visibility of the Test in the UI
+     * @type {string}
+     * @memberof TestExport
+     */
+    access: TestExportAccessEnum;
+    /**
+     * Name of the team that owns the test. Users must belong to the team that owns a test to make modifications
+     * @type {string}
+     * @memberof TestExport
+     */
+    owner: string;
+    /**
+     * Unique Test id
+     * @type {number}
+     * @memberof TestExport
+     */
+    id: number;
+    /**
+     * Test name
+     * @type {string}
+     * @memberof TestExport
+     */
+    name: string;
+    /**
+     * Name of folder that the test is stored in. Folders allow tests to be organised in the UI
+     * @type {string}
+     * @memberof TestExport
+     */
+    folder?: string;
+    /**
+     * Description of the test
+     * @type {string}
+     * @memberof TestExport
+     */
+    description?: string;
+    /**
+     * backend ID for backing datastore
+     * @type {number}
+     * @memberof TestExport
+     */
+    datastoreId: number;
+    /**
+     * List of label names that are used for determining metric to use as the time series
+     * @type {Array<string>}
+     * @memberof TestExport
+     */
+    timelineLabels?: Array<string>;
+    /**
+     * Label function to modify timeline labels to a produce a value used for ordering datapoints
+     * @type {string}
+     * @memberof TestExport
+     */
+    timelineFunction?: string;
+    /**
+     * Array of Label names that are used to create a fingerprint 
+     * @type {Array<string>}
+     * @memberof TestExport
+     */
+    fingerprintLabels?: Array<string>;
+    /**
+     * Filter function to filter out datasets that are comparable for the purpose of change detection
+     * @type {string}
+     * @memberof TestExport
+     */
+    fingerprintFilter?: string;
+    /**
+     * URL to external service that can be called to compare runs.  This is typically an external reporting/visulization service
+     * @type {string}
+     * @memberof TestExport
+     */
+    compareUrl?: string;
+    /**
+     * Array for transformers defined for the Test
+     * @type {Array<Transformer>}
+     * @memberof TestExport
+     */
+    transformers?: Array<Transformer>;
+    /**
+     * Are notifications enabled for the test
+     * @type {boolean}
+     * @memberof TestExport
+     */
+    notificationsEnabled: boolean;
+    /**
+     * Array of Variables associated with test
+     * @type {Array<Variable>}
+     * @memberof TestExport
+     */
+    variables?: Array<Variable>;
+    /**
+     * Array of MissingDataRules associated with test
+     * @type {Array<MissingDataRule>}
+     * @memberof TestExport
+     */
+    missingDataRules?: Array<MissingDataRule>;
+    /**
+     * Array of ExperimentProfiles associated with test
+     * @type {Array<ExperimentProfile>}
+     * @memberof TestExport
+     */
+    experiments?: Array<ExperimentProfile>;
+    /**
+     * Array of Actions associated with test
+     * @type {Array<Action>}
+     * @memberof TestExport
+     */
+    actions?: Array<Action>;
+    /**
+     * Watcher object associated with test
+     * @type {Watch}
+     * @memberof TestExport
+     */
+    subscriptions?: Watch;
+    /**
+     * Datastore associated with test
+     * @type {Datastore}
+     * @memberof TestExport
+     */
+    datastore?: Datastore;
+}
+
+
+/**
+ * @export
+ */
+export const TestExportAccessEnum = {
+    Public: 'PUBLIC',
+    Protected: 'PROTECTED',
+    Private: 'PRIVATE'
+} as const;
+export type TestExportAccessEnum = typeof TestExportAccessEnum[keyof typeof TestExportAccessEnum];
+
+
+/**
+ * Check if a given object implements the TestExport interface.
+ */
+export function instanceOfTestExport(value: object): value is TestExport {
+    if (!('access' in value) || value['access'] === undefined) return false;
+    if (!('owner' in value) || value['owner'] === undefined) return false;
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('name' in value) || value['name'] === undefined) return false;
+    if (!('datastoreId' in value) || value['datastoreId'] === undefined) return false;
+    if (!('notificationsEnabled' in value) || value['notificationsEnabled'] === undefined) return false;
+    return true;
+}
+
+export function TestExportFromJSON(json: any): TestExport {
+    return TestExportFromJSONTyped(json, false);
+}
+
+export function TestExportFromJSONTyped(json: any, ignoreDiscriminator: boolean): TestExport {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'access': json['access'],
+        'owner': json['owner'],
+        'id': json['id'],
+        'name': json['name'],
+        'folder': json['folder'] == null ? undefined : json['folder'],
+        'description': json['description'] == null ? undefined : json['description'],
+        'datastoreId': json['datastoreId'],
+        'timelineLabels': json['timelineLabels'] == null ? undefined : json['timelineLabels'],
+        'timelineFunction': json['timelineFunction'] == null ? undefined : json['timelineFunction'],
+        'fingerprintLabels': json['fingerprintLabels'] == null ? undefined : json['fingerprintLabels'],
+        'fingerprintFilter': json['fingerprintFilter'] == null ? undefined : json['fingerprintFilter'],
+        'compareUrl': json['compareUrl'] == null ? undefined : json['compareUrl'],
+        'transformers': json['transformers'] == null ? undefined : ((json['transformers'] as Array<any>).map(TransformerFromJSON)),
+        'notificationsEnabled': json['notificationsEnabled'],
+        'variables': json['variables'] == null ? undefined : ((json['variables'] as Array<any>).map(VariableFromJSON)),
+        'missingDataRules': json['missingDataRules'] == null ? undefined : ((json['missingDataRules'] as Array<any>).map(MissingDataRuleFromJSON)),
+        'experiments': json['experiments'] == null ? undefined : ((json['experiments'] as Array<any>).map(ExperimentProfileFromJSON)),
+        'actions': json['actions'] == null ? undefined : ((json['actions'] as Array<any>).map(ActionFromJSON)),
+        'subscriptions': json['subscriptions'] == null ? undefined : json['subscriptions'],
+        'datastore': json['datastore'] == null ? undefined : json['datastore'],
+    };
+}
+
+export function TestExportToJSON(json: any): TestExport {
+    return TestExportToJSONTyped(json, false);
+}
+
+export function TestExportToJSONTyped(value?: TestExport | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'access': value['access'],
+        'owner': value['owner'],
+        'id': value['id'],
+        'name': value['name'],
+        'folder': value['folder'],
+        'description': value['description'],
+        'datastoreId': value['datastoreId'],
+        'timelineLabels': value['timelineLabels'],
+        'timelineFunction': value['timelineFunction'],
+        'fingerprintLabels': value['fingerprintLabels'],
+        'fingerprintFilter': value['fingerprintFilter'],
+        'compareUrl': value['compareUrl'],
+        'transformers': value['transformers'] == null ? undefined : ((value['transformers'] as Array<any>).map(TransformerToJSON)),
+        'notificationsEnabled': value['notificationsEnabled'],
+        'variables': value['variables'] == null ? undefined : ((value['variables'] as Array<any>).map(VariableToJSON)),
+        'missingDataRules': value['missingDataRules'] == null ? undefined : ((value['missingDataRules'] as Array<any>).map(MissingDataRuleToJSON)),
+        'experiments': value['experiments'] == null ? undefined : ((value['experiments'] as Array<any>).map(ExperimentProfileToJSON)),
+        'actions': value['actions'] == null ? undefined : ((value['actions'] as Array<any>).map(ActionToJSON)),
+        'subscriptions': value['subscriptions'],
+        'datastore': value['datastore'],
+    };
+}
+
@@ -0,0 +1,170 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface TestSummary
+ */
+export interface TestSummary {
+    /**
+     * Access rights for the test. This defines the visibility of the Test in the UI
+     * @type {string}
+     * @memberof TestSummary
+     */
+    access: TestSummaryAccessEnum;
+    /**
+     * Name of the team that owns the test. Users must belong to the team that owns a test to make modifications
+     * @type {string}
+     * @memberof TestSummary
+     */
+    owner: string;
+    /**
+     * ID of tests
+     * @type {number}
+     * @memberof TestSummary
+     */
+    id: number;
+    /**
+     * Test name
+     * @type {string}
+     * @memberof TestSummary
+     */
+    name: string;
+    /**
+     * Name of folder that the test is stored in. Folders allow tests to be organised in the UI
+     * @type {string}
+     * @memberof TestSummary
+     */
+    folder?: string;
+    /**
+     * Description of the test
+     * @type {string}
+     * @memberof TestSummary
+     */
+    description?: string;
+    /**
+     * Total number of Datasets for the Test
+     * @type {number}
+     * @memberof TestSummary
+     */
+    datasets?: number;
+    /**
+     * Total number of Runs for the Test
+     * @type {number}
+     * @memberof TestSummary
+     */
+    runs?: number;
+    /**
+     * Time of the last Run upload
+     * @type {Date}
+     * @memberof TestSummary
+     */
+    lastUpload?: Date;
+    /**
+     * Timestamp of the last detected change
+     * @type {Date}
+     * @memberof TestSummary
+     */
+    lastChange?: Date;
+    /**
+     * Subscriptions for each test for authenticated user
+     * @type {Set<string>}
+     * @memberof TestSummary
+     */
+    watching?: Set<string>;
+    /**
+     * Datastore id
+     * @type {number}
+     * @memberof TestSummary
+     */
+    datastoreId: number;
+}
+
+
+/**
+ * @export
+ */
+export const TestSummaryAccessEnum = {
+    Public: 'PUBLIC',
+    Protected: 'PROTECTED',
+    Private: 'PRIVATE'
+} as const;
+export type TestSummaryAccessEnum = typeof TestSummaryAccessEnum[keyof typeof TestSummaryAccessEnum];
+
+
+/**
+ * Check if a given object implements the TestSummary interface.
+ */
+export function instanceOfTestSummary(value: object): value is TestSummary {
+    if (!('access' in value) || value['access'] === undefined) return false;
+    if (!('owner' in value) || value['owner'] === undefined) return false;
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('name' in value) || value['name'] === undefined) return false;
+    if (!('datastoreId' in value) || value['datastoreId'] === undefined) return false;
+    return true;
+}
+
+export function TestSummaryFromJSON(json: any): TestSummary {
+    return TestSummaryFromJSONTyped(json, false);
+}
+
+export function TestSummaryFromJSONTyped(json: any, ignoreDiscriminator: boolean): TestSummary {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'access': json['access'],
+        'owner': json['owner'],
+        'id': json['id'],
+        'name': json['name'],
+        'folder': json['folder'] == null ? undefined : json['folder'],
+        'description': json['description'] == null ? undefined : json['description'],
+        'datasets': json['datasets'] == null ? undefined : json['datasets'],
+        'runs': json['runs'] == null ? undefined : json['runs'],
+        'lastUpload': json['lastUpload'] == null ? undefined : (new Date(json['lastUpload'])),
+        'lastChange': json['lastChange'] == null ? undefined : (new Date(json['lastChange'])),
+        'watching': json['watching'] == null ? undefined : new Set(json['watching']),
+        'datastoreId': json['datastoreId'],
+    };
+}
+
+export function TestSummaryToJSON(json: any): TestSummary {
+    return TestSummaryToJSONTyped(json, false);
+}
+
+export function TestSummaryToJSONTyped(value?: TestSummary | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'access': value['access'],
+        'owner': value['owner'],
+        'id': value['id'],
+        'name': value['name'],
+        'folder': value['folder'],
+        'description': value['description'],
+        'datasets': value['datasets'],
+        'runs': value['runs'],
+        'lastUpload': value['lastUpload'] == null ? value['lastUpload'] : value['lastUpload'].toISOString(),
+        'lastChange': value['lastChange'] == null ? value['lastChange'] : value['lastChange'].toISOString(),
+        'watching': value['watching'] == null ? undefined : Array.from(value['watching'] as Set<any>),
+        'datastoreId': value['datastoreId'],
+    };
+}
+
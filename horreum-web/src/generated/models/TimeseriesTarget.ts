@@ -0,0 +1,84 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface TimeseriesTarget
+ */
+export interface TimeseriesTarget {
+    /**
+     * 
+     * @type {string}
+     * @memberof TimeseriesTarget
+     */
+    target: string;
+    /**
+     * 
+     * @type {Array<Array<number>>}
+     * @memberof TimeseriesTarget
+     */
+    datapoints: Array<Array<number>>;
+    /**
+     * 
+     * @type {number}
+     * @memberof TimeseriesTarget
+     */
+    variableId: number;
+}
+
+/**
+ * Check if a given object implements the TimeseriesTarget interface.
+ */
+export function instanceOfTimeseriesTarget(value: object): value is TimeseriesTarget {
+    if (!('target' in value) || value['target'] === undefined) return false;
+    if (!('datapoints' in value) || value['datapoints'] === undefined) return false;
+    if (!('variableId' in value) || value['variableId'] === undefined) return false;
+    return true;
+}
+
+export function TimeseriesTargetFromJSON(json: any): TimeseriesTarget {
+    return TimeseriesTargetFromJSONTyped(json, false);
+}
+
+export function TimeseriesTargetFromJSONTyped(json: any, ignoreDiscriminator: boolean): TimeseriesTarget {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'target': json['target'],
+        'datapoints': json['datapoints'],
+        'variableId': json['variableId'],
+    };
+}
+
+export function TimeseriesTargetToJSON(json: any): TimeseriesTarget {
+    return TimeseriesTargetToJSONTyped(json, false);
+}
+
+export function TimeseriesTargetToJSONTyped(value?: TimeseriesTarget | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'target': value['target'],
+        'datapoints': value['datapoints'],
+        'variableId': value['variableId'],
+    };
+}
+
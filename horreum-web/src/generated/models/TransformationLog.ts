@@ -0,0 +1,109 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * Transformation Log
+ * @export
+ * @interface TransformationLog
+ */
+export interface TransformationLog {
+    /**
+     * 
+     * @type {number}
+     * @memberof TransformationLog
+     */
+    id: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof TransformationLog
+     */
+    level: number;
+    /**
+     * 
+     * @type {Date}
+     * @memberof TransformationLog
+     */
+    timestamp: Date;
+    /**
+     * 
+     * @type {string}
+     * @memberof TransformationLog
+     */
+    message: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof TransformationLog
+     */
+    testId?: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof TransformationLog
+     */
+    runId?: number;
+}
+
+/**
+ * Check if a given object implements the TransformationLog interface.
+ */
+export function instanceOfTransformationLog(value: object): value is TransformationLog {
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('level' in value) || value['level'] === undefined) return false;
+    if (!('timestamp' in value) || value['timestamp'] === undefined) return false;
+    if (!('message' in value) || value['message'] === undefined) return false;
+    return true;
+}
+
+export function TransformationLogFromJSON(json: any): TransformationLog {
+    return TransformationLogFromJSONTyped(json, false);
+}
+
+export function TransformationLogFromJSONTyped(json: any, ignoreDiscriminator: boolean): TransformationLog {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'],
+        'level': json['level'],
+        'timestamp': (new Date(json['timestamp'])),
+        'message': json['message'],
+        'testId': json['testId'] == null ? undefined : json['testId'],
+        'runId': json['runId'] == null ? undefined : json['runId'],
+    };
+}
+
+export function TransformationLogToJSON(json: any): TransformationLog {
+    return TransformationLogToJSONTyped(json, false);
+}
+
+export function TransformationLogToJSONTyped(value?: TransformationLog | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'level': value['level'],
+        'timestamp': value['timestamp'].toISOString(),
+        'message': value['message'],
+        'testId': value['testId'],
+        'runId': value['runId'],
+    };
+}
+
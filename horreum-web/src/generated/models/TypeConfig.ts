@@ -0,0 +1,97 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface TypeConfig
+ */
+export interface TypeConfig {
+    /**
+     * 
+     * @type {string}
+     * @memberof TypeConfig
+     */
+    enumName?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof TypeConfig
+     */
+    name?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof TypeConfig
+     */
+    label?: string;
+    /**
+     * 
+     * @type {Array<string>}
+     * @memberof TypeConfig
+     */
+    supportedAuths?: Array<string>;
+    /**
+     * 
+     * @type {boolean}
+     * @memberof TypeConfig
+     */
+    builtIn?: boolean;
+}
+
+/**
+ * Check if a given object implements the TypeConfig interface.
+ */
+export function instanceOfTypeConfig(value: object): value is TypeConfig {
+    return true;
+}
+
+export function TypeConfigFromJSON(json: any): TypeConfig {
+    return TypeConfigFromJSONTyped(json, false);
+}
+
+export function TypeConfigFromJSONTyped(json: any, ignoreDiscriminator: boolean): TypeConfig {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'enumName': json['enumName'] == null ? undefined : json['enumName'],
+        'name': json['name'] == null ? undefined : json['name'],
+        'label': json['label'] == null ? undefined : json['label'],
+        'supportedAuths': json['supportedAuths'] == null ? undefined : json['supportedAuths'],
+        'builtIn': json['builtIn'] == null ? undefined : json['builtIn'],
+    };
+}
+
+export function TypeConfigToJSON(json: any): TypeConfig {
+    return TypeConfigToJSONTyped(json, false);
+}
+
+export function TypeConfigToJSONTyped(value?: TypeConfig | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'enumName': value['enumName'],
+        'name': value['name'],
+        'label': value['label'],
+        'supportedAuths': value['supportedAuths'],
+        'builtIn': value['builtIn'],
+    };
+}
+
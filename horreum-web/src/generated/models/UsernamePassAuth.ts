@@ -0,0 +1,81 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * 
+ * @export
+ * @interface UsernamePassAuth
+ */
+export interface UsernamePassAuth {
+    /**
+     * type
+     * @type {string}
+     * @memberof UsernamePassAuth
+     */
+    type?: string;
+    /**
+     * Username
+     * @type {string}
+     * @memberof UsernamePassAuth
+     */
+    username?: string;
+    /**
+     * Password
+     * @type {string}
+     * @memberof UsernamePassAuth
+     */
+    password?: string;
+}
+
+/**
+ * Check if a given object implements the UsernamePassAuth interface.
+ */
+export function instanceOfUsernamePassAuth(value: object): value is UsernamePassAuth {
+    return true;
+}
+
+export function UsernamePassAuthFromJSON(json: any): UsernamePassAuth {
+    return UsernamePassAuthFromJSONTyped(json, false);
+}
+
+export function UsernamePassAuthFromJSONTyped(json: any, ignoreDiscriminator: boolean): UsernamePassAuth {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'type': json['type'] == null ? undefined : json['type'],
+        'username': json['username'] == null ? undefined : json['username'],
+        'password': json['password'] == null ? undefined : json['password'],
+    };
+}
+
+export function UsernamePassAuthToJSON(json: any): UsernamePassAuth {
+    return UsernamePassAuthToJSONTyped(json, false);
+}
+
+export function UsernamePassAuthToJSONTyped(value?: UsernamePassAuth | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'type': value['type'],
+        'username': value['username'],
+        'password': value['password'],
+    };
+}
+
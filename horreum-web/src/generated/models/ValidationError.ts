@@ -0,0 +1,83 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { ValidationErrorError } from './ValidationErrorError';
+import {
+    ValidationErrorErrorFromJSON,
+    ValidationErrorErrorFromJSONTyped,
+    ValidationErrorErrorToJSON,
+    ValidationErrorErrorToJSONTyped,
+} from './ValidationErrorError';
+
+/**
+ * Schema validation error
+ * @export
+ * @interface ValidationError
+ */
+export interface ValidationError {
+    /**
+     * Schema ID that Validation Error relates to
+     * @type {number}
+     * @memberof ValidationError
+     */
+    schemaId: number;
+    /**
+     * 
+     * @type {ValidationErrorError}
+     * @memberof ValidationError
+     */
+    error: ValidationErrorError;
+}
+
+/**
+ * Check if a given object implements the ValidationError interface.
+ */
+export function instanceOfValidationError(value: object): value is ValidationError {
+    if (!('schemaId' in value) || value['schemaId'] === undefined) return false;
+    if (!('error' in value) || value['error'] === undefined) return false;
+    return true;
+}
+
+export function ValidationErrorFromJSON(json: any): ValidationError {
+    return ValidationErrorFromJSONTyped(json, false);
+}
+
+export function ValidationErrorFromJSONTyped(json: any, ignoreDiscriminator: boolean): ValidationError {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'schemaId': json['schemaId'],
+        'error': ValidationErrorErrorFromJSON(json['error']),
+    };
+}
+
+export function ValidationErrorToJSON(json: any): ValidationError {
+    return ValidationErrorToJSONTyped(json, false);
+}
+
+export function ValidationErrorToJSONTyped(value?: ValidationError | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'schemaId': value['schemaId'],
+        'error': ValidationErrorErrorToJSON(value['error']),
+    };
+}
+
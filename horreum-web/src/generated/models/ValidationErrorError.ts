@@ -0,0 +1,164 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * Validation Error Details
+ * @export
+ * @interface ValidationErrorError
+ */
+export interface ValidationErrorError {
+    /**
+     * Validation Error type
+     * @type {string}
+     * @memberof ValidationErrorError
+     */
+    type: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ValidationErrorError
+     */
+    code?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ValidationErrorError
+     */
+    path?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ValidationErrorError
+     */
+    evaluationPath?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ValidationErrorError
+     * @deprecated
+     */
+    schemaPath?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ValidationErrorError
+     */
+    schemaLocation?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ValidationErrorError
+     */
+    instanceLocation?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ValidationErrorError
+     */
+    property?: string;
+    /**
+     * 
+     * @type {Array<string>}
+     * @memberof ValidationErrorError
+     */
+    arguments?: Array<string>;
+    /**
+     * 
+     * @type {string}
+     * @memberof ValidationErrorError
+     */
+    details?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof ValidationErrorError
+     */
+    messageKey?: string;
+    /**
+     * 
+     * @type {boolean}
+     * @memberof ValidationErrorError
+     */
+    valid?: boolean;
+    /**
+     * 
+     * @type {string}
+     * @memberof ValidationErrorError
+     */
+    message: string;
+}
+
+/**
+ * Check if a given object implements the ValidationErrorError interface.
+ */
+export function instanceOfValidationErrorError(value: object): value is ValidationErrorError {
+    if (!('type' in value) || value['type'] === undefined) return false;
+    if (!('message' in value) || value['message'] === undefined) return false;
+    return true;
+}
+
+export function ValidationErrorErrorFromJSON(json: any): ValidationErrorError {
+    return ValidationErrorErrorFromJSONTyped(json, false);
+}
+
+export function ValidationErrorErrorFromJSONTyped(json: any, ignoreDiscriminator: boolean): ValidationErrorError {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'type': json['type'],
+        'code': json['code'] == null ? undefined : json['code'],
+        'path': json['path'] == null ? undefined : json['path'],
+        'evaluationPath': json['evaluationPath'] == null ? undefined : json['evaluationPath'],
+        'schemaPath': json['schemaPath'] == null ? undefined : json['schemaPath'],
+        'schemaLocation': json['schemaLocation'] == null ? undefined : json['schemaLocation'],
+        'instanceLocation': json['instanceLocation'] == null ? undefined : json['instanceLocation'],
+        'property': json['property'] == null ? undefined : json['property'],
+        'arguments': json['arguments'] == null ? undefined : json['arguments'],
+        'details': json['details'] == null ? undefined : json['details'],
+        'messageKey': json['messageKey'] == null ? undefined : json['messageKey'],
+        'valid': json['valid'] == null ? undefined : json['valid'],
+        'message': json['message'],
+    };
+}
+
+export function ValidationErrorErrorToJSON(json: any): ValidationErrorError {
+    return ValidationErrorErrorToJSONTyped(json, false);
+}
+
+export function ValidationErrorErrorToJSONTyped(value?: ValidationErrorError | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'type': value['type'],
+        'code': value['code'],
+        'path': value['path'],
+        'evaluationPath': value['evaluationPath'],
+        'schemaPath': value['schemaPath'],
+        'schemaLocation': value['schemaLocation'],
+        'instanceLocation': value['instanceLocation'],
+        'property': value['property'],
+        'arguments': value['arguments'],
+        'details': value['details'],
+        'messageKey': value['messageKey'],
+        'valid': value['valid'],
+        'message': value['message'],
+    };
+}
+
@@ -0,0 +1,135 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+import type { ChangeDetection } from './ChangeDetection';
+import {
+    ChangeDetectionFromJSON,
+    ChangeDetectionFromJSONTyped,
+    ChangeDetectionToJSON,
+    ChangeDetectionToJSONTyped,
+} from './ChangeDetection';
+
+/**
+ * 
+ * @export
+ * @interface Variable
+ */
+export interface Variable {
+    /**
+     * 
+     * @type {number}
+     * @memberof Variable
+     */
+    id: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof Variable
+     */
+    testId: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof Variable
+     */
+    name: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof Variable
+     */
+    group?: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof Variable
+     */
+    order: number;
+    /**
+     * 
+     * @type {Array<string>}
+     * @memberof Variable
+     */
+    labels: Array<string>;
+    /**
+     * 
+     * @type {string}
+     * @memberof Variable
+     */
+    calculation?: string;
+    /**
+     * 
+     * @type {Array<ChangeDetection>}
+     * @memberof Variable
+     */
+    changeDetection: Array<ChangeDetection>;
+}
+
+/**
+ * Check if a given object implements the Variable interface.
+ */
+export function instanceOfVariable(value: object): value is Variable {
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('testId' in value) || value['testId'] === undefined) return false;
+    if (!('name' in value) || value['name'] === undefined) return false;
+    if (!('order' in value) || value['order'] === undefined) return false;
+    if (!('labels' in value) || value['labels'] === undefined) return false;
+    if (!('changeDetection' in value) || value['changeDetection'] === undefined) return false;
+    return true;
+}
+
+export function VariableFromJSON(json: any): Variable {
+    return VariableFromJSONTyped(json, false);
+}
+
+export function VariableFromJSONTyped(json: any, ignoreDiscriminator: boolean): Variable {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'],
+        'testId': json['testId'],
+        'name': json['name'],
+        'group': json['group'] == null ? undefined : json['group'],
+        'order': json['order'],
+        'labels': json['labels'],
+        'calculation': json['calculation'] == null ? undefined : json['calculation'],
+        'changeDetection': ((json['changeDetection'] as Array<any>).map(ChangeDetectionFromJSON)),
+    };
+}
+
+export function VariableToJSON(json: any): Variable {
+    return VariableToJSONTyped(json, false);
+}
+
+export function VariableToJSONTyped(value?: Variable | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'testId': value['testId'],
+        'name': value['name'],
+        'group': value['group'],
+        'order': value['order'],
+        'labels': value['labels'],
+        'calculation': value['calculation'],
+        'changeDetection': ((value['changeDetection'] as Array<any>).map(ChangeDetectionToJSON)),
+    };
+}
+
@@ -0,0 +1,101 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * Horreum REST API
+ * Horreum automated change anomaly detection. For more information, please see [https://horreum.hyperfoil.io/](https://horreum.hyperfoil.io/)
+ *
+ * The version of the OpenAPI document: 0.20
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+import { mapValues } from '../runtime';
+/**
+ * Single view component
+ * @export
+ * @interface ViewComponent
+ */
+export interface ViewComponent {
+    /**
+     * 
+     * @type {number}
+     * @memberof ViewComponent
+     */
+    id: number;
+    /**
+     * 
+     * @type {number}
+     * @memberof ViewComponent
+     */
+    headerOrder: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof ViewComponent
+     */
+    headerName: string;
+    /**
+     * 
+     * @type {Array<string>}
+     * @memberof ViewComponent
+     */
+    labels: Array<string>;
+    /**
+     * 
+     * @type {string}
+     * @memberof ViewComponent
+     */
+    render?: string;
+}
+
+/**
+ * Check if a given object implements the ViewComponent interface.
+ */
+export function instanceOfViewComponent(value: object): value is ViewComponent {
+    if (!('id' in value) || value['id'] === undefined) return false;
+    if (!('headerOrder' in value) || value['headerOrder'] === undefined) return false;
+    if (!('headerName' in value) || value['headerName'] === undefined) return false;
+    if (!('labels' in value) || value['labels'] === undefined) return false;
+    return true;
+}
+
+export function ViewComponentFromJSON(json: any): ViewComponent {
+    return ViewComponentFromJSONTyped(json, false);
+}
+
+export function ViewComponentFromJSONTyped(json: any, ignoreDiscriminator: boolean): ViewComponent {
+    if (json == null) {
+        return json;
+    }
+    return {
+        
+        'id': json['id'],
+        'headerOrder': json['headerOrder'],
+        'headerName': json['headerName'],
+        'labels': json['labels'],
+        'render': json['render'] == null ? undefined : json['render'],
+    };
+}
+
+export function ViewComponentToJSON(json: any): ViewComponent {
+    return ViewComponentToJSONTyped(json, false);
+}
+
+export function ViewComponentToJSONTyped(value?: ViewComponent | null, ignoreDiscriminator: boolean = false): any {
+    if (value == null) {
+        return value;
+    }
+
+    return {
+        
+        'id': value['id'],
+        'headerOrder': value['headerOrder'],
+        'headerName': value['headerName'],
+        'labels': value['labels'],
+        'render': value['render'],
+    };
+}
+